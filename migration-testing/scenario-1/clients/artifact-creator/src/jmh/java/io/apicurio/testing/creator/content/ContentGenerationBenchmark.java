@@ -0,0 +1,181 @@
+package io.apicurio.testing.creator.content;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the former tree-based content generation ({@link TreeContentBaseline})
+ * with the streaming writers used by the generators.
+ *
+ * One operation produces every version of one artifact of each of the five
+ * artifact types, including the conversion to request bytes. Run with
+ * {@code -prof gc} to compare allocation rates:
+ *
+ * <pre>
+ * mvn -Pjmh package -Dexec.skip=true
+ * java -jar target/benchmarks.jar ContentGenerationBenchmark -prof gc
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ContentGenerationBenchmark {
+
+    /** Versions generated per artifact. */
+    @Param({"3", "20"})
+    public int versions;
+
+    /** Size of the documentation text embedded in each version. */
+    @Param({"0", "4096"})
+    public int docSize;
+
+    private String doc;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        char[] chars = new char[docSize];
+        Random random = new Random(42);
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = (i % 9 == 8) ? ' ' : (char) ('a' + random.nextInt(26));
+        }
+        doc = new String(chars);
+        verifyIdenticalOutput();
+    }
+
+    @Benchmark
+    public void treeBaseline(Blackhole bh) throws Exception {
+        for (int v = 1; v <= versions; v++) {
+            String avro = v == 1
+                ? TreeContentBaseline.createBaseAvroSchema("Record1", Arrays.asList("id", "name"), doc)
+                : TreeContentBaseline.createVersionedAvroSchema("Record1", v, doc);
+            bh.consume(avro.getBytes(StandardCharsets.UTF_8));
+
+            String proto = v == 1
+                ? TreeContentBaseline.createBaseProtobufSchema("Message1", doc)
+                : TreeContentBaseline.createVersionedProtobufSchema("Message1", v, doc);
+            bh.consume(proto.getBytes(StandardCharsets.UTF_8));
+
+            String json = v == 1
+                ? TreeContentBaseline.createBaseJsonSchema("Entity1", doc)
+                : TreeContentBaseline.createVersionedJsonSchema("Entity1", v, doc);
+            bh.consume(json.getBytes(StandardCharsets.UTF_8));
+
+            String openApi = v == 1
+                ? TreeContentBaseline.createBaseOpenApiSpec("API 1", "1.0.0", doc)
+                : TreeContentBaseline.createVersionedOpenApiSpec("API 1", "1." + (v - 1) + ".0", doc);
+            bh.consume(openApi.getBytes(StandardCharsets.UTF_8));
+
+            String asyncApi = v == 1
+                ? TreeContentBaseline.createBaseAsyncApiSpec("Event API 1", "1.0.0", doc)
+                : TreeContentBaseline.createVersionedAsyncApiSpec("Event API 1", "1." + (v - 1) + ".0", doc);
+            bh.consume(asyncApi.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    @Benchmark
+    public void streaming(Blackhole bh) throws Exception {
+        for (int v = 1; v <= versions; v++) {
+            ContentBuffer content = ContentBuffer.forCurrentThread();
+            AvroContentWriter.write(content, "Record1", v, doc);
+            bh.consume(content.asInputStream());
+
+            content = ContentBuffer.forCurrentThread();
+            ProtobufContentWriter.write(content, "Message1", v, doc);
+            bh.consume(content.asInputStream());
+
+            content = ContentBuffer.forCurrentThread();
+            JsonSchemaContentWriter.write(content, "Entity1", v, doc);
+            bh.consume(content.asInputStream());
+
+            content = ContentBuffer.forCurrentThread();
+            if (v == 1) {
+                OpenApiContentWriter.writeBase(content, "API 1", "1.0.0", doc);
+            } else {
+                OpenApiContentWriter.writeVersioned(content, "API 1", "1." + (v - 1) + ".0", doc);
+            }
+            bh.consume(content.asInputStream());
+
+            content = ContentBuffer.forCurrentThread();
+            if (v == 1) {
+                AsyncApiContentWriter.writeBase(content, "Event API 1", "1.0.0", doc);
+            } else {
+                AsyncApiContentWriter.writeVersioned(content, "Event API 1", "1." + (v - 1) + ".0", doc);
+            }
+            bh.consume(content.asInputStream());
+        }
+    }
+
+    /**
+     * Fails the trial if the streaming writers do not reproduce the baseline output exactly.
+     */
+    private void verifyIdenticalOutput() throws Exception {
+        ContentBuffer content = new ContentBuffer(1024);
+        for (int v = 1; v <= versions; v++) {
+            content.reset();
+            AvroContentWriter.write(content, "Record1", v, doc);
+            check("Avro", v, v == 1
+                ? TreeContentBaseline.createBaseAvroSchema("Record1", Arrays.asList("id", "name"), doc)
+                : TreeContentBaseline.createVersionedAvroSchema("Record1", v, doc), content);
+
+            content.reset();
+            ProtobufContentWriter.write(content, "Message1", v, doc);
+            check("Protobuf", v, v == 1
+                ? TreeContentBaseline.createBaseProtobufSchema("Message1", doc)
+                : TreeContentBaseline.createVersionedProtobufSchema("Message1", v, doc), content);
+
+            content.reset();
+            JsonSchemaContentWriter.write(content, "Entity1", v, doc);
+            check("JSON Schema", v, v == 1
+                ? TreeContentBaseline.createBaseJsonSchema("Entity1", doc)
+                : TreeContentBaseline.createVersionedJsonSchema("Entity1", v, doc), content);
+
+            content.reset();
+            if (v == 1) {
+                OpenApiContentWriter.writeBase(content, "API 1", "1.0.0", doc);
+                check("OpenAPI", v, TreeContentBaseline.createBaseOpenApiSpec("API 1", "1.0.0", doc), content);
+            } else {
+                OpenApiContentWriter.writeVersioned(content, "API 1", "1." + (v - 1) + ".0", doc);
+                check("OpenAPI", v,
+                    TreeContentBaseline.createVersionedOpenApiSpec("API 1", "1." + (v - 1) + ".0", doc), content);
+            }
+
+            content.reset();
+            if (v == 1) {
+                AsyncApiContentWriter.writeBase(content, "Event API 1", "1.0.0", doc);
+                check("AsyncAPI", v,
+                    TreeContentBaseline.createBaseAsyncApiSpec("Event API 1", "1.0.0", doc), content);
+            } else {
+                AsyncApiContentWriter.writeVersioned(content, "Event API 1", "1." + (v - 1) + ".0", doc);
+                check("AsyncAPI", v,
+                    TreeContentBaseline.createVersionedAsyncApiSpec("Event API 1", "1." + (v - 1) + ".0", doc), content);
+            }
+        }
+    }
+
+    private static void check(String type, int version, String expected, ContentBuffer actual) {
+        if (!Arrays.equals(expected.getBytes(StandardCharsets.UTF_8), actual.toByteArray())) {
+            throw new IllegalStateException(type + " version " + version
+                + " differs from the tree-based output:\n" + expected + "\n---\n"
+                + new String(actual.toByteArray(), StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package io.apicurio.testing.creator.model;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the striped {@link CreationSummary} counters with the former atomics and
+ * per-type map merge ({@link AtomicSummaryBaseline}) when many creator workers record
+ * into one summary.
+ *
+ * One operation records what a worker records for one artifact: the artifact with
+ * its type and three versions, and three round trips. Run a single thread count with
+ * {@code -t}, or let {@link #main} run 1 to 64 threads and print a table:
+ *
+ * <pre>
+ * mvn -Pjmh package -Dexec.skip=true
+ * java -jar target/benchmarks.jar CreationSummaryBenchmark -t 16
+ * java -cp target/benchmarks.jar io.apicurio.testing.creator.model.CreationSummaryBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CreationSummaryBenchmark {
+
+    private static final String[] TYPES = {"AVRO", "PROTOBUF", "JSON", "OPENAPI", "ASYNCAPI"};
+    private static final int[] THREADS = {1, 2, 4, 8, 16, 32, 64};
+
+    // Distinct artifact ids per thread, reused so the per-artifact map stays bounded
+    private static final int IDS = 10_000;
+
+    /**
+     * The summaries every thread records into.
+     */
+    @State(Scope.Benchmark)
+    public static class Summaries {
+        CreationSummary summary;
+        AtomicSummaryBaseline baseline;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            summary = new CreationSummary();
+            baseline = new AtomicSummaryBaseline();
+        }
+    }
+
+    /**
+     * The artifacts one thread creates, cycling through the types.
+     */
+    @State(Scope.Thread)
+    public static class Worker {
+        private static int nextWorker;
+
+        String[] artifactIds;
+        int next;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            int worker;
+            synchronized (Worker.class) {
+                worker = nextWorker++;
+            }
+            artifactIds = new String[IDS];
+            for (int i = 0; i < IDS; i++) {
+                artifactIds[i] = "worker-" + worker + "-artifact-" + i;
+            }
+        }
+
+        int nextIndex() {
+            int index = next;
+            next = index + 1 == IDS ? 0 : index + 1;
+            return index;
+        }
+    }
+
+    @Benchmark
+    public void atomic(Summaries summaries, Worker worker) {
+        int index = worker.nextIndex();
+        summaries.baseline.recordArtifact(TYPES[index % TYPES.length], worker.artifactIds[index], 3);
+        for (int v = 0; v < 3; v++) {
+            summaries.baseline.recordRoundTrip(false);
+        }
+    }
+
+    @Benchmark
+    public void striped(Summaries summaries, Worker worker) {
+        int index = worker.nextIndex();
+        summaries.summary.recordArtifact(TYPES[index % TYPES.length], worker.artifactIds[index], 3);
+        for (int v = 0; v < 3; v++) {
+            summaries.summary.recordRoundTrip(false);
+        }
+    }
+
+    /**
+     * Runs both benchmarks at 1 to 64 threads and prints throughput per thread count.
+     */
+    public static void main(String[] args) throws Exception {
+        Map<String, Map<Integer, Double>> scores = new TreeMap<>();
+        for (int threads : THREADS) {
+            Options options = new OptionsBuilder()
+                .include(CreationSummaryBenchmark.class.getName() + "\\.(atomic|striped)$")
+                .threads(threads)
+                .build();
+            for (RunResult result : new Runner(options).run()) {
+                String benchmark = result.getParams().getBenchmark();
+                scores.computeIfAbsent(benchmark.substring(benchmark.lastIndexOf('.') + 1), name -> new TreeMap<>())
+                    .put(threads, result.getPrimaryResult().getScore());
+            }
+        }
+
+        System.out.println();
+        System.out.println("Throughput (artifacts/us, all threads together):");
+        StringBuilder header = new StringBuilder(String.format("%-12s", "Benchmark"));
+        for (int threads : THREADS) {
+            header.append(String.format("%10s", threads + " thr"));
+        }
+        System.out.println(header);
+        scores.forEach((benchmark, byThreads) -> {
+            StringBuilder line = new StringBuilder(String.format("%-12s", benchmark));
+            for (int threads : THREADS) {
+                line.append(String.format("%10.1f", byThreads.getOrDefault(threads, Double.NaN)));
+            }
+            System.out.println(line);
+        });
+    }
+}
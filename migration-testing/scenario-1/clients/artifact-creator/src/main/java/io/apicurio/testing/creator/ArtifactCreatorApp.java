@@ -2,24 +2,41 @@ package io.apicurio.testing.creator;
 
 import io.apicurio.registry.rest.client.RegistryClient;
 import io.apicurio.registry.rest.client.RegistryClientFactory;
+import io.apicurio.registry.rest.client.exception.ArtifactNotFoundException;
+import io.apicurio.registry.rest.client.exception.RuleAlreadyExistsException;
 import io.apicurio.registry.rest.v2.beans.Rule;
 import io.apicurio.registry.types.RuleType;
+import io.apicurio.testing.creator.checkpoint.CheckpointJournal;
+import io.apicurio.testing.creator.engine.CreationEngine;
+import io.apicurio.testing.creator.engine.RequestLimiter;
+import io.apicurio.testing.creator.engine.ThreadMode;
 import io.apicurio.testing.creator.generators.AsyncApiGenerator;
 import io.apicurio.testing.creator.generators.AvroSchemaGenerator;
 import io.apicurio.testing.creator.generators.JsonSchemaGenerator;
 import io.apicurio.testing.creator.generators.OpenApiGenerator;
 import io.apicurio.testing.creator.generators.ProtobufSchemaGenerator;
 import io.apicurio.testing.creator.model.CreationSummary;
+import io.apicurio.testing.creator.model.ExpectationsWriter;
+import io.apicurio.testing.creator.pipeline.ArtifactSink;
+import io.apicurio.testing.creator.pipeline.CreationPipeline;
+import io.apicurio.testing.creator.pipeline.MetadataMode;
+import io.apicurio.testing.creator.pipeline.RegistryWriter;
+import io.apicurio.testing.creator.scale.ScaleProfile;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.FileWriter;
 import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Locale;
 
 /**
  * Main application for creating test artifacts in Apicurio Registry.
  *
- * This application creates a comprehensive set of test data including:
+ * This application creates a comprehensive set of test data. With the default
+ * "baseline" scale profile this includes:
  * - 10 Avro schemas with 3-5 versions each
  * - 5 Protobuf schemas with 2-3 versions each
  * - 5 JSON schemas with 2-3 versions each
@@ -33,6 +50,34 @@ import java.io.PrintWriter;
  * Args:
  *   registry-url: URL of the Apicurio Registry (default: http://localhost:8080/apis/registry/v2)
  *   output-file:  Path to write the creation summary (default: data/creation-summary.txt)
+ *
+ * System properties:
+ *   creator.workers: Number of artifacts created concurrently (default: 4, or
+ *                    1000 with virtual threads). Versions of a single artifact are
+ *                    always created in order.
+ *   creator.threads: "platform" runs artifacts on a fixed thread pool, "virtual"
+ *                    runs each artifact on its own virtual thread (default: platform)
+ *   creator.max.requests: Maximum number of registry requests in flight
+ *                    (default: 64 with virtual threads, otherwise unlimited)
+ *   creator.profile: Scale profile name (baseline, 10k, 100k, 1m) or path to a
+ *                    profile properties file (default: baseline)
+ *   creator.seed:    Overrides the random seed of the scale profile
+ *   creator.pipeline: When true, generator threads only produce content and
+ *                    separate I/O threads send it to the registry through a
+ *                    bounded queue (default: false)
+ *   creator.io.threads: Number of I/O threads in pipeline mode (default: creator.workers)
+ *   creator.queue.capacity: Number of versions queued between generation and I/O
+ *                    in pipeline mode (default: 256)
+ *   creator.metadata: "separate" sets metadata with a call after creating each
+ *                    artifact; "inline" sends name and description with the create
+ *                    call and pipelines the remaining update (default: separate)
+ *   creator.checkpoint: Path of a checkpoint journal. Completed versions are
+ *                    recorded there, and a rerun with the same journal skips them
+ *                    and continues where the previous run stopped (default: none)
+ *   creator.expectations: Path of the expectations file listing every artifact with
+ *                    its type, version count, metadata and rules, which the
+ *                    validators check the registry against
+ *                    (default: creation-expectations.jsonl next to the output file)
  */
 public class ArtifactCreatorApp {
 
@@ -40,47 +85,123 @@ public class ArtifactCreatorApp {
 
     private static final String DEFAULT_REGISTRY_URL = "http://localhost:8080/apis/registry/v2";
     private static final String DEFAULT_OUTPUT_FILE = "data/creation-summary.txt";
+    private static final String DEFAULT_EXPECTATIONS_FILE = "creation-expectations.jsonl";
+    private static final int DEFAULT_WORKERS = 4;
+    private static final int DEFAULT_VIRTUAL_WORKERS = 1000;
+    private static final int DEFAULT_VIRTUAL_MAX_REQUESTS = 64;
+    private static final int DEFAULT_QUEUE_CAPACITY = 256;
 
     public static void main(String[] args) {
         String registryUrl = args.length > 0 ? args[0] : DEFAULT_REGISTRY_URL;
         String outputFile = args.length > 1 ? args[1] : DEFAULT_OUTPUT_FILE;
+        ThreadMode threadMode = ThreadMode.valueOf(
+            System.getProperty("creator.threads", "platform").trim().toUpperCase(Locale.ROOT));
+        boolean virtual = threadMode == ThreadMode.VIRTUAL;
+        int workers = Integer.getInteger("creator.workers", virtual ? DEFAULT_VIRTUAL_WORKERS : DEFAULT_WORKERS);
+        int maxRequests = Integer.getInteger("creator.max.requests", virtual ? DEFAULT_VIRTUAL_MAX_REQUESTS : 0);
+        String profileName = System.getProperty("creator.profile", ScaleProfile.DEFAULT_PROFILE);
+        String seedOverride = System.getProperty("creator.seed");
+        boolean pipelined = Boolean.getBoolean("creator.pipeline");
+        int ioThreads = Integer.getInteger("creator.io.threads", workers);
+        int queueCapacity = Integer.getInteger("creator.queue.capacity", DEFAULT_QUEUE_CAPACITY);
+        MetadataMode metadataMode = MetadataMode.valueOf(
+            System.getProperty("creator.metadata", "separate").trim().toUpperCase(Locale.ROOT));
+        String checkpointFile = System.getProperty("creator.checkpoint", "").trim();
+        String expectationsOverride = System.getProperty("creator.expectations", "").trim();
+        Path expectationsFile = expectationsOverride.isEmpty()
+            ? Paths.get(outputFile).resolveSibling(DEFAULT_EXPECTATIONS_FILE) : Paths.get(expectationsOverride);
 
         log.info("================================================================");
         log.info("  Apicurio Registry Artifact Creator");
         log.info("================================================================");
         log.info("Registry URL: {}", registryUrl);
         log.info("Output File:  {}", outputFile);
-        log.info("");
+        log.info("Workers:      {} ({} threads)", workers, threadMode.name().toLowerCase(Locale.ROOT));
+        if (maxRequests > 0) {
+            log.info("Requests:     at most {} in flight", maxRequests);
+        }
+        if (pipelined) {
+            log.info("Pipeline:     {} I/O threads, queue capacity {}", ioThreads, queueCapacity);
+        }
+        log.info("Metadata:     {}", metadataMode.name().toLowerCase(Locale.ROOT));
 
         try {
+            ScaleProfile profile = ScaleProfile.load(profileName);
+            if (seedOverride != null && !seedOverride.isEmpty()) {
+                profile = profile.withSeed(Long.parseLong(seedOverride));
+            }
+            log.info("Profile:      {}", profile);
+            log.info("");
+
             // Create registry client
             RegistryClient client = RegistryClientFactory.create(registryUrl);
             log.info("Connected to registry");
 
+            // Bound concurrent requests; virtual threads would otherwise all call at once
+            RequestLimiter limiter = maxRequests > 0 ? new RequestLimiter(maxRequests) : null;
+            if (limiter != null) {
+                client = limiter.limit(client);
+            }
+
             // Create summary tracker
             CreationSummary summary = new CreationSummary();
 
-            // Create global rules first
-            createGlobalRules(client, summary);
+            // Open the checkpoint journal of a previous run, if any
+            CheckpointJournal journal = openJournal(checkpointFile, profile, client);
 
-            // Create artifacts by type
-            new AvroSchemaGenerator(client, summary).createArtifacts();
-            new ProtobufSchemaGenerator(client, summary).createArtifacts();
-            new JsonSchemaGenerator(client, summary).createArtifacts();
-            new OpenApiGenerator(client, summary).createArtifacts();
-            new AsyncApiGenerator(client, summary).createArtifacts();
+            long start;
+            int registryThreads = pipelined ? ioThreads : workers;
+            int metadataThreads = maxRequests > 0 ? Math.min(registryThreads, maxRequests) : registryThreads;
+            // The expectations record what the validators should find as it is created
+            try (CheckpointJournal checkpoint = journal;
+                 ExpectationsWriter expected = ExpectationsWriter.open(expectationsFile);
+                 RegistryWriter writer = new RegistryWriter(client, summary, metadataMode,
+                     metadataThreads, checkpoint);
+                 CreationEngine engine = new CreationEngine(workers, threadMode);
+                 CreationPipeline pipeline = pipelined
+                     ? new CreationPipeline(writer, ioThreads, queueCapacity, workers) : null) {
+                // Create global rules first
+                createGlobalRules(client, summary, expected, checkpoint.isEnabled());
+
+                // Create artifacts by type (artifacts run in parallel, versions stay ordered)
+                start = System.currentTimeMillis();
+                ArtifactSink sink = pipelined ? pipeline : writer;
+                new AvroSchemaGenerator(sink, engine, profile, expected).createArtifacts();
+                new ProtobufSchemaGenerator(sink, engine, profile, expected).createArtifacts();
+                new JsonSchemaGenerator(sink, engine, profile, expected).createArtifacts();
+                new OpenApiGenerator(sink, engine, profile, expected).createArtifacts();
+                new AsyncApiGenerator(sink, engine, profile, expected).createArtifacts();
+                engine.awaitCompletion();
+                if (pipeline != null) {
+                    pipeline.awaitCompletion();
+                    pipeline.logMetrics();
+                }
+                writer.flush();
+                expected.commit();
+            }
+            log.info("Created {} artifacts in {} ms using {} workers ({} threads, peak {} live threads)",
+                summary.getTotalArtifacts(), System.currentTimeMillis() - start, workers,
+                threadMode.name().toLowerCase(Locale.ROOT), ManagementFactory.getThreadMXBean().getPeakThreadCount());
+            if (limiter != null) {
+                log.info("Request limiter: {}", limiter);
+            }
+            log.info("Registry round trips: {}", summary.describeRoundTrips());
+            if (summary.isResumed()) {
+                log.info("Resumed from checkpoint: {}", summary.describeResumed());
+            }
 
             // Print summary to console
             summary.printSummary();
 
             // Write summary to file
-            writeSummaryToFile(summary, outputFile);
+            writeSummaryToFile(summary, profile, outputFile);
 
             log.info("");
             log.info("================================================================");
             log.info("  ✓ Artifact creation completed successfully");
             log.info("================================================================");
             log.info("Summary written to: {}", outputFile);
+            log.info("Expectations written to: {}", expectationsFile);
 
             System.exit(0);
 
@@ -93,20 +214,58 @@ public class ArtifactCreatorApp {
         }
     }
 
+    /**
+     * Opens the checkpoint journal and checks that it matches the registry.
+     *
+     * A journal that records work the registry does not have (for example after the
+     * registry was reset) would make the creator skip artifacts, so the last recorded
+     * artifact is looked up before resuming.
+     *
+     * @param checkpointFile path of the journal, empty to disable checkpointing
+     * @param profile the scale profile being seeded
+     * @param client the registry client
+     * @return the open journal, or a disabled one
+     */
+    private static CheckpointJournal openJournal(String checkpointFile, ScaleProfile profile,
+                                                 RegistryClient client) throws Exception {
+        if (checkpointFile.isEmpty()) {
+            return CheckpointJournal.disabled();
+        }
+        CheckpointJournal journal = CheckpointJournal.open(Paths.get(checkpointFile), profile);
+        log.info("Checkpoint:   {} ({} artifacts, {} versions already recorded)",
+            journal.getFile(), journal.getRecordedArtifacts(), journal.getRecordedVersions());
+        if (journal.getLastArtifactId() != null) {
+            try {
+                client.getArtifactMetaData(journal.getLastGroupId(), journal.getLastArtifactId());
+            } catch (ArtifactNotFoundException e) {
+                journal.close();
+                throw new IllegalStateException("Checkpoint journal " + checkpointFile + " records "
+                    + journal.getLastArtifactId() + " but the registry does not contain it; "
+                    + "delete the journal to start over");
+            }
+        }
+        log.info("");
+        return journal;
+    }
+
     /**
      * Creates global rules for the registry.
      *
      * @param client the registry client
      * @param summary the creation summary tracker
+     * @param expectations the expectations file the rules are recorded in
+     * @param checkpointing whether an earlier, interrupted run may already have created the rules
      */
-    private static void createGlobalRules(RegistryClient client, CreationSummary summary) throws Exception {
+    private static void createGlobalRules(RegistryClient client, CreationSummary summary,
+                                          ExpectationsWriter expectations, boolean checkpointing) throws Exception {
         log.info("Creating global rules...");
 
         // VALIDITY: FULL
         Rule validityRule = new Rule();
         validityRule.setType(RuleType.VALIDITY);
         validityRule.setConfig("FULL");
-        client.createGlobalRule(validityRule);
+        createGlobalRule(client, validityRule, checkpointing);
+        expectations.globalRule(validityRule);
         summary.recordGlobalRule();
         log.info("  ✓ Created VALIDITY: FULL rule");
 
@@ -114,29 +273,55 @@ public class ArtifactCreatorApp {
         Rule compatibilityRule = new Rule();
         compatibilityRule.setType(RuleType.COMPATIBILITY);
         compatibilityRule.setConfig("BACKWARD");
-        client.createGlobalRule(compatibilityRule);
+        createGlobalRule(client, compatibilityRule, checkpointing);
+        expectations.globalRule(compatibilityRule);
         summary.recordGlobalRule();
         log.info("  ✓ Created COMPATIBILITY: BACKWARD rule");
 
         log.info("");
     }
 
+    /**
+     * Creates a global rule; when checkpointing, a rule left by an earlier run is accepted.
+     *
+     * This does not depend on the journal having recorded versions: a run can stop after
+     * the rules are created but before the first version is journaled.
+     */
+    private static void createGlobalRule(RegistryClient client, Rule rule, boolean checkpointing) {
+        try {
+            client.createGlobalRule(rule);
+        } catch (RuleAlreadyExistsException e) {
+            if (!checkpointing) {
+                throw e;
+            }
+            log.info("  {} rule already exists, treating as done", rule.getType());
+        }
+    }
+
     /**
      * Writes the creation summary to a file.
      *
      * @param summary the creation summary
+     * @param profile the scale profile used to generate the data
      * @param outputFile path to the output file
      */
-    private static void writeSummaryToFile(CreationSummary summary, String outputFile) throws Exception {
+    private static void writeSummaryToFile(CreationSummary summary, ScaleProfile profile, String outputFile) throws Exception {
         try (PrintWriter writer = new PrintWriter(new FileWriter(outputFile))) {
             writer.println("Artifact Creation Summary");
             writer.println("=".repeat(60));
             writer.println();
+            writer.println("Scale Profile:       " + profile.getName());
+            writer.println("Seed:                " + profile.getSeed());
+            writer.println();
             writer.println("Total Artifacts:     " + summary.getTotalArtifacts());
             writer.println("Total Versions:      " + summary.getTotalVersions());
             writer.println("Total References:    " + summary.getTotalReferences());
             writer.println("Global Rules:        " + summary.getGlobalRules());
             writer.println("Artifact Rules:      " + summary.getArtifactRules());
+            writer.println("Round Trips:         " + summary.describeRoundTrips());
+            if (summary.isResumed()) {
+                writer.println("Resumed:             " + summary.describeResumed());
+            }
             writer.println();
             writer.println("Artifacts by Type:");
             summary.getArtifactsByType().forEach((type, count) ->
@@ -0,0 +1,215 @@
+package io.apicurio.testing.creator.checkpoint;
+
+import io.apicurio.testing.creator.scale.ScaleProfile;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Append-only local journal of completed artifact versions, used to resume seeding.
+ *
+ * A line {@code <groupId> <artifactId> <version>} is appended once a version and
+ * everything attached to it (metadata, rules) has been created. Versions of an
+ * artifact are created in order, so the highest recorded version means all lower
+ * versions are complete as well. Each line is flushed to the operating system as
+ * soon as it is written, so a killed process loses at most the work in flight.
+ *
+ * The first line records the scale profile and seed; a journal written for a
+ * different data set is rejected rather than silently mixed.
+ *
+ * On open, the existing journal is read into memory once and never consulted
+ * again, so lookups do not touch the registry or the disk.
+ */
+public class CheckpointJournal implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(CheckpointJournal.class);
+
+    private static final String HEADER_PREFIX = "# creator-checkpoint profile=";
+
+    private final Path file;
+    private final Map<String, Integer> completed;
+    private final Writer writer;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final long recordedVersions;
+    private String lastGroupId;
+    private String lastArtifactId;
+
+    private CheckpointJournal(Path file, Map<String, Integer> completed, Writer writer, long recordedVersions) {
+        this.file = file;
+        this.completed = completed;
+        this.writer = writer;
+        this.recordedVersions = recordedVersions;
+    }
+
+    /**
+     * Returns a journal that records nothing and reports no completed work.
+     */
+    public static CheckpointJournal disabled() {
+        return new CheckpointJournal(null, new HashMap<>(), null, 0);
+    }
+
+    /**
+     * Opens (or creates) a journal file and loads the work it records.
+     *
+     * @param file path of the journal
+     * @param profile the scale profile being seeded
+     * @return the open journal
+     */
+    public static CheckpointJournal open(Path file, ScaleProfile profile) throws IOException {
+        String header = HEADER_PREFIX + profile.getName() + " seed=" + profile.getSeed();
+        Map<String, Integer> completed = new HashMap<>();
+        long recorded = 0;
+        String lastGroupId = null;
+        String lastArtifactId = null;
+
+        boolean exists = Files.exists(file) && Files.size(file) > 0;
+        if (exists) {
+            try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                String first = reader.readLine();
+                if (!header.equals(first)) {
+                    throw new IllegalStateException("Checkpoint journal " + file + " was written for a different data set ("
+                        + first + "); delete it to start over");
+                }
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    String[] parts = line.split(" ");
+                    if (parts.length != 3) {
+                        // Partial last line of an interrupted run
+                        log.warn("Ignoring incomplete checkpoint entry: {}", line);
+                        continue;
+                    }
+                    int version;
+                    try {
+                        version = Integer.parseInt(parts[2]);
+                    } catch (NumberFormatException e) {
+                        log.warn("Ignoring incomplete checkpoint entry: {}", line);
+                        continue;
+                    }
+                    completed.merge(key(parts[0], parts[1]), version, Math::max);
+                    lastGroupId = parts[0];
+                    lastArtifactId = parts[1];
+                    recorded++;
+                }
+            }
+        }
+
+        Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+            StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        if (!exists) {
+            writer.write(header);
+            writer.write('\n');
+        } else if (!endsWithNewline(file)) {
+            // Terminate a partial last line so the next entry starts on its own line
+            writer.write('\n');
+        }
+        writer.flush();
+
+        CheckpointJournal journal = new CheckpointJournal(file, completed, writer, recorded);
+        journal.lastGroupId = lastGroupId;
+        journal.lastArtifactId = lastArtifactId;
+        return journal;
+    }
+
+    public boolean isEnabled() {
+        return writer != null;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Number of leading versions of an artifact completed by earlier runs.
+     *
+     * @param groupId the group identifier
+     * @param artifactId the artifact identifier
+     * @return completed versions (0 if none)
+     */
+    public int completedVersions(String groupId, String artifactId) {
+        return completed.getOrDefault(key(groupId, artifactId), 0);
+    }
+
+    /**
+     * Appends a completed version. Safe to call from multiple threads.
+     *
+     * @param groupId the group identifier
+     * @param artifactId the artifact identifier
+     * @param version the completed version number
+     */
+    public void recordVersion(String groupId, String artifactId, int version) {
+        if (writer == null) {
+            return;
+        }
+        // A lock rather than synchronized, so virtual threads writing here are not pinned
+        lock.lock();
+        try {
+            writer.write(groupId + " " + artifactId + " " + version + "\n");
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write checkpoint journal " + file, e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Number of artifacts with at least one version recorded by earlier runs.
+     */
+    public int getRecordedArtifacts() {
+        return completed.size();
+    }
+
+    /**
+     * Number of version entries recorded by earlier runs.
+     */
+    public long getRecordedVersions() {
+        return recordedVersions;
+    }
+
+    /**
+     * Group of the last entry recorded by earlier runs, or null if there is none.
+     */
+    public String getLastGroupId() {
+        return lastGroupId;
+    }
+
+    /**
+     * Artifact of the last entry recorded by earlier runs, or null if there is none.
+     */
+    public String getLastArtifactId() {
+        return lastArtifactId;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (writer != null) {
+            writer.close();
+        }
+    }
+
+    private static boolean endsWithNewline(Path file) throws IOException {
+        try (SeekableByteChannel channel = Files.newByteChannel(file)) {
+            ByteBuffer last = ByteBuffer.allocate(1);
+            channel.position(channel.size() - 1).read(last);
+            return last.get(0) == '\n';
+        }
+    }
+
+    private static String key(String groupId, String artifactId) {
+        return groupId + ' ' + artifactId;
+    }
+}
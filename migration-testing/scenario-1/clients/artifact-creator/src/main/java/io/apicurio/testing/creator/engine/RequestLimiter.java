@@ -0,0 +1,94 @@
+package io.apicurio.testing.creator.engine;
+
+import io.apicurio.registry.rest.client.RegistryClient;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caps the number of registry requests in flight at the same time.
+ *
+ * With virtual threads the number of concurrently working artifacts is no longer
+ * limited by a thread pool, so without a limit every waiting artifact would open a
+ * connection to the registry at once. {@link #limit(RegistryClient)} returns a client
+ * whose calls each hold one permit of a fair semaphore for their duration. Request
+ * bodies are read within the call and the creator never streams responses, so a
+ * permit covers the whole exchange.
+ */
+public class RequestLimiter {
+
+    private final int maxRequests;
+    private final Semaphore permits;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger peakInFlight = new AtomicInteger();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder waits = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+
+    /**
+     * Creates a limiter.
+     *
+     * @param maxRequests maximum number of concurrent requests (minimum 1)
+     */
+    public RequestLimiter(int maxRequests) {
+        this.maxRequests = Math.max(1, maxRequests);
+        this.permits = new Semaphore(this.maxRequests, true);
+    }
+
+    /**
+     * Wraps a registry client so that every call goes through this limiter.
+     *
+     * @param client the client to wrap
+     * @return the limited client
+     */
+    public RegistryClient limit(RegistryClient client) {
+        InvocationHandler handler = (proxy, method, args) -> invoke(client, method, args);
+        return (RegistryClient) Proxy.newProxyInstance(
+            RegistryClient.class.getClassLoader(), new Class<?>[] {RegistryClient.class}, handler);
+    }
+
+    private Object invoke(RegistryClient client, Method method, Object[] args) throws Throwable {
+        if (method.getDeclaringClass() == Object.class) {
+            return method.invoke(client, args);
+        }
+        acquire();
+        try {
+            return method.invoke(client, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        } finally {
+            inFlight.decrementAndGet();
+            permits.release();
+        }
+    }
+
+    private void acquire() throws InterruptedException {
+        if (!permits.tryAcquire()) {
+            long start = System.nanoTime();
+            permits.acquire();
+            waits.increment();
+            waitNanos.add(System.nanoTime() - start);
+        }
+        requests.increment();
+        peakInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+    }
+
+    public int getMaxRequests() {
+        return maxRequests;
+    }
+
+    public int getPeakInFlight() {
+        return peakInFlight.get();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d requests, peak %d of %d in flight, %d waited (%.1f s in total)",
+            requests.sum(), peakInFlight.get(), maxRequests, waits.sum(), waitNanos.sum() / 1e9);
+    }
+}
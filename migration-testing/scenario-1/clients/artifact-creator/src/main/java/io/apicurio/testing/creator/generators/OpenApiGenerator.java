@@ -1,18 +1,17 @@
 package io.apicurio.testing.creator.generators;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ArrayNode;
-import com.fasterxml.jackson.databind.node.ObjectNode;
-import io.apicurio.registry.rest.client.RegistryClient;
-import io.apicurio.registry.rest.v2.beans.ArtifactMetaData;
 import io.apicurio.registry.rest.v2.beans.EditableMetaData;
 import io.apicurio.registry.types.ArtifactType;
-import io.apicurio.testing.creator.model.CreationSummary;
+import io.apicurio.testing.creator.content.ContentBuffer;
+import io.apicurio.testing.creator.content.OpenApiContentWriter;
+import io.apicurio.testing.creator.engine.CreationEngine;
+import io.apicurio.testing.creator.model.ExpectationsWriter;
+import io.apicurio.testing.creator.pipeline.ArtifactSink;
+import io.apicurio.testing.creator.pipeline.WorkItem;
+import io.apicurio.testing.creator.scale.ScaleProfile;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.ByteArrayInputStream;
-import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -20,19 +19,24 @@ import java.util.Map;
 
 /**
  * Generates OpenAPI specification artifacts for testing.
- * Creates 3 artifacts with 2 versions each.
+ * Artifact and version counts come from the {@link ScaleProfile}; the baseline profile
+ * creates 3 artifacts with 2 versions each.
  */
 public class OpenApiGenerator {
 
     private static final Logger log = LoggerFactory.getLogger(OpenApiGenerator.class);
-    private static final ObjectMapper mapper = new ObjectMapper();
 
-    private final RegistryClient client;
-    private final CreationSummary summary;
-
-    public OpenApiGenerator(RegistryClient client, CreationSummary summary) {
-        this.client = client;
-        this.summary = summary;
+    private final ArtifactSink sink;
+    private final CreationEngine engine;
+    private final ScaleProfile profile;
+    private final ExpectationsWriter expectations;
+
+    public OpenApiGenerator(ArtifactSink sink, CreationEngine engine, ScaleProfile profile,
+                            ExpectationsWriter expectations) {
+        this.sink = sink;
+        this.engine = engine;
+        this.profile = profile;
+        this.expectations = expectations;
     }
 
     /**
@@ -41,10 +45,20 @@ public class OpenApiGenerator {
     public void createArtifacts() throws Exception {
         log.info("Creating OpenAPI specification artifacts...");
 
-        // Create 3 OpenAPI specs with 2 versions each
-        for (int i = 1; i <= 3; i++) {
+        // Create OpenAPI specs with version counts from the scale profile
+        int artifactCount = profile.getArtifactCount("OPENAPI");
+        for (int i = 1; i <= artifactCount; i++) {
             String artifactId = "openapi-spec-" + i;
-            createOpenApiArtifact(artifactId, i, 2);
+            int versionCount = profile.versionCount("OPENAPI", i);
+            EditableMetaData editMeta = createMetadata(artifactId, i);
+            expectations.artifact("default", artifactId, ArtifactType.OPENAPI, versionCount, editMeta,
+                List.of());
+            int completed = sink.resume("default", artifactId, ArtifactType.OPENAPI, versionCount);
+            if (completed == versionCount) {
+                continue; // already created by an earlier run
+            }
+            int index = i;
+            engine.submit(artifactId, () -> createOpenApiArtifact(artifactId, index, completed + 1, versionCount, editMeta));
         }
     }
 
@@ -53,148 +67,48 @@ public class OpenApiGenerator {
      *
      * @param artifactId artifact identifier
      * @param index artifact index for uniqueness
+     * @param firstVersion first version to create (greater than 1 when resuming)
      * @param versionCount number of versions to create
+     * @param editMeta metadata sent along with version 1
      */
-    private void createOpenApiArtifact(String artifactId, int index, int versionCount) throws Exception {
-        log.info("  Creating artifact: {} ({} versions)", artifactId, versionCount);
-
-        // Version 1: Base OpenAPI spec
-        String spec1 = createBaseOpenApiSpec("API " + index, "1.0.0");
-        ArtifactMetaData meta = client.createArtifact(
-            "default",
-            artifactId,
-            ArtifactType.OPENAPI,
-            new ByteArrayInputStream(spec1.getBytes(StandardCharsets.UTF_8))
-        );
-
-        // Add labels and properties
-        EditableMetaData editMeta = new EditableMetaData();
-        editMeta.setName(artifactId);
-        editMeta.setDescription("OpenAPI test specification #" + index);
-        editMeta.setLabels(createLabels("openapi"));
-        editMeta.setProperties(createProperties());
-        client.updateArtifactMetaData("default", artifactId, editMeta);
-
-        // Create additional versions
-        for (int v = 2; v <= versionCount; v++) {
-            String spec = createVersionedOpenApiSpec("API " + index, "1." + (v - 1) + ".0");
-            client.createArtifactVersion(
-                "default",
-                artifactId,
-                null,
-                new ByteArrayInputStream(spec.getBytes(StandardCharsets.UTF_8))
-            );
+    private void createOpenApiArtifact(String artifactId, int index, int firstVersion, int versionCount, EditableMetaData editMeta) throws Exception {
+        if (firstVersion > 1) {
+            log.info("  Resuming artifact: {} at version {} of {}", artifactId, firstVersion, versionCount);
+        } else {
+            log.info("  Creating artifact: {} ({} versions)", artifactId, versionCount);
         }
 
-        summary.recordArtifact("OPENAPI", artifactId, versionCount);
-        log.info("    ✓ Created {} with {} versions", artifactId, versionCount);
-    }
-
-    /**
-     * Creates a base OpenAPI 3.0 specification.
-     *
-     * @param title API title
-     * @param version API version
-     * @return OpenAPI specification as JSON string
-     */
-    private String createBaseOpenApiSpec(String title, String version) throws Exception {
-        ObjectNode spec = mapper.createObjectNode();
-        spec.put("openapi", "3.0.0");
-
-        ObjectNode info = spec.putObject("info");
-        info.put("title", title);
-        info.put("version", version);
-        info.put("description", "Test REST API specification");
-
-        ObjectNode paths = spec.putObject("paths");
-
-        // GET /items
-        ObjectNode getItems = paths.putObject("/items").putObject("get");
-        getItems.put("summary", "List all items");
-        getItems.put("operationId", "listItems");
-
-        ObjectNode getResponses = getItems.putObject("responses");
-        ObjectNode get200 = getResponses.putObject("200");
-        get200.put("description", "Successful response");
-
-        // POST /items
-        ObjectNode postItems = paths.putObject("/items").putObject("post");
-        postItems.put("summary", "Create an item");
-        postItems.put("operationId", "createItem");
-
-        ObjectNode postResponses = postItems.putObject("responses");
-        ObjectNode post201 = postResponses.putObject("201");
-        post201.put("description", "Item created");
-
-        return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(spec);
+        String doc = profile.documentation("OPENAPI", index);
+
+        // Version 1 creates the artifact, later versions are added to it
+        for (int v = firstVersion; v <= versionCount; v++) {
+            ContentBuffer content = sink.buffer();
+            if (v == 1) {
+                OpenApiContentWriter.writeBase(content, "API " + index, "1.0.0", doc);
+            } else {
+                OpenApiContentWriter.writeVersioned(content, "API " + index, "1." + (v - 1) + ".0", doc);
+            }
+            WorkItem item = v == 1
+                ? WorkItem.create("default", artifactId, ArtifactType.OPENAPI, versionCount, content, editMeta)
+                : WorkItem.version("default", artifactId, ArtifactType.OPENAPI, v, versionCount, content);
+            sink.send(item);
+        }
     }
 
     /**
-     * Creates a versioned OpenAPI specification with additional endpoints.
+     * Creates the metadata sent along with version 1.
      *
-     * @param title API title
-     * @param version API version
-     * @return OpenAPI specification as JSON string
+     * @param artifactId artifact identifier
+     * @param index artifact index for uniqueness
+     * @return the artifact metadata
      */
-    private String createVersionedOpenApiSpec(String title, String version) throws Exception {
-        ObjectNode spec = mapper.createObjectNode();
-        spec.put("openapi", "3.0.0");
-
-        ObjectNode info = spec.putObject("info");
-        info.put("title", title);
-        info.put("version", version);
-        info.put("description", "Test REST API specification - Updated");
-
-        ObjectNode paths = spec.putObject("paths");
-
-        // GET /items
-        ObjectNode itemsPath = paths.putObject("/items");
-        ObjectNode getItems = itemsPath.putObject("get");
-        getItems.put("summary", "List all items");
-        getItems.put("operationId", "listItems");
-        ObjectNode getResponses = getItems.putObject("responses");
-        getResponses.putObject("200").put("description", "Successful response");
-
-        // POST /items
-        ObjectNode postItems = itemsPath.putObject("post");
-        postItems.put("summary", "Create an item");
-        postItems.put("operationId", "createItem");
-        ObjectNode postResponses = postItems.putObject("responses");
-        postResponses.putObject("201").put("description", "Item created");
-
-        // GET /items/{id} - New in v2
-        ObjectNode itemIdPath = paths.putObject("/items/{id}");
-        ObjectNode getItem = itemIdPath.putObject("get");
-        getItem.put("summary", "Get item by ID");
-        getItem.put("operationId", "getItem");
-
-        ArrayNode parameters = getItem.putArray("parameters");
-        ObjectNode idParam = parameters.addObject();
-        idParam.put("name", "id");
-        idParam.put("in", "path");
-        idParam.put("required", true);
-        ObjectNode idSchema = idParam.putObject("schema");
-        idSchema.put("type", "string");
-
-        ObjectNode getItemResponses = getItem.putObject("responses");
-        getItemResponses.putObject("200").put("description", "Item found");
-        getItemResponses.putObject("404").put("description", "Item not found");
-
-        // DELETE /items/{id} - New in v2
-        ObjectNode deleteItem = itemIdPath.putObject("delete");
-        deleteItem.put("summary", "Delete item by ID");
-        deleteItem.put("operationId", "deleteItem");
-        ObjectNode deleteParams = deleteItem.putArray("parameters").addObject();
-        deleteParams.put("name", "id");
-        deleteParams.put("in", "path");
-        deleteParams.put("required", true);
-        deleteParams.putObject("schema").put("type", "string");
-
-        ObjectNode deleteResponses = deleteItem.putObject("responses");
-        deleteResponses.putObject("204").put("description", "Item deleted");
-        deleteResponses.putObject("404").put("description", "Item not found");
-
-        return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(spec);
+    private EditableMetaData createMetadata(String artifactId, int index) {
+        EditableMetaData editMeta = new EditableMetaData();
+        editMeta.setName(artifactId);
+        editMeta.setDescription("OpenAPI test specification #" + index);
+        editMeta.setLabels(createLabels("openapi"));
+        editMeta.setProperties(createProperties());
+        return editMeta;
     }
 
     /**
@@ -1,15 +1,17 @@
 package io.apicurio.testing.creator.generators;
 
-import io.apicurio.registry.rest.client.RegistryClient;
-import io.apicurio.registry.rest.v2.beans.ArtifactMetaData;
 import io.apicurio.registry.rest.v2.beans.EditableMetaData;
 import io.apicurio.registry.types.ArtifactType;
-import io.apicurio.testing.creator.model.CreationSummary;
+import io.apicurio.testing.creator.content.ContentBuffer;
+import io.apicurio.testing.creator.content.ProtobufContentWriter;
+import io.apicurio.testing.creator.engine.CreationEngine;
+import io.apicurio.testing.creator.model.ExpectationsWriter;
+import io.apicurio.testing.creator.pipeline.ArtifactSink;
+import io.apicurio.testing.creator.pipeline.WorkItem;
+import io.apicurio.testing.creator.scale.ScaleProfile;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.ByteArrayInputStream;
-import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -17,18 +19,24 @@ import java.util.Map;
 
 /**
  * Generates Protobuf schema artifacts for testing.
- * Creates 5 artifacts with 2-3 versions each.
+ * Artifact and version counts come from the {@link ScaleProfile}; the baseline profile
+ * creates 5 artifacts with 2-3 versions each.
  */
 public class ProtobufSchemaGenerator {
 
     private static final Logger log = LoggerFactory.getLogger(ProtobufSchemaGenerator.class);
 
-    private final RegistryClient client;
-    private final CreationSummary summary;
-
-    public ProtobufSchemaGenerator(RegistryClient client, CreationSummary summary) {
-        this.client = client;
-        this.summary = summary;
+    private final ArtifactSink sink;
+    private final CreationEngine engine;
+    private final ScaleProfile profile;
+    private final ExpectationsWriter expectations;
+
+    public ProtobufSchemaGenerator(ArtifactSink sink, CreationEngine engine, ScaleProfile profile,
+                                   ExpectationsWriter expectations) {
+        this.sink = sink;
+        this.engine = engine;
+        this.profile = profile;
+        this.expectations = expectations;
     }
 
     /**
@@ -37,11 +45,20 @@ public class ProtobufSchemaGenerator {
     public void createArtifacts() throws Exception {
         log.info("Creating Protobuf schema artifacts...");
 
-        // Create 5 Protobuf schemas with different version counts
-        for (int i = 1; i <= 5; i++) {
+        // Create Protobuf schemas with version counts from the scale profile
+        int artifactCount = profile.getArtifactCount("PROTOBUF");
+        for (int i = 1; i <= artifactCount; i++) {
             String artifactId = "protobuf-schema-" + i;
-            int versionCount = (i % 2) + 2; // 2-3 versions
-            createProtobufArtifact(artifactId, i, versionCount);
+            int versionCount = profile.versionCount("PROTOBUF", i);
+            EditableMetaData editMeta = createMetadata(artifactId, i);
+            expectations.artifact("default", artifactId, ArtifactType.PROTOBUF, versionCount, editMeta,
+                List.of());
+            int completed = sink.resume("default", artifactId, ArtifactType.PROTOBUF, versionCount);
+            if (completed == versionCount) {
+                continue; // already created by an earlier run
+            }
+            int index = i;
+            engine.submit(artifactId, () -> createProtobufArtifact(artifactId, index, completed + 1, versionCount, editMeta));
         }
     }
 
@@ -50,89 +67,44 @@ public class ProtobufSchemaGenerator {
      *
      * @param artifactId artifact identifier
      * @param index artifact index for uniqueness
+     * @param firstVersion first version to create (greater than 1 when resuming)
      * @param versionCount number of versions to create
+     * @param editMeta metadata sent along with version 1
      */
-    private void createProtobufArtifact(String artifactId, int index, int versionCount) throws Exception {
-        log.info("  Creating artifact: {} ({} versions)", artifactId, versionCount);
-
-        // Version 1: Base schema
-        String schema1 = createBaseProtobufSchema("Message" + index);
-        ArtifactMetaData meta = client.createArtifact(
-            "default",
-            artifactId,
-            ArtifactType.PROTOBUF,
-            new ByteArrayInputStream(schema1.getBytes(StandardCharsets.UTF_8))
-        );
-
-        // Add labels and properties
-        EditableMetaData editMeta = new EditableMetaData();
-        editMeta.setName(artifactId);
-        editMeta.setDescription("Protobuf test schema #" + index);
-        editMeta.setLabels(createLabels("protobuf"));
-        editMeta.setProperties(createProperties());
-        client.updateArtifactMetaData("default", artifactId, editMeta);
-
-        // Create additional versions
-        for (int v = 2; v <= versionCount; v++) {
-            String schema = createVersionedProtobufSchema("Message" + index, v);
-            client.createArtifactVersion(
-                "default",
-                artifactId,
-                null,
-                new ByteArrayInputStream(schema.getBytes(StandardCharsets.UTF_8))
-            );
+    private void createProtobufArtifact(String artifactId, int index, int firstVersion, int versionCount, EditableMetaData editMeta) throws Exception {
+        if (firstVersion > 1) {
+            log.info("  Resuming artifact: {} at version {} of {}", artifactId, firstVersion, versionCount);
+        } else {
+            log.info("  Creating artifact: {} ({} versions)", artifactId, versionCount);
         }
 
-        summary.recordArtifact("PROTOBUF", artifactId, versionCount);
-        log.info("    ✓ Created {} with {} versions", artifactId, versionCount);
-    }
+        String doc = profile.documentation("PROTOBUF", index);
 
-    /**
-     * Creates a base Protobuf schema.
-     *
-     * @param messageName name of the Protobuf message
-     * @return Protobuf schema string
-     */
-    private String createBaseProtobufSchema(String messageName) {
-        return String.format(
-            "syntax = \"proto3\";\n" +
-            "\n" +
-            "package io.apicurio.testing;\n" +
-            "\n" +
-            "message %s {\n" +
-            "  string id = 1;\n" +
-            "  string name = 2;\n" +
-            "}\n",
-            messageName
-        );
+        // Version 1 creates the artifact, later versions are added to it
+        for (int v = firstVersion; v <= versionCount; v++) {
+            ContentBuffer content = sink.buffer();
+            ProtobufContentWriter.write(content, "Message" + index, v, doc);
+            WorkItem item = v == 1
+                ? WorkItem.create("default", artifactId, ArtifactType.PROTOBUF, versionCount, content, editMeta)
+                : WorkItem.version("default", artifactId, ArtifactType.PROTOBUF, v, versionCount, content);
+            sink.send(item);
+        }
     }
 
     /**
-     * Creates a versioned Protobuf schema with additional fields.
+     * Creates the metadata sent along with version 1.
      *
-     * @param messageName name of the Protobuf message
-     * @param version version number
-     * @return Protobuf schema string
+     * @param artifactId artifact identifier
+     * @param index artifact index for uniqueness
+     * @return the artifact metadata
      */
-    private String createVersionedProtobufSchema(String messageName, int version) {
-        StringBuilder schema = new StringBuilder();
-        schema.append("syntax = \"proto3\";\n\n");
-        schema.append("package io.apicurio.testing;\n\n");
-        schema.append("message ").append(messageName).append(" {\n");
-        schema.append("  string id = 1;\n");
-        schema.append("  string name = 2;\n");
-
-        if (version >= 2) {
-            schema.append("  string email = 3;\n");
-        }
-
-        if (version >= 3) {
-            schema.append("  string phone = 4;\n");
-            schema.append("  int64 timestamp = 5;\n");
-        }
-
-        schema.append("}\n");
-        return schema.toString();
+    private EditableMetaData createMetadata(String artifactId, int index) {
+        EditableMetaData editMeta = new EditableMetaData();
+        editMeta.setName(artifactId);
+        editMeta.setDescription("Protobuf test schema #" + index);
+        editMeta.setLabels(createLabels("protobuf"));
+        editMeta.setProperties(createProperties());
+        return editMeta;
     }
 
     /**
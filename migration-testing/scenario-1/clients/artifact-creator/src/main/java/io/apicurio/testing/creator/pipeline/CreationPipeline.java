@@ -0,0 +1,238 @@
+package io.apicurio.testing.creator.pipeline;
+
+import io.apicurio.testing.creator.content.ContentBuffer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAccumulator;
+
+/**
+ * Producer/consumer pipeline that overlaps content generation with registry I/O.
+ *
+ * Generator threads hand finished {@link WorkItem}s to {@link #send(WorkItem)} and
+ * continue with the next artifact while dedicated I/O threads perform the registry
+ * calls through a {@link RegistryWriter}. Items are routed to one bounded queue
+ * (lane) per I/O thread by artifact id, so the versions of an artifact are still
+ * created in order.
+ *
+ * When a lane is full, {@code send} blocks until the I/O thread catches up. This
+ * backpressure keeps memory bounded; the first occurrence is logged and every
+ * occurrence is counted in the generation {@link StageMetrics}. Content buffers
+ * are returned to a pool once written, so steady-state generation allocates no
+ * new buffers.
+ *
+ * The first I/O failure is remembered; later items are discarded and further
+ * calls to {@code send} fail, and {@link #awaitCompletion()} rethrows it.
+ */
+public class CreationPipeline implements ArtifactSink, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(CreationPipeline.class);
+
+    private static final int INITIAL_BUFFER_CAPACITY = 4 * 1024;
+
+    /** Marks the end of a lane. */
+    private static final WorkItem STOP = WorkItem.create(null, null, null, 0, null, null);
+
+    private final RegistryWriter writer;
+    private final List<BlockingQueue<WorkItem>> lanes;
+    private final List<Thread> ioThreads;
+    private final int capacity;
+
+    private final Queue<ContentBuffer> bufferPool = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pooledBuffers = new AtomicInteger();
+    private final int maxPooledBuffers;
+
+    private final AtomicInteger depth = new AtomicInteger();
+    private final LongAccumulator peakDepth = new LongAccumulator(Math::max, 0);
+    private final AtomicBoolean backpressureLogged = new AtomicBoolean();
+    private final AtomicReference<Exception> failure = new AtomicReference<>();
+
+    /** When the calling generator thread took its current buffer, i.e. started generating. */
+    private final ThreadLocal<long[]> generateStart = ThreadLocal.withInitial(() -> new long[1]);
+
+    private final StageMetrics generateMetrics;
+    private final StageMetrics ioMetrics;
+
+    /**
+     * Creates the pipeline and starts its I/O threads.
+     *
+     * @param writer performs the registry calls
+     * @param ioThreads number of I/O threads (and lanes)
+     * @param capacity total number of items queued across all lanes
+     * @param generatorThreads number of threads producing items (for metrics only)
+     */
+    public CreationPipeline(RegistryWriter writer, int ioThreads, int capacity, int generatorThreads) {
+        int laneCount = Math.max(1, ioThreads);
+        int laneCapacity = Math.max(1, capacity / laneCount);
+        this.writer = writer;
+        this.capacity = laneCapacity * laneCount;
+        this.maxPooledBuffers = this.capacity + 2 * laneCount;
+        this.generateMetrics = new StageMetrics("generate", generatorThreads);
+        this.ioMetrics = new StageMetrics("io", laneCount);
+
+        this.lanes = new ArrayList<>(laneCount);
+        this.ioThreads = new ArrayList<>(laneCount);
+        for (int i = 0; i < laneCount; i++) {
+            BlockingQueue<WorkItem> lane = new ArrayBlockingQueue<>(laneCapacity);
+            Thread t = new Thread(() -> drain(lane), "creator-io-" + (i + 1));
+            t.setDaemon(true);
+            lanes.add(lane);
+            this.ioThreads.add(t);
+        }
+        this.ioThreads.forEach(Thread::start);
+    }
+
+    @Override
+    public int resume(String groupId, String artifactId, String artifactType, int versionCount) {
+        return writer.resume(groupId, artifactId, artifactType, versionCount);
+    }
+
+    @Override
+    public ContentBuffer buffer() {
+        generateStart.get()[0] = System.nanoTime();
+        ContentBuffer buffer = bufferPool.poll();
+        if (buffer == null) {
+            return new ContentBuffer(INITIAL_BUFFER_CAPACITY);
+        }
+        pooledBuffers.decrementAndGet();
+        buffer.reset();
+        return buffer;
+    }
+
+    /**
+     * Queues an item for the I/O stage, blocking while its lane is full.
+     *
+     * @param item the item to send
+     */
+    @Override
+    public void send(WorkItem item) throws Exception {
+        Exception e = failure.get();
+        if (e != null) {
+            throw new IllegalStateException("Registry I/O stage failed: " + e.getMessage(), e);
+        }
+
+        // Generation is the time between taking the buffer and sending the item
+        generateMetrics.recordItem(item.getContent().size(), System.nanoTime() - generateStart.get()[0]);
+        BlockingQueue<WorkItem> lane = lanes.get(Math.floorMod(item.getArtifactId().hashCode(), lanes.size()));
+        if (!lane.offer(item)) {
+            if (backpressureLogged.compareAndSet(false, true)) {
+                log.info("  Work queue full: generation is ahead of registry I/O, generators will wait");
+            }
+            long start = System.nanoTime();
+            lane.put(item);
+            generateMetrics.recordWait(System.nanoTime() - start);
+        }
+        peakDepth.accumulate(depth.incrementAndGet());
+    }
+
+    /**
+     * Waits until every queued item has been written and stops the I/O threads.
+     * Must only be called after all items have been sent.
+     *
+     * @throws Exception the first failure raised by the I/O stage
+     */
+    public void awaitCompletion() throws Exception {
+        for (BlockingQueue<WorkItem> lane : lanes) {
+            lane.put(STOP);
+        }
+        for (Thread t : ioThreads) {
+            t.join();
+        }
+
+        Exception e = failure.get();
+        if (e != null) {
+            throw e;
+        }
+    }
+
+    /**
+     * Logs per-stage throughput and queue statistics.
+     */
+    public void logMetrics() {
+        log.info("Pipeline metrics:");
+        log.info("  {}", generateMetrics);
+        log.info("  {}", ioMetrics);
+        log.info("  queue:    peak depth {} of {} ({} lanes)", peakDepth.get(), capacity, lanes.size());
+    }
+
+    public StageMetrics getGenerateMetrics() {
+        return generateMetrics;
+    }
+
+    public StageMetrics getIoMetrics() {
+        return ioMetrics;
+    }
+
+    /**
+     * Stops the I/O threads without waiting for queued items.
+     */
+    @Override
+    public void close() {
+        for (Thread t : ioThreads) {
+            t.interrupt();
+        }
+        for (Thread t : ioThreads) {
+            try {
+                t.join(TimeUnit.SECONDS.toMillis(30));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * I/O thread loop: writes the items of one lane in order.
+     */
+    private void drain(BlockingQueue<WorkItem> lane) {
+        try {
+            while (true) {
+                WorkItem item = lane.poll();
+                if (item == null) {
+                    long waitStart = System.nanoTime();
+                    item = lane.take();
+                    ioMetrics.recordWait(System.nanoTime() - waitStart);
+                }
+                if (item == STOP) {
+                    return;
+                }
+                depth.decrementAndGet();
+
+                long start = System.nanoTime();
+                try {
+                    if (failure.get() == null) {
+                        writer.write(item);
+                    }
+                } catch (Exception e) {
+                    if (failure.compareAndSet(null, new Exception(
+                            "Failed to create artifact " + item.getArtifactId() + ": " + e.getMessage(), e))) {
+                        log.error("    ✗ Failed to create {}: {}", item.getArtifactId(), e.getMessage());
+                    }
+                } finally {
+                    ioMetrics.recordItem(item.getContent().size(), System.nanoTime() - start);
+                    release(item.getContent());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void release(ContentBuffer buffer) {
+        if (pooledBuffers.incrementAndGet() <= maxPooledBuffers) {
+            bufferPool.offer(buffer);
+        } else {
+            pooledBuffers.decrementAndGet();
+        }
+    }
+}
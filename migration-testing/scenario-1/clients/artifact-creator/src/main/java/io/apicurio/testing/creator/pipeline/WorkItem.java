@@ -0,0 +1,122 @@
+package io.apicurio.testing.creator.pipeline;
+
+import io.apicurio.registry.rest.v2.beans.EditableMetaData;
+import io.apicurio.registry.rest.v2.beans.Rule;
+import io.apicurio.testing.creator.content.ContentBuffer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A single ready-to-send artifact version.
+ *
+ * Version 1 creates the artifact and carries its metadata; later versions are added
+ * to it. Rules attached to an item are created right after that version, which lets
+ * generators place a rule before or after the remaining versions.
+ */
+public final class WorkItem {
+
+    private final String groupId;
+    private final String artifactId;
+    private final String artifactType;
+    private final int version;
+    private final int versionCount;
+    private final ContentBuffer content;
+    private final EditableMetaData metadata;
+    private final List<Rule> rules = new ArrayList<>(0);
+
+    private WorkItem(String groupId, String artifactId, String artifactType, int version, int versionCount,
+                     ContentBuffer content, EditableMetaData metadata) {
+        this.groupId = groupId;
+        this.artifactId = artifactId;
+        this.artifactType = artifactType;
+        this.version = version;
+        this.versionCount = versionCount;
+        this.content = content;
+        this.metadata = metadata;
+    }
+
+    /**
+     * Creates the item for the first version, which creates the artifact.
+     *
+     * @param groupId the group identifier
+     * @param artifactId the artifact identifier
+     * @param artifactType the artifact type (AVRO, PROTOBUF, etc.)
+     * @param versionCount total number of versions the artifact will have
+     * @param content the version content
+     * @param metadata metadata to set on the artifact (may be null)
+     * @return the work item
+     */
+    public static WorkItem create(String groupId, String artifactId, String artifactType, int versionCount,
+                                  ContentBuffer content, EditableMetaData metadata) {
+        return new WorkItem(groupId, artifactId, artifactType, 1, versionCount, content, metadata);
+    }
+
+    /**
+     * Creates the item for an additional version of an artifact.
+     *
+     * @param groupId the group identifier
+     * @param artifactId the artifact identifier
+     * @param artifactType the artifact type (AVRO, PROTOBUF, etc.)
+     * @param version the version number (2 or higher)
+     * @param versionCount total number of versions the artifact will have
+     * @param content the version content
+     * @return the work item
+     */
+    public static WorkItem version(String groupId, String artifactId, String artifactType, int version,
+                                   int versionCount, ContentBuffer content) {
+        return new WorkItem(groupId, artifactId, artifactType, version, versionCount, content, null);
+    }
+
+    /**
+     * Adds an artifact rule to create after this version.
+     *
+     * @param rule the rule
+     * @return this item
+     */
+    public WorkItem withRule(Rule rule) {
+        rules.add(rule);
+        return this;
+    }
+
+    public String getGroupId() {
+        return groupId;
+    }
+
+    public String getArtifactId() {
+        return artifactId;
+    }
+
+    public String getArtifactType() {
+        return artifactType;
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    public int getVersionCount() {
+        return versionCount;
+    }
+
+    public ContentBuffer getContent() {
+        return content;
+    }
+
+    public EditableMetaData getMetadata() {
+        return metadata;
+    }
+
+    public List<Rule> getRules() {
+        return Collections.unmodifiableList(rules);
+    }
+
+    public boolean isFirstVersion() {
+        return version == 1;
+    }
+
+    public boolean isLastVersion() {
+        return version == versionCount;
+    }
+}
@@ -0,0 +1,57 @@
+package io.apicurio.testing.creator.scale;
+
+import java.util.SplittableRandom;
+
+/**
+ * Strategies for choosing how many versions an artifact gets within a [min, max] range.
+ */
+public enum VersionDistribution {
+
+    /**
+     * Cycles through the range by artifact index: {@code min + index % (max - min + 1)}.
+     * Reproduces the original hardcoded data set (e.g. {@code (i % 3) + 3} for Avro).
+     */
+    CYCLIC {
+        @Override
+        int pick(int min, int max, int index, SplittableRandom random) {
+            return min + index % (max - min + 1);
+        }
+    },
+
+    /**
+     * Every count in the range is equally likely.
+     */
+    UNIFORM {
+        @Override
+        int pick(int min, int max, int index, SplittableRandom random) {
+            return min + random.nextInt(max - min + 1);
+        }
+    },
+
+    /**
+     * Geometric distribution: most artifacts stay close to {@code min} while a
+     * long tail reaches {@code max}, which mirrors production registries.
+     */
+    LONG_TAIL {
+        @Override
+        int pick(int min, int max, int index, SplittableRandom random) {
+            double u = 1.0 - random.nextDouble(); // (0, 1]
+            int extra = (int) Math.floor(Math.log(u) / Math.log(1.0 - LONG_TAIL_P));
+            return Math.min(max, min + extra);
+        }
+    };
+
+    /** Success probability of the geometric distribution used by {@link #LONG_TAIL}. */
+    private static final double LONG_TAIL_P = 0.35;
+
+    /**
+     * Picks a version count.
+     *
+     * @param min minimum number of versions (inclusive)
+     * @param max maximum number of versions (inclusive)
+     * @param index artifact index (1-based)
+     * @param random per-artifact random source
+     * @return number of versions to create
+     */
+    abstract int pick(int min, int max, int index, SplittableRandom random);
+}
@@ -0,0 +1,123 @@
+package io.apicurio.testing.validator.engine;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Fetches per-artifact data from the registry on a pool of threads.
+ *
+ * Each artifact is a task passed to {@link #submit(Task)}; at most
+ * {@code threads * 4} tasks are queued, so the caller walking the artifacts pauses
+ * while the pool catches up instead of queuing the whole registry. Tasks make their
+ * registry calls through {@link #call(LatencyHistogram, Callable)}, which waits for
+ * the host's {@link RateLimiter} and records the call's latency. Calls run on the
+ * task's own thread, so a task never waits for another one and the pool cannot
+ * deadlock however many calls a task makes.
+ *
+ * Tasks are expected to record their own failures in the report; the first exception
+ * escaping a task is rethrown by {@link #awaitCompletion()}.
+ */
+public class FetchScheduler implements AutoCloseable {
+
+    // Tasks queued per pool thread
+    private static final int QUEUED_PER_THREAD = 4;
+
+    private final int threads;
+    private final int window;
+    private final RateLimiter limiter;
+    private final ExecutorService executor;
+    private final Semaphore queued;
+    private final AtomicReference<Exception> failure = new AtomicReference<>();
+
+    /**
+     * @param registryUrl the registry URL, whose host is rate limited
+     * @param threads threads running tasks
+     * @param requestsPerSecond maximum requests per second to the registry host, or 0 for no limit
+     */
+    public FetchScheduler(String registryUrl, int threads, double requestsPerSecond) {
+        this.threads = Math.max(1, threads);
+        this.window = this.threads * QUEUED_PER_THREAD;
+        this.limiter = RateLimiter.forHost(registryUrl, requestsPerSecond);
+        this.executor = Executors.newFixedThreadPool(this.threads, r -> {
+            Thread thread = new Thread(r, "registry-fetch");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.queued = new Semaphore(window);
+    }
+
+    /**
+     * Queues a task, waiting while the queue is full.
+     *
+     * @param task the work for one artifact
+     */
+    public void submit(Task task) throws InterruptedException {
+        queued.acquire();
+        try {
+            executor.execute(() -> {
+                try {
+                    task.run();
+                } catch (Exception e) {
+                    failure.compareAndSet(null, e);
+                } finally {
+                    queued.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            queued.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Makes a registry call on the calling thread once the rate limit allows it.
+     *
+     * @param latencies histogram the call's latency is recorded in
+     * @param request the registry call
+     * @return the call's result
+     */
+    public <T> T call(LatencyHistogram latencies, Callable<T> request) throws Exception {
+        limiter.acquire();
+        long start = System.nanoTime();
+        try {
+            return request.call();
+        } finally {
+            latencies.record(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Waits for all queued tasks to finish.
+     *
+     * @throws Exception the first exception thrown by a task since the last call
+     */
+    public void awaitCompletion() throws Exception {
+        queued.acquire(window);
+        queued.release(window);
+        Exception e = failure.getAndSet(null);
+        if (e != null) {
+            throw e;
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    @Override
+    public String toString() {
+        return threads + " threads, " + limiter;
+    }
+
+    /**
+     * The work for one artifact.
+     */
+    @FunctionalInterface
+    public interface Task {
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,258 @@
+package io.apicurio.testing.validator.model;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * What the registry should contain, as recorded by the artifact creator in its
+ * expectations file (one JSON object per line).
+ *
+ * Artifacts are indexed by artifact id, so validators check each artifact they
+ * walk in constant time. Every artifact also has an ordinal, its position in the
+ * file, which validators use to track which artifacts they have seen. Label lists
+ * and property maps are shared between artifacts that have the same ones, which
+ * keeps millions of artifacts small in memory.
+ */
+public class Expectations {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final Path file;
+    private final List<ExpectedArtifact> artifacts = new ArrayList<>();
+    private final Map<String, ExpectedArtifact> byArtifactId = new HashMap<>();
+    private final Map<String, Integer> artifactsByType = new TreeMap<>();
+    private final Map<String, String> globalRules = new LinkedHashMap<>();
+    private final List<ExpectedArtifact> artifactsWithRules = new ArrayList<>();
+    private long totalVersions;
+
+    private Expectations(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Loads an expectations file.
+     *
+     * @param file the file written by the artifact creator
+     * @return the expectations
+     */
+    public static Expectations load(Path file) throws IOException {
+        Expectations expectations = new Expectations(file);
+        Map<List<String>, List<String>> sharedLabels = new HashMap<>();
+        Map<Map<String, String>, Map<String, String>> sharedProperties = new HashMap<>();
+        Map<Map<String, String>, Map<String, String>> sharedRules = new HashMap<>();
+
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                JsonNode node = MAPPER.readTree(line);
+                String kind = node.path("kind").asText();
+                if ("globalRule".equals(kind)) {
+                    expectations.globalRules.put(node.path("type").asText(), node.path("config").asText());
+                } else if ("artifact".equals(kind)) {
+                    expectations.add(new ExpectedArtifact(
+                        expectations.artifacts.size(),
+                        node.path("groupId").asText("default"),
+                        node.path("artifactId").asText(),
+                        node.path("type").asText(),
+                        node.path("versions").asInt(),
+                        text(node, "name"),
+                        text(node, "description"),
+                        share(sharedLabels, labels(node.get("labels"))),
+                        share(sharedProperties, strings(node.get("properties"))),
+                        share(sharedRules, strings(node.get("rules")))));
+                } else {
+                    throw new IOException(file + " line " + lineNumber + ": unknown kind '" + kind + "'");
+                }
+            }
+        }
+        return expectations;
+    }
+
+    private void add(ExpectedArtifact artifact) throws IOException {
+        if (byArtifactId.putIfAbsent(artifact.getArtifactId(), artifact) != null) {
+            throw new IOException(file + " lists artifact " + artifact.getArtifactId() + " twice");
+        }
+        artifacts.add(artifact);
+        artifactsByType.merge(artifact.getType(), 1, Integer::sum);
+        totalVersions += artifact.getVersions();
+        if (!artifact.getRules().isEmpty()) {
+            artifactsWithRules.add(artifact);
+        }
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Returns the expected artifacts, ordered by ordinal.
+     */
+    public List<ExpectedArtifact> getArtifacts() {
+        return Collections.unmodifiableList(artifacts);
+    }
+
+    /**
+     * Looks up an expected artifact.
+     *
+     * @param artifactId the artifact identifier
+     * @return the artifact, or null if it is not expected
+     */
+    public ExpectedArtifact getArtifact(String artifactId) {
+        return byArtifactId.get(artifactId);
+    }
+
+    public int getArtifactCount() {
+        return artifacts.size();
+    }
+
+    public long getTotalVersions() {
+        return totalVersions;
+    }
+
+    /**
+     * Returns the number of expected artifacts of each artifact type.
+     */
+    public Map<String, Integer> getArtifactsByType() {
+        return Collections.unmodifiableMap(artifactsByType);
+    }
+
+    /**
+     * Returns the expected global rules, rule type to configuration.
+     */
+    public Map<String, String> getGlobalRules() {
+        return Collections.unmodifiableMap(globalRules);
+    }
+
+    /**
+     * Returns the expected artifacts that have artifact rules.
+     */
+    public List<ExpectedArtifact> getArtifactsWithRules() {
+        return Collections.unmodifiableList(artifactsWithRules);
+    }
+
+    private static String text(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+
+    private static List<String> labels(JsonNode node) {
+        if (node == null || !node.isArray()) {
+            return Collections.emptyList();
+        }
+        List<String> labels = new ArrayList<>(node.size());
+        node.forEach(label -> labels.add(label.asText()));
+        return Collections.unmodifiableList(labels);
+    }
+
+    private static Map<String, String> strings(JsonNode node) {
+        if (node == null || !node.isObject()) {
+            return Collections.emptyMap();
+        }
+        Map<String, String> values = new TreeMap<>();
+        node.fields().forEachRemaining(field -> values.put(field.getKey(), field.getValue().asText()));
+        return Collections.unmodifiableMap(values);
+    }
+
+    private static <T> T share(Map<T, T> shared, T value) {
+        T existing = shared.putIfAbsent(value, value);
+        return existing != null ? existing : value;
+    }
+
+    /**
+     * An artifact the creator created, with its metadata and rules.
+     */
+    public static final class ExpectedArtifact {
+        private final int ordinal;
+        private final String groupId;
+        private final String artifactId;
+        private final String type;
+        private final int versions;
+        private final String name;
+        private final String description;
+        private final List<String> labels;
+        private final Map<String, String> properties;
+        private final Map<String, String> rules;
+
+        ExpectedArtifact(int ordinal, String groupId, String artifactId, String type, int versions, String name,
+                         String description, List<String> labels, Map<String, String> properties,
+                         Map<String, String> rules) {
+            this.ordinal = ordinal;
+            this.groupId = groupId;
+            this.artifactId = artifactId;
+            this.type = type;
+            this.versions = versions;
+            this.name = name;
+            this.description = description;
+            this.labels = labels;
+            this.properties = properties;
+            this.rules = rules;
+        }
+
+        /**
+         * Returns the position of the artifact in the expectations file.
+         */
+        public int getOrdinal() {
+            return ordinal;
+        }
+
+        public String getGroupId() {
+            return groupId;
+        }
+
+        public String getArtifactId() {
+            return artifactId;
+        }
+
+        public String getType() {
+            return type;
+        }
+
+        public int getVersions() {
+            return versions;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+
+        /**
+         * Returns the labels in v2 "key:value" format.
+         */
+        public List<String> getLabels() {
+            return labels;
+        }
+
+        public Map<String, String> getProperties() {
+            return properties;
+        }
+
+        /**
+         * Returns the artifact rules, rule type to configuration.
+         */
+        public Map<String, String> getRules() {
+            return rules;
+        }
+    }
+}
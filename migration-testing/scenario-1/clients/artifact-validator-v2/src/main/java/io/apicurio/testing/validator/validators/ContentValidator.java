@@ -1,33 +1,98 @@
 package io.apicurio.testing.validator.validators;
 
 import io.apicurio.registry.rest.client.RegistryClient;
-import io.apicurio.registry.rest.v2.beans.ArtifactSearchResults;
 import io.apicurio.registry.rest.v2.beans.SearchedArtifact;
 import io.apicurio.registry.rest.v2.beans.SearchedVersion;
-import io.apicurio.registry.rest.v2.beans.SortBy;
-import io.apicurio.registry.rest.v2.beans.SortOrder;
+import io.apicurio.testing.validator.content.ContentHashes;
+import io.apicurio.testing.validator.content.FingerprintManifest;
+import io.apicurio.testing.validator.inventory.PagedIterator;
+import io.apicurio.testing.validator.inventory.RegistryPages;
 import io.apicurio.testing.validator.model.ValidationReport;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Validates content retrieval by globalId and contentHash.
+ *
+ * Versions are streamed page by page and sampled as they arrive, so only the
+ * samples are kept in memory however many versions the registry holds.
+ *
+ * In {@link Mode#FULL} every version is fetched by globalId and every distinct
+ * content by contentId on a pool of threads, each response streamed through a
+ * SHA-256 digest and checked against the hashes recorded in the hash file by a run
+ * before the migration. If the hash file does not exist yet, the hashes are
+ * recorded to it instead. Every hashed version is also added to a
+ * {@link FingerprintManifest}, see {@link #getManifest()}.
  */
 public class ContentValidator {
 
     private static final Logger log = LoggerFactory.getLogger(ContentValidator.class);
 
+    /**
+     * Which versions have their content checked.
+     */
+    public enum Mode {
+        /** 10 random versions by globalId, 5 of them by contentId, checked for non-empty content. */
+        SAMPLE,
+        /** Every version by globalId and every content by contentId, checked by SHA-256. */
+        FULL
+    }
+
     private final RegistryClient client;
     private final ValidationReport report;
+    private final RegistryPages pages;
+    private final Mode mode;
+    private final Path hashFile;
+    private final int threads;
+    private final FingerprintManifest.Builder manifest = new FingerprintManifest.Builder();
 
-    public ContentValidator(RegistryClient client, ValidationReport report) {
+    // Versions sampled by globalId; the first CONTENT_ID_SAMPLES of them are also fetched by contentId
+    private static final int GLOBAL_ID_SAMPLES = 10;
+    private static final int CONTENT_ID_SAMPLES = 5;
+
+    // Content requests queued per thread in full mode
+    private static final int QUEUED_PER_THREAD = 4;
+
+    /**
+     * @param client the registry client
+     * @param report the validation report
+     * @param pages the paginated artifact and version listings
+     * @param mode which versions to check
+     * @param hashFile hashes recorded before the migration (full mode), or null
+     * @param threads threads fetching content in full mode
+     */
+    public ContentValidator(RegistryClient client, ValidationReport report, RegistryPages pages,
+                            Mode mode, Path hashFile, int threads) {
         this.client = client;
         this.report = report;
+        this.pages = pages;
+        this.mode = mode;
+        this.hashFile = hashFile;
+        this.threads = threads;
+    }
+
+    /**
+     * Returns the fingerprints of the versions hashed in full mode, or null in sample mode.
+     */
+    public FingerprintManifest.Builder getManifest() {
+        return mode == Mode.FULL ? manifest : null;
     }
 
     /**
@@ -35,46 +100,49 @@ public class ContentValidator {
      */
     public void validate() throws Exception {
         log.info("Validating content retrieval...");
+        if (mode == Mode.FULL) {
+            validateAll();
+            return;
+        }
 
-        // Get all artifacts
-        ArtifactSearchResults results = client.searchArtifacts(
-            "default",  // group
-            null,       // name
-            null,       // description
-            null,       // labels
-            null,       // properties
-            null,       // globalId
-            null,       // contentId
-            SortBy.name,
-            SortOrder.asc,
-            0,          // offset
-            1000        // limit
-        );
-
-        // Collect version information
-        List<VersionInfo> versions = new ArrayList<>();
-        for (SearchedArtifact artifact : results.getArtifacts()) {
+        // Sample versions uniformly while streaming them (reservoir sampling)
+        List<VersionInfo> samples = new ArrayList<>(GLOBAL_ID_SAMPLES);
+        Random random = new Random();
+        long seen = 0;
+        PagedIterator<SearchedArtifact> artifacts = pages.artifacts();
+        while (artifacts.hasNext()) {
+            SearchedArtifact artifact = artifacts.next();
             try {
-                var versionList = client.listArtifactVersions("default", artifact.getId(), 0, 100);
-                for (SearchedVersion version : versionList.getVersions()) {
-                    versions.add(new VersionInfo(
+                PagedIterator<SearchedVersion> versions = pages.versions(artifact.getId());
+                while (versions.hasNext()) {
+                    SearchedVersion version = versions.next();
+                    VersionInfo info = new VersionInfo(
                         artifact.getId(),
                         version.getVersion(),
                         version.getGlobalId(),
                         version.getContentId()
-                    ));
+                    );
+                    seen++;
+                    if (samples.size() < GLOBAL_ID_SAMPLES) {
+                        samples.add(info);
+                    } else {
+                        long slot = (long) (random.nextDouble() * seen);
+                        if (slot < GLOBAL_ID_SAMPLES) {
+                            samples.set((int) slot, info);
+                        }
+                    }
                 }
             } catch (Exception e) {
                 log.warn("  Failed to list versions for {}: {}", artifact.getId(), e.getMessage());
             }
         }
 
-        log.info("  Found {} total versions to test", versions.size());
+        log.info("  Found {} total versions to test", seen);
 
-        // Shuffle and take random samples
-        Collections.shuffle(versions);
-        List<VersionInfo> sampleForGlobalId = versions.subList(0, Math.min(10, versions.size()));
-        List<VersionInfo> sampleForContentId = versions.subList(0, Math.min(5, versions.size()));
+        // Shuffle so the contentId sample is a random subset of the globalId sample
+        Collections.shuffle(samples, random);
+        List<VersionInfo> sampleForGlobalId = samples;
+        List<VersionInfo> sampleForContentId = samples.subList(0, Math.min(CONTENT_ID_SAMPLES, samples.size()));
 
         // Test retrieval by globalId
         validateGlobalIdRetrieval(sampleForGlobalId);
@@ -83,6 +151,177 @@ public class ContentValidator {
         validateContentIdRetrieval(sampleForContentId);
     }
 
+    /**
+     * Hashes the content of every version by globalId and of every content by contentId.
+     */
+    private void validateAll() throws Exception {
+        ContentHashes recorded = null;
+        if (hashFile != null && Files.exists(hashFile)) {
+            recorded = ContentHashes.load(hashFile);
+            log.info("  Loaded {} recorded content hashes from {}", recorded.size(), hashFile);
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            ContentHashes observed = verifyGlobalIds(executor, recorded);
+            verifyContentIds(executor, observed);
+
+            if (recorded == null && hashFile != null) {
+                observed.write(hashFile);
+                log.info("  Recorded {} content hashes to {}", observed.size(), hashFile);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Hashes every version by globalId; a bounded number of requests is queued at once.
+     *
+     * @param executor the threads fetching content
+     * @param recorded hashes recorded before the migration, or null
+     * @return the hashes of the versions that could be fetched
+     */
+    private ContentHashes verifyGlobalIds(ExecutorService executor, ContentHashes recorded) throws Exception {
+        log.info("  Hashing the content of every version by globalId ({} threads)...", threads);
+        ContentHashes observed = new ContentHashes();
+        Set<Long> failedGlobalIds = ConcurrentHashMap.newKeySet();
+        LongAdder mismatches = new LongAdder();
+        int window = threads * QUEUED_PER_THREAD;
+        Semaphore queued = new Semaphore(window);
+        long versions = 0;
+        long start = System.nanoTime();
+
+        PagedIterator<SearchedArtifact> artifacts = pages.artifacts();
+        while (artifacts.hasNext()) {
+            SearchedArtifact artifact = artifacts.next();
+            PagedIterator<SearchedVersion> artifactVersions = pages.versions(artifact.getId());
+            while (artifactVersions.hasNext()) {
+                SearchedVersion version = artifactVersions.next();
+                long globalId = version.getGlobalId();
+                long contentId = version.getContentId();
+                String check = "Content of " + artifact.getId() + "/" + version.getVersion()
+                    + " (globalId " + globalId + ")";
+                versions++;
+                queued.acquire();
+                executor.execute(() -> {
+                    try {
+                        String sha256;
+                        try (InputStream content = client.getContentByGlobalId(globalId)) {
+                            sha256 = content != null ? ContentHashes.sha256(content) : null;
+                        }
+                        if (sha256 == null) {
+                            failedGlobalIds.add(globalId);
+                            report.recordFailure(check, "Content is empty (0 bytes)");
+                            return;
+                        }
+                        observed.record(globalId, contentId, sha256);
+                        manifest.add(pages.getGroupId(), artifact.getId(), version.getVersion(),
+                            globalId, contentId, sha256);
+                        ContentHashes.Entry before = recorded != null ? recorded.get(globalId) : null;
+                        if (recorded != null && before == null) {
+                            mismatches.increment();
+                            report.recordFailure(check, "No hash recorded before the migration");
+                        } else if (before != null && !before.getSha256().equals(sha256)) {
+                            mismatches.increment();
+                            report.recordFailure(check,
+                                "SHA-256 " + sha256 + " differs from recorded " + before.getSha256());
+                            log.error("    ✗ {}: SHA-256 differs from recorded hash", check);
+                        }
+                    } catch (Exception e) {
+                        failedGlobalIds.add(globalId);
+                        report.recordFailure(check, e.getMessage());
+                        log.error("    ✗ {}: {}", check, e.getMessage());
+                    } finally {
+                        queued.release();
+                    }
+                });
+            }
+        }
+        queued.acquire(window);
+        queued.release(window);
+        double seconds = Math.max(System.nanoTime() - start, 1) / 1_000_000_000.0;
+
+        long hashed = observed.size();
+        String rate = String.format("%.0f versions/s", hashed / seconds);
+        log.info("    Hashed {}/{} versions in {} ms ({})", hashed, versions, Math.round(seconds * 1000), rate);
+        if (hashed == versions && mismatches.sum() == 0) {
+            report.recordPass("Content by globalId verified (" + hashed + "/" + versions + " versions, " + rate + ")");
+            log.info("    ✓ Content of all {} versions verified by globalId", hashed);
+        }
+
+        // Recorded versions that are no longer in the registry
+        if (recorded != null) {
+            long missing = 0;
+            for (Map.Entry<Long, ContentHashes.Entry> entry : recorded.entries().entrySet()) {
+                if (observed.get(entry.getKey()) == null && !failedGlobalIds.contains(entry.getKey())) {
+                    missing++;
+                    report.recordFailure("Content of globalId " + entry.getKey(),
+                        "Recorded before the migration but not found in the registry");
+                }
+            }
+            if (missing > 0) {
+                log.error("    ✗ {} recorded versions not found in the registry", missing);
+            }
+        }
+        return observed;
+    }
+
+    /**
+     * Hashes every distinct content by contentId and compares it to the content of its versions.
+     *
+     * @param executor the threads fetching content
+     * @param observed the hashes of the versions fetched by globalId
+     */
+    private void verifyContentIds(ExecutorService executor, ContentHashes observed) throws Exception {
+        Map<Long, String> byContentId = new HashMap<>();
+        for (ContentHashes.Entry entry : observed.entries().values()) {
+            byContentId.putIfAbsent(entry.getContentId(), entry.getSha256());
+        }
+
+        log.info("  Hashing {} distinct contents by contentId...", byContentId.size());
+        LongAdder verified = new LongAdder();
+        int window = threads * QUEUED_PER_THREAD;
+        Semaphore queued = new Semaphore(window);
+        long start = System.nanoTime();
+        for (Map.Entry<Long, String> content : byContentId.entrySet()) {
+            long contentId = content.getKey();
+            String check = "Content of contentId " + contentId;
+            queued.acquire();
+            executor.execute(() -> {
+                try {
+                    String sha256;
+                    try (InputStream stream = client.getContentById(contentId)) {
+                        sha256 = stream != null ? ContentHashes.sha256(stream) : null;
+                    }
+                    if (!Objects.equals(content.getValue(), sha256)) {
+                        report.recordFailure(check,
+                            "SHA-256 " + sha256 + " differs from its versions' " + content.getValue());
+                        log.error("    ✗ {}: SHA-256 differs from its versions", check);
+                    } else {
+                        verified.increment();
+                    }
+                } catch (Exception e) {
+                    report.recordFailure(check, e.getMessage());
+                    log.error("    ✗ {}: {}", check, e.getMessage());
+                } finally {
+                    queued.release();
+                }
+            });
+        }
+        queued.acquire(window);
+        queued.release(window);
+        double seconds = Math.max(System.nanoTime() - start, 1) / 1_000_000_000.0;
+
+        String rate = String.format("%.0f contents/s", byContentId.size() / seconds);
+        log.info("    Hashed {} contents in {} ms ({})", byContentId.size(), Math.round(seconds * 1000), rate);
+        if (verified.sum() == byContentId.size()) {
+            report.recordPass("Content by contentId verified (" + verified.sum() + "/" + byContentId.size()
+                + " contents, " + rate + ")");
+            log.info("    ✓ All {} contents verified by contentId", verified.sum());
+        }
+    }
+
     /**
      * Validates content retrieval by globalId.
      *
@@ -0,0 +1,160 @@
+package io.apicurio.testing.validator.validators;
+
+import io.apicurio.registry.rest.client.RegistryClient;
+import io.apicurio.testing.validator.content.ExportIndex;
+import io.apicurio.testing.validator.model.ValidationReport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Compares registry content with the content of the v2 export, version by version.
+ *
+ * Versions are picked from the export index, so no registry listing is needed:
+ * each picked version is fetched from the registry by globalId (and its content
+ * once by contentId) and compared byte for byte with the export entry, which is
+ * decompressed on demand on the same pool of threads. A sample size of 0 compares
+ * every version in the export.
+ */
+public class ExportContentValidator {
+
+    private static final Logger log = LoggerFactory.getLogger(ExportContentValidator.class);
+
+    // Comparisons queued per thread
+    private static final int QUEUED_PER_THREAD = 4;
+
+    private final RegistryClient client;
+    private final ValidationReport report;
+    private final ExportIndex index;
+    private final int samples;
+    private final int threads;
+
+    /**
+     * @param client the registry client
+     * @param report the validation report
+     * @param index the index of the export to compare with
+     * @param samples versions to compare, or 0 for all
+     * @param threads threads fetching and decompressing content
+     */
+    public ExportContentValidator(RegistryClient client, ValidationReport report, ExportIndex index,
+                                  int samples, int threads) {
+        this.client = client;
+        this.report = report;
+        this.index = index;
+        this.samples = samples;
+        this.threads = threads;
+    }
+
+    /**
+     * Compares the picked versions.
+     */
+    public void validate() throws Exception {
+        log.info("Validating content against export {}...", index.getExportFile());
+        int[] picked = pick();
+        log.info("  Comparing {} of {} exported versions ({} threads)...", picked.length,
+            index.getVersionCount(), threads);
+
+        Set<Long> comparedContentIds = ConcurrentHashMap.newKeySet();
+        LongAdder matched = new LongAdder();
+        LongAdder exportBytes = new LongAdder();
+        int window = threads * QUEUED_PER_THREAD;
+        Semaphore queued = new Semaphore(window);
+        long start = System.nanoTime();
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            for (int version : picked) {
+                long globalId = index.getGlobalId(version);
+                long contentId = index.getContentIdOfVersion(version);
+                queued.acquire();
+                executor.execute(() -> {
+                    String check = "Content of globalId " + globalId + " matches export";
+                    try {
+                        byte[] exported = index.readContent(contentId);
+                        if (exported == null) {
+                            report.recordFailure(check, "Content " + contentId + " is missing from the export");
+                            return;
+                        }
+                        exportBytes.add(exported.length);
+                        if (!compare(check, exported, client.getContentByGlobalId(globalId))) {
+                            return;
+                        }
+                        if (comparedContentIds.add(contentId) && !compare("Content of contentId " + contentId
+                            + " matches export", exported, client.getContentById(contentId))) {
+                            return;
+                        }
+                        matched.increment();
+                    } catch (Exception e) {
+                        report.recordFailure(check, e.getMessage());
+                        log.error("    ✗ {}: {}", check, e.getMessage());
+                    } finally {
+                        queued.release();
+                    }
+                });
+            }
+            queued.acquire(window);
+            queued.release(window);
+        } finally {
+            executor.shutdownNow();
+        }
+        double seconds = Math.max(System.nanoTime() - start, 1) / 1_000_000_000.0;
+
+        String rate = String.format("%.0f versions/s, %.1f MB/s of export content", picked.length / seconds,
+            exportBytes.sum() / 1_048_576.0 / seconds);
+        log.info("    Compared {} versions in {} ms ({})", picked.length, Math.round(seconds * 1000), rate);
+        if (matched.sum() == picked.length) {
+            report.recordPass("Content matches export (" + matched.sum() + "/" + picked.length + " versions, "
+                + comparedContentIds.size() + " contents, " + rate + ")");
+            log.info("    ✓ Content of all {} compared versions matches the export", matched.sum());
+        }
+    }
+
+    /**
+     * Compares registry content with the exported content.
+     *
+     * @return whether they are equal; a failure is recorded otherwise
+     */
+    private boolean compare(String check, byte[] exported, InputStream content) throws Exception {
+        byte[] registered;
+        try (InputStream stream = content) {
+            registered = stream != null ? stream.readAllBytes() : new byte[0];
+        }
+        if (Arrays.equals(exported, registered)) {
+            return true;
+        }
+        report.recordFailure(check, "Registry content (" + registered.length + " bytes) differs from export ("
+            + exported.length + " bytes)");
+        log.error("    ✗ {}: registry content differs from export", check);
+        return false;
+    }
+
+    /**
+     * Picks the versions to compare: all of them, or a random sample in globalId order.
+     */
+    private int[] pick() {
+        int count = index.getVersionCount();
+        if (samples <= 0 || samples >= count) {
+            int[] all = new int[count];
+            Arrays.setAll(all, i -> i);
+            return all;
+        }
+        // Floyd's algorithm: samples distinct indexes without allocating one per version
+        Random random = new Random();
+        Set<Integer> chosen = new HashSet<>();
+        for (int i = count - samples; i < count; i++) {
+            int candidate = random.nextInt(i + 1);
+            chosen.add(chosen.contains(candidate) ? i : candidate);
+        }
+        return chosen.stream().mapToInt(Integer::intValue).sorted().toArray();
+    }
+}
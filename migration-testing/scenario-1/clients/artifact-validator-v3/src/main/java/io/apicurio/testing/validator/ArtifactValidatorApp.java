@@ -1,11 +1,18 @@
 package io.apicurio.testing.validator;
 
-import io.apicurio.registry.client.RegistryClientFactory;
 import io.apicurio.registry.client.RegistryClientOptions;
-import io.apicurio.registry.rest.client.RegistryClient;
+import io.apicurio.testing.validator.client.AsyncRegistryClient;
+import io.apicurio.testing.validator.client.ConnectionPoolSettings;
+import io.apicurio.testing.validator.content.ExportIndex;
+import io.apicurio.testing.validator.engine.FetchScheduler;
+import io.apicurio.testing.validator.inventory.RegistryInventory;
+import io.apicurio.testing.validator.model.Expectations;
 import io.apicurio.testing.validator.model.ValidationReport;
+import io.apicurio.testing.validator.report.JsonLinesReportWriter;
 import io.apicurio.testing.validator.validators.ArtifactCountValidator;
 import io.apicurio.testing.validator.validators.ContentValidator;
+import io.apicurio.testing.validator.validators.ExportContentValidator;
+import io.apicurio.testing.validator.validators.ManifestValidator;
 import io.apicurio.testing.validator.validators.MetadataValidator;
 import io.apicurio.testing.validator.validators.RuleValidator;
 import org.slf4j.Logger;
@@ -13,14 +20,20 @@ import org.slf4j.LoggerFactory;
 
 import java.io.FileWriter;
 import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Locale;
 
 /**
  * Main application for validating artifacts in Apicurio Registry using v3 API.
  *
  * This application performs comprehensive validation including:
  * - Artifact and version count validation
- * - Metadata validation (labels, properties, descriptions)
- * - Global and artifact-specific rule validation
+ * - Artifact and version metadata validation (labels, properties, descriptions)
+ * - Global rule and artifact rule set validation
  * - Content retrieval validation (by globalId and contentId)
  *
  * Usage: java -jar artifact-validator-v3.jar [registry-url] [output-file]
@@ -28,6 +41,40 @@ import java.io.PrintWriter;
  * Args:
  *   registry-url: URL of the Apicurio Registry (default: http://localhost:8080/apis/registry/v3)
  *   output-file:  Path to write the validation report (default: data/validation-report-v3.txt)
+ *
+ * System properties:
+ *   validator.max.requests: Maximum number of asynchronous registry requests in
+ *                      flight (default: 64)
+ *   validator.rate.limit: Maximum metadata and rule requests per second to the
+ *                      registry host, or 0 for no limit (default: 0)
+ *   validator.http.pool.size: Maximum connections to the registry
+ *                      (default: validator.max.requests)
+ *   validator.http.keep.alive: Reuse connections between requests (default: true)
+ *   validator.http.keep.alive.timeout: Seconds an idle connection is kept open (default: 60)
+ *   validator.expectations: The artifact creator's expectations file listing every
+ *                      created artifact with its type, version count, metadata and
+ *                      rules (default: creation-expectations.jsonl next to the output file)
+ *   validator.page.size: Artifacts or versions requested per page (default: 500)
+ *   validator.page.prefetch: Search pages requested ahead of the one being processed (default: 2)
+ *   validator.content.mode: "sample" checks 10 random versions for non-empty content,
+ *                      "full" verifies the SHA-256 of every version (default: sample)
+ *   validator.content.hashes: File of content hashes; in full mode they are compared
+ *                      if the file exists and recorded to it otherwise (default: none)
+ *   validator.manifest.write: File to write the content fingerprint manifest to;
+ *                      requires validator.content.mode=full (default: none)
+ *   validator.manifest.baseline: Manifest written before the migration, or the v2
+ *                      export zip, to compare the new manifest with (default: none)
+ *   validator.export.file: The v2 export zip; content in the registry is compared
+ *                      with it through an index built next to it (default: none)
+ *   validator.export.samples: Random exported versions compared with the registry,
+ *                      or 0 for all of them (default: 100)
+ *   validator.export.threads: Threads decompressing export content (default: number of CPUs)
+ *   validator.report.jsonl: JSON Lines file every check result is streamed to, or
+ *                      empty for none (default: the output file with a .jsonl extension)
+ *   validator.report.sample: Failures and warnings kept in memory and listed in the
+ *                      output file (default: 1000)
+ *
+ * The artifact and version inventory is loaded once, page by page, and shared by all validators.
  */
 public class ArtifactValidatorApp {
 
@@ -35,42 +82,106 @@ public class ArtifactValidatorApp {
 
     private static final String DEFAULT_REGISTRY_URL = "http://localhost:8080/apis/registry/v3";
     private static final String DEFAULT_OUTPUT_FILE = "data/validation-report-v3.txt";
+    private static final String DEFAULT_EXPECTATIONS_FILE = "creation-expectations.jsonl";
+    private static final int DEFAULT_MAX_REQUESTS = 64;
+    private static final int DEFAULT_EXPORT_SAMPLES = 100;
+    // Artifacts whose metadata or rules are fetched at once per request in flight
+    private static final int ARTIFACTS_PER_REQUEST = 4;
 
     public static void main(String[] args) {
         String registryUrl = args.length > 0 ? args[0] : DEFAULT_REGISTRY_URL;
         String outputFile = args.length > 1 ? args[1] : DEFAULT_OUTPUT_FILE;
+        Path expectationsFile = Paths.get(System.getProperty("validator.expectations",
+            Paths.get(outputFile).resolveSibling(DEFAULT_EXPECTATIONS_FILE).toString()));
+        int maxRequests = Integer.getInteger("validator.max.requests", DEFAULT_MAX_REQUESTS);
+        double rateLimit = Double.parseDouble(System.getProperty("validator.rate.limit", "0"));
+        ConnectionPoolSettings pool = ConnectionPoolSettings.fromSystemProperties(maxRequests);
+        int pageSize = Integer.getInteger("validator.page.size", RegistryInventory.DEFAULT_PAGE_SIZE);
+        int prefetch = Integer.getInteger("validator.page.prefetch", RegistryInventory.DEFAULT_PREFETCH);
+        ContentValidator.Mode contentMode = ContentValidator.Mode.valueOf(
+            System.getProperty("validator.content.mode", "sample").trim().toUpperCase(Locale.ROOT));
+        String contentHashes = System.getProperty("validator.content.hashes");
+        String manifestFile = System.getProperty("validator.manifest.write");
+        String manifestBaseline = System.getProperty("validator.manifest.baseline");
+        String exportFile = System.getProperty("validator.export.file");
+        int exportSamples = Integer.getInteger("validator.export.samples", DEFAULT_EXPORT_SAMPLES);
+        int exportThreads = Integer.getInteger("validator.export.threads",
+            Runtime.getRuntime().availableProcessors());
+        Path jsonLinesFile = jsonLinesFile(outputFile);
+        int reportSample = Integer.getInteger("validator.report.sample", ValidationReport.DEFAULT_SAMPLE_SIZE);
 
         log.info("================================================================");
         log.info("  Apicurio Registry Artifact Validator (v3 API)");
         log.info("================================================================");
         log.info("Registry URL: {}", registryUrl);
         log.info("Output File:  {}", outputFile);
-        log.info("");
 
-        try {
-            // Create registry client
-            RegistryClient client = RegistryClientFactory.create(
-                RegistryClientOptions.create(registryUrl)
-            );
+        try (AsyncRegistryClient asyncClient = AsyncRegistryClient.create(
+                 RegistryClientOptions.create(registryUrl), maxRequests, pool)) {
+            log.info("Connections:  {}", pool);
+            log.info("");
+
             log.info("Connected to registry");
             log.info("");
 
-            // Create validation report
-            ValidationReport report = new ValidationReport();
+            // Create validation report, streaming every check result
+            ValidationReport report = new ValidationReport(
+                jsonLinesFile != null ? JsonLinesReportWriter.open(jsonLinesFile) : null, reportSample);
+
+            // Load what the creator created
+            Expectations expectations = loadExpectations(expectationsFile, report);
+
+            // Load the artifact and version inventory once, then run all validations against it
+            long start = System.currentTimeMillis();
+            RegistryInventory inventory = RegistryInventory.load(asyncClient, "default", pageSize, prefetch);
+            log.info("");
 
-            // Run all validations
-            new ArtifactCountValidator(client, report).validate();
+            new ArtifactCountValidator(inventory, report, expectations).validate();
             log.info("");
 
-            new MetadataValidator(client, report).validate();
+            // Metadata and rules of all artifacts are fetched on one scheduler, within the host's rate limit
+            FetchScheduler scheduler = new FetchScheduler(registryUrl, maxRequests * ARTIFACTS_PER_REQUEST, rateLimit);
+            new MetadataValidator(asyncClient, report, inventory, expectations, scheduler).validate();
             log.info("");
 
-            new RuleValidator(client, report).validate();
+            new RuleValidator(asyncClient, report, inventory, expectations, scheduler).validate();
             log.info("");
 
-            new ContentValidator(client, report).validate();
+            ContentValidator contentValidator = new ContentValidator(asyncClient, report, inventory, contentMode,
+                contentHashes != null ? Paths.get(contentHashes) : null);
+            contentValidator.validate();
             log.info("");
 
+            if (manifestFile != null) {
+                if (contentValidator.getManifest() != null) {
+                    new ManifestValidator(report, "default", contentValidator.getManifest(),
+                        Paths.get(manifestFile), manifestBaseline != null ? Paths.get(manifestBaseline) : null)
+                        .validate();
+                    log.info("");
+                } else {
+                    report.recordWarning("Fingerprint manifest not written: requires validator.content.mode=full");
+                    log.warn("Fingerprint manifest not written: requires validator.content.mode=full");
+                }
+            }
+
+            if (exportFile != null) {
+                try (ExportIndex exportIndex = ExportIndex.open(Paths.get(exportFile), exportThreads)) {
+                    new ExportContentValidator(asyncClient, report, exportIndex, exportSamples, exportThreads)
+                        .validate();
+                }
+                log.info("");
+            }
+            log.info("Validated in {} ms (peak {} live threads)", System.currentTimeMillis() - start,
+                ManagementFactory.getThreadMXBean().getPeakThreadCount());
+            log.info("Async requests: {} (peak {} of {} in flight)", asyncClient.getRequests(),
+                asyncClient.getPeakInFlight(), asyncClient.getMaxInFlight());
+
+            // Every result is in the JSON Lines file once it is closed
+            report.close();
+            if (jsonLinesFile != null) {
+                log.info("Check results written to: {}", jsonLinesFile);
+            }
+
             // Print report to console
             report.printReport();
 
@@ -100,6 +211,45 @@ public class ArtifactValidatorApp {
         }
     }
 
+    /**
+     * Loads the creator's expectations; without them only counts are reported.
+     *
+     * @param expectationsFile the expectations file
+     * @param report the validation report, where a missing file is recorded as a failure
+     * @return the expectations, or null if the file does not exist
+     */
+    private static Expectations loadExpectations(Path expectationsFile, ValidationReport report) throws Exception {
+        if (!Files.exists(expectationsFile)) {
+            report.recordFailure("Expectations", "File " + expectationsFile + " not found; run the artifact "
+                + "creator first or set validator.expectations");
+            log.error("Expectations file {} not found; only counts are reported", expectationsFile);
+            log.info("");
+            return null;
+        }
+        Expectations expectations = Expectations.load(expectationsFile);
+        log.info("Expectations: {} ({} artifacts, {} versions, {} global rules)", expectationsFile,
+            expectations.getArtifactCount(), expectations.getTotalVersions(), expectations.getGlobalRules().size());
+        log.info("");
+        return expectations;
+    }
+
+    /**
+     * Returns the JSON Lines file check results are streamed to.
+     *
+     * @param outputFile the text report file, whose name the default is derived from
+     * @return the file, or null if validator.report.jsonl is set to empty
+     */
+    private static Path jsonLinesFile(String outputFile) {
+        String configured = System.getProperty("validator.report.jsonl");
+        if (configured != null) {
+            return configured.isBlank() ? null : Paths.get(configured);
+        }
+        Path output = Paths.get(outputFile);
+        String name = output.getFileName().toString();
+        int extension = name.lastIndexOf('.');
+        return output.resolveSibling((extension > 0 ? name.substring(0, extension) : name) + ".jsonl");
+    }
+
     /**
      * Writes the validation report to a file.
      *
@@ -116,17 +266,19 @@ public class ArtifactValidatorApp {
             writer.println("Failed:          " + report.getFailedChecks() + (report.getFailedChecks() > 0 ? " ✗" : ""));
             writer.println();
 
-            if (!report.getFailures().isEmpty()) {
+            List<String> failures = report.describeFailures();
+            if (!failures.isEmpty()) {
                 writer.println("Failures:");
-                for (String failure : report.getFailures()) {
+                for (String failure : failures) {
                     writer.println("  ✗ " + failure);
                 }
                 writer.println();
             }
 
-            if (!report.getWarnings().isEmpty()) {
+            List<String> warnings = report.describeWarnings();
+            if (!warnings.isEmpty()) {
                 writer.println("Warnings:");
-                for (String warning : report.getWarnings()) {
+                for (String warning : warnings) {
                     writer.println("  ⚠ " + warning);
                 }
                 writer.println();
@@ -0,0 +1,174 @@
+package io.apicurio.testing.validator.content;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * SHA-256 content hashes of versions, keyed by globalId.
+ *
+ * A full content check run before the migration records the hash of every version
+ * to a file; the same check after the migration loads the file and compares. The
+ * file is plain text, one version per line ordered by globalId:
+ *
+ * <pre>
+ * # globalId contentId sha256
+ * 1	1	9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08
+ * </pre>
+ *
+ * Recording is thread-safe, so concurrent content requests can add their results
+ * as they complete.
+ */
+public class ContentHashes {
+
+    private static final String HEADER = "# globalId contentId sha256";
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    private static final int BUFFER_SIZE = 8192;
+
+    private final Map<Long, Entry> byGlobalId = new ConcurrentSkipListMap<>();
+
+    /**
+     * Loads hashes recorded by an earlier run.
+     *
+     * @param file the hash file
+     * @return the recorded hashes
+     */
+    public static ContentHashes load(Path file) throws IOException {
+        ContentHashes hashes = new ContentHashes();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] fields = line.split("\t");
+                if (fields.length != 3) {
+                    throw new IOException(file + ":" + lineNumber + ": expected 3 tab-separated fields");
+                }
+                hashes.record(Long.parseLong(fields[0]), Long.parseLong(fields[1]), fields[2]);
+            }
+        }
+        return hashes;
+    }
+
+    /**
+     * Records the hash of a version.
+     *
+     * @param globalId the global identifier of the version
+     * @param contentId the content identifier of the version
+     * @param sha256 the hex-encoded SHA-256 of the content
+     */
+    public void record(long globalId, long contentId, String sha256) {
+        byGlobalId.put(globalId, new Entry(contentId, sha256));
+    }
+
+    /**
+     * Returns the recorded hash of a version, or null if none was recorded.
+     */
+    public Entry get(long globalId) {
+        return byGlobalId.get(globalId);
+    }
+
+    public int size() {
+        return byGlobalId.size();
+    }
+
+    /**
+     * Returns the recorded versions, ordered by globalId.
+     */
+    public Map<Long, Entry> entries() {
+        return byGlobalId;
+    }
+
+    /**
+     * Writes the hashes, ordered by globalId.
+     *
+     * @param file the hash file
+     */
+    public void write(Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write(HEADER);
+            writer.newLine();
+            for (Map.Entry<Long, Entry> entry : byGlobalId.entrySet()) {
+                writer.write(entry.getKey() + "\t" + entry.getValue().getContentId() + "\t" + entry.getValue().getSha256());
+                writer.newLine();
+            }
+        }
+    }
+
+    /**
+     * Creates a SHA-256 digest.
+     */
+    public static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Hashes a stream in fixed-size chunks, without reading it into memory.
+     *
+     * @param content the content stream, consumed but not closed
+     * @return the hex-encoded SHA-256, or null if the stream was empty
+     */
+    public static String sha256(InputStream content) throws IOException {
+        MessageDigest digest = newDigest();
+        byte[] buffer = new byte[BUFFER_SIZE];
+        long length = 0;
+        int read;
+        while ((read = content.read(buffer)) != -1) {
+            digest.update(buffer, 0, read);
+            length += read;
+        }
+        return length == 0 ? null : hex(digest.digest());
+    }
+
+    /**
+     * Encodes a digest as lowercase hex.
+     */
+    public static String hex(byte[] digest) {
+        char[] chars = new char[digest.length * 2];
+        for (int i = 0; i < digest.length; i++) {
+            chars[2 * i] = HEX[(digest[i] >> 4) & 0xF];
+            chars[2 * i + 1] = HEX[digest[i] & 0xF];
+        }
+        return new String(chars);
+    }
+
+    /**
+     * The recorded content of one version.
+     */
+    public static final class Entry {
+        private final long contentId;
+        private final String sha256;
+
+        Entry(long contentId, String sha256) {
+            this.contentId = contentId;
+            this.sha256 = sha256;
+        }
+
+        public long getContentId() {
+            return contentId;
+        }
+
+        public String getSha256() {
+            return sha256;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package io.apicurio.testing.validator.engine;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Schedules per-artifact fetches on the asynchronous registry client.
+ *
+ * Each artifact is a task passed to {@link #submit(Supplier)} that starts its requests
+ * and returns a future completing when they are done; at most {@code window} tasks are
+ * outstanding, so the caller walking the artifacts pauses instead of queuing the whole
+ * registry in the client. Tasks make their registry calls through
+ * {@link #call(LatencyHistogram, Supplier)}, which delays each call until the host's
+ * {@link RateLimiter} allows it, without holding a thread, and records its latency from
+ * when it is handed to the client until its response is read.
+ *
+ * Tasks are expected to record their own failures in the report; the first exception
+ * a task's future completes with is rethrown by {@link #awaitCompletion()}.
+ */
+public class FetchScheduler {
+
+    private final int window;
+    private final RateLimiter limiter;
+    private final Semaphore queued;
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+    /**
+     * @param registryUrl the registry URL, whose host is rate limited
+     * @param window maximum number of outstanding tasks
+     * @param requestsPerSecond maximum requests per second to the registry host, or 0 for no limit
+     */
+    public FetchScheduler(String registryUrl, int window, double requestsPerSecond) {
+        this.window = Math.max(1, window);
+        this.limiter = RateLimiter.forHost(registryUrl, requestsPerSecond);
+        this.queued = new Semaphore(this.window);
+    }
+
+    /**
+     * Starts a task, waiting while the window is full.
+     *
+     * @param task starts the requests for one artifact and returns a future of their completion
+     */
+    public void submit(Supplier<CompletableFuture<?>> task) throws InterruptedException {
+        queued.acquire();
+        CompletableFuture<?> done;
+        try {
+            done = task.get();
+        } catch (RuntimeException e) {
+            queued.release();
+            throw e;
+        }
+        done.whenComplete((ignored, error) -> {
+            if (error != null) {
+                failure.compareAndSet(null, error instanceof CompletionException && error.getCause() != null
+                    ? error.getCause() : error);
+            }
+            queued.release();
+        });
+    }
+
+    /**
+     * Makes a registry call once the rate limit allows it.
+     *
+     * @param latencies histogram the call's latency is recorded in
+     * @param request starts the registry call
+     * @return future of the call's result
+     */
+    public <T> CompletableFuture<T> call(LatencyHistogram latencies, Supplier<CompletableFuture<T>> request) {
+        long delay = limiter.reserve();
+        if (delay <= 0) {
+            return timed(latencies, request);
+        }
+        return CompletableFuture.runAsync(() -> { }, CompletableFuture.delayedExecutor(delay, TimeUnit.NANOSECONDS))
+            .thenCompose(ignored -> timed(latencies, request));
+    }
+
+    private static <T> CompletableFuture<T> timed(LatencyHistogram latencies, Supplier<CompletableFuture<T>> request) {
+        long start = System.nanoTime();
+        return request.get().whenComplete((result, error) -> latencies.record(System.nanoTime() - start));
+    }
+
+    /**
+     * Waits for all started tasks to complete.
+     *
+     * @throws Exception the first exception a task completed with since the last call
+     */
+    public void awaitCompletion() throws Exception {
+        queued.acquire(window);
+        queued.release(window);
+        Throwable error = failure.getAndSet(null);
+        if (error instanceof Exception) {
+            throw (Exception) error;
+        }
+        if (error != null) {
+            throw new ExecutionException(error);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "at most " + window + " artifacts in flight, " + limiter;
+    }
+}
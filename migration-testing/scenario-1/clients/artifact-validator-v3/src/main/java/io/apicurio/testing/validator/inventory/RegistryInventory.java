@@ -0,0 +1,272 @@
+package io.apicurio.testing.validator.inventory;
+
+import io.apicurio.registry.rest.client.models.SearchedArtifact;
+import io.apicurio.registry.rest.client.models.SearchedVersion;
+import io.apicurio.testing.validator.client.AsyncRegistryClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Snapshot of the artifacts and versions of a group, shared by all validators.
+ *
+ * Previously every validator searched the registry and listed the versions of each
+ * artifact on its own, so a validation run scanned the registry several times. The
+ * inventory is loaded once through the asynchronous client. Search results are read
+ * page by page through a {@link PagedIterator} that requests the next pages while the
+ * current one is processed, and the versions of each artifact are requested, page
+ * after page, as soon as the artifact arrives. At most {@code pageSize * (prefetch + 1)}
+ * artifacts wait for their versions at once; the search pauses until listings complete.
+ * Nothing is capped by a fixed {@code limit}: every artifact and every version is loaded.
+ *
+ * Only the identifiers of each version are kept ({@link VersionRef}), so a registry
+ * with hundreds of thousands of versions fits in a modest heap.
+ *
+ * A version list that cannot be fetched is logged and leaves the artifact without
+ * versions; validators see it through {@link ArtifactEntry#getVersionsError()}.
+ */
+public class RegistryInventory {
+
+    private static final Logger log = LoggerFactory.getLogger(RegistryInventory.class);
+
+    /** Default number of artifacts or versions requested per page. */
+    public static final int DEFAULT_PAGE_SIZE = 500;
+
+    /** Default number of search pages requested ahead of the one being processed. */
+    public static final int DEFAULT_PREFETCH = 2;
+
+    private final String groupId;
+    private final int reportedArtifactCount;
+    private final List<ArtifactEntry> artifacts;
+    private final Map<String, ArtifactEntry> byArtifactId;
+    private final long totalVersions;
+    private final long loadMillis;
+
+    private RegistryInventory(String groupId, int reportedArtifactCount, List<ArtifactEntry> artifacts,
+                              long loadMillis) {
+        this.groupId = groupId;
+        this.reportedArtifactCount = reportedArtifactCount;
+        this.artifacts = Collections.unmodifiableList(artifacts);
+        this.loadMillis = loadMillis;
+
+        Map<String, ArtifactEntry> index = new HashMap<>();
+        long versions = 0;
+        for (ArtifactEntry entry : artifacts) {
+            index.put(entry.getArtifactId(), entry);
+            versions += entry.getVersionCount();
+        }
+        this.byArtifactId = index;
+        this.totalVersions = versions;
+    }
+
+    /**
+     * Loads the artifacts and versions of a group.
+     *
+     * @param client the asynchronous registry client
+     * @param groupId the group to load
+     * @param pageSize artifacts or versions requested per page
+     * @param prefetch search pages requested ahead of the one being processed
+     * @return the inventory
+     */
+    public static RegistryInventory load(AsyncRegistryClient client, String groupId, int pageSize, int prefetch) {
+        log.info("Loading registry inventory for group '{}' ({} per page, {} pages ahead)...",
+            groupId, pageSize, prefetch);
+        long start = System.currentTimeMillis();
+
+        PagedIterator<SearchedArtifact> found = new PagedIterator<>(
+            (offset, limit) -> client.searchArtifacts(groupId, offset, limit)
+                .thenApply(page -> new PagedIterator.Page<>(page.getArtifacts(), page.getCount())),
+            pageSize, prefetch);
+
+        // Bounds the version listings queued in the client while search pages keep arriving
+        int maxPendingArtifacts = pageSize * (prefetch + 1);
+        Semaphore pendingArtifacts = new Semaphore(maxPendingArtifacts);
+
+        List<ArtifactEntry> artifacts = new ArrayList<>();
+        while (found.hasNext()) {
+            ArtifactEntry entry = new ArtifactEntry(found.next());
+            artifacts.add(entry);
+            pendingArtifacts.acquireUninterruptibly();
+            loadVersions(client, groupId, entry, 0, pageSize).whenComplete((v, e) -> pendingArtifacts.release());
+            if (artifacts.size() % 10000 == 0) {
+                log.info("  Listed {}/{} artifacts", artifacts.size(), found.getTotal());
+            }
+        }
+        pendingArtifacts.acquireUninterruptibly(maxPendingArtifacts);
+
+        RegistryInventory inventory = new RegistryInventory(groupId, Math.max(found.getTotal(), 0), artifacts,
+            System.currentTimeMillis() - start);
+        log.info("  Loaded {} artifacts and {} versions in {} ms", inventory.artifacts.size(),
+            inventory.totalVersions, inventory.loadMillis);
+        return inventory;
+    }
+
+    public String getGroupId() {
+        return groupId;
+    }
+
+    /**
+     * Returns the artifact count reported by the registry's search results.
+     */
+    public int getReportedArtifactCount() {
+        return reportedArtifactCount;
+    }
+
+    /**
+     * Returns the artifacts, ordered by artifact id.
+     */
+    public List<ArtifactEntry> getArtifacts() {
+        return artifacts;
+    }
+
+    /**
+     * Looks up an artifact.
+     *
+     * @param artifactId the artifact identifier
+     * @return the artifact, or null if the group does not contain it
+     */
+    public ArtifactEntry getArtifact(String artifactId) {
+        return byArtifactId.get(artifactId);
+    }
+
+    /**
+     * Returns the number of artifacts of each artifact type.
+     */
+    public Map<String, Integer> countByType() {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (ArtifactEntry entry : artifacts) {
+            counts.merge(entry.getArtifactType(), 1, Integer::sum);
+        }
+        return counts;
+    }
+
+    /**
+     * Returns the number of versions across all artifacts, as reported by the registry.
+     */
+    public long getTotalVersions() {
+        return totalVersions;
+    }
+
+    public long getLoadMillis() {
+        return loadMillis;
+    }
+
+    /**
+     * An artifact and its versions.
+     */
+    public static final class ArtifactEntry {
+        private final SearchedArtifact artifact;
+        private final List<VersionRef> versions = new ArrayList<>();
+        private volatile int versionCount;
+        private volatile String versionsError;
+
+        ArtifactEntry(SearchedArtifact artifact) {
+            this.artifact = artifact;
+        }
+
+        public SearchedArtifact getArtifact() {
+            return artifact;
+        }
+
+        public String getArtifactId() {
+            return artifact.getArtifactId();
+        }
+
+        public String getArtifactType() {
+            return artifact.getArtifactType();
+        }
+
+        /**
+         * Returns the loaded versions.
+         */
+        public List<VersionRef> getVersions() {
+            return Collections.unmodifiableList(versions);
+        }
+
+        /**
+         * Returns the number of versions reported by the registry.
+         */
+        public int getVersionCount() {
+            return versionCount;
+        }
+
+        /**
+         * Returns why the version list could not be fetched, or null if it was.
+         */
+        public String getVersionsError() {
+            return versionsError;
+        }
+
+        /**
+         * Called once per page; pages of one artifact are requested one after the other.
+         */
+        private void addVersions(List<SearchedVersion> page, int count) {
+            for (SearchedVersion version : page) {
+                versions.add(new VersionRef(version.getVersion(), version.getGlobalId(), version.getContentId()));
+            }
+            versionCount = count;
+        }
+    }
+
+    /**
+     * The identifiers of one version.
+     */
+    public static final class VersionRef {
+        private final String version;
+        private final Long globalId;
+        private final Long contentId;
+
+        VersionRef(String version, Long globalId, Long contentId) {
+            this.version = version;
+            this.globalId = globalId;
+            this.contentId = contentId;
+        }
+
+        public String getVersion() {
+            return version;
+        }
+
+        public Long getGlobalId() {
+            return globalId;
+        }
+
+        public Long getContentId() {
+            return contentId;
+        }
+    }
+
+    /**
+     * Requests one page of an artifact's versions, and the next page once it arrives.
+     */
+    private static CompletableFuture<Void> loadVersions(AsyncRegistryClient client, String groupId,
+                                                        ArtifactEntry entry, int offset, int pageSize) {
+        return client.listVersions(groupId, entry.getArtifactId(), offset, pageSize)
+            .handle((versionList, error) -> {
+                if (error != null) {
+                    Throwable cause = error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause() : error;
+                    entry.versionsError = cause.getMessage();
+                    log.warn("  Failed to list versions for {}: {}", entry.getArtifactId(), cause.getMessage());
+                    return CompletableFuture.<Void>completedFuture(null);
+                }
+
+                List<SearchedVersion> versions = versionList.getVersions();
+                entry.addVersions(versions, versionList.getCount());
+                int next = offset + versions.size();
+                if (!versions.isEmpty() && next < versionList.getCount()) {
+                    return loadVersions(client, groupId, entry, next, pageSize);
+                }
+                return CompletableFuture.<Void>completedFuture(null);
+            })
+            .thenCompose(next -> next);
+    }
+}
@@ -1,31 +1,86 @@
 package io.apicurio.testing.validator.validators;
 
-import io.apicurio.registry.rest.client.RegistryClient;
-import io.apicurio.registry.rest.client.models.ArtifactSearchResults;
-import io.apicurio.registry.rest.client.models.ArtifactSortBy;
-import io.apicurio.registry.rest.client.models.SortOrder;
+import io.apicurio.testing.validator.client.AsyncRegistryClient;
+import io.apicurio.testing.validator.content.ContentHashes;
+import io.apicurio.testing.validator.content.FingerprintManifest;
+import io.apicurio.testing.validator.inventory.RegistryInventory;
 import io.apicurio.testing.validator.model.ValidationReport;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongFunction;
 
 /**
  * Validates content retrieval by globalId and contentHash.
+ *
+ * Versions are taken from the shared inventory; the sampled content is fetched
+ * concurrently through the asynchronous client, bounded by its in-flight limit.
+ *
+ * In {@link Mode#FULL} every version is fetched by globalId and every distinct
+ * content by contentId, hashed with SHA-256 as each response arrives, and checked
+ * against the hashes recorded in the hash file by a run before the migration. If
+ * the hash file does not exist yet, the hashes are recorded to it instead. Every
+ * hashed version is also added to a {@link FingerprintManifest}, see {@link #getManifest()}.
  */
 public class ContentValidator {
 
     private static final Logger log = LoggerFactory.getLogger(ContentValidator.class);
 
-    private final RegistryClient client;
+    /**
+     * Which versions have their content checked.
+     */
+    public enum Mode {
+        /** 10 random versions by globalId, 5 of them by contentId, checked for non-empty content. */
+        SAMPLE,
+        /** Every version by globalId and every content by contentId, checked by SHA-256. */
+        FULL
+    }
+
+    // Content requests queued per in-flight slot in full mode
+    private static final int QUEUED_PER_REQUEST = 4;
+
+    private final AsyncRegistryClient client;
     private final ValidationReport report;
+    private final RegistryInventory inventory;
+    private final Mode mode;
+    private final Path hashFile;
+    private final FingerprintManifest.Builder manifest = new FingerprintManifest.Builder();
 
-    public ContentValidator(RegistryClient client, ValidationReport report) {
+    /**
+     * @param client the asynchronous registry client
+     * @param report the validation report
+     * @param inventory the shared artifact and version inventory
+     * @param mode which versions to check
+     * @param hashFile hashes recorded before the migration (full mode), or null
+     */
+    public ContentValidator(AsyncRegistryClient client, ValidationReport report, RegistryInventory inventory,
+                            Mode mode, Path hashFile) {
         this.client = client;
         this.report = report;
+        this.inventory = inventory;
+        this.mode = mode;
+        this.hashFile = hashFile;
+    }
+
+    /**
+     * Returns the fingerprints of the versions hashed in full mode, or null in sample mode.
+     */
+    public FingerprintManifest.Builder getManifest() {
+        return mode == Mode.FULL ? manifest : null;
     }
 
     /**
@@ -33,37 +88,21 @@ public class ContentValidator {
      */
     public void validate() throws Exception {
         log.info("Validating content retrieval...");
+        if (mode == Mode.FULL) {
+            validateAll();
+            return;
+        }
 
-        // Get all artifacts using v3 search API
-        ArtifactSearchResults results = client.search().artifacts().get(config -> {
-            config.queryParameters.groupId = "default";
-            config.queryParameters.orderby = ArtifactSortBy.ArtifactId;
-            config.queryParameters.order = SortOrder.Asc;
-            config.queryParameters.offset = 0;
-            config.queryParameters.limit = 1000;
-        });
-
-        // Collect version information
+        // Collect version information from the shared inventory
         List<VersionInfo> versions = new ArrayList<>();
-        for (var artifact : results.getArtifacts()) {
-            try {
-                // List versions using v3 API
-                var versionList = client.groups().byGroupId("default")
-                    .artifacts().byArtifactId(artifact.getArtifactId())
-                    .versions().get(config -> {
-                        config.queryParameters.offset = 0;
-                        config.queryParameters.limit = 100;
-                    });
-                for (var version : versionList.getVersions()) {
-                    versions.add(new VersionInfo(
-                        artifact.getArtifactId(),
-                        version.getVersion(),
-                        version.getGlobalId(),
-                        version.getContentId()
-                    ));
-                }
-            } catch (Exception e) {
-                log.warn("  Failed to list versions for {}: {}", artifact.getArtifactId(), e.getMessage());
+        for (RegistryInventory.ArtifactEntry artifact : inventory.getArtifacts()) {
+            for (RegistryInventory.VersionRef version : artifact.getVersions()) {
+                versions.add(new VersionInfo(
+                    artifact.getArtifactId(),
+                    version.getVersion(),
+                    version.getGlobalId(),
+                    version.getContentId()
+                ));
             }
         }
 
@@ -74,103 +113,224 @@ public class ContentValidator {
         List<VersionInfo> sampleForGlobalId = versions.subList(0, Math.min(10, versions.size()));
         List<VersionInfo> sampleForContentId = versions.subList(0, Math.min(5, versions.size()));
 
-        // Test retrieval by globalId
-        validateGlobalIdRetrieval(sampleForGlobalId);
+        // Test retrieval by globalId and by contentId concurrently
+        CompletableFuture<List<Retrieval>> byGlobalId =
+            retrieve(sampleForGlobalId, true, client::getContentByGlobalId);
+        CompletableFuture<List<Retrieval>> byContentId =
+            retrieve(sampleForContentId, false, client::getContentByContentId);
 
-        // Test retrieval by contentId
-        validateContentIdRetrieval(sampleForContentId);
+        log.info("  Testing content retrieval by globalId...");
+        recordRetrievals("globalId", byGlobalId.join());
+        log.info("  Testing content retrieval by contentId...");
+        recordRetrievals("contentId", byContentId.join());
     }
 
     /**
-     * Validates content retrieval by globalId.
-     *
-     * @param versions list of versions to test
+     * Hashes the content of every version by globalId and of every content by contentId.
      */
-    private void validateGlobalIdRetrieval(List<VersionInfo> versions) {
-        log.info("  Testing content retrieval by globalId...");
+    private void validateAll() throws Exception {
+        ContentHashes recorded = null;
+        if (hashFile != null && Files.exists(hashFile)) {
+            recorded = ContentHashes.load(hashFile);
+            log.info("  Loaded {} recorded content hashes from {}", recorded.size(), hashFile);
+        }
 
-        int successCount = 0;
-        for (VersionInfo version : versions) {
-            try {
-                // Retrieve content using v3 API
-                InputStream content = client.ids().globalIds().byGlobalId(version.globalId).get();
-                if (content != null) {
-                    // Read the content to verify it's not empty
-                    byte[] bytes = content.readAllBytes();
-                    if (bytes.length > 0) {
-                        successCount++;
-                        log.debug("    ✓ Retrieved content for globalId {} ({} bytes)",
-                            version.globalId, bytes.length);
-                    } else {
-                        report.recordFailure(
-                            "Content retrieval by globalId " + version.globalId,
-                            "Content is empty (0 bytes)"
-                        );
+        // Every version by globalId; a bounded number of requests is queued at once
+        ContentHashes observed = new ContentHashes();
+        Set<Long> failedGlobalIds = ConcurrentHashMap.newKeySet();
+        LongAdder mismatches = new LongAdder();
+        int window = client.getMaxInFlight() * QUEUED_PER_REQUEST;
+        Semaphore queued = new Semaphore(window);
+        ContentHashes expected = recorded;
+        long versions = 0;
+        long start = System.nanoTime();
+
+        log.info("  Hashing the content of every version by globalId...");
+        for (RegistryInventory.ArtifactEntry artifact : inventory.getArtifacts()) {
+            for (RegistryInventory.VersionRef version : artifact.getVersions()) {
+                long globalId = version.getGlobalId();
+                long contentId = version.getContentId();
+                versions++;
+                queued.acquireUninterruptibly();
+                client.digestContentByGlobalId(globalId).whenComplete((sha256, error) -> {
+                    try {
+                        String check = "Content of " + artifact.getArtifactId() + "/" + version.getVersion()
+                            + " (globalId " + globalId + ")";
+                        if (error != null || sha256 == null) {
+                            failedGlobalIds.add(globalId);
+                            String reason = error != null ? cause(error).getMessage() : "Content is empty (0 bytes)";
+                            report.recordFailure(check, reason);
+                            log.error("    ✗ {}: {}", check, reason);
+                            return;
+                        }
+                        observed.record(globalId, contentId, sha256);
+                        manifest.add(inventory.getGroupId(), artifact.getArtifactId(), version.getVersion(),
+                            globalId, contentId, sha256);
+                        ContentHashes.Entry before = expected != null ? expected.get(globalId) : null;
+                        if (expected != null && before == null) {
+                            mismatches.increment();
+                            report.recordFailure(check, "No hash recorded before the migration");
+                        } else if (before != null && !before.getSha256().equals(sha256)) {
+                            mismatches.increment();
+                            report.recordFailure(check,
+                                "SHA-256 " + sha256 + " differs from recorded " + before.getSha256());
+                            log.error("    ✗ {}: SHA-256 differs from recorded hash", check);
+                        }
+                    } finally {
+                        queued.release();
                     }
-                } else {
-                    report.recordFailure(
-                        "Content retrieval by globalId " + version.globalId,
-                        "Content stream is null"
-                    );
+                });
+            }
+        }
+        queued.acquireUninterruptibly(window);
+        queued.release(window);
+        double seconds = Math.max(System.nanoTime() - start, 1) / 1_000_000_000.0;
+
+        long hashed = observed.size();
+        String rate = String.format("%.0f versions/s", hashed / seconds);
+        log.info("    Hashed {}/{} versions in {} ms ({})", hashed, versions, Math.round(seconds * 1000), rate);
+        if (hashed == versions && mismatches.sum() == 0) {
+            report.recordPass("Content by globalId verified (" + hashed + "/" + versions + " versions, " + rate + ")");
+            log.info("    ✓ Content of all {} versions verified by globalId", hashed);
+        }
+
+        // Recorded versions that are no longer in the registry
+        if (expected != null) {
+            long missing = 0;
+            for (Map.Entry<Long, ContentHashes.Entry> entry : expected.entries().entrySet()) {
+                if (observed.get(entry.getKey()) == null && !failedGlobalIds.contains(entry.getKey())) {
+                    missing++;
+                    report.recordFailure("Content of globalId " + entry.getKey(),
+                        "Recorded before the migration but not found in the registry");
                 }
-            } catch (Exception e) {
-                report.recordFailure(
-                    "Content retrieval by globalId " + version.globalId,
-                    e.getMessage()
-                );
-                log.error("    ✗ Failed to retrieve content for globalId {}: {}",
-                    version.globalId, e.getMessage());
+            }
+            if (missing > 0) {
+                log.error("    ✗ {} recorded versions not found in the registry", missing);
             }
         }
 
-        report.recordPass("Content retrieval by globalId (" + successCount + "/" + versions.size() + ")");
-        log.info("    ✓ Successfully retrieved {}/{} by globalId", successCount, versions.size());
+        validateAllContentIds(observed);
+
+        if (expected == null && hashFile != null) {
+            observed.write(hashFile);
+            log.info("  Recorded {} content hashes to {}", observed.size(), hashFile);
+        }
     }
 
     /**
-     * Validates content retrieval by contentId.
+     * Hashes every distinct content by contentId and compares it to the content of its versions.
      *
-     * @param versions list of versions to test
+     * @param observed the hashes of the versions fetched by globalId
      */
-    private void validateContentIdRetrieval(List<VersionInfo> versions) {
-        log.info("  Testing content retrieval by contentId...");
+    private void validateAllContentIds(ContentHashes observed) {
+        Map<Long, String> byContentId = new HashMap<>();
+        for (ContentHashes.Entry entry : observed.entries().values()) {
+            byContentId.putIfAbsent(entry.getContentId(), entry.getSha256());
+        }
 
-        int successCount = 0;
-        for (VersionInfo version : versions) {
-            try {
-                // Retrieve content using v3 API
-                InputStream content = client.ids().contentIds().byContentId(version.contentId).get();
-                if (content != null) {
-                    // Read the content to verify it's not empty
-                    byte[] bytes = content.readAllBytes();
-                    if (bytes.length > 0) {
-                        successCount++;
-                        log.debug("    ✓ Retrieved content for contentId {} ({} bytes)",
-                            version.contentId, bytes.length);
+        log.info("  Hashing {} distinct contents by contentId...", byContentId.size());
+        LongAdder verified = new LongAdder();
+        int window = client.getMaxInFlight() * QUEUED_PER_REQUEST;
+        Semaphore queued = new Semaphore(window);
+        long start = System.nanoTime();
+        for (Map.Entry<Long, String> content : byContentId.entrySet()) {
+            long contentId = content.getKey();
+            queued.acquireUninterruptibly();
+            client.digestContentByContentId(contentId).whenComplete((sha256, error) -> {
+                try {
+                    String check = "Content of contentId " + contentId;
+                    if (error != null) {
+                        report.recordFailure(check, cause(error).getMessage());
+                        log.error("    ✗ {}: {}", check, cause(error).getMessage());
+                    } else if (!Objects.equals(content.getValue(), sha256)) {
+                        report.recordFailure(check,
+                            "SHA-256 " + sha256 + " differs from its versions' " + content.getValue());
+                        log.error("    ✗ {}: SHA-256 differs from its versions", check);
                     } else {
-                        report.recordFailure(
-                            "Content retrieval by contentId " + version.contentId,
-                            "Content is empty (0 bytes)"
-                        );
+                        verified.increment();
                     }
-                } else {
-                    report.recordFailure(
-                        "Content retrieval by contentId " + version.contentId,
-                        "Content stream is null"
-                    );
+                } finally {
+                    queued.release();
                 }
-            } catch (Exception e) {
-                report.recordFailure(
-                    "Content retrieval by contentId " + version.contentId,
-                    e.getMessage()
-                );
-                log.error("    ✗ Failed to retrieve content for contentId {}: {}",
-                    version.contentId, e.getMessage());
+            });
+        }
+        queued.acquireUninterruptibly(window);
+        queued.release(window);
+        double seconds = Math.max(System.nanoTime() - start, 1) / 1_000_000_000.0;
+
+        String rate = String.format("%.0f contents/s", byContentId.size() / seconds);
+        log.info("    Hashed {} contents in {} ms ({})", byContentId.size(), Math.round(seconds * 1000), rate);
+        if (verified.sum() == byContentId.size()) {
+            report.recordPass("Content by contentId verified (" + verified.sum() + "/" + byContentId.size()
+                + " contents, " + rate + ")");
+            log.info("    ✓ All {} contents verified by contentId", verified.sum());
+        }
+    }
+
+    /**
+     * Requests the content of every sampled version at once.
+     *
+     * @param versions list of versions to test
+     * @param useGlobalId whether content is addressed by globalId or by contentId
+     * @param fetch the asynchronous content lookup
+     */
+    private CompletableFuture<List<Retrieval>> retrieve(List<VersionInfo> versions, boolean useGlobalId,
+                                                        LongFunction<CompletableFuture<byte[]>> fetch) {
+        List<CompletableFuture<Retrieval>> retrievals = new ArrayList<>();
+        for (VersionInfo version : versions) {
+            long id = useGlobalId ? version.globalId : version.contentId;
+            retrievals.add(fetch.apply(id).handle((bytes, error) -> new Retrieval(id, bytes, error)));
+        }
+        return AsyncRegistryClient.allOf(retrievals);
+    }
+
+    /**
+     * Records the outcome of content retrieval by one kind of identifier.
+     *
+     * @param idType "globalId" or "contentId"
+     * @param retrievals the completed retrievals
+     */
+    private void recordRetrievals(String idType, List<Retrieval> retrievals) {
+        int successCount = 0;
+        for (Retrieval retrieval : retrievals) {
+            String check = "Content retrieval by " + idType + " " + retrieval.id;
+            if (retrieval.error != null) {
+                report.recordFailure(check, cause(retrieval.error).getMessage());
+                log.error("    ✗ Failed to retrieve content for {} {}: {}",
+                    idType, retrieval.id, cause(retrieval.error).getMessage());
+            } else if (retrieval.content == null) {
+                report.recordFailure(check, "Content stream is null");
+            } else if (retrieval.content.length == 0) {
+                report.recordFailure(check, "Content is empty (0 bytes)");
+            } else {
+                successCount++;
+                log.debug("    ✓ Retrieved content for {} {} ({} bytes)",
+                    idType, retrieval.id, retrieval.content.length);
             }
         }
 
-        report.recordPass("Content retrieval by contentId (" + successCount + "/" + versions.size() + ")");
-        log.info("    ✓ Successfully retrieved {}/{} by contentId", successCount, versions.size());
+        report.recordPass("Content retrieval by " + idType + " (" + successCount + "/" + retrievals.size() + ")");
+        log.info("    ✓ Successfully retrieved {}/{} by {}", successCount, retrievals.size(), idType);
+    }
+
+    private static Throwable cause(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null
+            ? error.getCause() : error;
+    }
+
+    /**
+     * Outcome of one content request.
+     */
+    private static class Retrieval {
+        final long id;
+        final byte[] content;
+        final Throwable error;
+
+        Retrieval(long id, byte[] content, Throwable error) {
+            this.id = id;
+            this.content = content;
+            this.error = error;
+        }
     }
 
     /**
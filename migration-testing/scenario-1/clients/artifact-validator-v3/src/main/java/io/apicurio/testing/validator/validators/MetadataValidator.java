@@ -1,88 +1,295 @@
 package io.apicurio.testing.validator.validators;
 
-import io.apicurio.registry.rest.client.RegistryClient;
-import io.apicurio.registry.rest.client.models.ArtifactMetaData;
-import io.apicurio.registry.rest.client.models.ArtifactSearchResults;
-import io.apicurio.registry.rest.client.models.ArtifactSortBy;
-import io.apicurio.registry.rest.client.models.SortOrder;
+import io.apicurio.registry.rest.client.models.Labels;
+import io.apicurio.registry.rest.client.models.SearchedArtifact;
+import io.apicurio.registry.rest.client.models.VersionMetaData;
+import io.apicurio.testing.validator.client.AsyncRegistryClient;
+import io.apicurio.testing.validator.engine.FetchScheduler;
+import io.apicurio.testing.validator.engine.LatencyHistogram;
+import io.apicurio.testing.validator.inventory.RegistryInventory;
+import io.apicurio.testing.validator.model.Expectations;
 import io.apicurio.testing.validator.model.ValidationReport;
+import io.apicurio.testing.validator.report.ArtifactCoordinates;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
- * Validates artifact metadata including labels, properties, and descriptions.
+ * Validates artifact and version metadata including labels, properties, and descriptions.
+ *
+ * Names and descriptions of artifacts are taken from the search results already loaded
+ * into the inventory, so they cost no request. Artifact labels are not part of the
+ * search results and are fetched only for artifacts expected to have labels or
+ * properties. The metadata of every version in the inventory is fetched as well: the
+ * creator sets metadata when it creates the first version, so the first version (lowest
+ * globalId) must match what it recorded, while later versions must carry either the
+ * same labels or none. Every version must be enabled.
+ *
+ * All fetches go through the fetch scheduler on the asynchronous client, which limits
+ * the artifacts in flight and applies the registry's rate limit; the latency of every
+ * request is logged as a histogram.
+ *
+ * In v3 the labels and properties of v2 are a single map of labels: a v2 label
+ * becomes a key without a value and a v2 property keeps its key and value. A v2 label
+ * in "key:value" form is also accepted as a v3 label with that key and value.
  */
 public class MetadataValidator {
 
     private static final Logger log = LoggerFactory.getLogger(MetadataValidator.class);
 
-    private final RegistryClient client;
+    private static final String ENABLED = "ENABLED";
+
+    private final AsyncRegistryClient client;
     private final ValidationReport report;
+    private final RegistryInventory inventory;
+    private final Expectations expectations;
+    private final FetchScheduler scheduler;
+
+    private final LatencyHistogram latencies = new LatencyHistogram();
+    private final LongAdder artifactsWithLabels = new LongAdder();
+    private final LongAdder labelsFetched = new LongAdder();
+    private final LongAdder artifactsCompared = new LongAdder();
+    private final LongAdder versionsChecked = new LongAdder();
+    private final LongAdder mismatches = new LongAdder();
+    private final LongAdder versionMismatches = new LongAdder();
 
-    public MetadataValidator(RegistryClient client, ValidationReport report) {
+    /**
+     * @param client the asynchronous registry client
+     * @param report the validation report
+     * @param inventory the registry inventory
+     * @param expectations what the creator created, or null to only check metadata is present
+     * @param scheduler the scheduler fetching metadata
+     */
+    public MetadataValidator(AsyncRegistryClient client, ValidationReport report, RegistryInventory inventory,
+                             Expectations expectations, FetchScheduler scheduler) {
         this.client = client;
         this.report = report;
+        this.inventory = inventory;
+        this.expectations = expectations;
+        this.scheduler = scheduler;
     }
 
     /**
-     * Validates metadata for all artifacts.
+     * Validates metadata for all artifacts and their versions.
      */
     public void validate() throws Exception {
-        log.info("Validating artifact metadata...");
-
-        // Get all artifacts using v3 search API
-        ArtifactSearchResults results = client.search().artifacts().get(config -> {
-            config.queryParameters.groupId = "default";
-            config.queryParameters.orderby = ArtifactSortBy.ArtifactId;
-            config.queryParameters.order = SortOrder.Asc;
-            config.queryParameters.offset = 0;
-            config.queryParameters.limit = 1000;
-        });
-
-        int artifactsWithLabels = 0;
-        int artifactsWithProperties = 0;
-        int artifactsWithDescriptions = 0;
-
-        for (var artifact : results.getArtifacts()) {
-            String artifactId = artifact.getArtifactId();
+        log.info("Validating artifact and version metadata ({})...", scheduler);
 
-            try {
-                // Get artifact metadata using v3 API
-                ArtifactMetaData meta = client.groups().byGroupId("default")
-                    .artifacts().byArtifactId(artifactId).get();
+        int artifactsWithDescriptions = 0;
+        long start = System.nanoTime();
 
-                // Note: In v3, labels and properties APIs are different
-                // For now, just check that we can retrieve metadata
-                if (meta != null) {
-                    // Count artifacts that have metadata retrieved successfully
-                    artifactsWithLabels++;
-                    artifactsWithProperties++;
-                }
+        for (RegistryInventory.ArtifactEntry artifact : inventory.getArtifacts()) {
+            SearchedArtifact searched = artifact.getArtifact();
+            Expectations.ExpectedArtifact expected = expectations != null
+                ? expectations.getArtifact(artifact.getArtifactId()) : null;
 
-                // Validate description
-                String description = meta.getDescription();
-                if (description != null && !description.trim().isEmpty()) {
-                    artifactsWithDescriptions++;
+            // Name and description come with the search results
+            String description = searched.getDescription();
+            if (description != null && !description.trim().isEmpty()) {
+                artifactsWithDescriptions++;
+            }
+            if (expected != null) {
+                String difference = compareNameAndDescription(expected, searched.getName(), searched.getDescription());
+                if (difference != null) {
+                    mismatches.increment();
+                    report.recordFailure("Metadata", difference,
+                        new ArtifactCoordinates(inventory.getGroupId(), artifact.getArtifactId(), null), -1);
+                    log.error("  ✗ Metadata of {}: {}", artifact.getArtifactId(), difference);
                 }
-
-            } catch (Exception e) {
-                report.recordFailure(
-                    "Metadata retrieval for " + artifactId,
-                    e.getMessage()
-                );
-                log.error("  ✗ Failed to get metadata for {}: {}", artifactId, e.getMessage());
             }
+            scheduler.submit(() -> validateArtifact(artifact, expected));
         }
+        scheduler.awaitCompletion();
+        double seconds = Math.max(System.nanoTime() - start, 1) / 1_000_000_000.0;
+        log.info("  Fetched metadata of {} artifacts and {} versions in {} ms ({} requests/s)", labelsFetched.sum(),
+            versionsChecked.sum(), Math.round(seconds * 1000), String.format("%.0f", latencies.getCount() / seconds));
+        log.info("  Fetch latency:");
+        latencies.log(log, "    ");
 
-        // Summary validations
-        int totalArtifacts = results.getCount();
+        // Summary validations (v2 properties are v3 labels, so they are counted together)
+        int totalArtifacts = inventory.getReportedArtifactCount();
 
-        validateMetadataCount("Labels", artifactsWithLabels, totalArtifacts);
-        validateMetadataCount("Properties", artifactsWithProperties, totalArtifacts);
+        validateMetadataCount("Labels", artifactsWithLabels.intValue(), labelsFetched.intValue());
         validateMetadataCount("Descriptions", artifactsWithDescriptions, totalArtifacts);
+
+        if (expectations != null && mismatches.sum() == 0) {
+            report.recordPass("Metadata matches expectations (" + artifactsCompared.sum() + " artifacts)");
+            log.info("  ✓ Name, description, labels and properties of {} artifacts match", artifactsCompared.sum());
+        }
+        if (versionMismatches.sum() == 0) {
+            log.info("  ✓ Metadata of {} versions matches", versionsChecked.sum());
+        }
+    }
+
+    /**
+     * Starts fetching the labels of an artifact and the metadata of each of its versions.
+     *
+     * @param artifact the artifact and its versions
+     * @param expected what the creator recorded for it, or null
+     * @return future completing once every fetch is checked
+     */
+    private CompletableFuture<Void> validateArtifact(RegistryInventory.ArtifactEntry artifact,
+                                                     Expectations.ExpectedArtifact expected) {
+        String groupId = inventory.getGroupId();
+        String artifactId = artifact.getArtifactId();
+        List<CompletableFuture<?>> fetches = new ArrayList<>();
+
+        // Labels need the artifact metadata
+        boolean fetchLabels = expectations == null
+            || (expected != null && (!expected.getLabels().isEmpty() || !expected.getProperties().isEmpty()));
+        if (fetchLabels) {
+            labelsFetched.increment();
+            long start = System.nanoTime();
+            fetches.add(scheduler.call(latencies, () -> client.getArtifactMetaData(groupId, artifactId))
+                .handle((meta, error) -> {
+                    if (error != null) {
+                        mismatches.increment();
+                        report.recordFailure("Metadata retrieval for " + artifactId, causeOf(error).getMessage());
+                        log.error("  ✗ Failed to get metadata for {}: {}", artifactId, causeOf(error).getMessage());
+                        return null;
+                    }
+                    Map<String, Object> labels = labelsOf(meta.getLabels());
+                    if (!labels.isEmpty()) {
+                        artifactsWithLabels.increment();
+                    }
+                    if (expected != null) {
+                        artifactsCompared.increment();
+                        String difference = compareLabels(expected, labels);
+                        if (difference != null) {
+                            mismatches.increment();
+                            report.recordFailure("Metadata", difference,
+                                new ArtifactCoordinates(groupId, artifactId, null), System.nanoTime() - start);
+                            log.error("  ✗ Metadata of {}: {}", artifactId, difference);
+                        }
+                    }
+                    return null;
+                }));
+        }
+
+        // Every version's metadata; the first version carries what the creator set
+        long firstGlobalId = artifact.getVersions().stream()
+            .mapToLong(RegistryInventory.VersionRef::getGlobalId).min().orElse(-1);
+        for (RegistryInventory.VersionRef version : artifact.getVersions()) {
+            ArtifactCoordinates target = new ArtifactCoordinates(groupId, artifactId, version.getVersion());
+            boolean firstVersion = version.getGlobalId() == firstGlobalId;
+            long start = System.nanoTime();
+            fetches.add(scheduler.call(latencies,
+                    () -> client.getVersionMetaData(groupId, artifactId, version.getVersion()))
+                .handle((meta, error) -> {
+                    long latency = System.nanoTime() - start;
+                    if (error != null) {
+                        versionMismatches.increment();
+                        report.recordFailure("Version metadata retrieval", causeOf(error).getMessage(), target, latency);
+                        log.error("  ✗ Failed to get metadata of {}: {}", target, causeOf(error).getMessage());
+                        return null;
+                    }
+                    versionsChecked.increment();
+                    String state = meta.getState() != null ? meta.getState().getValue() : null;
+                    String difference = !ENABLED.equals(state)
+                        ? "Expected state " + ENABLED + " but found " + state
+                        : expected != null ? compareVersion(expected, meta, firstVersion) : null;
+                    if (difference != null) {
+                        versionMismatches.increment();
+                        report.recordFailure("Version metadata", difference, target, latency);
+                        log.error("  ✗ Metadata of {}: {}", target, difference);
+                    } else {
+                        report.recordPass("Version metadata", target, latency);
+                    }
+                    return null;
+                }));
+        }
+        return CompletableFuture.allOf(fetches.toArray(new CompletableFuture<?>[0]));
+    }
+
+    private static Throwable causeOf(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    /**
+     * Returns the labels of an artifact or version; a v2 label without a value maps to null.
+     */
+    private static Map<String, Object> labelsOf(Labels metaLabels) {
+        if (metaLabels == null || metaLabels.getAdditionalData() == null) {
+            return Collections.emptyMap();
+        }
+        Map<String, Object> labels = new HashMap<>();
+        metaLabels.getAdditionalData().forEach((key, value) ->
+            labels.put(key, value == null || value.toString().isEmpty() ? null : value.toString()));
+        return labels;
+    }
+
+    /**
+     * Compares the name and description of an artifact or version with what the creator set.
+     *
+     * @return the first difference, or null if there is none
+     */
+    private static String compareNameAndDescription(Expectations.ExpectedArtifact expected, String name,
+                                                    String description) {
+        if (expected.getName() != null && !expected.getName().equals(name)) {
+            return "Expected name '" + expected.getName() + "' but found '" + name + "'";
+        }
+        if (expected.getDescription() != null && !expected.getDescription().equals(description)) {
+            return "Expected description '" + expected.getDescription() + "' but found '" + description + "'";
+        }
+        return null;
+    }
+
+    /**
+     * Compares the metadata of a version with what the creator set.
+     *
+     * @param firstVersion whether this is the first version, which must match exactly;
+     *                     otherwise its labels must match or be empty
+     * @return the first difference, or null if there is none
+     */
+    private static String compareVersion(Expectations.ExpectedArtifact expected, VersionMetaData meta,
+                                         boolean firstVersion) {
+        Map<String, Object> labels = labelsOf(meta.getLabels());
+        if (!firstVersion) {
+            String difference = labels.isEmpty() ? null : compareLabels(expected, labels);
+            return difference != null ? difference + " (labels may also be empty on later versions)" : null;
+        }
+        String difference = compareNameAndDescription(expected, meta.getName(), meta.getDescription());
+        return difference != null ? difference : compareLabels(expected, labels);
+    }
+
+    /**
+     * Compares the v3 labels of an artifact with the v2 labels and properties the creator set.
+     *
+     * @return the first difference, or null if there is none
+     */
+    private static String compareLabels(Expectations.ExpectedArtifact expected, Map<String, Object> labels) {
+        Map<String, Object> remaining = new HashMap<>(labels);
+        for (Map.Entry<String, String> property : expected.getProperties().entrySet()) {
+            Object value = remaining.remove(property.getKey());
+            if (!property.getValue().equals(value)) {
+                return "Expected label " + property.getKey() + "=" + property.getValue() + " but found "
+                    + (value != null ? property.getKey() + "=" + value : "none");
+            }
+        }
+        for (String label : expected.getLabels()) {
+            if (remaining.containsKey(label) && remaining.get(label) == null) {
+                remaining.remove(label);
+                continue;
+            }
+            int separator = label.indexOf(':');
+            if (separator > 0 && label.substring(separator + 1).equals(remaining.get(label.substring(0, separator)))) {
+                remaining.remove(label.substring(0, separator));
+                continue;
+            }
+            return "Expected label '" + label + "' but found " + labels.keySet();
+        }
+        if (!remaining.isEmpty()) {
+            return "Unexpected labels " + remaining.keySet();
+        }
+        return null;
     }
 
     /**
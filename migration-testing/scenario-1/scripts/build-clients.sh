@@ -6,6 +6,7 @@
 # 1. artifact-creator
 # 2. artifact-validator-v2
 # 3. artifact-validator-v3
+# 4. export-analyzer
 
 set -e
 
@@ -35,7 +36,7 @@ echo "Maven: $MAVEN_VERSION" | tee -a "$LOG_FILE"
 echo "" | tee -a "$LOG_FILE"
 
 # Build artifact-creator
-echo "[1/3] Building artifact-creator..." | tee -a "$LOG_FILE"
+echo "[1/4] Building artifact-creator..." | tee -a "$LOG_FILE"
 cd "$CLIENTS_DIR/artifact-creator"
 mvn clean package -DskipTests 2>&1 | tee -a "$LOG_FILE"
 MVN_EXIT_CODE=${PIPESTATUS[0]}
@@ -55,7 +56,7 @@ fi
 echo "" | tee -a "$LOG_FILE"
 
 # Build artifact-validator-v2
-echo "[2/3] Building artifact-validator-v2..." | tee -a "$LOG_FILE"
+echo "[2/4] Building artifact-validator-v2..." | tee -a "$LOG_FILE"
 cd "$CLIENTS_DIR/artifact-validator-v2"
 mvn clean package -DskipTests 2>&1 | tee -a "$LOG_FILE"
 MVN_EXIT_CODE=${PIPESTATUS[0]}
@@ -75,7 +76,7 @@ fi
 echo "" | tee -a "$LOG_FILE"
 
 # Build artifact-validator-v3
-echo "[3/3] Building artifact-validator-v3..." | tee -a "$LOG_FILE"
+echo "[3/4] Building artifact-validator-v3..." | tee -a "$LOG_FILE"
 cd "$CLIENTS_DIR/artifact-validator-v3"
 mvn clean package -DskipTests 2>&1 | tee -a "$LOG_FILE"
 MVN_EXIT_CODE=${PIPESTATUS[0]}
@@ -92,6 +93,26 @@ else
     exit 1
 fi
 
+echo "" | tee -a "$LOG_FILE"
+
+# Build export-analyzer
+echo "[4/4] Building export-analyzer..." | tee -a "$LOG_FILE"
+cd "$CLIENTS_DIR/export-analyzer"
+mvn clean package -DskipTests 2>&1 | tee -a "$LOG_FILE"
+MVN_EXIT_CODE=${PIPESTATUS[0]}
+
+if [ $MVN_EXIT_CODE -eq 0 ]; then
+    echo "  ✓ export-analyzer built successfully" | tee -a "$LOG_FILE"
+    JAR_FILE=$(find target -name "export-analyzer-*.jar" -not -name "*sources.jar" | head -n 1)
+    if [ -n "$JAR_FILE" ]; then
+        JAR_SIZE=$(du -h "$JAR_FILE" | cut -f1)
+        echo "    JAR: $JAR_FILE ($JAR_SIZE)" | tee -a "$LOG_FILE"
+    fi
+else
+    echo "  ✗ export-analyzer build failed with exit code $MVN_EXIT_CODE" | tee -a "$LOG_FILE"
+    exit 1
+fi
+
 echo "" | tee -a "$LOG_FILE"
 echo "================================================================" | tee -a "$LOG_FILE"
 echo "  ✓ All clients built successfully" | tee -a "$LOG_FILE"
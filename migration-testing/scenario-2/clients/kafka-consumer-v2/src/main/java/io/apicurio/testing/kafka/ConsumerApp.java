@@ -12,11 +12,18 @@ import org.apache.kafka.common.serialization.StringDeserializer;
 import java.time.Duration;
 import java.util.Collections;
 import java.util.Date;
+import java.util.Locale;
 import java.util.Properties;
 
 /**
  * Kafka Consumer application using Apicurio Registry v2 SerDes.
  * Consumes greeting messages from the 'avro-messages' topic.
+ *
+ * With CONSUMER_MODE=throughput, several consumers deserialize in parallel without
+ * printing each message, and throughput and deserialization time per partition are
+ * reported; see {@link ThroughputConsumer} for its settings. MAX_MESSAGES then defaults
+ * to 0, consuming until no message arrives for TIMEOUT_SECONDS. The default mode,
+ * verify, prints every message.
  */
 public class ConsumerApp {
 
@@ -25,12 +32,16 @@ public class ConsumerApp {
     private static final String DEFAULT_TOPIC = "avro-messages";
     private static final int DEFAULT_MAX_MESSAGES = 50;
     private static final int DEFAULT_TIMEOUT_SECONDS = 5;
+    private static final String DEFAULT_MODE = "verify";
 
     public static void main(String[] args) {
         String kafkaBootstrap = System.getenv().getOrDefault("KAFKA_BOOTSTRAP_SERVERS", DEFAULT_KAFKA_BOOTSTRAP);
         String registryUrl = System.getenv().getOrDefault("REGISTRY_URL", DEFAULT_REGISTRY_URL);
         String topic = System.getenv().getOrDefault("TOPIC_NAME", DEFAULT_TOPIC);
-        int maxMessages = Integer.parseInt(System.getenv().getOrDefault("MAX_MESSAGES", String.valueOf(DEFAULT_MAX_MESSAGES)));
+        boolean throughputMode = "throughput".equals(
+            System.getenv().getOrDefault("CONSUMER_MODE", DEFAULT_MODE).trim().toLowerCase(Locale.ROOT));
+        int maxMessages = Integer.parseInt(System.getenv().getOrDefault("MAX_MESSAGES",
+            throughputMode ? "0" : String.valueOf(DEFAULT_MAX_MESSAGES)));
         int timeoutSeconds = Integer.parseInt(System.getenv().getOrDefault("TIMEOUT_SECONDS", String.valueOf(DEFAULT_TIMEOUT_SECONDS)));
 
         System.out.println("=========================================");
@@ -41,30 +52,41 @@ public class ConsumerApp {
         System.out.println("Topic: " + topic);
         System.out.println("Max Messages: " + maxMessages);
         System.out.println("Timeout: " + timeoutSeconds + " seconds");
+        System.out.println("Mode: " + (throughputMode ? "throughput" : DEFAULT_MODE));
         System.out.println("=========================================");
         System.out.println();
 
-        KafkaConsumer<String, GreetingMessage> consumer = createConsumer(kafkaBootstrap, registryUrl);
+        Properties config = createConsumerConfig(kafkaBootstrap, registryUrl);
+        KafkaConsumer<String, GreetingMessage> consumer = throughputMode ? null : new KafkaConsumer<>(config);
 
         try {
-            consumeMessages(consumer, topic, maxMessages, timeoutSeconds);
+            if (throughputMode) {
+                long failed = ThroughputConsumer.fromEnvironment(config, topic).run(maxMessages, timeoutSeconds);
+                if (failed > 0) {
+                    throw new IllegalStateException(failed + " messages failed to deserialize");
+                }
+            } else {
+                consumeMessages(consumer, topic, maxMessages, timeoutSeconds);
+            }
         } catch (Exception e) {
             System.err.println("❌ Error consuming messages: " + e.getMessage());
             e.printStackTrace();
             System.exit(1);
         } finally {
-            consumer.close();
+            if (consumer != null) {
+                consumer.close();
+            }
         }
     }
 
     /**
-     * Creates a Kafka consumer configured with Apicurio Registry v2 SerDes.
+     * Creates the configuration of a Kafka consumer with Apicurio Registry v2 SerDes.
      *
      * @param kafkaBootstrap Kafka bootstrap servers
      * @param registryUrl Apicurio Registry URL
-     * @return configured Kafka consumer
+     * @return Kafka consumer configuration
      */
-    private static KafkaConsumer<String, GreetingMessage> createConsumer(String kafkaBootstrap, String registryUrl) {
+    private static Properties createConsumerConfig(String kafkaBootstrap, String registryUrl) {
         Properties props = new Properties();
 
         // Kafka consumer configuration
@@ -82,7 +104,7 @@ public class ConsumerApp {
         // Use Java reflection as the Avro Datum Provider
         props.put(AvroKafkaSerdeConfig.AVRO_DATUM_PROVIDER, ReflectAvroDatumProvider.class.getName());
 
-        return new KafkaConsumer<>(props);
+        return props;
     }
 
     /**
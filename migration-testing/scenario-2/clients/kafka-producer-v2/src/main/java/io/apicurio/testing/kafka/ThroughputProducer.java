@@ -0,0 +1,190 @@
+package io.apicurio.testing.kafka;
+
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+
+import java.util.Properties;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.IntFunction;
+
+/**
+ * Produces messages as fast as the producer accepts them, or at a target rate,
+ * with asynchronous sends.
+ *
+ * At most {@code MAX_IN_FLIGHT} messages are unacknowledged at once. Two latencies are
+ * recorded per message: the time spent in {@code send()}, which includes the Apicurio
+ * serializer (and its schema lookup) and appending to a batch, and the time until the
+ * broker acknowledges it. At a target rate, the acknowledgement latency is measured from
+ * when the message was due rather than when it was sent, so a stalled producer shows up
+ * as latency instead of as a lower rate.
+ *
+ * Configured through environment variables:
+ * <ul>
+ *   <li>TARGET_RATE: messages per second, or 0 for as fast as possible (default: 0)</li>
+ *   <li>MAX_IN_FLIGHT: unacknowledged messages at most (default: 10000)</li>
+ *   <li>LINGER_MS: producer linger.ms (default: 5)</li>
+ *   <li>BATCH_SIZE: producer batch.size in bytes (default: 65536)</li>
+ *   <li>COMPRESSION_TYPE: producer compression.type, e.g. lz4 or zstd (default: none)</li>
+ * </ul>
+ *
+ * @param <V> the message type
+ */
+public class ThroughputProducer<V> {
+
+    private static final String DEFAULT_LINGER_MS = "5";
+    private static final String DEFAULT_BATCH_SIZE = String.valueOf(64 * 1024);
+    private static final String DEFAULT_COMPRESSION_TYPE = "none";
+    private static final int DEFAULT_MAX_IN_FLIGHT = 10_000;
+
+    private static final long REPORT_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final Producer<String, V> producer;
+    private final String topic;
+    private final IntFunction<V> messages;
+    private final double targetRate;
+    private final int maxInFlight;
+
+    private final LatencyHistogram sendLatencies = new LatencyHistogram();
+    private final LatencyHistogram ackLatencies = new LatencyHistogram();
+    private final LongAdder acknowledged = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final AtomicReference<Exception> firstError = new AtomicReference<>();
+
+    /**
+     * @param producer the producer to send with
+     * @param topic the topic to produce to
+     * @param messages returns message number i (from 1), called just before it is sent
+     * @param targetRate messages per second, or 0 for as fast as possible
+     * @param maxInFlight unacknowledged messages at most
+     */
+    public ThroughputProducer(Producer<String, V> producer, String topic, IntFunction<V> messages,
+                              double targetRate, int maxInFlight) {
+        this.producer = producer;
+        this.topic = topic;
+        this.messages = messages;
+        this.targetRate = targetRate;
+        this.maxInFlight = maxInFlight;
+    }
+
+    /**
+     * Creates a throughput producer configured from TARGET_RATE and MAX_IN_FLIGHT.
+     */
+    public static <V> ThroughputProducer<V> fromEnvironment(Producer<String, V> producer, String topic,
+                                                            IntFunction<V> messages) {
+        double targetRate = Double.parseDouble(System.getenv().getOrDefault("TARGET_RATE", "0"));
+        int maxInFlight = Integer.parseInt(System.getenv().getOrDefault("MAX_IN_FLIGHT",
+            String.valueOf(DEFAULT_MAX_IN_FLIGHT)));
+        return new ThroughputProducer<>(producer, topic, messages, targetRate, maxInFlight);
+    }
+
+    /**
+     * Returns the producer settings for batching, from LINGER_MS, BATCH_SIZE and COMPRESSION_TYPE.
+     */
+    public static Properties batchingFromEnvironment() {
+        Properties props = new Properties();
+        props.put(ProducerConfig.LINGER_MS_CONFIG, System.getenv().getOrDefault("LINGER_MS", DEFAULT_LINGER_MS));
+        props.put(ProducerConfig.BATCH_SIZE_CONFIG, System.getenv().getOrDefault("BATCH_SIZE", DEFAULT_BATCH_SIZE));
+        props.put(ProducerConfig.COMPRESSION_TYPE_CONFIG,
+            System.getenv().getOrDefault("COMPRESSION_TYPE", DEFAULT_COMPRESSION_TYPE));
+        return props;
+    }
+
+    /**
+     * Describes the rate and in-flight limit, e.g. {@code "unbounded rate, at most 10000 in flight"}.
+     */
+    public String describe() {
+        return (targetRate > 0 ? String.format("%.0f msg/s", targetRate) : "unbounded rate")
+            + ", at most " + maxInFlight + " in flight";
+    }
+
+    /**
+     * Sends the messages, waits for every acknowledgement and prints throughput and latencies.
+     *
+     * @param count number of messages to produce
+     * @return the number of messages that failed
+     */
+    public long run(int count) throws InterruptedException {
+        System.out.println("Producing " + count + " messages (" + describe() + ")...");
+        System.out.println();
+
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        double intervalNanos = targetRate > 0 ? TimeUnit.SECONDS.toNanos(1) / targetRate : 0;
+        long start = System.nanoTime();
+        long lastReport = start;
+        long reportedAcks = 0;
+
+        for (int i = 1; i <= count; i++) {
+            long due = start + (long) ((i - 1) * intervalNanos);
+            if (intervalNanos > 0) {
+                long wait = due - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+            }
+            inFlight.acquire();
+
+            String key = "key-" + i;
+            V message = messages.apply(i);
+            long sent = System.nanoTime();
+            long latencyStart = intervalNanos > 0 ? Math.min(due, sent) : sent;
+            try {
+                producer.send(new ProducerRecord<>(topic, key, message), (metadata, exception) -> {
+                    ackLatencies.record(System.nanoTime() - latencyStart);
+                    if (exception != null) {
+                        fail(exception);
+                    } else {
+                        acknowledged.increment();
+                    }
+                    inFlight.release();
+                });
+            } catch (RuntimeException e) {
+                // Serialization errors are thrown by send() itself, before a callback exists
+                fail(e);
+                inFlight.release();
+            }
+            long now = System.nanoTime();
+            sendLatencies.record(now - sent);
+
+            if (now - lastReport >= REPORT_INTERVAL_NANOS) {
+                long acks = acknowledged.sum();
+                double seconds = (now - lastReport) / 1_000_000_000.0;
+                System.out.println(String.format("  %d sent, %d acknowledged, %.0f msg/s, %d in flight, %d errors",
+                    i, acks, (acks - reportedAcks) / seconds, maxInFlight - inFlight.availablePermits(),
+                    errors.sum()));
+                reportedAcks = acks;
+                lastReport = now;
+            }
+        }
+        long sendEnd = System.nanoTime();
+        producer.flush();
+        inFlight.acquire(maxInFlight);
+        long end = System.nanoTime();
+
+        double sendSeconds = Math.max(sendEnd - start, 1) / 1_000_000_000.0;
+        double totalSeconds = Math.max(end - start, 1) / 1_000_000_000.0;
+        System.out.println();
+        System.out.println(String.format("Sent %d messages in %.2f s (%.0f msg/s), %d acknowledged after %.2f s "
+            + "(%.0f msg/s)", count, sendSeconds, count / sendSeconds, acknowledged.sum(), totalSeconds,
+            acknowledged.sum() / totalSeconds));
+        System.out.println("send() call, including serialization:");
+        sendLatencies.print("  ");
+        System.out.println("Acknowledgement latency:");
+        ackLatencies.print("  ");
+        if (errors.sum() > 0) {
+            System.err.println("❌ " + errors.sum() + " messages failed, first error: " + firstError.get());
+        }
+        return errors.sum();
+    }
+
+    private void fail(Exception exception) {
+        if (errors.sum() == 0 && firstError.compareAndSet(null, exception)) {
+            System.err.println("  ❌ Error sending message: " + exception.getMessage());
+        }
+        errors.increment();
+    }
+}
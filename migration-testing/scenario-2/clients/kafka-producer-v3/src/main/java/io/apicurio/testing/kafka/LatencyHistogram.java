@@ -0,0 +1,124 @@
+package io.apicurio.testing.kafka;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histogram of per-message latencies.
+ *
+ * Latencies are counted in buckets whose bounds double, from 1 µs up, so a few dozen
+ * counters cover anything from an in-memory append to a broker timeout with constant
+ * relative precision. Recording only increments counters and may be done from the
+ * producer's I/O thread. Percentiles are reported as the upper bound of the bucket
+ * they fall in.
+ */
+public class LatencyHistogram {
+
+    private static final int BUCKETS = 36;
+    private static final int BAR_WIDTH = 40;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKETS];
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalMicros = new LongAdder();
+    private final LongAccumulator maxMicros = new LongAccumulator(Math::max, 0);
+
+    public LatencyHistogram() {
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Records the latency of one message.
+     *
+     * @param nanos the latency in nanoseconds
+     */
+    public void record(long nanos) {
+        long micros = Math.max(1, nanos / 1000);
+        buckets[Math.min(63 - Long.numberOfLeadingZeros(micros), BUCKETS - 1)].increment();
+        count.increment();
+        totalMicros.add(micros);
+        maxMicros.accumulate(micros);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Returns an upper bound of a percentile of the recorded latencies.
+     *
+     * @param percentile the percentile, between 0 and 100
+     * @return the latency in microseconds, or 0 if nothing was recorded
+     */
+    public long percentile(double percentile) {
+        long total = count.sum();
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(total * percentile / 100.0));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += buckets[i].sum();
+            if (seen >= rank) {
+                return Math.min(upperBound(i), maxMicros.get());
+            }
+        }
+        return maxMicros.get();
+    }
+
+    /**
+     * Returns a one-line summary: message count, mean, percentiles and maximum.
+     */
+    public String summary() {
+        long total = count.sum();
+        if (total == 0) {
+            return "no messages";
+        }
+        return total + " messages, mean " + format(totalMicros.sum() / total)
+            + ", p50 " + format(percentile(50)) + ", p90 " + format(percentile(90))
+            + ", p99 " + format(percentile(99)) + ", p99.9 " + format(percentile(99.9))
+            + ", max " + format(maxMicros.get());
+    }
+
+    /**
+     * Prints the summary followed by one bar per bucket between the fastest and slowest message.
+     *
+     * @param indent prefix of every line
+     */
+    public void print(String indent) {
+        System.out.println(indent + summary());
+        long[] counts = new long[BUCKETS];
+        int first = -1;
+        int last = -1;
+        long peak = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets[i].sum();
+            if (counts[i] > 0) {
+                first = first < 0 ? i : first;
+                last = i;
+                peak = Math.max(peak, counts[i]);
+            }
+        }
+        for (int i = first; i >= 0 && i <= last; i++) {
+            int width = (int) Math.ceil(counts[i] * (double) BAR_WIDTH / peak);
+            System.out.println(indent + "  " + String.format("%8s", format(1L << i)) + " - "
+                + String.format("%-8s", format(upperBound(i))) + " " + String.format("%9d", counts[i]) + " "
+                + "#".repeat(width));
+        }
+    }
+
+    private static long upperBound(int bucket) {
+        return (1L << (bucket + 1)) - 1;
+    }
+
+    private static String format(long micros) {
+        if (micros < 1000) {
+            return micros + " µs";
+        }
+        if (micros < 1_000_000) {
+            return String.format("%.1f ms", micros / 1000.0);
+        }
+        return String.format("%.2f s", micros / 1_000_000.0);
+    }
+}
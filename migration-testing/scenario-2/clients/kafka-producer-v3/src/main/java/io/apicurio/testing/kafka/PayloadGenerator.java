@@ -0,0 +1,316 @@
+package io.apicurio.testing.kafka;
+
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaBuilder;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Generates Avro GenericRecords for any record schema, to produce payloads shaped like
+ * real ones instead of the two-field {@link GreetingMessage}.
+ *
+ * The schema is, in order of precedence:
+ * <ul>
+ *   <li>PAYLOAD_SCHEMA: an Avro schema file (.avsc)</li>
+ *   <li>PAYLOAD_ARTIFACT_ID: the latest version of a registered artifact, e.g. one of the
+ *       {@code avro-schema-N} artifacts the artifact creator registers, in group
+ *       PAYLOAD_ARTIFACT_GROUP (default: default). If the registry requires authentication,
+ *       PAYLOAD_REGISTRY_TOKEN is sent as a bearer token</li>
+ *   <li>otherwise a synthetic schema, see {@link #syntheticSchema}</li>
+ * </ul>
+ *
+ * Values are random but reproducible (PAYLOAD_SEED, default: 42). Strings and bytes are
+ * PAYLOAD_STRING_SIZE long (default: 16), arrays and maps have PAYLOAD_ARRAY_LENGTH
+ * entries (default: 3), and every union value takes one of its branches at random, so all
+ * branches are exercised. Records are meant to be generated up front with
+ * {@link #generatePool}, so generating them does not count against the producer.
+ */
+public class PayloadGenerator {
+
+    private static final int DEFAULT_FIELDS = 80;
+    private static final int DEFAULT_NESTED_FIELDS = 10;
+    private static final int DEFAULT_DEPTH = 1;
+    private static final int DEFAULT_UNION_BRANCHES = 3;
+    private static final int DEFAULT_STRING_SIZE = 16;
+    private static final int DEFAULT_ARRAY_LENGTH = 3;
+    private static final long DEFAULT_SEED = 42;
+
+    /** Nesting level at which recursive schemas stop, at null union branches and empty collections. */
+    private static final int MAX_LEVELS = 16;
+
+    private static final String ALPHABET = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789";
+
+    private enum FieldKind { STRING, LONG, UNION, DOUBLE, STRING_ARRAY, INT, BOOLEAN, RECORD, RECORD_ARRAY }
+
+    /** Field types of the synthetic schema, repeating in this order. */
+    private static final FieldKind[] FIELD_CYCLE = {
+        FieldKind.STRING, FieldKind.LONG, FieldKind.UNION, FieldKind.DOUBLE, FieldKind.STRING_ARRAY,
+        FieldKind.INT, FieldKind.STRING, FieldKind.BOOLEAN, FieldKind.RECORD, FieldKind.RECORD_ARRAY
+    };
+
+    /** Union branch types of the synthetic schema, the first N of which are used. */
+    private static final Schema.Type[] UNION_TYPES = {
+        Schema.Type.NULL, Schema.Type.STRING, Schema.Type.LONG, Schema.Type.DOUBLE,
+        Schema.Type.BOOLEAN, Schema.Type.INT, Schema.Type.BYTES
+    };
+
+    private final Schema schema;
+    private final String source;
+    private final int stringSize;
+    private final int arrayLength;
+    private final Random random;
+
+    /**
+     * @param schema the record schema to generate values for
+     * @param source where the schema came from, for {@link #describe()}
+     * @param stringSize length of strings and bytes
+     * @param arrayLength number of entries in arrays and maps
+     * @param seed seed of the random values
+     */
+    public PayloadGenerator(Schema schema, String source, int stringSize, int arrayLength, long seed) {
+        if (schema.getType() != Schema.Type.RECORD) {
+            throw new IllegalArgumentException("Payload schema must be a record, not " + schema.getType());
+        }
+        this.schema = schema;
+        this.source = source;
+        this.stringSize = stringSize;
+        this.arrayLength = arrayLength;
+        this.random = new Random(seed);
+    }
+
+    /**
+     * Creates a payload generator configured from the PAYLOAD_* environment variables.
+     *
+     * @param artifactContentUrl URL of the latest content of an artifact, with {@code %s}
+     *                           for the group and the artifact id
+     */
+    public static PayloadGenerator fromEnvironment(String artifactContentUrl) throws IOException, InterruptedException {
+        String schemaFile = System.getenv("PAYLOAD_SCHEMA");
+        String artifactId = System.getenv("PAYLOAD_ARTIFACT_ID");
+        int stringSize = intFromEnvironment("PAYLOAD_STRING_SIZE", DEFAULT_STRING_SIZE);
+        int arrayLength = intFromEnvironment("PAYLOAD_ARRAY_LENGTH", DEFAULT_ARRAY_LENGTH);
+        long seed = Long.parseLong(System.getenv().getOrDefault("PAYLOAD_SEED", String.valueOf(DEFAULT_SEED)));
+
+        Schema schema;
+        String source;
+        if (schemaFile != null && !schemaFile.isEmpty()) {
+            schema = new Schema.Parser().parse(Files.readString(Path.of(schemaFile)));
+            source = schemaFile;
+        } else if (artifactId != null && !artifactId.isEmpty()) {
+            String group = System.getenv().getOrDefault("PAYLOAD_ARTIFACT_GROUP", "default");
+            String url = String.format(artifactContentUrl, URLEncoder.encode(group, StandardCharsets.UTF_8),
+                URLEncoder.encode(artifactId, StandardCharsets.UTF_8));
+            schema = new Schema.Parser().parse(fetch(url, System.getenv("PAYLOAD_REGISTRY_TOKEN")));
+            source = group + "/" + artifactId;
+        } else {
+            int fields = intFromEnvironment("PAYLOAD_FIELDS", DEFAULT_FIELDS);
+            int nestedFields = intFromEnvironment("PAYLOAD_NESTED_FIELDS", DEFAULT_NESTED_FIELDS);
+            int depth = intFromEnvironment("PAYLOAD_DEPTH", DEFAULT_DEPTH);
+            int unionBranches = intFromEnvironment("PAYLOAD_UNION_BRANCHES", DEFAULT_UNION_BRANCHES);
+            schema = syntheticSchema(fields, nestedFields, depth, unionBranches);
+            source = String.format("synthetic, %d fields, %d per nested record, depth %d, %d union branches",
+                fields, nestedFields, depth, unionBranches);
+        }
+        return new PayloadGenerator(schema, source, stringSize, arrayLength, seed);
+    }
+
+    /**
+     * Builds a record schema of a given shape. Fields cycle through string, long, union,
+     * double, array of strings, int, string, boolean, nested record and array of nested
+     * records, so 80 fields hold 8 nested records and 8 arrays of them. Below the given
+     * depth, nested records and arrays of them become strings and arrays of strings.
+     *
+     * @param fields number of fields of the top-level record
+     * @param nestedFields number of fields of each nested record
+     * @param depth levels of nested records below the top-level record
+     * @param unionBranches number of branches of each union, the first of which is null
+     *                      (2 to 7)
+     */
+    public static Schema syntheticSchema(int fields, int nestedFields, int depth, int unionBranches) {
+        if (unionBranches < 2 || unionBranches > UNION_TYPES.length) {
+            throw new IllegalArgumentException("Unions must have 2 to " + UNION_TYPES.length
+                + " branches, not " + unionBranches);
+        }
+        List<Schema> branches = new ArrayList<>();
+        for (int i = 0; i < unionBranches; i++) {
+            branches.add(Schema.create(UNION_TYPES[i]));
+        }
+        return syntheticRecord("PayloadRecord", fields, nestedFields, depth, Schema.createUnion(branches),
+            new int[] {0});
+    }
+
+    private static Schema syntheticRecord(String name, int fields, int nestedFields, int depth, Schema union,
+                                          int[] nestedCount) {
+        SchemaBuilder.FieldAssembler<Schema> assembler = SchemaBuilder.record(name)
+            .namespace("io.apicurio.testing.kafka").fields();
+        for (int i = 0; i < fields; i++) {
+            FieldKind kind = FIELD_CYCLE[i % FIELD_CYCLE.length];
+            String fieldName = "f" + i + "_" + kind.name().toLowerCase(Locale.ROOT);
+            Schema fieldSchema;
+            switch (kind) {
+                case LONG:
+                    fieldSchema = Schema.create(Schema.Type.LONG);
+                    break;
+                case UNION:
+                    fieldSchema = union;
+                    break;
+                case DOUBLE:
+                    fieldSchema = Schema.create(Schema.Type.DOUBLE);
+                    break;
+                case INT:
+                    fieldSchema = Schema.create(Schema.Type.INT);
+                    break;
+                case BOOLEAN:
+                    fieldSchema = Schema.create(Schema.Type.BOOLEAN);
+                    break;
+                case STRING_ARRAY:
+                    fieldSchema = Schema.createArray(Schema.create(Schema.Type.STRING));
+                    break;
+                case RECORD:
+                case RECORD_ARRAY:
+                    if (depth > 0) {
+                        Schema nested = syntheticRecord("Nested" + (++nestedCount[0]), nestedFields, nestedFields,
+                            depth - 1, union, nestedCount);
+                        fieldSchema = kind == FieldKind.RECORD ? nested : Schema.createArray(nested);
+                    } else {
+                        fieldSchema = kind == FieldKind.RECORD ? Schema.create(Schema.Type.STRING)
+                            : Schema.createArray(Schema.create(Schema.Type.STRING));
+                    }
+                    break;
+                default:
+                    fieldSchema = Schema.create(Schema.Type.STRING);
+            }
+            assembler = assembler.name(fieldName).type(fieldSchema).noDefault();
+        }
+        return assembler.endRecord();
+    }
+
+    public Schema getSchema() {
+        return schema;
+    }
+
+    /**
+     * Describes the schema, e.g. {@code "PayloadRecord (synthetic, 80 fields, ...)"}.
+     */
+    public String describe() {
+        return schema.getFullName() + " (" + source + "), strings of " + stringSize + ", "
+            + arrayLength + " entries per array";
+    }
+
+    /**
+     * Generates one record.
+     */
+    public GenericRecord generate() {
+        return (GenericRecord) value(schema, 0);
+    }
+
+    /**
+     * Generates records up front, to be sent round robin.
+     *
+     * @param size number of records
+     */
+    public List<GenericRecord> generatePool(int size) {
+        List<GenericRecord> pool = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            pool.add(generate());
+        }
+        return pool;
+    }
+
+    private Object value(Schema fieldSchema, int level) {
+        switch (fieldSchema.getType()) {
+            case RECORD:
+                GenericData.Record record = new GenericData.Record(fieldSchema);
+                for (Schema.Field field : fieldSchema.getFields()) {
+                    record.put(field.pos(), value(field.schema(), level + 1));
+                }
+                return record;
+            case ARRAY:
+                int entries = level < MAX_LEVELS ? arrayLength : 0;
+                List<Object> array = new GenericData.Array<>(entries, fieldSchema);
+                for (int i = 0; i < entries; i++) {
+                    array.add(value(fieldSchema.getElementType(), level + 1));
+                }
+                return array;
+            case MAP:
+                Map<String, Object> map = new HashMap<>();
+                for (int i = 0; level < MAX_LEVELS && i < arrayLength; i++) {
+                    map.put(string(), value(fieldSchema.getValueType(), level + 1));
+                }
+                return map;
+            case UNION:
+                List<Schema> branches = fieldSchema.getTypes();
+                Integer nullBranch = fieldSchema.getIndexNamed(Schema.Type.NULL.getName());
+                int branch = level >= MAX_LEVELS && nullBranch != null ? nullBranch : random.nextInt(branches.size());
+                return value(branches.get(branch), level);
+            case ENUM:
+                List<String> symbols = fieldSchema.getEnumSymbols();
+                return new GenericData.EnumSymbol(fieldSchema, symbols.get(random.nextInt(symbols.size())));
+            case FIXED:
+                byte[] fixed = new byte[fieldSchema.getFixedSize()];
+                random.nextBytes(fixed);
+                return new GenericData.Fixed(fieldSchema, fixed);
+            case STRING:
+                return string();
+            case BYTES:
+                byte[] bytes = new byte[stringSize];
+                random.nextBytes(bytes);
+                return ByteBuffer.wrap(bytes);
+            case INT:
+                return random.nextInt();
+            case LONG:
+                return random.nextLong();
+            case FLOAT:
+                return random.nextFloat();
+            case DOUBLE:
+                return random.nextDouble();
+            case BOOLEAN:
+                return random.nextBoolean();
+            default:
+                return null;
+        }
+    }
+
+    private String string() {
+        char[] chars = new char[stringSize];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = ALPHABET.charAt(random.nextInt(ALPHABET.length()));
+        }
+        return new String(chars);
+    }
+
+    private static String fetch(String url, String bearerToken) throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(url)).GET();
+        if (bearerToken != null && !bearerToken.isEmpty()) {
+            request.header("Authorization", "Bearer " + bearerToken);
+        }
+        HttpResponse<String> response = HttpClient.newHttpClient()
+            .send(request.build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IOException("Fetching the payload schema from " + url + " returned HTTP "
+                + response.statusCode() + ": " + response.body());
+        }
+        return response.body();
+    }
+
+    private static int intFromEnvironment(String name, int defaultValue) {
+        return Integer.parseInt(System.getenv().getOrDefault(name, String.valueOf(defaultValue)));
+    }
+}
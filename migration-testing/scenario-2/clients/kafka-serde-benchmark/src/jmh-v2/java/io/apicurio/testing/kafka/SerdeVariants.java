@@ -0,0 +1,64 @@
+package io.apicurio.testing.kafka;
+
+import io.apicurio.registry.serde.SerdeConfig;
+import io.apicurio.registry.serde.avro.AvroKafkaDeserializer;
+import io.apicurio.registry.serde.avro.AvroKafkaSerdeConfig;
+import io.apicurio.registry.serde.avro.AvroKafkaSerializer;
+import io.apicurio.registry.serde.avro.DefaultAvroDatumProvider;
+import io.apicurio.registry.serde.avro.ReflectAvroDatumProvider;
+import io.apicurio.registry.serde.config.IdOption;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.Serializer;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The v2 SerDes in the variants {@link AvroSerdeBenchmark} compares. Compiled by the
+ * serde-v2 profile only.
+ */
+final class SerdeVariants {
+
+    static final String REGISTRY_PATH = "/apis/registry/v2";
+
+    private SerdeVariants() {
+    }
+
+    /**
+     * Returns the SerDes configuration of one variant.
+     *
+     * @param registryUrl Apicurio Registry URL
+     * @param specific whether to use generated classes (DefaultAvroDatumProvider) instead of reflection
+     * @param idOption the id written to and read from messages, {@code globalId} or {@code contentId}
+     * @param confluentIds whether to write 4-byte ids as Confluent does, as kafka-consumer-v2 in
+     *                     scenario 4 does, instead of the 8-byte v2 default
+     */
+    static Map<String, Object> config(String registryUrl, boolean specific, String idOption, boolean confluentIds) {
+        Map<String, Object> config = new HashMap<>();
+        config.put(SerdeConfig.REGISTRY_URL, registryUrl);
+        config.put(SerdeConfig.AUTO_REGISTER_ARTIFACT, Boolean.TRUE);
+        // The id goes in the payload, where the id handler writes it
+        config.put(SerdeConfig.ENABLE_HEADERS, false);
+        config.put(SerdeConfig.ENABLE_CONFLUENT_ID_HANDLER, confluentIds);
+        config.put(SerdeConfig.USE_ID, IdOption.valueOf(idOption).name());
+        if (specific) {
+            config.put(AvroKafkaSerdeConfig.AVRO_DATUM_PROVIDER, DefaultAvroDatumProvider.class.getName());
+            config.put(AvroKafkaSerdeConfig.USE_SPECIFIC_AVRO_READER, true);
+        } else {
+            config.put(AvroKafkaSerdeConfig.AVRO_DATUM_PROVIDER, ReflectAvroDatumProvider.class.getName());
+        }
+        return config;
+    }
+
+    static Serializer<Object> createSerializer(Map<String, Object> config) {
+        AvroKafkaSerializer<Object> serializer = new AvroKafkaSerializer<>();
+        serializer.configure(config, false);
+        return serializer;
+    }
+
+    static Deserializer<Object> createDeserializer(Map<String, Object> config) {
+        AvroKafkaDeserializer<Object> deserializer = new AvroKafkaDeserializer<>();
+        deserializer.configure(config, false);
+        return deserializer;
+    }
+}
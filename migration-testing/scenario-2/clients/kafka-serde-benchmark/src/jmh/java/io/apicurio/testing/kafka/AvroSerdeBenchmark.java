@@ -0,0 +1,185 @@
+package io.apicurio.testing.kafka;
+
+import org.apache.avro.Schema;
+import org.apache.avro.reflect.ReflectData;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.Serializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures AvroKafkaSerializer.serialize() and AvroKafkaDeserializer.deserialize() on
+ * their own, once the schema is cached, against an in-process {@link StubRegistry}.
+ *
+ * The variants are what the scenario clients use and what they could use instead:
+ * <ul>
+ *   <li>datumProvider: ReflectAvroDatumProvider on {@link GreetingMessage}, as ProducerApp
+ *       and ConsumerApp use, or DefaultAvroDatumProvider on the generated GreetingRecord</li>
+ *   <li>idOption: the globalId or the contentId in the message</li>
+ *   <li>confluentIds: 4-byte ids as Confluent writes them, as the scenario 4 v2 clients
+ *       set with ENABLE_CONFLUENT_ID_HANDLER, or the 8-byte v2 ids</li>
+ * </ul>
+ * The jar holds the v2 or the v3 SerDes, depending on the profile it was built with, and
+ * {@link #main} runs every variant with the GC profiler and writes ops/s and bytes
+ * allocated per message to a file named after the SerDes release, so two builds can be
+ * compared side by side:
+ *
+ * <pre>
+ * mvn -Pserde-v3,jmh package
+ * java -jar target/v3/benchmarks.jar AvroSerdeBenchmark -prof gc -p datumProvider=reflect
+ * java -cp target/v3/benchmarks.jar io.apicurio.testing.kafka.AvroSerdeBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AvroSerdeBenchmark {
+
+    private static final String TOPIC = "serde-benchmark";
+    private static final String TEXT = "Hello from serde-benchmark! Message #1";
+    private static final long TIMESTAMP = 1_700_000_000_000L;
+    private static final String DEFAULT_RESULTS_DIR = "results";
+
+    @Param({"reflect", "specific"})
+    public String datumProvider;
+
+    @Param({"globalId", "contentId"})
+    public String idOption;
+
+    @Param({"false", "true"})
+    public boolean confluentIds;
+
+    private StubRegistry registry;
+    private Serializer<Object> serializer;
+    private Deserializer<Object> deserializer;
+    private final Headers headers = new RecordHeaders();
+    private Object message;
+    private byte[] payload;
+
+    /**
+     * Creates the SerDes and runs one round trip, which registers and caches the schema.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        boolean specific = "specific".equals(datumProvider);
+        Schema schema;
+        if (specific) {
+            message = GreetingRecord.newBuilder().setMessage(TEXT).setTimestamp(TIMESTAMP).build();
+            schema = GreetingRecord.getClassSchema();
+        } else {
+            message = new GreetingMessage(TEXT, TIMESTAMP);
+            schema = ReflectData.get().getSchema(GreetingMessage.class);
+        }
+
+        registry = StubRegistry.start(schema.toString());
+        Map<String, Object> config = SerdeVariants.config(registry.url(SerdeVariants.REGISTRY_PATH), specific,
+            idOption, confluentIds);
+        serializer = SerdeVariants.createSerializer(config);
+        deserializer = SerdeVariants.createDeserializer(config);
+
+        payload = serializer.serialize(TOPIC, headers, message);
+        Object roundTrip = deserializer.deserialize(TOPIC, headers, payload);
+        String text = specific
+            ? ((GreetingRecord) roundTrip).getMessage()
+            : ((GreetingMessage) roundTrip).getMessage();
+        if (!TEXT.equals(text)) {
+            throw new IllegalStateException("Round trip returned " + roundTrip);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        serializer.close();
+        deserializer.close();
+        registry.close();
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return serializer.serialize(TOPIC, headers, message);
+    }
+
+    @Benchmark
+    public Object deserialize() {
+        return deserializer.deserialize(TOPIC, headers, payload);
+    }
+
+    /**
+     * Runs every variant with the GC profiler, prints ops/s and bytes allocated per message,
+     * and writes them to RESULTS_DIR (default: results) as {@code jmh-serde-<release>.txt},
+     * next to the full JMH results as {@code jmh-serde-<release>.json}.
+     */
+    public static void main(String[] args) throws Exception {
+        String release = AvroSerdeBenchmark.class.getPackage().getImplementationVersion();
+        String serdeVersion = release != null ? release : SerdeSettings.SERDE_LINE;
+        Path resultsDir = Path.of(System.getenv().getOrDefault("RESULTS_DIR", DEFAULT_RESULTS_DIR));
+        Files.createDirectories(resultsDir);
+        Path baseName = resultsDir.resolve("jmh-serde-" + serdeVersion);
+
+        Options options = new OptionsBuilder()
+            .include(AvroSerdeBenchmark.class.getName() + "\\.(serialize|deserialize)$")
+            .addProfiler(GCProfiler.class)
+            .resultFormat(ResultFormatType.JSON)
+            .result(baseName + ".json")
+            .build();
+
+        Collection<RunResult> results = new Runner(options).run();
+
+        System.out.println();
+        System.out.println("Apicurio " + serdeVersion + " Avro SerDes:");
+        System.out.println(String.format("%-40s %14s %10s", "Benchmark", "ops/s", "B/op"));
+        try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(Path.of(baseName + ".txt"),
+                StandardCharsets.UTF_8))) {
+            for (RunResult result : results) {
+                String benchmark = result.getParams().getBenchmark();
+                String name = String.format("%s %s %s %s", benchmark.substring(benchmark.lastIndexOf('.') + 1),
+                    result.getParams().getParam("datumProvider"), result.getParams().getParam("idOption"),
+                    "true".equals(result.getParams().getParam("confluentIds")) ? "4-byte" : "8-byte");
+                double opsPerSecond = result.getPrimaryResult().getScore();
+                double bytesPerOp = allocatedBytesPerOp(result);
+                System.out.println(String.format("%-40s %14.0f %10.0f", name, opsPerSecond, bytesPerOp));
+                out.println(String.format("%s\t%.0f\t%.0f", name, opsPerSecond, bytesPerOp));
+            }
+        }
+    }
+
+    private static double allocatedBytesPerOp(RunResult result) {
+        for (Map.Entry<String, Result> secondary : result.getSecondaryResults().entrySet()) {
+            if (secondary.getKey().endsWith("gc.alloc.rate.norm")) {
+                return secondary.getValue().getScore();
+            }
+        }
+        return Double.NaN;
+    }
+}
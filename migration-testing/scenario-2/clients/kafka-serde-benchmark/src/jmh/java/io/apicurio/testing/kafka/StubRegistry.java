@@ -0,0 +1,110 @@
+package io.apicurio.testing.kafka;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * An in-process registry that knows one Avro schema, for benchmarking the SerDes
+ * without a registry container.
+ *
+ * It answers the calls the Avro SerDes make, for both the v2 and the v3 REST API:
+ * registering the schema (whatever is posted, the known schema is returned as
+ * registered), and fetching it by global id or content id with its (empty) list of
+ * references. The global id and the content id differ, so a deserializer that reads
+ * the wrong kind of id gets a 404 instead of passing by accident. Everything else is
+ * a 404.
+ */
+public class StubRegistry implements AutoCloseable {
+
+    static final long GLOBAL_ID = 1001;
+    static final long CONTENT_ID = 2002;
+
+    private static final String ARTIFACT_ID = "serde-benchmark-value";
+
+    private final HttpServer server;
+    private final String schema;
+
+    private StubRegistry(HttpServer server, String schema) {
+        this.server = server;
+        this.schema = schema;
+    }
+
+    /**
+     * Starts a stub registry on a free loopback port.
+     *
+     * @param schema the Avro schema, as JSON, every registration returns and every id resolves to
+     */
+    public static StubRegistry start(String schema) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        StubRegistry registry = new StubRegistry(server, schema);
+        server.createContext("/apis/registry/", registry::handle);
+        server.start();
+        return registry;
+    }
+
+    /**
+     * Returns the registry URL for a REST API path, e.g. {@code /apis/registry/v3}.
+     */
+    public String url(String apiPath) {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort() + apiPath;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (InputStream body = exchange.getRequestBody()) {
+            body.readAllBytes();
+            String path = exchange.getRequestURI().getPath();
+            boolean v3 = path.startsWith("/apis/registry/v3/");
+            String method = exchange.getRequestMethod();
+
+            if ("POST".equals(method) && path.endsWith("/artifacts")) {
+                respond(exchange, 200, v3 ? createArtifactResponse() : artifactMetaData());
+            } else if ("GET".equals(method) && (path.endsWith("/ids/globalIds/" + GLOBAL_ID + "/references")
+                    || path.endsWith("/ids/contentIds/" + CONTENT_ID + "/references"))) {
+                respond(exchange, 200, "[]");
+            } else if ("GET".equals(method) && (path.endsWith("/ids/globalIds/" + GLOBAL_ID)
+                    || path.endsWith("/ids/contentIds/" + CONTENT_ID))) {
+                respond(exchange, 200, schema);
+            } else {
+                String message = "Not known to the stub registry: " + method + " " + path;
+                respond(exchange, 404, "{\"error_code\":404,\"message\":\"" + message + "\",\"status\":404,"
+                    + "\"title\":\"" + message + "\"}");
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static String artifactMetaData() {
+        return "{\"groupId\":\"default\",\"id\":\"" + ARTIFACT_ID + "\",\"version\":\"1\",\"type\":\"AVRO\","
+            + "\"state\":\"ENABLED\",\"globalId\":" + GLOBAL_ID + ",\"contentId\":" + CONTENT_ID + "}";
+    }
+
+    private static String createArtifactResponse() {
+        return "{\"artifact\":{\"groupId\":\"default\",\"artifactId\":\"" + ARTIFACT_ID + "\","
+            + "\"artifactType\":\"AVRO\"},"
+            + "\"version\":{\"groupId\":\"default\",\"artifactId\":\"" + ARTIFACT_ID + "\",\"version\":\"1\","
+            + "\"artifactType\":\"AVRO\",\"state\":\"ENABLED\",\"globalId\":" + GLOBAL_ID + ","
+            + "\"contentId\":" + CONTENT_ID + "}}";
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package io.apicurio.testing.kafka;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+import org.HdrHistogram.Recorder;
+
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+/**
+ * One latency of the benchmark, recorded in microseconds into an HdrHistogram.
+ *
+ * Recording is wait-free and may be done from any thread. Every {@link #rotate()} appends
+ * the latencies recorded since the previous one to an interval log ({@code .hlog}), so a
+ * run can be replayed second by second with HistogramLogProcessor. {@link #close()} also
+ * writes the percentile distribution of the whole run ({@code .hgrm}, in milliseconds),
+ * the format the HdrHistogram plotter reads to compare runs.
+ */
+public class LatencyLog implements AutoCloseable {
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    private final String name;
+    private final Path distributionFile;
+    private final Recorder recorder = new Recorder(SIGNIFICANT_DIGITS);
+    private final Histogram total = new Histogram(SIGNIFICANT_DIGITS);
+    private final PrintStream log;
+    private final HistogramLogWriter writer;
+    private Histogram interval;
+
+    /**
+     * @param name name of the latency, used in the summary
+     * @param baseName path of the result files without extension
+     * @param startMillis wall-clock time the run started, the base of the interval timestamps
+     */
+    public LatencyLog(String name, Path baseName, long startMillis) throws FileNotFoundException {
+        this.name = name;
+        this.distributionFile = Path.of(baseName + ".hgrm");
+        this.log = new PrintStream(new FileOutputStream(baseName + ".hlog"), false, StandardCharsets.UTF_8);
+        this.writer = new HistogramLogWriter(log);
+        writer.outputComment("[" + name + ", microseconds]");
+        writer.outputLogFormatVersion();
+        writer.outputStartTime(startMillis);
+        writer.setBaseTime(startMillis);
+        writer.outputLegend();
+    }
+
+    /**
+     * Records one latency.
+     *
+     * @param micros the latency in microseconds
+     */
+    public void record(long micros) {
+        recorder.recordValue(Math.max(0, micros));
+    }
+
+    /**
+     * Appends the latencies recorded since the previous call to the interval log.
+     */
+    public synchronized void rotate() {
+        interval = recorder.getIntervalHistogram(interval);
+        if (interval.getTotalCount() > 0) {
+            writer.outputIntervalHistogram(interval);
+            total.add(interval);
+        }
+    }
+
+    /**
+     * Returns a one-line summary of the whole run: count, mean, percentiles and maximum.
+     */
+    public synchronized String summary() {
+        if (total.getTotalCount() == 0) {
+            return name + ": no messages";
+        }
+        return String.format("%s: %d messages, mean %s, p50 %s, p90 %s, p99 %s, p99.9 %s, max %s", name,
+            total.getTotalCount(), format(total.getMean()), format(total.getValueAtPercentile(50)),
+            format(total.getValueAtPercentile(90)), format(total.getValueAtPercentile(99)),
+            format(total.getValueAtPercentile(99.9)), format(total.getMaxValue()));
+    }
+
+    /**
+     * Returns a percentile of the whole run, in microseconds.
+     */
+    public synchronized long percentile(double percentile) {
+        return total.getValueAtPercentile(percentile);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Writes the last interval and the percentile distribution, and closes the interval log.
+     */
+    @Override
+    public synchronized void close() throws FileNotFoundException {
+        rotate();
+        log.close();
+        try (PrintStream out = new PrintStream(new FileOutputStream(distributionFile.toFile()), false,
+                StandardCharsets.UTF_8)) {
+            total.outputPercentileDistribution(out, MICROS_PER_MILLI);
+        }
+    }
+
+    private static String format(double micros) {
+        if (micros < 1000) {
+            return String.format("%.0f µs", micros);
+        }
+        if (micros < 1_000_000) {
+            return String.format("%.1f ms", micros / 1000.0);
+        }
+        return String.format("%.2f s", micros / 1_000_000.0);
+    }
+}
@@ -0,0 +1,469 @@
+package io.apicurio.testing.kafka;
+
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.Serializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+
+import java.io.PrintWriter;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Benchmarks the Apicurio Registry Avro SerDes against a local Kafka and registry.
+ *
+ * The jar holds either the v2 or the v3 SerDes, depending on the Maven profile it was
+ * built with; both jars produce the same messages at the same rate with the same
+ * settings, so their results compare directly. The producer serializes each
+ * GreetingMessage itself and sends the bytes, and a consumer in the same JVM
+ * deserializes what it receives, so the SerDes are timed apart from batching and
+ * fetching. Three latencies are recorded per message:
+ * <ul>
+ *   <li>serialize: AvroKafkaSerializer.serialize(), including the schema lookup</li>
+ *   <li>deserialize: AvroKafkaDeserializer.deserialize(), including the schema lookup</li>
+ *   <li>end-to-end: from GreetingMessage.timestamp to after deserialization. The timestamp
+ *       has millisecond resolution. At a target rate it is the time the message was due,
+ *       so a stalled producer shows up as latency instead of as a lower rate</li>
+ * </ul>
+ * Each is written as an HdrHistogram interval log and percentile distribution, next to a
+ * summary with the send and receive rates and the process CPU time per message. The
+ * first WARMUP_COUNT messages are sent and received but not measured.
+ *
+ * Configured through environment variables:
+ * <ul>
+ *   <li>KAFKA_BOOTSTRAP_SERVERS: Kafka bootstrap servers (default: localhost:19092)</li>
+ *   <li>REGISTRY_URL: Apicurio Registry URL (default: the in-memory registry of the SerDes line)</li>
+ *   <li>TOPIC_NAME: topic to produce to and consume from (default: serde-benchmark-v2 or -v3)</li>
+ *   <li>MESSAGE_COUNT: messages to send, warm-up included (default: 500000)</li>
+ *   <li>WARMUP_COUNT: messages to send before measuring (default: 50000)</li>
+ *   <li>TARGET_RATE: messages per second, or 0 for as fast as possible (default: 20000)</li>
+ *   <li>PAYLOAD_SIZE: characters in the message text (default: 100)</li>
+ *   <li>RESULTS_DIR: directory of the result files (default: results)</li>
+ * </ul>
+ */
+public class SerdeBenchmarkApp {
+
+    private static final String DEFAULT_KAFKA_BOOTSTRAP = "localhost:19092";
+    private static final int DEFAULT_MESSAGE_COUNT = 500_000;
+    private static final int DEFAULT_WARMUP_COUNT = 50_000;
+    private static final double DEFAULT_TARGET_RATE = 20_000;
+    private static final int DEFAULT_PAYLOAD_SIZE = 100;
+    private static final String DEFAULT_RESULTS_DIR = "results";
+
+    private static final long REPORT_INTERVAL_SECONDS = 1;
+    private static final long ASSIGNMENT_TIMEOUT_MILLIS = 30_000;
+    private static final long DRAIN_TIMEOUT_MILLIS = 60_000;
+
+    private final String kafkaBootstrap;
+    private final String registryUrl;
+    private final String topic;
+    private final int messageCount;
+    private final int warmupCount;
+    private final double targetRate;
+    private final int payloadSize;
+
+    private final LatencyLog serializeLatencies;
+    private final LatencyLog deserializeLatencies;
+    private final LatencyLog endToEndLatencies;
+
+    private final AtomicLong sent = new AtomicLong();
+    private final AtomicLong received = new AtomicLong();
+    private final LongAdder errors = new LongAdder();
+    private final AtomicReference<Exception> firstError = new AtomicReference<>();
+    private final CountDownLatch consumerReady = new CountDownLatch(1);
+    private final CountDownLatch consumerDone = new CountDownLatch(1);
+    private volatile boolean producing = true;
+    private volatile boolean stopped;
+
+    // Measurement window: from sending the first measured message to receiving the last one
+    private volatile long measureStartNanos;
+    private volatile long sendEndNanos;
+    private volatile long firstMeasuredReceiveNanos;
+    private volatile long lastReceiveNanos;
+
+    // Process CPU and GC time over the measurement window
+    private volatile long cpuStartNanos;
+    private volatile long gcStartMillis;
+    private volatile long cpuNanos;
+    private volatile long gcMillis;
+
+    SerdeBenchmarkApp(String kafkaBootstrap, String registryUrl, String topic, int messageCount, int warmupCount,
+                      double targetRate, int payloadSize, LatencyLog serializeLatencies,
+                      LatencyLog deserializeLatencies, LatencyLog endToEndLatencies) {
+        this.kafkaBootstrap = kafkaBootstrap;
+        this.registryUrl = registryUrl;
+        this.topic = topic;
+        this.messageCount = messageCount;
+        this.warmupCount = warmupCount;
+        this.targetRate = targetRate;
+        this.payloadSize = payloadSize;
+        this.serializeLatencies = serializeLatencies;
+        this.deserializeLatencies = deserializeLatencies;
+        this.endToEndLatencies = endToEndLatencies;
+    }
+
+    public static void main(String[] args) throws Exception {
+        String kafkaBootstrap = System.getenv().getOrDefault("KAFKA_BOOTSTRAP_SERVERS", DEFAULT_KAFKA_BOOTSTRAP);
+        String registryUrl = System.getenv().getOrDefault("REGISTRY_URL", SerdeSettings.DEFAULT_REGISTRY_URL);
+        String topic = System.getenv().getOrDefault("TOPIC_NAME", "serde-benchmark-" + SerdeSettings.SERDE_LINE);
+        int messageCount = Integer.parseInt(System.getenv().getOrDefault("MESSAGE_COUNT",
+            String.valueOf(DEFAULT_MESSAGE_COUNT)));
+        int warmupCount = Integer.parseInt(System.getenv().getOrDefault("WARMUP_COUNT",
+            String.valueOf(DEFAULT_WARMUP_COUNT)));
+        double targetRate = Double.parseDouble(System.getenv().getOrDefault("TARGET_RATE",
+            String.valueOf(DEFAULT_TARGET_RATE)));
+        int payloadSize = Integer.parseInt(System.getenv().getOrDefault("PAYLOAD_SIZE",
+            String.valueOf(DEFAULT_PAYLOAD_SIZE)));
+        Path resultsDir = Path.of(System.getenv().getOrDefault("RESULTS_DIR", DEFAULT_RESULTS_DIR));
+
+        if (warmupCount >= messageCount) {
+            System.err.println("❌ WARMUP_COUNT (" + warmupCount + ") must be lower than MESSAGE_COUNT ("
+                + messageCount + ")");
+            System.exit(1);
+        }
+
+        // The shaded jar's manifest carries the SerDes release, e.g. 2.6.13.Final
+        String release = SerdeBenchmarkApp.class.getPackage().getImplementationVersion();
+        String serdeVersion = release != null ? release : SerdeSettings.SERDE_LINE;
+        String prefix = "serde-" + serdeVersion;
+
+        System.out.println("=========================================");
+        System.out.println("  Kafka SerDes Benchmark " + SerdeSettings.SERDE_LINE + " (Apicurio " + serdeVersion + ")");
+        System.out.println("=========================================");
+        System.out.println("Kafka Bootstrap: " + kafkaBootstrap);
+        System.out.println("Registry URL: " + registryUrl);
+        System.out.println("Topic: " + topic);
+        System.out.println("Messages: " + messageCount + " (" + warmupCount + " warm-up)");
+        System.out.println("Target Rate: " + (targetRate > 0 ? String.format("%.0f msg/s", targetRate) : "unbounded"));
+        System.out.println("Payload Size: " + payloadSize + " characters");
+        System.out.println("Results: " + resultsDir.toAbsolutePath().resolve(prefix + "-*"));
+        System.out.println("=========================================");
+        System.out.println();
+
+        Files.createDirectories(resultsDir);
+        long startMillis = System.currentTimeMillis();
+        boolean complete;
+        try (LatencyLog serialize = new LatencyLog("serialize", resultsDir.resolve(prefix + "-serialize"), startMillis);
+             LatencyLog deserialize = new LatencyLog("deserialize", resultsDir.resolve(prefix + "-deserialize"),
+                 startMillis);
+             LatencyLog endToEnd = new LatencyLog("end-to-end", resultsDir.resolve(prefix + "-end-to-end"),
+                 startMillis)) {
+            SerdeBenchmarkApp benchmark = new SerdeBenchmarkApp(kafkaBootstrap, registryUrl, topic, messageCount,
+                warmupCount, targetRate, payloadSize, serialize, deserialize, endToEnd);
+            complete = benchmark.run(resultsDir.resolve(prefix + "-summary.txt"), serdeVersion);
+        } catch (Exception e) {
+            System.err.println("❌ Benchmark failed: " + e.getMessage());
+            e.printStackTrace();
+            System.exit(1);
+            return;
+        }
+        System.exit(complete ? 0 : 1);
+    }
+
+    /**
+     * Runs the benchmark, prints the results and writes the summary file.
+     *
+     * @return whether every message was received without errors
+     */
+    boolean run(Path summaryFile, String serdeVersion) throws Exception {
+        Thread consumerThread = new Thread(this::consume, "serde-benchmark-consumer");
+        ScheduledExecutorService reporter = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "serde-benchmark-reporter");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try (Producer<String, byte[]> producer = createProducer()) {
+            // Creates the topic if needed, so the consumer has partitions to be assigned
+            System.out.println("Topic " + topic + " has " + producer.partitionsFor(topic).size() + " partition(s)");
+
+            consumerThread.start();
+            consumerReady.await();
+            if (consumerDone.getCount() == 0) {
+                throw new IllegalStateException("The consumer stopped: " + firstError.get());
+            }
+            System.out.println("Consumer assigned, sending " + messageCount + " messages...");
+            System.out.println();
+
+            reporter.scheduleAtFixedRate(this::report, REPORT_INTERVAL_SECONDS, REPORT_INTERVAL_SECONDS,
+                TimeUnit.SECONDS);
+            produce(producer);
+            producer.flush();
+        }
+
+        if (!consumerDone.await(DRAIN_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+            System.out.println("⏱️  Timeout waiting for the last messages, stopping...");
+        }
+        stopped = true;
+        consumerThread.join();
+        reporter.shutdownNow();
+        report();
+
+        Map<String, String> summary = summarize(serdeVersion);
+        System.out.println();
+        System.out.println("=========================================");
+        System.out.println(serializeLatencies.summary());
+        System.out.println(deserializeLatencies.summary());
+        System.out.println(endToEndLatencies.summary());
+        System.out.println(String.format("Send rate: %s msg/s, receive rate: %s msg/s", summary.get("send.rate"),
+            summary.get("receive.rate")));
+        System.out.println(String.format("CPU: %s µs per message (%s cores busy), GC: %s ms",
+            summary.get("cpu.micros.per.message"), summary.get("cpu.cores"), summary.get("gc.millis")));
+        System.out.println("=========================================");
+
+        try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(summaryFile, StandardCharsets.UTF_8))) {
+            summary.forEach((key, value) -> out.println(key + "=" + value));
+        }
+        System.out.println("Summary written to: " + summaryFile);
+
+        long missing = messageCount - received.get();
+        if (errors.sum() > 0 || missing > 0) {
+            System.err.println("❌ " + errors.sum() + " errors, " + missing + " messages not received"
+                + (firstError.get() != null ? ", first error: " + firstError.get() : ""));
+            return false;
+        }
+        System.out.println("✅ Received all " + messageCount + " messages");
+        return true;
+    }
+
+    /**
+     * Sends the messages at the target rate, recording the serialize latency of measured ones.
+     */
+    private void produce(Producer<String, byte[]> producer) {
+        Serializer<GreetingMessage> serializer = SerdeSettings.createSerializer(registryUrl);
+        double intervalNanos = targetRate > 0 ? TimeUnit.SECONDS.toNanos(1) / targetRate : 0;
+        long startNanos = System.nanoTime();
+        long startMillis = System.currentTimeMillis();
+
+        try {
+            for (int i = 1; i <= messageCount && !stopped; i++) {
+                long due = startNanos + (long) ((i - 1) * intervalNanos);
+                long now = System.nanoTime();
+                if (intervalNanos > 0 && due > now) {
+                    LockSupport.parkNanos(due - now);
+                    now = System.nanoTime();
+                }
+                if (i == warmupCount + 1) {
+                    measureStartNanos = now;
+                    cpuStartNanos = processCpuNanos();
+                    gcStartMillis = gcTotalMillis();
+                }
+
+                // The timestamp is when the message was due, or now if it is early
+                long timestamp = intervalNanos > 0
+                    ? startMillis + TimeUnit.NANOSECONDS.toMillis(Math.min(due, now) - startNanos)
+                    : System.currentTimeMillis();
+                GreetingMessage message = new GreetingMessage(text(i), timestamp);
+                RecordHeaders headers = new RecordHeaders();
+
+                byte[] value;
+                long serializeStart = System.nanoTime();
+                try {
+                    value = serializer.serialize(topic, headers, message);
+                } catch (RuntimeException e) {
+                    fail(e);
+                    continue;
+                }
+                if (i > warmupCount) {
+                    serializeLatencies.record((System.nanoTime() - serializeStart) / 1000);
+                }
+
+                producer.send(new ProducerRecord<>(topic, null, "key-" + i, value, headers), (metadata, exception) -> {
+                    if (exception != null) {
+                        fail(exception);
+                    }
+                });
+                sent.incrementAndGet();
+            }
+        } finally {
+            sendEndNanos = System.nanoTime();
+            producing = false;
+            serializer.close();
+        }
+    }
+
+    /**
+     * Receives and deserializes messages until all were received or the run is stopped.
+     */
+    private void consume() {
+        try (KafkaConsumer<String, byte[]> consumer = createConsumer();
+             Deserializer<GreetingMessage> deserializer = SerdeSettings.createDeserializer(registryUrl)) {
+            consumer.subscribe(Collections.singletonList(topic));
+            long deadline = System.currentTimeMillis() + ASSIGNMENT_TIMEOUT_MILLIS;
+            while (consumer.assignment().isEmpty() && System.currentTimeMillis() < deadline) {
+                consumer.poll(Duration.ofMillis(100));
+            }
+            if (consumer.assignment().isEmpty()) {
+                throw new IllegalStateException("The consumer was not assigned the partitions of " + topic);
+            }
+            // Resolves the latest offsets before anything is sent
+            consumer.assignment().forEach(consumer::position);
+            consumerReady.countDown();
+
+            while (!stopped && (producing || received.get() < sent.get())) {
+                ConsumerRecords<String, byte[]> records = consumer.poll(Duration.ofMillis(100));
+                for (ConsumerRecord<String, byte[]> record : records) {
+                    long deserializeStart = System.nanoTime();
+                    GreetingMessage message;
+                    try {
+                        message = deserializer.deserialize(record.topic(), record.headers(), record.value());
+                    } catch (RuntimeException e) {
+                        fail(e);
+                        received.incrementAndGet();
+                        continue;
+                    }
+                    long deserializeEnd = System.nanoTime();
+                    long endToEndMillis = System.currentTimeMillis() - message.getTimestamp();
+
+                    long count = received.incrementAndGet();
+                    if (count > warmupCount) {
+                        deserializeLatencies.record((deserializeEnd - deserializeStart) / 1000);
+                        endToEndLatencies.record(TimeUnit.MILLISECONDS.toMicros(endToEndMillis));
+                    } else if (count == warmupCount) {
+                        firstMeasuredReceiveNanos = deserializeEnd;
+                    }
+                    lastReceiveNanos = deserializeEnd;
+                }
+            }
+            if (measureStartNanos != 0) {
+                cpuNanos = processCpuNanos() - cpuStartNanos;
+                gcMillis = gcTotalMillis() - gcStartMillis;
+            }
+        } catch (Exception e) {
+            fail(e);
+        } finally {
+            consumerReady.countDown();
+            consumerDone.countDown();
+        }
+    }
+
+    private void report() {
+        serializeLatencies.rotate();
+        deserializeLatencies.rotate();
+        endToEndLatencies.rotate();
+        System.out.println(String.format("  %d sent, %d received, end-to-end p99 %d ms, %d errors", sent.get(),
+            received.get(), endToEndLatencies.percentile(99) / 1000, errors.sum()));
+    }
+
+    private Map<String, String> summarize(String serdeVersion) {
+        long measured = Math.max(received.get() - warmupCount, 0);
+        double sendSeconds = Math.max(sendEndNanos - measureStartNanos, 1) / 1_000_000_000.0;
+        long receiveStartNanos = firstMeasuredReceiveNanos != 0 ? firstMeasuredReceiveNanos : measureStartNanos;
+        double receiveSeconds = Math.max(lastReceiveNanos - receiveStartNanos, 1) / 1_000_000_000.0;
+        double windowSeconds = Math.max(lastReceiveNanos - measureStartNanos, 1) / 1_000_000_000.0;
+
+        Map<String, String> summary = new LinkedHashMap<>();
+        summary.put("serde.line", SerdeSettings.SERDE_LINE);
+        summary.put("serde.version", serdeVersion);
+        summary.put("messages", String.valueOf(messageCount));
+        summary.put("warmup", String.valueOf(warmupCount));
+        summary.put("target.rate", String.format("%.0f", targetRate));
+        summary.put("payload.size", String.valueOf(payloadSize));
+        summary.put("received", String.valueOf(received.get()));
+        summary.put("errors", String.valueOf(errors.sum()));
+        summary.put("send.rate", String.format("%.0f", (messageCount - warmupCount) / sendSeconds));
+        summary.put("receive.rate", String.format("%.0f", measured / receiveSeconds));
+        summary.put("cpu.micros.per.message", measured > 0
+            ? String.format("%.2f", cpuNanos / 1000.0 / measured) : "n/a");
+        summary.put("cpu.cores", String.format("%.2f", cpuNanos / 1_000_000_000.0 / windowSeconds));
+        summary.put("gc.millis", String.valueOf(gcMillis));
+        for (LatencyLog latencies : new LatencyLog[] {serializeLatencies, deserializeLatencies, endToEndLatencies}) {
+            for (String percentile : new String[] {"50", "90", "99", "99.9"}) {
+                summary.put(latencies.getName() + ".p" + percentile + ".micros",
+                    String.valueOf(latencies.percentile(Double.parseDouble(percentile))));
+            }
+        }
+        return summary;
+    }
+
+    private String text(int index) {
+        String text = "Hello from serde-benchmark! Message #" + index;
+        if (text.length() >= payloadSize) {
+            return text;
+        }
+        StringBuilder padded = new StringBuilder(payloadSize).append(text);
+        while (padded.length() < payloadSize) {
+            padded.append('.');
+        }
+        return padded.toString();
+    }
+
+    private void fail(Exception exception) {
+        if (firstError.compareAndSet(null, exception)) {
+            System.err.println("  ❌ " + exception.getMessage());
+        }
+        errors.increment();
+    }
+
+    private Producer<String, byte[]> createProducer() {
+        Properties props = new Properties();
+        props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaBootstrap);
+        props.put(ProducerConfig.CLIENT_ID_CONFIG, "serde-benchmark-producer-" + SerdeSettings.SERDE_LINE);
+        props.put(ProducerConfig.ACKS_CONFIG, "all");
+        props.put(ProducerConfig.LINGER_MS_CONFIG, "1");
+        props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class.getName());
+        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class.getName());
+        return new KafkaProducer<>(props);
+    }
+
+    private KafkaConsumer<String, byte[]> createConsumer() {
+        Properties props = new Properties();
+        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaBootstrap);
+        // A new group per run, starting at the end of the topic, so earlier runs are not replayed
+        props.put(ConsumerConfig.GROUP_ID_CONFIG, "serde-benchmark-" + SerdeSettings.SERDE_LINE + "-"
+            + System.currentTimeMillis());
+        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "false");
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "latest");
+        props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class.getName());
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class.getName());
+        return new KafkaConsumer<>(props);
+    }
+
+    /**
+     * Returns the CPU time of the whole process: producer and consumer threads, the Kafka
+     * clients' I/O threads and the SerDes' registry client all work for the messages.
+     */
+    private static long processCpuNanos() {
+        OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+        if (os instanceof com.sun.management.OperatingSystemMXBean) {
+            return ((com.sun.management.OperatingSystemMXBean) os).getProcessCpuTime();
+        }
+        return 0;
+    }
+
+    private static long gcTotalMillis() {
+        long total = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            total += Math.max(gc.getCollectionTime(), 0);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,58 @@
+package io.apicurio.testing.kafka;
+
+import io.apicurio.registry.serde.SerdeConfig;
+import io.apicurio.registry.serde.avro.AvroKafkaDeserializer;
+import io.apicurio.registry.serde.avro.AvroKafkaSerdeConfig;
+import io.apicurio.registry.serde.avro.AvroKafkaSerializer;
+import io.apicurio.registry.serde.avro.ReflectAvroDatumProvider;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.Serializer;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The Apicurio Registry v2 Avro SerDes, configured as kafka-producer-v2 and
+ * kafka-consumer-v2 configure them. Compiled by the serde-v2 profile only.
+ */
+final class SerdeSettings {
+
+    static final String SERDE_LINE = "v2";
+    static final String DEFAULT_REGISTRY_URL = "http://localhost:18080/apis/registry/v2";
+
+    private SerdeSettings() {
+    }
+
+    /**
+     * Creates a value serializer that registers the GreetingMessage schema on first use.
+     *
+     * @param registryUrl Apicurio Registry URL
+     * @return configured serializer
+     */
+    static Serializer<GreetingMessage> createSerializer(String registryUrl) {
+        Map<String, Object> config = new HashMap<>();
+        config.put(SerdeConfig.REGISTRY_URL, registryUrl);
+        config.put(SerdeConfig.AUTO_REGISTER_ARTIFACT, Boolean.TRUE);
+        config.put(AvroKafkaSerdeConfig.AVRO_DATUM_PROVIDER, ReflectAvroDatumProvider.class.getName());
+
+        AvroKafkaSerializer<GreetingMessage> serializer = new AvroKafkaSerializer<>();
+        serializer.configure(config, false);
+        return serializer;
+    }
+
+    /**
+     * Creates a value deserializer that reads GreetingMessage through reflection.
+     *
+     * @param registryUrl Apicurio Registry URL
+     * @return configured deserializer
+     */
+    static Deserializer<GreetingMessage> createDeserializer(String registryUrl) {
+        Map<String, Object> config = new HashMap<>();
+        config.put(SerdeConfig.REGISTRY_URL, registryUrl);
+        config.put(AvroKafkaSerdeConfig.AVRO_DATUM_PROVIDER, ReflectAvroDatumProvider.class.getName());
+
+        AvroKafkaDeserializer<GreetingMessage> deserializer = new AvroKafkaDeserializer<>();
+        deserializer.configure(config, false);
+        return deserializer;
+    }
+}
@@ -0,0 +1,58 @@
+package io.apicurio.testing.kafka;
+
+import io.apicurio.registry.serde.avro.AvroKafkaDeserializer;
+import io.apicurio.registry.serde.avro.AvroKafkaSerializer;
+import io.apicurio.registry.serde.avro.AvroSerdeConfig;
+import io.apicurio.registry.serde.avro.ReflectAvroDatumProvider;
+import io.apicurio.registry.serde.config.SerdeConfig;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.Serializer;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The Apicurio Registry v3 Avro SerDes, configured as kafka-producer-v3 and
+ * kafka-consumer-v3 configure them. Compiled by the serde-v3 profile only.
+ */
+final class SerdeSettings {
+
+    static final String SERDE_LINE = "v3";
+    static final String DEFAULT_REGISTRY_URL = "http://localhost:18081/apis/registry/v3";
+
+    private SerdeSettings() {
+    }
+
+    /**
+     * Creates a value serializer that registers the GreetingMessage schema on first use.
+     *
+     * @param registryUrl Apicurio Registry URL
+     * @return configured serializer
+     */
+    static Serializer<GreetingMessage> createSerializer(String registryUrl) {
+        Map<String, Object> config = new HashMap<>();
+        config.put(SerdeConfig.REGISTRY_URL, registryUrl);
+        config.put(SerdeConfig.AUTO_REGISTER_ARTIFACT, Boolean.TRUE);
+        config.put(AvroSerdeConfig.AVRO_DATUM_PROVIDER, ReflectAvroDatumProvider.class.getName());
+
+        AvroKafkaSerializer<GreetingMessage> serializer = new AvroKafkaSerializer<>();
+        serializer.configure(config, false);
+        return serializer;
+    }
+
+    /**
+     * Creates a value deserializer that reads GreetingMessage through reflection.
+     *
+     * @param registryUrl Apicurio Registry URL
+     * @return configured deserializer
+     */
+    static Deserializer<GreetingMessage> createDeserializer(String registryUrl) {
+        Map<String, Object> config = new HashMap<>();
+        config.put(SerdeConfig.REGISTRY_URL, registryUrl);
+        config.put(AvroSerdeConfig.AVRO_DATUM_PROVIDER, ReflectAvroDatumProvider.class.getName());
+
+        AvroKafkaDeserializer<GreetingMessage> deserializer = new AvroKafkaDeserializer<>();
+        deserializer.configure(config, false);
+        return deserializer;
+    }
+}
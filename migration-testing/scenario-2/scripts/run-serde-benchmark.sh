@@ -0,0 +1,124 @@
+#!/bin/bash
+
+# Benchmark the Apicurio Registry v2 and v3 Avro SerDes
+#
+# This script:
+# 1. Deploys a single-node Kafka and in-memory v2 and v3 registries
+# 2. Builds the kafka-serde-benchmark jar once per SerDes line
+# 3. Runs both jars with the same load, one after the other
+# 4. Prints their summaries side by side
+#
+# The HdrHistogram logs (.hlog), percentile distributions (.hgrm) and summaries are
+# written to data/serde-benchmark, named after the SerDes release, e.g.
+# serde-2.6.13.Final-end-to-end.hgrm. Runs of other releases can be kept next to them.
+#
+# Usage: ./run-serde-benchmark.sh [--keep-running]
+#
+# The load is set through the benchmark's environment variables, e.g.
+#   MESSAGE_COUNT=1000000 TARGET_RATE=50000 ./run-serde-benchmark.sh
+
+set -e
+
+SCRIPT_DIR="$(cd "$(dirname "${BASH_SOURCE[0]}")" && pwd)"
+PROJECT_DIR="$(dirname "$SCRIPT_DIR")"
+LOG_DIR="$PROJECT_DIR/logs"
+DATA_DIR="$PROJECT_DIR/data"
+BENCHMARK_DIR="$PROJECT_DIR/clients/kafka-serde-benchmark"
+COMPOSE_FILE="$PROJECT_DIR/docker-compose-serde-benchmark.yml"
+
+mkdir -p "$LOG_DIR"
+mkdir -p "$DATA_DIR/serde-benchmark"
+
+LOG_FILE="$LOG_DIR/run-serde-benchmark.log"
+
+# Function to log messages
+log() {
+    echo "$1" | tee -a "$LOG_FILE"
+}
+
+KEEP_RUNNING=false
+while [[ $# -gt 0 ]]; do
+    case $1 in
+        --keep-running)
+            KEEP_RUNNING=true
+            shift
+            ;;
+        -h|--help)
+            echo "Usage: $0 [--keep-running]"
+            echo ""
+            echo "Options:"
+            echo "  --keep-running   Leave Kafka and the registries running afterwards"
+            exit 0
+            ;;
+        *)
+            echo "Unknown option: $1"
+            exit 1
+            ;;
+    esac
+done
+
+log "================================================================"
+log "  SerDes Benchmark: Apicurio Registry v2 vs v3"
+log "================================================================"
+log ""
+
+# Deploy infrastructure
+log "[1/4] Deploying Kafka and in-memory registries..."
+docker compose -f "$COMPOSE_FILE" up -d 2>&1 | tee -a "$LOG_FILE"
+"$SCRIPT_DIR/wait-for-health.sh" http://localhost:18080/health/live 120 2>&1 | tee -a "$LOG_FILE"
+"$SCRIPT_DIR/wait-for-health.sh" http://localhost:18081/health/live 240 2>&1 | tee -a "$LOG_FILE"
+until docker exec scenario2-bench-kafka /opt/kafka/bin/kafka-broker-api-versions.sh \
+        --bootstrap-server localhost:19092 > /dev/null 2>&1; do
+    sleep 2
+done
+log "  ✓ Kafka and registries are running"
+log ""
+
+# Build one jar per SerDes line
+log "[2/4] Building the benchmark..."
+for line in v2 v3; do
+    if (cd "$BENCHMARK_DIR" && mvn -B -q clean package -Pserde-$line) >> "$LOG_FILE" 2>&1; then
+        log "  ✓ Built kafka-serde-benchmark-$line.jar"
+    else
+        log "❌ Failed to build the $line benchmark, see $LOG_FILE"
+        exit 1
+    fi
+done
+log ""
+
+# Run both lines with the same load
+log "[3/4] Running the benchmark..."
+export RESULTS_DIR="$DATA_DIR/serde-benchmark"
+FAILED=false
+for line in v2 v3; do
+    log ""
+    log "--- SerDes $line ---"
+    if ! java -jar "$BENCHMARK_DIR/target/$line/kafka-serde-benchmark-$line.jar" 2>&1 | tee -a "$LOG_FILE"; then
+        FAILED=true
+    fi
+done
+log ""
+
+# Compare
+log "[4/4] Results"
+V2_SUMMARY=$(ls -t "$RESULTS_DIR"/serde-2.*-summary.txt 2>/dev/null | head -1)
+V3_SUMMARY=$(ls -t "$RESULTS_DIR"/serde-3.*-summary.txt 2>/dev/null | head -1)
+if [ -n "$V2_SUMMARY" ] && [ -n "$V3_SUMMARY" ]; then
+    join -t= <(sort "$V2_SUMMARY") <(sort "$V3_SUMMARY") \
+        | awk -F= '{ printf "  %-32s %16s %16s\n", $1, $2, $3 }' | tee -a "$LOG_FILE"
+fi
+log ""
+log "HdrHistogram files: $RESULTS_DIR"
+log "  Plot the .hgrm files together at https://hdrhistogram.github.io/HdrHistogram/plotFiles.html"
+log ""
+
+if [ "$KEEP_RUNNING" = false ]; then
+    docker compose -f "$COMPOSE_FILE" down -v 2>&1 | tee -a "$LOG_FILE"
+fi
+
+if [ "$FAILED" = true ]; then
+    log "❌ The benchmark did not receive every message, see $LOG_FILE"
+    exit 1
+fi
+log "✅ SerDes benchmark completed"
+log "Logs saved to: $LOG_FILE"
@@ -0,0 +1,75 @@
+#!/bin/bash
+
+# Microbenchmark the Apicurio Registry v2 and v3 Avro serialize/deserialize hot path
+#
+# This script:
+# 1. Builds the kafka-serde-benchmark JMH jar once per SerDes line
+# 2. Runs every variant of both with the GC profiler, against an in-process stub registry
+# 3. Prints ops/s and bytes allocated per message side by side
+#
+# No Kafka or registry is needed. Results (JMH JSON and a tab-separated summary) are
+# written to data/serde-benchmark, named after the SerDes release, e.g.
+# jmh-serde-3.1.2.json.
+
+set -e
+
+SCRIPT_DIR="$(cd "$(dirname "${BASH_SOURCE[0]}")" && pwd)"
+PROJECT_DIR="$(dirname "$SCRIPT_DIR")"
+LOG_DIR="$PROJECT_DIR/logs"
+DATA_DIR="$PROJECT_DIR/data"
+BENCHMARK_DIR="$PROJECT_DIR/clients/kafka-serde-benchmark"
+
+mkdir -p "$LOG_DIR"
+mkdir -p "$DATA_DIR/serde-benchmark"
+
+LOG_FILE="$LOG_DIR/run-serde-microbenchmarks.log"
+
+# Function to log messages
+log() {
+    echo "$1" | tee -a "$LOG_FILE"
+}
+
+log "================================================================"
+log "  SerDes Microbenchmarks: Apicurio Registry v2 vs v3"
+log "================================================================"
+log ""
+
+# Build one benchmarks.jar per SerDes line
+log "[1/3] Building the benchmarks..."
+for line in v2 v3; do
+    if (cd "$BENCHMARK_DIR" && mvn -B -q clean package -Pserde-$line,jmh) >> "$LOG_FILE" 2>&1; then
+        log "  ✓ Built target/$line/benchmarks.jar"
+    else
+        log "❌ Failed to build the $line benchmarks, see $LOG_FILE"
+        exit 1
+    fi
+done
+log ""
+
+# Run both lines
+log "[2/3] Running the benchmarks (about 5 minutes per line)..."
+export RESULTS_DIR="$DATA_DIR/serde-benchmark"
+for line in v2 v3; do
+    log ""
+    log "--- SerDes $line ---"
+    if ! java -cp "$BENCHMARK_DIR/target/$line/benchmarks.jar" io.apicurio.testing.kafka.AvroSerdeBenchmark \
+            2>&1 | tee -a "$LOG_FILE"; then
+        log "❌ The $line benchmarks failed, see $LOG_FILE"
+        exit 1
+    fi
+done
+log ""
+
+# Compare
+log "[3/3] Results"
+V2_RESULTS=$(ls -t "$RESULTS_DIR"/jmh-serde-2.*.txt 2>/dev/null | head -1)
+V3_RESULTS=$(ls -t "$RESULTS_DIR"/jmh-serde-3.*.txt 2>/dev/null | head -1)
+if [ -n "$V2_RESULTS" ] && [ -n "$V3_RESULTS" ]; then
+    log "$(printf '  %-40s %14s %14s %10s %10s' Benchmark 'v2 ops/s' 'v3 ops/s' 'v2 B/op' 'v3 B/op')"
+    join -t $'\t' <(sort "$V2_RESULTS") <(sort "$V3_RESULTS") \
+        | awk -F'\t' '{ printf "  %-40s %14s %14s %10s %10s\n", $1, $2, $4, $3, $5 }' | tee -a "$LOG_FILE"
+fi
+log ""
+log "✅ SerDes microbenchmarks completed"
+log "Results: $RESULTS_DIR"
+log "Logs saved to: $LOG_FILE"
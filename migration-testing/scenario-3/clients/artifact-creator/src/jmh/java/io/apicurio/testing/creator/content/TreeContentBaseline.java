@@ -0,0 +1,512 @@
+package io.apicurio.testing.creator.content;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.List;
+
+/**
+ * The tree-based content generation the generators used before the streaming
+ * writers in this package, kept verbatim as the benchmark baseline and as the
+ * reference output the streaming writers must reproduce byte for byte.
+ */
+final class TreeContentBaseline {
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    private TreeContentBaseline() {
+    }
+
+    /**
+     * Creates a base Avro schema with specified fields.
+     *
+     * @param recordName name of the Avro record
+     * @param fieldNames list of field names to include
+     * @param doc documentation text sized by the scale profile (omitted when empty)
+     * @return JSON string of the Avro schema
+     */
+    static String createBaseAvroSchema(String recordName, List<String> fieldNames, String doc) throws Exception {
+        ObjectNode schema = mapper.createObjectNode();
+        schema.put("type", "record");
+        schema.put("name", recordName);
+        schema.put("namespace", "io.apicurio.testing");
+        if (!doc.isEmpty()) {
+            schema.put("doc", doc);
+        }
+
+        ArrayNode fields = schema.putArray("fields");
+        for (String fieldName : fieldNames) {
+            ObjectNode field = fields.addObject();
+            field.put("name", fieldName);
+            field.put("type", "string");
+        }
+
+        return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(schema);
+    }
+
+    /**
+     * Creates a versioned Avro schema with backward/forward compatible changes.
+     *
+     * @param recordName name of the Avro record
+     * @param version version number
+     * @param doc documentation text sized by the scale profile (omitted when empty)
+     * @return JSON string of the Avro schema
+     */
+    static String createVersionedAvroSchema(String recordName, int version, String doc) throws Exception {
+        ObjectNode schema = mapper.createObjectNode();
+        schema.put("type", "record");
+        schema.put("name", recordName);
+        schema.put("namespace", "io.apicurio.testing");
+        if (!doc.isEmpty()) {
+            schema.put("doc", doc);
+        }
+
+        ArrayNode fields = schema.putArray("fields");
+
+        // Base fields (always present)
+        ObjectNode idField = fields.addObject();
+        idField.put("name", "id");
+        idField.put("type", "string");
+
+        ObjectNode nameField = fields.addObject();
+        nameField.put("name", "name");
+        nameField.put("type", "string");
+
+        // Add new optional field for backward compatibility
+        if (version >= 2) {
+            ObjectNode emailField = fields.addObject();
+            emailField.put("name", "email");
+            ArrayNode emailType = emailField.putArray("type");
+            emailType.add("null");
+            emailType.add("string");
+            emailField.put("default", mapper.nullNode());
+        }
+
+        // Add another optional field
+        if (version >= 3) {
+            ObjectNode phoneField = fields.addObject();
+            phoneField.put("name", "phone");
+            ArrayNode phoneType = phoneField.putArray("type");
+            phoneType.add("null");
+            phoneType.add("string");
+            phoneField.put("default", mapper.nullNode());
+        }
+
+        // Add timestamp for versions 4+
+        if (version >= 4) {
+            ObjectNode timestampField = fields.addObject();
+            timestampField.put("name", "timestamp");
+            ArrayNode timestampType = timestampField.putArray("type");
+            timestampType.add("null");
+            timestampType.add("long");
+            timestampField.put("default", mapper.nullNode());
+        }
+
+        // Versions 5+ (large scale profiles) each add one more optional field
+        for (int ext = 5; ext <= version; ext++) {
+            ObjectNode extField = fields.addObject();
+            extField.put("name", "ext" + ext);
+            ArrayNode extType = extField.putArray("type");
+            extType.add("null");
+            extType.add("string");
+            extField.put("default", mapper.nullNode());
+        }
+
+        return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(schema);
+    }
+
+    /**
+     * Creates a base Protobuf schema.
+     *
+     * @param messageName name of the Protobuf message
+     * @param doc documentation text sized by the scale profile (omitted when empty)
+     * @return Protobuf schema string
+     */
+    static String createBaseProtobufSchema(String messageName, String doc) {
+        return docComment(doc) + String.format(
+            "syntax = \"proto3\";\n" +
+            "\n" +
+            "package io.apicurio.testing;\n" +
+            "\n" +
+            "message %s {\n" +
+            "  string id = 1;\n" +
+            "  string name = 2;\n" +
+            "}\n",
+            messageName
+        );
+    }
+
+    /**
+     * Creates a versioned Protobuf schema with additional fields.
+     *
+     * @param messageName name of the Protobuf message
+     * @param version version number
+     * @param doc documentation text sized by the scale profile (omitted when empty)
+     * @return Protobuf schema string
+     */
+    static String createVersionedProtobufSchema(String messageName, int version, String doc) {
+        StringBuilder schema = new StringBuilder();
+        schema.append(docComment(doc));
+        schema.append("syntax = \"proto3\";\n\n");
+        schema.append("package io.apicurio.testing;\n\n");
+        schema.append("message ").append(messageName).append(" {\n");
+        schema.append("  string id = 1;\n");
+        schema.append("  string name = 2;\n");
+
+        if (version >= 2) {
+            schema.append("  string email = 3;\n");
+        }
+
+        if (version >= 3) {
+            schema.append("  string phone = 4;\n");
+            schema.append("  int64 timestamp = 5;\n");
+        }
+
+        // Versions 4+ (large scale profiles) each add one more field
+        for (int ext = 4; ext <= version; ext++) {
+            schema.append("  string ext_").append(ext).append(" = ").append(ext + 2).append(";\n");
+        }
+
+        schema.append("}\n");
+        return schema.toString();
+    }
+
+    /**
+     * Renders documentation text as a leading comment line.
+     *
+     * @param doc documentation text (may be empty)
+     * @return comment line, or empty string when there is no documentation
+     */
+    private static String docComment(String doc) {
+        return doc.isEmpty() ? "" : "// " + doc + "\n";
+    }
+
+    /**
+     * Creates a base JSON Schema with all fields required.
+     * Later versions will relax these requirements (backward compatible).
+     *
+     * @param title schema title
+     * @param doc documentation text sized by the scale profile (omitted when empty)
+     * @return JSON Schema string
+     */
+    static String createBaseJsonSchema(String title, String doc) throws Exception {
+        ObjectNode schema = mapper.createObjectNode();
+        schema.put("$schema", "http://json-schema.org/draft-07/schema#");
+        schema.put("title", title);
+        schema.put("type", "object");
+        if (!doc.isEmpty()) {
+            schema.put("$comment", doc);
+        }
+
+        ObjectNode properties = schema.putObject("properties");
+
+        ObjectNode idProp = properties.putObject("id");
+        idProp.put("type", "string");
+        idProp.put("description", "Unique identifier");
+
+        ObjectNode nameProp = properties.putObject("name");
+        nameProp.put("type", "string");
+        nameProp.put("description", "Name of the entity");
+
+        ObjectNode emailProp = properties.putObject("email");
+        emailProp.put("type", "string");
+        emailProp.put("format", "email");
+        emailProp.put("description", "Email address");
+
+        ObjectNode statusProp = properties.putObject("status");
+        statusProp.put("type", "string");
+        statusProp.put("description", "Status of the entity");
+
+        ArrayNode required = schema.putArray("required");
+        required.add("id");
+        required.add("name");
+        required.add("email");
+        required.add("status");
+
+        return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(schema);
+    }
+
+    /**
+     * Creates a versioned JSON Schema with backward-compatible changes.
+     * Instead of adding new properties (which the registry considers narrowing),
+     * we make backward-compatible changes by relaxing constraints.
+     *
+     * @param title schema title
+     * @param version version number
+     * @param doc documentation text sized by the scale profile (omitted when empty)
+     * @return JSON Schema string
+     */
+    static String createVersionedJsonSchema(String title, int version, String doc) throws Exception {
+        ObjectNode schema = mapper.createObjectNode();
+        schema.put("$schema", "http://json-schema.org/draft-07/schema#");
+        schema.put("title", title);
+        schema.put("type", "object");
+        if (!doc.isEmpty()) {
+            schema.put("$comment", doc);
+        }
+        // Versions 4+ (large scale profiles) have no constraints left to relax,
+        // so they are distinguished by a description change only
+        if (version >= 4) {
+            schema.put("description", "Revision " + version);
+        }
+
+        ObjectNode properties = schema.putObject("properties");
+
+        ObjectNode idProp = properties.putObject("id");
+        idProp.put("type", "string");
+        idProp.put("description", "Unique identifier");
+
+        ObjectNode nameProp = properties.putObject("name");
+        nameProp.put("type", "string");
+        nameProp.put("description", "Name of the entity");
+
+        ObjectNode emailProp = properties.putObject("email");
+        emailProp.put("type", "string");
+        emailProp.put("format", "email");
+        emailProp.put("description", "Email address");
+
+        ObjectNode statusProp = properties.putObject("status");
+        statusProp.put("type", "string");
+        statusProp.put("description", "Status of the entity");
+
+        // Version 1: All fields required
+        // Version 2+: Make some fields optional (backward compatible)
+        ArrayNode required = schema.putArray("required");
+        required.add("id");
+        if (version < 2) {
+            required.add("name");
+            required.add("email");
+            required.add("status");
+        } else if (version < 3) {
+            required.add("name");
+            // email and status become optional in v2 (backward compatible)
+        } else {
+            // only id required in v3+ (backward compatible)
+        }
+
+        return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(schema);
+    }
+
+    /**
+     * Creates a base OpenAPI 3.0 specification.
+     *
+     * @param title API title
+     * @param version API version
+     * @param doc documentation text sized by the scale profile (appended to the description)
+     * @return OpenAPI specification as JSON string
+     */
+    static String createBaseOpenApiSpec(String title, String version, String doc) throws Exception {
+        ObjectNode spec = mapper.createObjectNode();
+        spec.put("openapi", "3.0.0");
+
+        ObjectNode info = spec.putObject("info");
+        info.put("title", title);
+        info.put("version", version);
+        info.put("description", describe("Test REST API specification", doc));
+
+        ObjectNode paths = spec.putObject("paths");
+
+        // GET /items
+        ObjectNode getItems = paths.putObject("/items").putObject("get");
+        getItems.put("summary", "List all items");
+        getItems.put("operationId", "listItems");
+
+        ObjectNode getResponses = getItems.putObject("responses");
+        ObjectNode get200 = getResponses.putObject("200");
+        get200.put("description", "Successful response");
+
+        // POST /items
+        ObjectNode postItems = paths.putObject("/items").putObject("post");
+        postItems.put("summary", "Create an item");
+        postItems.put("operationId", "createItem");
+
+        ObjectNode postResponses = postItems.putObject("responses");
+        ObjectNode post201 = postResponses.putObject("201");
+        post201.put("description", "Item created");
+
+        return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(spec);
+    }
+
+    /**
+     * Creates a versioned OpenAPI specification with additional endpoints.
+     *
+     * @param title API title
+     * @param version API version
+     * @param doc documentation text sized by the scale profile (appended to the description)
+     * @return OpenAPI specification as JSON string
+     */
+    static String createVersionedOpenApiSpec(String title, String version, String doc) throws Exception {
+        ObjectNode spec = mapper.createObjectNode();
+        spec.put("openapi", "3.0.0");
+
+        ObjectNode info = spec.putObject("info");
+        info.put("title", title);
+        info.put("version", version);
+        info.put("description", describe("Test REST API specification - Updated", doc));
+
+        ObjectNode paths = spec.putObject("paths");
+
+        // GET /items
+        ObjectNode itemsPath = paths.putObject("/items");
+        ObjectNode getItems = itemsPath.putObject("get");
+        getItems.put("summary", "List all items");
+        getItems.put("operationId", "listItems");
+        ObjectNode getResponses = getItems.putObject("responses");
+        getResponses.putObject("200").put("description", "Successful response");
+
+        // POST /items
+        ObjectNode postItems = itemsPath.putObject("post");
+        postItems.put("summary", "Create an item");
+        postItems.put("operationId", "createItem");
+        ObjectNode postResponses = postItems.putObject("responses");
+        postResponses.putObject("201").put("description", "Item created");
+
+        // GET /items/{id} - New in v2
+        ObjectNode itemIdPath = paths.putObject("/items/{id}");
+        ObjectNode getItem = itemIdPath.putObject("get");
+        getItem.put("summary", "Get item by ID");
+        getItem.put("operationId", "getItem");
+
+        ArrayNode parameters = getItem.putArray("parameters");
+        ObjectNode idParam = parameters.addObject();
+        idParam.put("name", "id");
+        idParam.put("in", "path");
+        idParam.put("required", true);
+        ObjectNode idSchema = idParam.putObject("schema");
+        idSchema.put("type", "string");
+
+        ObjectNode getItemResponses = getItem.putObject("responses");
+        getItemResponses.putObject("200").put("description", "Item found");
+        getItemResponses.putObject("404").put("description", "Item not found");
+
+        // DELETE /items/{id} - New in v2
+        ObjectNode deleteItem = itemIdPath.putObject("delete");
+        deleteItem.put("summary", "Delete item by ID");
+        deleteItem.put("operationId", "deleteItem");
+        ObjectNode deleteParams = deleteItem.putArray("parameters").addObject();
+        deleteParams.put("name", "id");
+        deleteParams.put("in", "path");
+        deleteParams.put("required", true);
+        deleteParams.putObject("schema").put("type", "string");
+
+        ObjectNode deleteResponses = deleteItem.putObject("responses");
+        deleteResponses.putObject("204").put("description", "Item deleted");
+        deleteResponses.putObject("404").put("description", "Item not found");
+
+        return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(spec);
+    }
+
+    /**
+     * Appends scale-profile documentation text to a description.
+     *
+     * @param description the base description
+     * @param doc documentation text (may be empty)
+     * @return the combined description
+     */
+    private static String describe(String description, String doc) {
+        return doc.isEmpty() ? description : description + ". " + doc;
+    }
+
+    /**
+     * Creates a base AsyncAPI 2.0 specification.
+     *
+     * @param title API title
+     * @param version API version
+     * @param doc documentation text sized by the scale profile (appended to the description)
+     * @return AsyncAPI specification as JSON string
+     */
+    static String createBaseAsyncApiSpec(String title, String version, String doc) throws Exception {
+        ObjectNode spec = mapper.createObjectNode();
+        spec.put("asyncapi", "2.0.0");
+
+        ObjectNode info = spec.putObject("info");
+        info.put("title", title);
+        info.put("version", version);
+        info.put("description", describe("Test event-driven API specification", doc));
+
+        ObjectNode channels = spec.putObject("channels");
+
+        // user/created channel
+        ObjectNode userCreatedChannel = channels.putObject("user/created");
+        ObjectNode subscribe = userCreatedChannel.putObject("subscribe");
+        subscribe.put("summary", "Subscribe to user creation events");
+
+        ObjectNode message = subscribe.putObject("message");
+        message.put("name", "UserCreated");
+        message.put("title", "User Created Event");
+
+        ObjectNode payload = message.putObject("payload");
+        payload.put("type", "object");
+
+        ObjectNode properties = payload.putObject("properties");
+        properties.putObject("userId").put("type", "string");
+        properties.putObject("username").put("type", "string");
+        properties.putObject("email").put("type", "string");
+
+        return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(spec);
+    }
+
+    /**
+     * Creates a versioned AsyncAPI specification with additional channels.
+     *
+     * @param title API title
+     * @param version API version
+     * @param doc documentation text sized by the scale profile (appended to the description)
+     * @return AsyncAPI specification as JSON string
+     */
+    static String createVersionedAsyncApiSpec(String title, String version, String doc) throws Exception {
+        ObjectNode spec = mapper.createObjectNode();
+        spec.put("asyncapi", "2.0.0");
+
+        ObjectNode info = spec.putObject("info");
+        info.put("title", title);
+        info.put("version", version);
+        info.put("description", describe("Test event-driven API specification - Updated", doc));
+
+        ObjectNode channels = spec.putObject("channels");
+
+        // user/created channel
+        ObjectNode userCreatedChannel = channels.putObject("user/created");
+        ObjectNode subscribe1 = userCreatedChannel.putObject("subscribe");
+        subscribe1.put("summary", "Subscribe to user creation events");
+        ObjectNode message1 = subscribe1.putObject("message");
+        message1.put("name", "UserCreated");
+        message1.put("title", "User Created Event");
+        ObjectNode payload1 = message1.putObject("payload");
+        payload1.put("type", "object");
+        ObjectNode properties1 = payload1.putObject("properties");
+        properties1.putObject("userId").put("type", "string");
+        properties1.putObject("username").put("type", "string");
+        properties1.putObject("email").put("type", "string");
+
+        // user/updated channel - New in v2
+        ObjectNode userUpdatedChannel = channels.putObject("user/updated");
+        ObjectNode subscribe2 = userUpdatedChannel.putObject("subscribe");
+        subscribe2.put("summary", "Subscribe to user update events");
+        ObjectNode message2 = subscribe2.putObject("message");
+        message2.put("name", "UserUpdated");
+        message2.put("title", "User Updated Event");
+        ObjectNode payload2 = message2.putObject("payload");
+        payload2.put("type", "object");
+        ObjectNode properties2 = payload2.putObject("properties");
+        properties2.putObject("userId").put("type", "string");
+        properties2.putObject("changes").put("type", "object");
+        properties2.putObject("timestamp").put("type", "string").put("format", "date-time");
+
+        // user/deleted channel - New in v2
+        ObjectNode userDeletedChannel = channels.putObject("user/deleted");
+        ObjectNode subscribe3 = userDeletedChannel.putObject("subscribe");
+        subscribe3.put("summary", "Subscribe to user deletion events");
+        ObjectNode message3 = subscribe3.putObject("message");
+        message3.put("name", "UserDeleted");
+        message3.put("title", "User Deleted Event");
+        ObjectNode payload3 = message3.putObject("payload");
+        payload3.put("type", "object");
+        ObjectNode properties3 = payload3.putObject("properties");
+        properties3.putObject("userId").put("type", "string");
+        properties3.putObject("timestamp").put("type", "string").put("format", "date-time");
+
+        return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(spec);
+    }
+}
@@ -0,0 +1,36 @@
+package io.apicurio.testing.creator.model;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The recording part of {@link CreationSummary} as it was before its counters became
+ * striped adders: single atomics every worker increments, and a per-type count every
+ * worker merges into the same map entry. Kept as the benchmark baseline.
+ */
+final class AtomicSummaryBaseline {
+
+    private final AtomicInteger totalArtifacts = new AtomicInteger();
+    private final AtomicInteger totalVersions = new AtomicInteger();
+    private final AtomicLong roundTrips = new AtomicLong();
+    private final AtomicLong pipelinedRoundTrips = new AtomicLong();
+
+    private final Map<String, Integer> artifactsByType = new ConcurrentHashMap<>();
+    private final Map<String, Integer> versionsByArtifact = new ConcurrentHashMap<>();
+
+    void recordArtifact(String artifactType, String artifactId, int versionCount) {
+        totalArtifacts.incrementAndGet();
+        totalVersions.addAndGet(versionCount);
+        artifactsByType.merge(artifactType, 1, Integer::sum);
+        versionsByArtifact.put(artifactId, versionCount);
+    }
+
+    void recordRoundTrip(boolean pipelined) {
+        roundTrips.incrementAndGet();
+        if (pipelined) {
+            pipelinedRoundTrips.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package io.apicurio.testing.creator.content;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+
+/**
+ * Streams Avro record schemas into a {@link ContentBuffer}.
+ *
+ * Version 1 contains the required {@code id} and {@code name} fields; each later
+ * version adds an optional (nullable, default null) field so that consecutive
+ * versions are backward and forward compatible.
+ */
+public final class AvroContentWriter {
+
+    private AvroContentWriter() {
+    }
+
+    /**
+     * Writes the schema for a given version of an Avro record.
+     *
+     * @param out buffer to write into
+     * @param recordName name of the Avro record
+     * @param version version number (1 is the base schema)
+     * @param doc documentation text sized by the scale profile (omitted when empty)
+     */
+    public static void write(ContentBuffer out, String recordName, int version, String doc) throws IOException {
+        try (JsonGenerator gen = JsonContentSupport.open(out)) {
+            gen.writeStartObject();
+            gen.writeStringField("type", "record");
+            gen.writeStringField("name", recordName);
+            gen.writeStringField("namespace", "io.apicurio.testing");
+            if (!doc.isEmpty()) {
+                gen.writeStringField("doc", doc);
+            }
+
+            gen.writeArrayFieldStart("fields");
+
+            // Base fields (always present)
+            requiredField(gen, "id");
+            requiredField(gen, "name");
+
+            // Add new optional field for backward compatibility
+            if (version >= 2) {
+                optionalField(gen, "email", "string");
+            }
+
+            // Add another optional field
+            if (version >= 3) {
+                optionalField(gen, "phone", "string");
+            }
+
+            // Add timestamp for versions 4+
+            if (version >= 4) {
+                optionalField(gen, "timestamp", "long");
+            }
+
+            // Versions 5+ (large scale profiles) each add one more optional field
+            for (int ext = 5; ext <= version; ext++) {
+                optionalField(gen, "ext" + ext, "string");
+            }
+
+            gen.writeEndArray();
+            gen.writeEndObject();
+        }
+    }
+
+    private static void requiredField(JsonGenerator gen, String name) throws IOException {
+        gen.writeStartObject();
+        gen.writeStringField("name", name);
+        gen.writeStringField("type", "string");
+        gen.writeEndObject();
+    }
+
+    private static void optionalField(JsonGenerator gen, String name, String type) throws IOException {
+        gen.writeStartObject();
+        gen.writeStringField("name", name);
+        gen.writeArrayFieldStart("type");
+        gen.writeString("null");
+        gen.writeString(type);
+        gen.writeEndArray();
+        gen.writeNullField("default");
+        gen.writeEndObject();
+    }
+}
@@ -0,0 +1,135 @@
+package io.apicurio.testing.creator.content;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * Reusable, unsynchronized byte buffer that generated schema content is written into.
+ *
+ * Unlike {@link java.io.ByteArrayOutputStream}, the buffer exposes its bytes as an
+ * {@link InputStream} without copying them, and a single instance per worker thread
+ * is reused for every version the thread generates. The stream returned by
+ * {@link #asInputStream()} is only valid until the buffer is reset, so it must be
+ * fully consumed first (the registry client reads request bodies synchronously).
+ */
+public final class ContentBuffer extends OutputStream {
+
+    private static final int DEFAULT_CAPACITY = 8 * 1024;
+
+    private static final ThreadLocal<ContentBuffer> PER_THREAD =
+        ThreadLocal.withInitial(() -> new ContentBuffer(DEFAULT_CAPACITY));
+
+    private byte[] buf;
+    private int count;
+
+    public ContentBuffer(int initialCapacity) {
+        this.buf = new byte[Math.max(16, initialCapacity)];
+    }
+
+    /**
+     * Returns the calling thread's buffer, emptied and ready for writing.
+     *
+     * @return the reset per-thread buffer
+     */
+    public static ContentBuffer forCurrentThread() {
+        ContentBuffer buffer = PER_THREAD.get();
+        buffer.reset();
+        return buffer;
+    }
+
+    @Override
+    public void write(int b) {
+        ensureCapacity(count + 1);
+        buf[count++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+        ensureCapacity(count + len);
+        System.arraycopy(b, off, buf, count, len);
+        count += len;
+    }
+
+    /**
+     * Appends a pre-encoded fragment.
+     *
+     * @param fragment the bytes to append
+     */
+    public void write(byte[] fragment) {
+        write(fragment, 0, fragment.length);
+    }
+
+    /**
+     * Appends an ASCII string without allocating an intermediate byte array.
+     * Characters outside US-ASCII are not supported.
+     *
+     * @param s the string to append
+     */
+    public void writeAscii(CharSequence s) {
+        int len = s.length();
+        ensureCapacity(count + len);
+        for (int i = 0; i < len; i++) {
+            buf[count++] = (byte) s.charAt(i);
+        }
+    }
+
+    /**
+     * Appends the decimal representation of a number.
+     *
+     * @param value the number to append
+     */
+    public void writeAscii(int value) {
+        if (value < 0) {
+            write('-');
+            value = -value;
+        }
+        int start = count;
+        do {
+            write('0' + value % 10);
+            value /= 10;
+        } while (value != 0);
+        // digits were written least significant first
+        for (int i = start, j = count - 1; i < j; i++, j--) {
+            byte t = buf[i];
+            buf[i] = buf[j];
+            buf[j] = t;
+        }
+    }
+
+    /**
+     * Empties the buffer, keeping the allocated capacity.
+     */
+    public void reset() {
+        count = 0;
+    }
+
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Returns a stream over the current contents without copying them.
+     *
+     * @return input stream view of the buffer
+     */
+    public InputStream asInputStream() {
+        return new ByteArrayInputStream(buf, 0, count);
+    }
+
+    /**
+     * Returns a copy of the current contents, for content that must outlive the buffer.
+     *
+     * @return the buffered bytes
+     */
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buf, count);
+    }
+
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity > buf.length) {
+            buf = Arrays.copyOf(buf, Math.max(buf.length << 1, minCapacity));
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package io.apicurio.testing.creator.content;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+
+/**
+ * Streams JSON Schema documents into a {@link ContentBuffer}.
+ *
+ * Version 1 requires all four properties. Later versions relax the {@code required}
+ * list, which the registry treats as backward compatible (adding properties would be
+ * considered narrowing).
+ */
+public final class JsonSchemaContentWriter {
+
+    private JsonSchemaContentWriter() {
+    }
+
+    /**
+     * Writes the schema for a given version.
+     *
+     * @param out buffer to write into
+     * @param title schema title
+     * @param version version number (1 is the base schema)
+     * @param doc documentation text sized by the scale profile (omitted when empty)
+     */
+    public static void write(ContentBuffer out, String title, int version, String doc) throws IOException {
+        try (JsonGenerator gen = JsonContentSupport.open(out)) {
+            gen.writeStartObject();
+            gen.writeStringField("$schema", "http://json-schema.org/draft-07/schema#");
+            gen.writeStringField("title", title);
+            gen.writeStringField("type", "object");
+            if (!doc.isEmpty()) {
+                gen.writeStringField("$comment", doc);
+            }
+            // Versions 4+ (large scale profiles) have no constraints left to relax,
+            // so they are distinguished by a description change only
+            if (version >= 4) {
+                gen.writeStringField("description", "Revision " + version);
+            }
+
+            gen.writeObjectFieldStart("properties");
+            property(gen, "id", null, "Unique identifier");
+            property(gen, "name", null, "Name of the entity");
+            property(gen, "email", "email", "Email address");
+            property(gen, "status", null, "Status of the entity");
+            gen.writeEndObject();
+
+            // Version 1: All fields required
+            // Version 2: email and status become optional (backward compatible)
+            // Version 3+: only id required (backward compatible)
+            gen.writeArrayFieldStart("required");
+            gen.writeString("id");
+            if (version < 3) {
+                gen.writeString("name");
+            }
+            if (version < 2) {
+                gen.writeString("email");
+                gen.writeString("status");
+            }
+            gen.writeEndArray();
+
+            gen.writeEndObject();
+        }
+    }
+
+    private static void property(JsonGenerator gen, String name, String format, String description) throws IOException {
+        gen.writeObjectFieldStart(name);
+        gen.writeStringField("type", "string");
+        if (format != null) {
+            gen.writeStringField("format", format);
+        }
+        gen.writeStringField("description", description);
+        gen.writeEndObject();
+    }
+}
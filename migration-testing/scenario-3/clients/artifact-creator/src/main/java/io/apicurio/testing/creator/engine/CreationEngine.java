@@ -0,0 +1,143 @@
+package io.apicurio.testing.creator.engine;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Bounded-concurrency engine for creating artifacts in parallel.
+ *
+ * Each submitted task represents one artifact and runs on a single worker thread,
+ * so all registry calls for that artifact (create, metadata, rules, versions) are
+ * issued in order. Different artifacts run concurrently on up to {@code workers}
+ * threads. Submission blocks once {@code workers * 2} tasks are in flight, which
+ * keeps memory bounded when generators produce many thousands of artifacts.
+ *
+ * With {@link ThreadMode#VIRTUAL} every task gets its own virtual thread instead
+ * of a pooled platform thread; {@code workers} then only bounds how many artifacts
+ * are in progress and can be set much higher.
+ *
+ * The first task failure is remembered and rethrown from {@link #awaitCompletion()};
+ * tasks that have not started yet are skipped once a failure has occurred.
+ */
+public class CreationEngine implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(CreationEngine.class);
+
+    private final int workers;
+    private final ThreadMode threadMode;
+    private final int maxInFlight;
+    private final ExecutorService executor;
+    private final Semaphore inFlight;
+    private final AtomicReference<Exception> failure = new AtomicReference<>();
+
+    /**
+     * Creates an engine with the given number of platform worker threads.
+     *
+     * @param workers number of artifacts created concurrently (minimum 1)
+     */
+    public CreationEngine(int workers) {
+        this(workers, ThreadMode.PLATFORM);
+    }
+
+    /**
+     * Creates an engine running artifact tasks on the given kind of threads.
+     *
+     * @param workers number of artifacts created concurrently (minimum 1)
+     * @param threadMode platform worker pool or virtual thread per artifact
+     */
+    public CreationEngine(int workers, ThreadMode threadMode) {
+        this.workers = Math.max(1, workers);
+        this.threadMode = threadMode;
+        // A virtual thread starts as soon as its task is submitted, so there is no queue to fill
+        this.maxInFlight = threadMode == ThreadMode.VIRTUAL ? this.workers : this.workers * 2;
+        ThreadFactory threadFactory = threadMode.threadFactory("creator-worker-");
+        this.executor = threadMode == ThreadMode.VIRTUAL
+            ? Executors.newThreadPerTaskExecutor(threadFactory)
+            : Executors.newFixedThreadPool(this.workers, threadFactory);
+        this.inFlight = new Semaphore(maxInFlight);
+    }
+
+    /**
+     * Submits the creation work for a single artifact.
+     * Blocks while the maximum number of in-flight artifacts is reached.
+     *
+     * @param artifactId the artifact identifier (used for error reporting)
+     * @param task the work to perform for the artifact
+     */
+    public void submit(String artifactId, ArtifactTask task) throws InterruptedException {
+        inFlight.acquire();
+        try {
+            executor.execute(() -> {
+                try {
+                    if (failure.get() == null) {
+                        task.run();
+                    }
+                } catch (Exception e) {
+                    if (failure.compareAndSet(null, new Exception(
+                            "Failed to create artifact " + artifactId + ": " + e.getMessage(), e))) {
+                        log.error("    ✗ Failed to create {}: {}", artifactId, e.getMessage());
+                    }
+                } finally {
+                    inFlight.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            inFlight.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Waits until every submitted artifact has been processed.
+     *
+     * @throws Exception the first failure raised by any artifact task
+     */
+    public void awaitCompletion() throws Exception {
+        inFlight.acquire(maxInFlight);
+        inFlight.release(maxInFlight);
+
+        Exception e = failure.get();
+        if (e != null) {
+            throw e;
+        }
+    }
+
+    public int getWorkers() {
+        return workers;
+    }
+
+    public ThreadMode getThreadMode() {
+        return threadMode;
+    }
+
+    /**
+     * Stops the worker threads.
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Unit of work for a single artifact.
+     */
+    @FunctionalInterface
+    public interface ArtifactTask {
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,35 @@
+package io.apicurio.testing.creator.engine;
+
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Kind of threads the {@link CreationEngine} runs artifact tasks on.
+ */
+public enum ThreadMode {
+
+    /**
+     * A fixed pool of {@code workers} platform threads.
+     */
+    PLATFORM,
+
+    /**
+     * One virtual thread per artifact task, with up to {@code workers} tasks in flight.
+     * Blocking registry calls park the virtual thread instead of holding an OS thread,
+     * so thousands of artifacts can wait on the registry at once; combine with a
+     * {@link RequestLimiter} to cap the requests actually sent.
+     */
+    VIRTUAL;
+
+    /**
+     * Creates the factory for worker threads named {@code <prefix>N}.
+     *
+     * @param prefix thread name prefix
+     * @return the thread factory
+     */
+    ThreadFactory threadFactory(String prefix) {
+        if (this == VIRTUAL) {
+            return Thread.ofVirtual().name(prefix, 1).factory();
+        }
+        return Thread.ofPlatform().name(prefix, 1).daemon(true).factory();
+    }
+}
@@ -1,42 +1,44 @@
 package io.apicurio.testing.creator.generators;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ArrayNode;
-import com.fasterxml.jackson.databind.node.ObjectNode;
-import io.apicurio.registry.rest.client.RegistryClient;
-import io.apicurio.registry.rest.v2.beans.ArtifactMetaData;
 import io.apicurio.registry.rest.v2.beans.EditableMetaData;
 import io.apicurio.registry.rest.v2.beans.Rule;
 import io.apicurio.registry.types.ArtifactType;
 import io.apicurio.registry.types.RuleType;
-import io.apicurio.testing.creator.model.CreationSummary;
+import io.apicurio.testing.creator.content.AvroContentWriter;
+import io.apicurio.testing.creator.content.ContentBuffer;
+import io.apicurio.testing.creator.engine.CreationEngine;
+import io.apicurio.testing.creator.model.ExpectationsWriter;
+import io.apicurio.testing.creator.pipeline.ArtifactSink;
+import io.apicurio.testing.creator.pipeline.WorkItem;
+import io.apicurio.testing.creator.scale.ScaleProfile;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.ByteArrayInputStream;
-import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 /**
  * Generates Avro schema artifacts for testing.
- * Creates 10 artifacts with 3-5 versions each, including backward and forward compatible changes.
+ * Artifact and version counts come from the {@link ScaleProfile}; the baseline profile
+ * creates 10 artifacts with 3-5 versions each, including backward and forward compatible changes.
  */
 public class AvroSchemaGenerator {
 
     private static final Logger log = LoggerFactory.getLogger(AvroSchemaGenerator.class);
-    private static final ObjectMapper mapper = new ObjectMapper();
 
-    private final RegistryClient client;
-    private final CreationSummary summary;
-
-    public AvroSchemaGenerator(RegistryClient client, CreationSummary summary) {
-        this.client = client;
-        this.summary = summary;
+    private final ArtifactSink sink;
+    private final CreationEngine engine;
+    private final ScaleProfile profile;
+    private final ExpectationsWriter expectations;
+
+    public AvroSchemaGenerator(ArtifactSink sink, CreationEngine engine, ScaleProfile profile,
+                               ExpectationsWriter expectations) {
+        this.sink = sink;
+        this.engine = engine;
+        this.profile = profile;
+        this.expectations = expectations;
     }
 
     /**
@@ -45,15 +47,22 @@ public class AvroSchemaGenerator {
     public void createArtifacts() throws Exception {
         log.info("Creating Avro schema artifacts...");
 
-        // Create 10 Avro schemas with different version counts
-        for (int i = 1; i <= 10; i++) {
+        // Create Avro schemas with version counts from the scale profile
+        int artifactCount = profile.getArtifactCount("AVRO");
+        for (int i = 1; i <= artifactCount; i++) {
             String artifactId = "avro-schema-" + i;
-            int versionCount = (i % 3) + 3; // 3-5 versions
-            createAvroArtifact(artifactId, i, versionCount);
+            int versionCount = profile.versionCount("AVRO", i);
+            boolean addForwardRule = (i == 1); // Add FORWARD rule to first artifact
+            EditableMetaData editMeta = createMetadata(artifactId, i);
+            expectations.artifact("default", artifactId, ArtifactType.AVRO, versionCount, editMeta,
+                addForwardRule ? List.of(compatibilityRule("FORWARD")) : List.of());
+            int completed = sink.resume("default", artifactId, ArtifactType.AVRO, versionCount);
+            if (completed == versionCount) {
+                continue; // already created by an earlier run
+            }
+            int index = i;
+            engine.submit(artifactId, () -> createAvroArtifact(artifactId, index, completed + 1, versionCount, addForwardRule, editMeta));
         }
-
-        // Add COMPATIBILITY: FORWARD rule to one Avro artifact
-        addForwardCompatibilityRule("avro-schema-1");
     }
 
     /**
@@ -61,135 +70,64 @@ public class AvroSchemaGenerator {
      *
      * @param artifactId artifact identifier
      * @param index artifact index for uniqueness
+     * @param firstVersion first version to create (greater than 1 when resuming)
      * @param versionCount number of versions to create
+     * @param addForwardRule whether to add COMPATIBILITY: FORWARD rule after all versions are created
+     * @param editMeta metadata sent along with version 1
      */
-    private void createAvroArtifact(String artifactId, int index, int versionCount) throws Exception {
-        log.info("  Creating artifact: {} ({} versions)", artifactId, versionCount);
-
-        // Version 1: Base schema
-        String schema1 = createBaseAvroSchema("Record" + index, Arrays.asList("id", "name"));
-        ArtifactMetaData meta = client.createArtifact(
-            "default",
-            artifactId,
-            ArtifactType.AVRO,
-            new ByteArrayInputStream(schema1.getBytes(StandardCharsets.UTF_8))
-        );
-
-        // Add labels and properties
-        EditableMetaData editMeta = new EditableMetaData();
-        editMeta.setName(artifactId);
-        editMeta.setDescription("Avro test schema #" + index);
-        editMeta.setLabels(createLabels("avro"));
-        editMeta.setProperties(createProperties());
-        client.updateArtifactMetaData("default", artifactId, editMeta);
-
-        // Create additional versions
-        for (int v = 2; v <= versionCount; v++) {
-            String schema = createVersionedAvroSchema("Record" + index, v);
-            client.createArtifactVersion(
-                "default",
-                artifactId,
-                null,
-                new ByteArrayInputStream(schema.getBytes(StandardCharsets.UTF_8))
-            );
+    private void createAvroArtifact(String artifactId, int index, int firstVersion, int versionCount, boolean addForwardRule, EditableMetaData editMeta) throws Exception {
+        if (firstVersion > 1) {
+            log.info("  Resuming artifact: {} at version {} of {}", artifactId, firstVersion, versionCount);
+        } else {
+            log.info("  Creating artifact: {} ({} versions)", artifactId, versionCount);
         }
 
-        summary.recordArtifact("AVRO", artifactId, versionCount);
-        log.info("    ✓ Created {} with {} versions", artifactId, versionCount);
-    }
+        String doc = profile.documentation("AVRO", index);
 
-    /**
-     * Creates a base Avro schema with specified fields.
-     *
-     * @param recordName name of the Avro record
-     * @param fieldNames list of field names to include
-     * @return JSON string of the Avro schema
-     */
-    private String createBaseAvroSchema(String recordName, List<String> fieldNames) throws Exception {
-        ObjectNode schema = mapper.createObjectNode();
-        schema.put("type", "record");
-        schema.put("name", recordName);
-        schema.put("namespace", "io.apicurio.testing");
-
-        ArrayNode fields = schema.putArray("fields");
-        for (String fieldName : fieldNames) {
-            ObjectNode field = fields.addObject();
-            field.put("name", fieldName);
-            field.put("type", "string");
-        }
+        // Version 1 creates the artifact, later versions are added to it
+        for (int v = firstVersion; v <= versionCount; v++) {
+            ContentBuffer content = sink.buffer();
+            AvroContentWriter.write(content, "Record" + index, v, doc);
+            WorkItem item = v == 1
+                ? WorkItem.create("default", artifactId, ArtifactType.AVRO, versionCount, content, editMeta)
+                : WorkItem.version("default", artifactId, ArtifactType.AVRO, v, versionCount, content);
 
-        return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(schema);
+            // Add COMPATIBILITY: FORWARD rule if requested (after versions, as it constrains future versions only)
+            if (addForwardRule && item.isLastVersion()) {
+                item.withRule(compatibilityRule("FORWARD"));
+            }
+
+            sink.send(item);
+        }
     }
 
     /**
-     * Creates a versioned Avro schema with backward/forward compatible changes.
+     * Creates an artifact-specific COMPATIBILITY rule.
      *
-     * @param recordName name of the Avro record
-     * @param version version number
-     * @return JSON string of the Avro schema
+     * @param config the compatibility level
+     * @return the rule
      */
-    private String createVersionedAvroSchema(String recordName, int version) throws Exception {
-        ObjectNode schema = mapper.createObjectNode();
-        schema.put("type", "record");
-        schema.put("name", recordName);
-        schema.put("namespace", "io.apicurio.testing");
-
-        ArrayNode fields = schema.putArray("fields");
-
-        // Base fields (always present)
-        ObjectNode idField = fields.addObject();
-        idField.put("name", "id");
-        idField.put("type", "string");
-
-        ObjectNode nameField = fields.addObject();
-        nameField.put("name", "name");
-        nameField.put("type", "string");
-
-        // Add new optional field for backward compatibility
-        if (version >= 2) {
-            ObjectNode emailField = fields.addObject();
-            emailField.put("name", "email");
-            ArrayNode emailType = emailField.putArray("type");
-            emailType.add("null");
-            emailType.add("string");
-            emailField.put("default", mapper.nullNode());
-        }
-
-        // Add another optional field
-        if (version >= 3) {
-            ObjectNode phoneField = fields.addObject();
-            phoneField.put("name", "phone");
-            ArrayNode phoneType = phoneField.putArray("type");
-            phoneType.add("null");
-            phoneType.add("string");
-            phoneField.put("default", mapper.nullNode());
-        }
-
-        // Add timestamp for versions 4+
-        if (version >= 4) {
-            ObjectNode timestampField = fields.addObject();
-            timestampField.put("name", "timestamp");
-            ArrayNode timestampType = timestampField.putArray("type");
-            timestampType.add("null");
-            timestampType.add("long");
-            timestampField.put("default", mapper.nullNode());
-        }
-
-        return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(schema);
+    private Rule compatibilityRule(String config) {
+        Rule rule = new Rule();
+        rule.setType(RuleType.COMPATIBILITY);
+        rule.setConfig(config);
+        return rule;
     }
 
     /**
-     * Adds COMPATIBILITY: FORWARD rule to a specific artifact.
+     * Creates the metadata sent along with version 1.
      *
-     * @param artifactId the artifact to add the rule to
+     * @param artifactId artifact identifier
+     * @param index artifact index for uniqueness
+     * @return the artifact metadata
      */
-    private void addForwardCompatibilityRule(String artifactId) throws Exception {
-        log.info("  Adding FORWARD compatibility rule to {}", artifactId);
-        Rule rule = new Rule();
-        rule.setType(RuleType.COMPATIBILITY);
-        rule.setConfig("FORWARD");
-        client.createArtifactRule("default", artifactId, rule);
-        summary.recordArtifactRule();
+    private EditableMetaData createMetadata(String artifactId, int index) {
+        EditableMetaData editMeta = new EditableMetaData();
+        editMeta.setName(artifactId);
+        editMeta.setDescription("Avro test schema #" + index);
+        editMeta.setLabels(createLabels("avro"));
+        editMeta.setProperties(createProperties());
+        return editMeta;
     }
 
     /**
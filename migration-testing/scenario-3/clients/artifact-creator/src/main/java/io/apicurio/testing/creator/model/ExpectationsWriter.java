@@ -0,0 +1,138 @@
+package io.apicurio.testing.creator.model;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.apicurio.registry.rest.v2.beans.EditableMetaData;
+import io.apicurio.registry.rest.v2.beans.Rule;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.TreeMap;
+
+/**
+ * Writes the expectations file: what the validators should find in the registry
+ * for the data set being created, one JSON object per line.
+ *
+ * <pre>
+ * {"kind":"globalRule","type":"VALIDITY","config":"FULL"}
+ * {"kind":"artifact","groupId":"default","artifactId":"avro-schema-1","type":"AVRO","versions":4,
+ *  "name":"avro-schema-1","description":"...","labels":["type:avro","env:test"],
+ *  "properties":{"owner":"test-suite","version":"1.0"},"rules":{"COMPATIBILITY":"FORWARD"}}
+ * </pre>
+ *
+ * Artifacts are written as the generators plan them, including artifacts a resumed
+ * run skips, so the file always describes the whole data set and nothing is held in
+ * memory. The file is written under a temporary name and only moved into place by
+ * {@link #commit()}, so a failed run leaves no partial expectations behind.
+ */
+public class ExpectationsWriter implements AutoCloseable {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final Path file;
+    private final Path temporary;
+    private final BufferedWriter writer;
+
+    private ExpectationsWriter(Path file, Path temporary, BufferedWriter writer) {
+        this.file = file;
+        this.temporary = temporary;
+        this.writer = writer;
+    }
+
+    /**
+     * Starts writing an expectations file.
+     *
+     * @param file the expectations file, replaced on {@link #commit()}
+     * @return the writer
+     */
+    public static ExpectationsWriter open(Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        return new ExpectationsWriter(file, temporary, Files.newBufferedWriter(temporary, StandardCharsets.UTF_8));
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Records a global rule.
+     *
+     * @param rule the rule
+     */
+    public synchronized void globalRule(Rule rule) throws IOException {
+        ObjectNode line = MAPPER.createObjectNode();
+        line.put("kind", "globalRule");
+        line.put("type", rule.getType().name());
+        line.put("config", rule.getConfig());
+        write(line);
+    }
+
+    /**
+     * Records an artifact.
+     *
+     * @param groupId the group identifier
+     * @param artifactId the artifact identifier
+     * @param artifactType the artifact type (AVRO, PROTOBUF, etc.)
+     * @param versionCount number of versions of the artifact
+     * @param metadata the metadata set on the artifact (may be null)
+     * @param rules the artifact rules created on it
+     */
+    public synchronized void artifact(String groupId, String artifactId, String artifactType, int versionCount,
+                                      EditableMetaData metadata, List<Rule> rules) throws IOException {
+        ObjectNode line = MAPPER.createObjectNode();
+        line.put("kind", "artifact");
+        line.put("groupId", groupId);
+        line.put("artifactId", artifactId);
+        line.put("type", artifactType);
+        line.put("versions", versionCount);
+        if (metadata != null) {
+            line.put("name", metadata.getName());
+            line.put("description", metadata.getDescription());
+            if (metadata.getLabels() != null) {
+                metadata.getLabels().forEach(line.putArray("labels")::add);
+            }
+            if (metadata.getProperties() != null) {
+                ObjectNode properties = line.putObject("properties");
+                new TreeMap<>(metadata.getProperties()).forEach(properties::put);
+            }
+        }
+        if (!rules.isEmpty()) {
+            ObjectNode ruleConfigs = line.putObject("rules");
+            for (Rule rule : rules) {
+                ruleConfigs.put(rule.getType().name(), rule.getConfig());
+            }
+        }
+        write(line);
+    }
+
+    /**
+     * Completes the file and moves it into place.
+     */
+    public synchronized void commit() throws IOException {
+        writer.close();
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Discards the file unless it was committed.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        writer.close();
+        Files.deleteIfExists(temporary);
+    }
+
+    private void write(ObjectNode line) throws IOException {
+        writer.write(MAPPER.writeValueAsString(line));
+        writer.newLine();
+    }
+}
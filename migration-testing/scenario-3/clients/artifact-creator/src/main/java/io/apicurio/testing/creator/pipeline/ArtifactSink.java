@@ -0,0 +1,41 @@
+package io.apicurio.testing.creator.pipeline;
+
+import io.apicurio.testing.creator.content.ContentBuffer;
+
+/**
+ * Destination for the work items produced by the generators.
+ *
+ * Generators obtain a buffer, write one version's content into it and send it
+ * wrapped in a {@link WorkItem}. Items of the same artifact must be sent in
+ * version order from a single thread.
+ */
+public interface ArtifactSink {
+
+    /**
+     * Returns how many leading versions of an artifact are already complete according
+     * to the checkpoint journal. Generators continue with the next version; an artifact
+     * whose versions are all complete is recorded in the summary and not generated.
+     *
+     * @param groupId the group identifier
+     * @param artifactId the artifact identifier
+     * @param artifactType the artifact type (AVRO, PROTOBUF, etc.)
+     * @param versionCount total number of versions of the artifact
+     * @return number of completed versions (0 when starting from scratch)
+     */
+    int resume(String groupId, String artifactId, String artifactType, int versionCount);
+
+    /**
+     * Returns an empty buffer for the content of the next item.
+     *
+     * @return buffer owned by the caller until the item is sent
+     */
+    ContentBuffer buffer();
+
+    /**
+     * Sends an item to the registry, either immediately or by queueing it.
+     * Ownership of the item's buffer passes to the sink.
+     *
+     * @param item the item to send
+     */
+    void send(WorkItem item) throws Exception;
+}
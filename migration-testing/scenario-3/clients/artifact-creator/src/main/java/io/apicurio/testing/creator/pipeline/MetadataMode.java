@@ -0,0 +1,21 @@
+package io.apicurio.testing.creator.pipeline;
+
+/**
+ * How artifact metadata (name, description, labels, properties) is sent to the registry.
+ */
+public enum MetadataMode {
+
+    /**
+     * Create the artifact, then set all metadata with a second, blocking call.
+     */
+    SEPARATE,
+
+    /**
+     * Send name and description as headers of the create call, so the artifact never
+     * exists without them. The 2.x API has no way to send labels and properties on
+     * create, so when present they are still set with a metadata update. That update
+     * is issued asynchronously and only awaited before the artifact's next version is
+     * created, which takes it off the critical path.
+     */
+    INLINE
+}
@@ -0,0 +1,113 @@
+package io.apicurio.testing.creator.pipeline;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Throughput counters for one stage of the {@link CreationPipeline}.
+ *
+ * Besides items and bytes processed, each stage tracks how long its threads were
+ * blocked on the queue between the stages: for the generation stage this is
+ * backpressure (queue full), for the I/O stage it is starvation (queue empty).
+ * Comparing the two shows which stage limits the pipeline.
+ */
+public class StageMetrics {
+
+    private final String name;
+    private final int threads;
+    private final LongAdder items = new LongAdder();
+    private final LongAdder bytes = new LongAdder();
+    private final LongAdder busyNanos = new LongAdder();
+    private final LongAdder waits = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+    private final AtomicLong firstNanos = new AtomicLong();
+    private final LongAccumulator lastNanos = new LongAccumulator(Math::max, 0);
+
+    public StageMetrics(String name, int threads) {
+        this.name = name;
+        this.threads = threads;
+    }
+
+    /**
+     * Records a processed item.
+     *
+     * @param size item size in bytes
+     * @param busy time spent processing the item in nanoseconds (0 if not measured)
+     */
+    public void recordItem(int size, long busy) {
+        long now = System.nanoTime();
+        firstNanos.compareAndSet(0, now - busy);
+        lastNanos.accumulate(now);
+        items.increment();
+        bytes.add(size);
+        busyNanos.add(busy);
+    }
+
+    /**
+     * Records time a thread of this stage spent blocked on the queue.
+     *
+     * @param nanos blocked time in nanoseconds
+     */
+    public void recordWait(long nanos) {
+        waits.increment();
+        waitNanos.add(nanos);
+    }
+
+    public long getItems() {
+        return items.sum();
+    }
+
+    public long getBytes() {
+        return bytes.sum();
+    }
+
+    public long getWaits() {
+        return waits.sum();
+    }
+
+    public long getWaitMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(waitNanos.sum());
+    }
+
+    /**
+     * Wall-clock time between the first and the last processed item.
+     */
+    public long getElapsedMillis() {
+        long first = firstNanos.get();
+        return first == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(lastNanos.get() - first);
+    }
+
+    /**
+     * Items processed per second of elapsed time.
+     */
+    public double getItemsPerSecond() {
+        long elapsed = Math.max(1, getElapsedMillis());
+        return getItems() * 1000.0 / elapsed;
+    }
+
+    /**
+     * Share of the stage's thread time spent processing items, or -1 if not measured.
+     */
+    public double getUtilization() {
+        long busy = busyNanos.sum();
+        long elapsed = TimeUnit.MILLISECONDS.toNanos(getElapsedMillis());
+        return busy == 0 || elapsed == 0 ? -1 : Math.min(1.0, (double) busy / ((double) elapsed * threads));
+    }
+
+    @Override
+    public String toString() {
+        double mb = getBytes() / (1024.0 * 1024.0);
+        double seconds = Math.max(1, getElapsedMillis()) / 1000.0;
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%-9s %d items, %.1f MB in %.1f s (%.0f items/s, %.1f MB/s) on %d threads",
+            name + ":", getItems(), mb, getElapsedMillis() / 1000.0, getItemsPerSecond(), mb / seconds, threads));
+        double utilization = getUtilization();
+        if (utilization >= 0) {
+            sb.append(String.format(", %.0f%% busy", utilization * 100));
+        }
+        sb.append(String.format(", blocked %d times for %.1f s", getWaits(), getWaitMillis() / 1000.0));
+        return sb.toString();
+    }
+}
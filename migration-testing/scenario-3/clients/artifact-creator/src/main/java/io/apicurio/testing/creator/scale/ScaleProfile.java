@@ -0,0 +1,324 @@
+package io.apicurio.testing.creator.scale;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.SplittableRandom;
+
+/**
+ * Describes the size and shape of the generated test data set.
+ *
+ * A profile defines, per artifact type, how many artifacts to create and the
+ * range of versions per artifact, plus a version-count distribution, a range for
+ * the size of generated documentation text and a random seed.
+ *
+ * All per-artifact values are derived only from (seed, type, index), never from a
+ * shared random sequence. The same profile therefore always yields the same data
+ * set regardless of worker count or scheduling, and validators can recompute the
+ * expected values for any single artifact.
+ *
+ * Built-in profiles: {@code baseline} (the original 25-artifact data set),
+ * {@code 10k}, {@code 100k} and {@code 1m}. Custom profiles are loaded from a
+ * properties file:
+ *
+ * <pre>
+ * name=custom
+ * seed=42
+ * versions.distribution=LONG_TAIL
+ * content.size.min=0
+ * content.size.max=4096
+ * AVRO.count=5000
+ * AVRO.versions.min=1
+ * AVRO.versions.max=40
+ * </pre>
+ *
+ * Keys that are not present fall back to the {@code baseline} values.
+ */
+public class ScaleProfile {
+
+    public static final List<String> ARTIFACT_TYPES =
+        Collections.unmodifiableList(Arrays.asList("AVRO", "PROTOBUF", "JSON", "OPENAPI", "ASYNCAPI"));
+
+    public static final String DEFAULT_PROFILE = "baseline";
+
+    private static final long VERSIONS_SALT = 0x76657273696f6e73L;
+    private static final long CONTENT_SALT = 0x636f6e74656e7473L;
+
+    private static final String[] WORDS = {
+        "registry", "schema", "artifact", "version", "content", "migration", "field",
+        "record", "event", "payload", "compatibility", "reference", "metadata", "label"
+    };
+
+    private final String name;
+    private final long seed;
+    private final VersionDistribution distribution;
+    private final int minContentSize;
+    private final int maxContentSize;
+    private final Map<String, TypeSettings> types;
+
+    private ScaleProfile(String name, long seed, VersionDistribution distribution,
+                         int minContentSize, int maxContentSize, Map<String, TypeSettings> types) {
+        if (minContentSize < 0 || maxContentSize < minContentSize) {
+            throw new IllegalArgumentException("Invalid content size range [" + minContentSize + ", " + maxContentSize + "]");
+        }
+        this.name = name;
+        this.seed = seed;
+        this.distribution = distribution;
+        this.minContentSize = minContentSize;
+        this.maxContentSize = maxContentSize;
+        this.types = Collections.unmodifiableMap(types);
+    }
+
+    /**
+     * Resolves a profile by built-in name or properties file path.
+     *
+     * @param nameOrPath built-in profile name or path to a properties file
+     * @return the resolved profile
+     */
+    public static ScaleProfile load(String nameOrPath) throws IOException {
+        switch (nameOrPath) {
+            case "baseline":
+                return baseline();
+            case "10k":
+                return scaled("10k", 1);
+            case "100k":
+                return scaled("100k", 10);
+            case "1m":
+                return scaled("1m", 100);
+            default:
+                Path path = Paths.get(nameOrPath);
+                if (!Files.isRegularFile(path)) {
+                    throw new IllegalArgumentException("Unknown scale profile '" + nameOrPath
+                        + "' (expected baseline, 10k, 100k, 1m or a properties file)");
+                }
+                Properties props = new Properties();
+                try (InputStream in = Files.newInputStream(path)) {
+                    props.load(in);
+                }
+                return fromProperties(props);
+        }
+    }
+
+    /**
+     * The original hardcoded data set: 10 Avro, 5 Protobuf, 5 JSON, 3 OpenAPI and 2 AsyncAPI artifacts.
+     */
+    public static ScaleProfile baseline() {
+        Map<String, TypeSettings> types = new LinkedHashMap<>();
+        types.put("AVRO", new TypeSettings(10, 3, 5));
+        types.put("PROTOBUF", new TypeSettings(5, 2, 3));
+        types.put("JSON", new TypeSettings(5, 2, 3));
+        types.put("OPENAPI", new TypeSettings(3, 2, 2));
+        types.put("ASYNCAPI", new TypeSettings(2, 2, 2));
+        return new ScaleProfile("baseline", 0L, VersionDistribution.CYCLIC, 0, 0, types);
+    }
+
+    /**
+     * Production-like profile with 10k artifacts times {@code factor}.
+     */
+    private static ScaleProfile scaled(String name, int factor) {
+        Map<String, TypeSettings> types = new LinkedHashMap<>();
+        types.put("AVRO", new TypeSettings(4000 * factor, 1, 50));
+        types.put("PROTOBUF", new TypeSettings(2000 * factor, 1, 30));
+        types.put("JSON", new TypeSettings(2000 * factor, 1, 30));
+        types.put("OPENAPI", new TypeSettings(1200 * factor, 1, 20));
+        types.put("ASYNCAPI", new TypeSettings(800 * factor, 1, 20));
+        return new ScaleProfile(name, 20240101L, VersionDistribution.LONG_TAIL, 0, 4096, types);
+    }
+
+    /**
+     * Builds a profile from properties, using baseline values for missing keys.
+     */
+    static ScaleProfile fromProperties(Properties props) {
+        ScaleProfile base = baseline();
+        Map<String, TypeSettings> types = new LinkedHashMap<>();
+        for (String type : ARTIFACT_TYPES) {
+            TypeSettings def = base.types.get(type);
+            types.put(type, new TypeSettings(
+                intProperty(props, type + ".count", def.count),
+                intProperty(props, type + ".versions.min", def.minVersions),
+                intProperty(props, type + ".versions.max", def.maxVersions)
+            ));
+        }
+        return new ScaleProfile(
+            props.getProperty("name", "custom"),
+            Long.parseLong(props.getProperty("seed", String.valueOf(base.seed)).trim()),
+            VersionDistribution.valueOf(props.getProperty("versions.distribution", base.distribution.name()).trim()),
+            intProperty(props, "content.size.min", base.minContentSize),
+            intProperty(props, "content.size.max", base.maxContentSize),
+            types
+        );
+    }
+
+    /**
+     * Returns a copy of this profile with a different seed.
+     *
+     * @param newSeed the seed to use
+     * @return the re-seeded profile
+     */
+    public ScaleProfile withSeed(long newSeed) {
+        return new ScaleProfile(name, newSeed, distribution, minContentSize, maxContentSize, types);
+    }
+
+    /**
+     * Number of artifacts to create for a type.
+     *
+     * @param type the artifact type (AVRO, PROTOBUF, etc.)
+     * @return artifact count
+     */
+    public int getArtifactCount(String type) {
+        return settings(type).count;
+    }
+
+    /**
+     * Total number of artifacts across all types.
+     */
+    public long getTotalArtifactCount() {
+        long total = 0;
+        for (TypeSettings s : types.values()) {
+            total += s.count;
+        }
+        return total;
+    }
+
+    /**
+     * Deterministic number of versions for an artifact.
+     *
+     * @param type the artifact type
+     * @param index the artifact index (1-based)
+     * @return number of versions (at least 1)
+     */
+    public int versionCount(String type, int index) {
+        TypeSettings s = settings(type);
+        return distribution.pick(s.minVersions, s.maxVersions, index, random(type, index, VERSIONS_SALT));
+    }
+
+    /**
+     * Deterministic size in bytes of the documentation text embedded in an artifact.
+     *
+     * @param type the artifact type
+     * @param index the artifact index (1-based)
+     * @return documentation size in bytes (0 means no documentation)
+     */
+    public int contentSize(String type, int index) {
+        if (maxContentSize == 0) {
+            return 0;
+        }
+        return minContentSize + random(type, index, CONTENT_SALT).nextInt(maxContentSize - minContentSize + 1);
+    }
+
+    /**
+     * Deterministic ASCII documentation text of {@link #contentSize(String, int)} bytes.
+     * Contains only letters and spaces so it can be embedded in any schema format unescaped.
+     *
+     * @param type the artifact type
+     * @param index the artifact index (1-based)
+     * @return documentation text, empty if the profile has no content padding
+     */
+    public String documentation(String type, int index) {
+        int size = contentSize(type, index);
+        if (size == 0) {
+            return "";
+        }
+        SplittableRandom random = random(type, index, CONTENT_SALT ^ size);
+        StringBuilder doc = new StringBuilder(size + 16);
+        while (doc.length() < size) {
+            if (doc.length() > 0) {
+                doc.append(' ');
+            }
+            doc.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        doc.setLength(size);
+        return doc.toString();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public VersionDistribution getDistribution() {
+        return distribution;
+    }
+
+    public int getMinContentSize() {
+        return minContentSize;
+    }
+
+    public int getMaxContentSize() {
+        return maxContentSize;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(name).append(" (seed ").append(seed).append(", ").append(distribution)
+            .append(", content ").append(minContentSize).append("-").append(maxContentSize).append(" bytes)");
+        for (Map.Entry<String, TypeSettings> e : types.entrySet()) {
+            TypeSettings s = e.getValue();
+            sb.append(", ").append(e.getKey()).append("=").append(s.count)
+                .append("x[").append(s.minVersions).append("-").append(s.maxVersions).append("]");
+        }
+        return sb.toString();
+    }
+
+    private TypeSettings settings(String type) {
+        TypeSettings s = types.get(type);
+        if (s == null) {
+            throw new IllegalArgumentException("Unknown artifact type: " + type);
+        }
+        return s;
+    }
+
+    /**
+     * Creates an independent random source for one artifact.
+     * Uses the SplitMix64 finalizer so neighbouring indexes get unrelated streams.
+     */
+    private SplittableRandom random(String type, int index, long salt) {
+        long z = seed ^ salt;
+        z = mix(z + type.hashCode());
+        z = mix(z + index);
+        return new SplittableRandom(z);
+    }
+
+    private static long mix(long z) {
+        z += 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static int intProperty(Properties props, String key, int defaultValue) {
+        String value = props.getProperty(key);
+        return value == null ? defaultValue : Integer.parseInt(value.trim());
+    }
+
+    /**
+     * Per-type artifact count and version range.
+     */
+    private static class TypeSettings {
+        final int count;
+        final int minVersions;
+        final int maxVersions;
+
+        TypeSettings(int count, int minVersions, int maxVersions) {
+            if (count < 0 || minVersions < 1 || maxVersions < minVersions) {
+                throw new IllegalArgumentException("Invalid settings: count=" + count
+                    + ", versions=[" + minVersions + ", " + maxVersions + "]");
+            }
+            this.count = count;
+            this.minVersions = minVersions;
+            this.maxVersions = maxVersions;
+        }
+    }
+}
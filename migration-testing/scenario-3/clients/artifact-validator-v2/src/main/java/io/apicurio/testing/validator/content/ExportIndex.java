@@ -0,0 +1,587 @@
+package io.apicurio.testing.validator.content;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntToLongFunction;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipEntry;
+
+/**
+ * Random access to the content of a registry v2 admin export (step F) by globalId
+ * and contentId, without extracting it.
+ *
+ * The export zip is memory-mapped and its central directory is read to find the
+ * {@code content/<contentId>.Content.data} and
+ * {@code groups/.../versions/<version>.ArtifactVersion.json} entries. The version
+ * entries are decompressed on a pool of threads to learn each version's globalId
+ * and contentId. The result is written next to the export as an index file, which
+ * later runs memory-map instead of reading the export again:
+ *
+ * <pre>
+ * header:   magic "AVXI", format version (int), export size (long),
+ *           export last modified (long), content count (int), version count (int)
+ * content:  contentId (long), local header offset (long), compressed size (long),
+ *           size (long), compression method (int), CRC-32 (int)        40 bytes each
+ * version:  globalId (long), contentId (long)                         16 bytes each
+ * </pre>
+ *
+ * Contents are sorted by contentId and versions by globalId, so a lookup is a binary
+ * search over the mapped index followed by decompressing a single entry of the
+ * mapped export. Lookups do not share mutable state and may run on any number of
+ * threads. Zip64 exports (over 4 GB or 65535 entries) are supported.
+ */
+public final class ExportIndex implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ExportIndex.class);
+
+    private static final int MAGIC = 0x41565849; // "AVXI"
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_SIZE = 32;
+    private static final int CONTENT_RECORD_SIZE = 40;
+    private static final int VERSION_RECORD_SIZE = 16;
+
+    // Field offsets within a content record (the contentId is at 0)
+    private static final int HEADER_OFFSET = 8;
+    private static final int COMPRESSED_SIZE = 16;
+    private static final int SIZE = 24;
+    private static final int METHOD = 32;
+    private static final int CRC = 36;
+
+    private static final String VERSION_SUFFIX = ".ArtifactVersion.json";
+    private static final String CONTENT_SUFFIX = ".Content.data";
+    private static final String INDEX_SUFFIX = ".idx";
+
+    // The export is mapped in segments of SEGMENT_SIZE; each overlaps the next by
+    // SEGMENT_OVERLAP so that any entry up to that size lies within one segment
+    private static final long SEGMENT_SIZE = 1L << 30;
+    private static final long SEGMENT_OVERLAP = 1L << 26;
+
+    // Zip signatures and record sizes
+    private static final int LOCAL_HEADER_SIGNATURE = 0x04034b50;
+    private static final int LOCAL_HEADER_SIZE = 30;
+    private static final int CENTRAL_HEADER_SIGNATURE = 0x02014b50;
+    private static final int CENTRAL_HEADER_SIZE = 46;
+    private static final int END_SIGNATURE = 0x06054b50;
+    private static final int END_SIZE = 22;
+    private static final int ZIP64_LOCATOR_SIGNATURE = 0x07064b50;
+    private static final int ZIP64_LOCATOR_SIZE = 20;
+    private static final int ZIP64_END_SIGNATURE = 0x06064b50;
+    private static final int ZIP64_EXTRA = 0x0001;
+    private static final long ZIP64_MAGIC = 0xFFFFFFFFL;
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final Path exportFile;
+    private final FileChannel exportChannel;
+    private final MappedByteBuffer[] segments;
+    private final FileChannel indexChannel;
+    private final MappedByteBuffer index;
+    private final int contentCount;
+    private final int versionCount;
+    private final int versionsStart;
+
+    private ExportIndex(Path exportFile, FileChannel exportChannel, MappedByteBuffer[] segments,
+                        FileChannel indexChannel, MappedByteBuffer index) {
+        this.exportFile = exportFile;
+        this.exportChannel = exportChannel;
+        this.segments = segments;
+        this.indexChannel = indexChannel;
+        this.index = index;
+        this.contentCount = index.getInt(24);
+        this.versionCount = index.getInt(28);
+        this.versionsStart = HEADER_SIZE + contentCount * CONTENT_RECORD_SIZE;
+    }
+
+    /**
+     * Memory-maps an export and its index, building the index first if it does not
+     * exist or was built for a different export file.
+     *
+     * @param exportFile the export zip
+     * @param threads threads decompressing version entries while building the index
+     * @return the index; close it to release the files
+     */
+    public static ExportIndex open(Path exportFile, int threads) throws IOException {
+        Path indexFile = exportFile.resolveSibling(exportFile.getFileName() + INDEX_SUFFIX);
+        FileChannel exportChannel = FileChannel.open(exportFile, StandardOpenOption.READ);
+        FileChannel indexChannel = null;
+        try {
+            MappedByteBuffer[] segments = map(exportChannel);
+            long exportSize = exportChannel.size();
+            long lastModified = Files.getLastModifiedTime(exportFile).toMillis();
+
+            if (!isCurrent(indexFile, exportSize, lastModified)) {
+                long start = System.currentTimeMillis();
+                new Builder(exportFile, segments, exportChannel, threads).build(indexFile, exportSize, lastModified);
+                log.info("  Indexed {} in {} ms", exportFile, System.currentTimeMillis() - start);
+            }
+
+            indexChannel = FileChannel.open(indexFile, StandardOpenOption.READ);
+            if (indexChannel.size() > Integer.MAX_VALUE) {
+                throw new IOException(indexFile + " is larger than 2 GB");
+            }
+            MappedByteBuffer index = indexChannel.map(FileChannel.MapMode.READ_ONLY, 0, indexChannel.size());
+            return new ExportIndex(exportFile, exportChannel, segments, indexChannel, index);
+        } catch (IOException | RuntimeException e) {
+            exportChannel.close();
+            if (indexChannel != null) {
+                indexChannel.close();
+            }
+            throw e;
+        }
+    }
+
+    public Path getExportFile() {
+        return exportFile;
+    }
+
+    /**
+     * Returns the number of contents in the export.
+     */
+    public int getContentCount() {
+        return contentCount;
+    }
+
+    /**
+     * Returns the number of versions in the export.
+     */
+    public int getVersionCount() {
+        return versionCount;
+    }
+
+    /**
+     * Returns the globalId of a version, in globalId order.
+     *
+     * @param version the index of the version, from 0 to {@link #getVersionCount()} - 1
+     */
+    public long getGlobalId(int version) {
+        return index.getLong(versionsStart + version * VERSION_RECORD_SIZE);
+    }
+
+    /**
+     * Returns the contentId of a version, in globalId order.
+     *
+     * @param version the index of the version, from 0 to {@link #getVersionCount()} - 1
+     */
+    public long getContentIdOfVersion(int version) {
+        return index.getLong(versionsStart + version * VERSION_RECORD_SIZE + 8);
+    }
+
+    /**
+     * Returns the contentId of the version with a globalId, or -1 if it is not in the export.
+     *
+     * @param globalId the global identifier of the version
+     */
+    public long getContentId(long globalId) {
+        int version = search(versionsStart, VERSION_RECORD_SIZE, versionCount, globalId);
+        return version >= 0 ? getContentIdOfVersion(version) : -1;
+    }
+
+    /**
+     * Decompresses the content with a contentId.
+     *
+     * @param contentId the content identifier
+     * @return the content, or null if it is not in the export
+     * @throws IOException if the entry is corrupt
+     */
+    public byte[] readContent(long contentId) throws IOException {
+        int content = search(HEADER_SIZE, CONTENT_RECORD_SIZE, contentCount, contentId);
+        if (content < 0) {
+            return null;
+        }
+        int record = HEADER_SIZE + content * CONTENT_RECORD_SIZE;
+        byte[] data = readEntry(segments, exportChannel, index.getLong(record + HEADER_OFFSET),
+            index.getLong(record + COMPRESSED_SIZE), index.getLong(record + SIZE), index.getInt(record + METHOD));
+        CRC32 crc = new CRC32();
+        crc.update(data);
+        if ((int) crc.getValue() != index.getInt(record + CRC)) {
+            throw new IOException("Content " + contentId + " in " + exportFile + " fails its CRC-32 check");
+        }
+        return data;
+    }
+
+    /**
+     * Decompresses the content of the version with a globalId.
+     *
+     * @param globalId the global identifier of the version
+     * @return the content, or null if the version or its content is not in the export
+     */
+    public byte[] readVersionContent(long globalId) throws IOException {
+        long contentId = getContentId(globalId);
+        return contentId >= 0 ? readContent(contentId) : null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            indexChannel.close();
+        } finally {
+            exportChannel.close();
+        }
+    }
+
+    /**
+     * Binary search over records sorted by the long at their start.
+     *
+     * @return the index of the record, or -1 if no record has the key
+     */
+    private int search(int start, int recordSize, int count, long key) {
+        int low = 0;
+        int high = count - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long value = index.getLong(start + mid * recordSize);
+            if (value < key) {
+                low = mid + 1;
+            } else if (value > key) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isCurrent(Path indexFile, long exportSize, long lastModified) throws IOException {
+        if (!Files.exists(indexFile) || Files.size(indexFile) < HEADER_SIZE) {
+            return false;
+        }
+        try (FileChannel channel = FileChannel.open(indexFile, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            while (header.hasRemaining() && channel.read(header) >= 0) {
+                // read the whole header
+            }
+            return header.getInt(0) == MAGIC && header.getInt(4) == FORMAT_VERSION
+                && header.getLong(8) == exportSize && header.getLong(16) == lastModified;
+        }
+    }
+
+    private static MappedByteBuffer[] map(FileChannel channel) throws IOException {
+        long size = channel.size();
+        MappedByteBuffer[] segments = new MappedByteBuffer[(int) Math.max(1, (size + SEGMENT_SIZE - 1) / SEGMENT_SIZE)];
+        for (int i = 0; i < segments.length; i++) {
+            long start = i * SEGMENT_SIZE;
+            long length = Math.min(size - start, SEGMENT_SIZE + SEGMENT_OVERLAP);
+            segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.max(length, 0));
+            segments[i].order(ByteOrder.LITTLE_ENDIAN);
+        }
+        return segments;
+    }
+
+    /**
+     * Returns a little-endian view of a region of the export. Regions within one
+     * mapped segment are views of the mapping; larger ones are read into the heap.
+     */
+    private static ByteBuffer region(MappedByteBuffer[] segments, FileChannel channel, long offset, long length)
+            throws IOException {
+        if (length > Integer.MAX_VALUE) {
+            throw new IOException("Zip entry of " + length + " bytes is too large");
+        }
+        int segment = (int) (offset / SEGMENT_SIZE);
+        long position = offset - segment * SEGMENT_SIZE;
+        if (segment < segments.length && position + length <= segments[segment].capacity()) {
+            ByteBuffer view = segments[segment].duplicate();
+            view.position((int) position);
+            view.limit((int) (position + length));
+            return view.slice().order(ByteOrder.LITTLE_ENDIAN);
+        }
+        ByteBuffer buffer = ByteBuffer.allocate((int) length).order(ByteOrder.LITTLE_ENDIAN);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, offset + buffer.position()) < 0) {
+                throw new IOException("Zip entry at " + offset + " runs past the end of the file");
+            }
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * Decompresses one entry given its central directory fields.
+     */
+    private static byte[] readEntry(MappedByteBuffer[] segments, FileChannel channel, long headerOffset,
+                                    long compressedSize, long size, int method) throws IOException {
+        ByteBuffer header = region(segments, channel, headerOffset, LOCAL_HEADER_SIZE);
+        if (header.getInt(0) != LOCAL_HEADER_SIGNATURE) {
+            throw new IOException("No zip entry at offset " + headerOffset);
+        }
+        long dataOffset = headerOffset + LOCAL_HEADER_SIZE
+            + Short.toUnsignedInt(header.getShort(26)) + Short.toUnsignedInt(header.getShort(28));
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("Zip entry of " + size + " bytes is too large");
+        }
+        ByteBuffer data = region(segments, channel, dataOffset, compressedSize);
+        byte[] content = new byte[(int) size];
+        if (method == ZipEntry.STORED) {
+            data.get(content);
+            return content;
+        }
+        if (method != ZipEntry.DEFLATED) {
+            throw new IOException("Unsupported compression method " + method + " at offset " + headerOffset);
+        }
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(data);
+            int inflated = 0;
+            while (inflated < content.length && !inflater.finished()) {
+                int read = inflater.inflate(content, inflated, content.length - inflated);
+                if (read == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                inflated += read;
+            }
+            if (inflated != content.length) {
+                throw new IOException("Zip entry at offset " + headerOffset + " is truncated");
+            }
+            return content;
+        } catch (DataFormatException e) {
+            throw new IOException("Zip entry at offset " + headerOffset + " is corrupt", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    /**
+     * Reads the central directory of an export and writes its index file.
+     */
+    private static final class Builder {
+        private final Path exportFile;
+        private final MappedByteBuffer[] segments;
+        private final FileChannel channel;
+        private final int threads;
+
+        // Central directory fields of the content and version entries, ENTRY_FIELDS longs each
+        private static final int ENTRY_FIELDS = 5;
+        private long[] contents = new long[1024 * ENTRY_FIELDS];
+        private int contentCount;
+        private long[] versions = new long[1024 * ENTRY_FIELDS];
+        private int versionCount;
+
+        Builder(Path exportFile, MappedByteBuffer[] segments, FileChannel channel, int threads) {
+            this.exportFile = exportFile;
+            this.segments = segments;
+            this.channel = channel;
+            this.threads = threads;
+        }
+
+        void build(Path indexFile, long exportSize, long lastModified) throws IOException {
+            readCentralDirectory(exportSize);
+            log.info("  Found {} contents and {} versions in {}; reading versions on {} threads",
+                contentCount, versionCount, exportFile, threads);
+            long[] versionIds = readVersionIds();
+
+            // Sort contents by contentId and versions by globalId
+            Integer[] contentOrder = order(contentCount, i -> contents[i * ENTRY_FIELDS]);
+            Integer[] versionOrder = order(versionCount, i -> versionIds[2 * i]);
+
+            Path temporary = indexFile.resolveSibling(indexFile.getFileName() + ".tmp");
+            try (OutputStream stream = Files.newOutputStream(temporary);
+                 DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                out.writeLong(exportSize);
+                out.writeLong(lastModified);
+                out.writeInt(contentCount);
+                out.writeInt(versionCount);
+                for (int i : contentOrder) {
+                    int entry = i * ENTRY_FIELDS;
+                    out.writeLong(contents[entry]);
+                    out.writeLong(contents[entry + 1]);
+                    out.writeLong(contents[entry + 2]);
+                    out.writeLong(contents[entry + 3]);
+                    out.writeInt((int) (contents[entry + 4] >>> 32));
+                    out.writeInt((int) contents[entry + 4]);
+                }
+                for (int i : versionOrder) {
+                    out.writeLong(versionIds[2 * i]);
+                    out.writeLong(versionIds[2 * i + 1]);
+                }
+            }
+            Files.move(temporary, indexFile, StandardCopyOption.REPLACE_EXISTING);
+        }
+
+        /**
+         * Finds the central directory through the end of central directory record and
+         * collects the content and version entries.
+         */
+        private void readCentralDirectory(long exportSize) throws IOException {
+            long end = findEnd(exportSize);
+            ByteBuffer record = region(segments, channel, end, END_SIZE);
+            long entries = Short.toUnsignedInt(record.getShort(10));
+            long directoryOffset = Integer.toUnsignedLong(record.getInt(16));
+
+            // Zip64: the real values are in the zip64 end record, found through its locator
+            if (end >= ZIP64_LOCATOR_SIZE) {
+                ByteBuffer locator = region(segments, channel, end - ZIP64_LOCATOR_SIZE, ZIP64_LOCATOR_SIZE);
+                if (locator.getInt(0) == ZIP64_LOCATOR_SIGNATURE) {
+                    ByteBuffer zip64End = region(segments, channel, locator.getLong(8), 56);
+                    if (zip64End.getInt(0) != ZIP64_END_SIGNATURE) {
+                        throw new IOException(exportFile + " has a corrupt zip64 end record");
+                    }
+                    entries = zip64End.getLong(32);
+                    directoryOffset = zip64End.getLong(48);
+                }
+            }
+
+            long offset = directoryOffset;
+            for (long i = 0; i < entries; i++) {
+                ByteBuffer header = region(segments, channel, offset, CENTRAL_HEADER_SIZE);
+                if (header.getInt(0) != CENTRAL_HEADER_SIGNATURE) {
+                    throw new IOException(exportFile + " has a corrupt central directory at offset " + offset);
+                }
+                int method = Short.toUnsignedInt(header.getShort(10));
+                int crc = header.getInt(16);
+                long compressedSize = Integer.toUnsignedLong(header.getInt(20));
+                long size = Integer.toUnsignedLong(header.getInt(24));
+                int nameLength = Short.toUnsignedInt(header.getShort(28));
+                int extraLength = Short.toUnsignedInt(header.getShort(30));
+                int commentLength = Short.toUnsignedInt(header.getShort(32));
+                long headerOffset = Integer.toUnsignedLong(header.getInt(42));
+
+                ByteBuffer variable = region(segments, channel, offset + CENTRAL_HEADER_SIZE,
+                    nameLength + extraLength);
+                byte[] nameBytes = new byte[nameLength];
+                variable.get(nameBytes);
+                String name = new String(nameBytes, StandardCharsets.UTF_8);
+
+                boolean isContent = name.endsWith(CONTENT_SUFFIX);
+                if (isContent || name.endsWith(VERSION_SUFFIX)) {
+                    // Zip64 extra field: the sizes and offset that did not fit, in this order
+                    if (size == ZIP64_MAGIC || compressedSize == ZIP64_MAGIC || headerOffset == ZIP64_MAGIC) {
+                        int extra = nameLength;
+                        while (extra + 4 <= nameLength + extraLength) {
+                            int id = Short.toUnsignedInt(variable.getShort(extra));
+                            int length = Short.toUnsignedInt(variable.getShort(extra + 2));
+                            if (id == ZIP64_EXTRA) {
+                                int field = extra + 4;
+                                if (size == ZIP64_MAGIC) {
+                                    size = variable.getLong(field);
+                                    field += 8;
+                                }
+                                if (compressedSize == ZIP64_MAGIC) {
+                                    compressedSize = variable.getLong(field);
+                                    field += 8;
+                                }
+                                if (headerOffset == ZIP64_MAGIC) {
+                                    headerOffset = variable.getLong(field);
+                                }
+                                break;
+                            }
+                            extra += 4 + length;
+                        }
+                    }
+                    long methodAndCrc = ((long) method << 32) | Integer.toUnsignedLong(crc);
+                    if (isContent) {
+                        String fileName = name.substring(name.lastIndexOf('/') + 1);
+                        long contentId = Long.parseLong(
+                            fileName.substring(0, fileName.length() - CONTENT_SUFFIX.length()));
+                        contents = add(contents, contentCount++, contentId, headerOffset, compressedSize, size,
+                            methodAndCrc);
+                    } else {
+                        versions = add(versions, versionCount++, 0, headerOffset, compressedSize, size,
+                            methodAndCrc);
+                    }
+                }
+                offset += CENTRAL_HEADER_SIZE + nameLength + extraLength + commentLength;
+            }
+        }
+
+        private long findEnd(long exportSize) throws IOException {
+            // The end record is followed by a comment of up to 65535 bytes
+            long lowest = Math.max(0, exportSize - END_SIZE - 0xFFFF);
+            for (long offset = exportSize - END_SIZE; offset >= lowest; offset--) {
+                if (region(segments, channel, offset, 4).getInt(0) == END_SIGNATURE) {
+                    return offset;
+                }
+            }
+            throw new IOException(exportFile + " is not a zip file");
+        }
+
+        /**
+         * Decompresses every version entry on the thread pool.
+         *
+         * @return globalId and contentId of every version, in central directory order
+         */
+        private long[] readVersionIds() throws IOException {
+            long[] ids = new long[versionCount * 2];
+            int chunk = Math.max(1, (versionCount + threads - 1) / threads);
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            try {
+                List<Future<Void>> futures = new ArrayList<>();
+                for (int first = 0; first < versionCount; first += chunk) {
+                    int from = first;
+                    int to = Math.min(versionCount, first + chunk);
+                    futures.add(executor.submit(() -> {
+                        for (int i = from; i < to; i++) {
+                            int entry = i * ENTRY_FIELDS;
+                            byte[] json = readEntry(segments, channel, versions[entry + 1], versions[entry + 2],
+                                versions[entry + 3], (int) (versions[entry + 4] >>> 32));
+                            JsonNode node = MAPPER.readTree(json);
+                            ids[2 * i] = node.path("globalId").asLong(-1);
+                            ids[2 * i + 1] = node.path("contentId").asLong(-1);
+                        }
+                        return null;
+                    }));
+                }
+                for (Future<Void> future : futures) {
+                    future.get();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while indexing " + exportFile, e);
+            } catch (ExecutionException e) {
+                throw e.getCause() instanceof IOException
+                    ? (IOException) e.getCause() : new IOException("Failed to index " + exportFile, e.getCause());
+            } finally {
+                executor.shutdownNow();
+            }
+            return ids;
+        }
+
+        private static long[] add(long[] table, int index, long id, long headerOffset, long compressedSize,
+                                  long size, long methodAndCrc) {
+            int entry = index * ENTRY_FIELDS;
+            if (entry + ENTRY_FIELDS > table.length) {
+                table = Arrays.copyOf(table, table.length * 2);
+            }
+            table[entry] = id;
+            table[entry + 1] = headerOffset;
+            table[entry + 2] = compressedSize;
+            table[entry + 3] = size;
+            table[entry + 4] = methodAndCrc;
+            return table;
+        }
+
+        private static Integer[] order(int count, IntToLongFunction key) {
+            Integer[] order = new Integer[count];
+            for (int i = 0; i < count; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> Long.compare(key.applyAsLong(a), key.applyAsLong(b)));
+            return order;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package io.apicurio.testing.validator.inventory;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Iterates over the results of a paginated registry query, one page at a time.
+ *
+ * The first page is requested alone to learn the total count; after that up to
+ * {@code prefetch} further pages are requested while the current one is consumed.
+ * At most {@code prefetch + 1} pages are held at once, however many results the
+ * query has. Iteration ends when the reported total is reached or a page comes
+ * back empty, so results removed during the scan do not cause an endless loop.
+ *
+ * Failed page requests are rethrown from {@link #hasNext()}.
+ *
+ * @param <T> the result type
+ */
+public class PagedIterator<T> implements Iterator<T> {
+
+    /**
+     * Requests one page of results.
+     */
+    @FunctionalInterface
+    public interface PageFetcher<T> {
+        CompletableFuture<Page<T>> fetch(int offset, int limit);
+    }
+
+    /**
+     * One page of results and the total reported by the registry.
+     */
+    public static final class Page<T> {
+        private final List<T> items;
+        private final int total;
+
+        public Page(List<T> items, int total) {
+            this.items = items != null ? items : Collections.emptyList();
+            this.total = total;
+        }
+
+        public List<T> getItems() {
+            return items;
+        }
+
+        public int getTotal() {
+            return total;
+        }
+    }
+
+    private final PageFetcher<T> fetcher;
+    private final int pageSize;
+    private final int prefetch;
+    private final ArrayDeque<CompletableFuture<Page<T>>> pending = new ArrayDeque<>();
+
+    private Iterator<T> current = Collections.emptyIterator();
+    private int nextOffset;
+    private int total = -1;
+    private boolean exhausted;
+
+    /**
+     * @param fetcher requests a page
+     * @param pageSize results requested per page
+     * @param prefetch pages requested ahead of the one being consumed
+     */
+    public PagedIterator(PageFetcher<T> fetcher, int pageSize, int prefetch) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("Page size must be positive: " + pageSize);
+        }
+        this.fetcher = fetcher;
+        this.pageSize = pageSize;
+        this.prefetch = Math.max(0, prefetch);
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!current.hasNext()) {
+            if (exhausted) {
+                return false;
+            }
+            requestPages(1);
+            if (pending.isEmpty()) {
+                exhausted = true;
+                return false;
+            }
+
+            Page<T> page = join(pending.poll());
+            total = page.getTotal();
+            if (page.getItems().isEmpty()) {
+                pending.forEach(f -> f.cancel(true));
+                pending.clear();
+                exhausted = true;
+                return false;
+            }
+            current = page.getItems().iterator();
+            requestPages(prefetch);
+        }
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return current.next();
+    }
+
+    /**
+     * Returns the total reported by the registry, or -1 before the first page arrived.
+     */
+    public int getTotal() {
+        return total;
+    }
+
+    /**
+     * Requests further pages until {@code window} are in flight. Before the total is
+     * known only the first page is requested.
+     */
+    private void requestPages(int window) {
+        while (pending.size() < window && (total < 0 ? nextOffset == 0 : nextOffset < total)) {
+            pending.add(fetcher.fetch(nextOffset, pageSize));
+            nextOffset += pageSize;
+        }
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+        }
+    }
+}
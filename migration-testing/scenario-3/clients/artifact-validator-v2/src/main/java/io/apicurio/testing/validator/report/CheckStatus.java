@@ -0,0 +1,10 @@
+package io.apicurio.testing.validator.report;
+
+/**
+ * Outcome of a single check.
+ */
+public enum CheckStatus {
+    PASS,
+    FAIL,
+    WARN
+}
@@ -2,19 +2,41 @@ package io.apicurio.testing.validator.validators;
 
 import io.apicurio.registry.rest.client.RegistryClient;
 import io.apicurio.registry.rest.v2.beans.ArtifactMetaData;
-import io.apicurio.registry.rest.v2.beans.ArtifactSearchResults;
 import io.apicurio.registry.rest.v2.beans.SearchedArtifact;
-import io.apicurio.registry.rest.v2.beans.SortBy;
-import io.apicurio.registry.rest.v2.beans.SortOrder;
+import io.apicurio.registry.rest.v2.beans.SearchedVersion;
+import io.apicurio.registry.rest.v2.beans.VersionMetaData;
+import io.apicurio.registry.rest.v2.beans.VersionSearchResults;
+import io.apicurio.registry.types.ArtifactState;
+import io.apicurio.testing.validator.engine.FetchScheduler;
+import io.apicurio.testing.validator.engine.LatencyHistogram;
+import io.apicurio.testing.validator.inventory.PagedIterator;
+import io.apicurio.testing.validator.inventory.RegistryPages;
+import io.apicurio.testing.validator.model.Expectations;
 import io.apicurio.testing.validator.model.ValidationReport;
+import io.apicurio.testing.validator.report.ArtifactCoordinates;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
- * Validates artifact metadata including labels, properties, and descriptions.
+ * Validates artifact and version metadata including labels, properties, and descriptions.
+ *
+ * The creator sets the name, description, labels and properties of an artifact when
+ * it creates the first version; later versions are created without metadata. The
+ * first version (lowest globalId) is therefore compared exactly with what the creator
+ * recorded, while later versions, and the artifact metadata of an artifact with
+ * several versions (which is that of its latest version), must carry either the same
+ * labels and properties or none. Labels are compared regardless of order, and every
+ * version must be enabled.
+ *
+ * Artifacts are validated concurrently through the fetch scheduler, which applies the
+ * registry's rate limit; the latency of every request is logged as a histogram.
  */
 public class MetadataValidator {
 
@@ -22,96 +44,196 @@ public class MetadataValidator {
 
     private final RegistryClient client;
     private final ValidationReport report;
+    private final RegistryPages pages;
+    private final Expectations expectations;
+    private final FetchScheduler scheduler;
 
-    public MetadataValidator(RegistryClient client, ValidationReport report) {
+    private final LatencyHistogram latencies = new LatencyHistogram();
+    private final LongAdder artifactsWithLabels = new LongAdder();
+    private final LongAdder artifactsWithProperties = new LongAdder();
+    private final LongAdder artifactsWithDescriptions = new LongAdder();
+    private final LongAdder artifactsCompared = new LongAdder();
+    private final LongAdder versionsChecked = new LongAdder();
+    private final LongAdder mismatches = new LongAdder();
+    private final LongAdder versionMismatches = new LongAdder();
+
+    /**
+     * @param client the registry client
+     * @param report the validation report
+     * @param pages the registry pages
+     * @param expectations what the creator created, or null to only check metadata is present
+     * @param scheduler the scheduler fetching metadata
+     */
+    public MetadataValidator(RegistryClient client, ValidationReport report, RegistryPages pages,
+                             Expectations expectations, FetchScheduler scheduler) {
         this.client = client;
         this.report = report;
+        this.pages = pages;
+        this.expectations = expectations;
+        this.scheduler = scheduler;
     }
 
     /**
-     * Validates metadata for all artifacts.
+     * Validates metadata for all artifacts and their versions.
      */
     public void validate() throws Exception {
-        log.info("Validating artifact metadata...");
-
-        // Get all artifacts
-        ArtifactSearchResults results = client.searchArtifacts(
-            "default",  // group
-            null,       // name
-            null,       // description
-            null,       // labels
-            null,       // properties
-            null,       // globalId
-            null,       // contentId
-            SortBy.name,
-            SortOrder.asc,
-            0,          // offset
-            1000        // limit
-        );
-
-        int artifactsWithLabels = 0;
-        int artifactsWithProperties = 0;
-        int artifactsWithDescriptions = 0;
-
-        for (SearchedArtifact artifact : results.getArtifacts()) {
-            String artifactId = artifact.getId();
+        log.info("Validating artifact and version metadata ({})...", scheduler);
 
-            try {
-                // Get artifact metadata
-                ArtifactMetaData meta = client.getArtifactMetaData("default", artifactId);
-
-                // Validate labels (labels are List<String> in format "key:value")
-                List<String> labels = meta.getLabels();
-                if (labels != null && !labels.isEmpty()) {
-                    artifactsWithLabels++;
-
-                    // Check for expected labels
-                    boolean hasTypeLabel = labels.stream().anyMatch(l -> l.startsWith("type:"));
-                    boolean hasEnvLabel = labels.stream().anyMatch(l -> l.equals("env:test"));
-
-                    if (!hasTypeLabel) {
-                        report.recordWarning("Artifact " + artifactId + " missing 'type' label");
-                    }
-                    if (!hasEnvLabel) {
-                        report.recordWarning("Artifact " + artifactId + " missing 'env:test' label");
-                    }
-                }
+        // Walk all artifacts page by page, validating each one on the scheduler
+        long start = System.nanoTime();
+        PagedIterator<SearchedArtifact> artifacts = pages.artifacts();
+        while (artifacts.hasNext()) {
+            String artifactId = artifacts.next().getId();
+            Expectations.ExpectedArtifact expected = expectations != null
+                ? expectations.getArtifact(artifactId) : null;
+            scheduler.submit(() -> validateArtifact(artifactId, expected));
+        }
+        scheduler.awaitCompletion();
+        double seconds = Math.max(System.nanoTime() - start, 1) / 1_000_000_000.0;
+        log.info("  Fetched metadata of {} versions in {} ms ({} requests/s)", versionsChecked.sum(),
+            Math.round(seconds * 1000), String.format("%.0f", latencies.getCount() / seconds));
+        log.info("  Fetch latency:");
+        latencies.log(log, "    ");
 
-                // Validate properties
-                Map<String, String> properties = meta.getProperties();
-                if (properties != null && !properties.isEmpty()) {
-                    artifactsWithProperties++;
-
-                    // Check for expected properties
-                    if (!properties.containsKey("owner")) {
-                        report.recordWarning("Artifact " + artifactId + " missing 'owner' property");
-                    }
-                    if (!properties.containsKey("version")) {
-                        report.recordWarning("Artifact " + artifactId + " missing 'version' property");
-                    }
-                }
+        // Summary validations
+        int totalArtifacts = Math.max(artifacts.getTotal(), 0);
+
+        validateMetadataCount("Labels", artifactsWithLabels.intValue(), totalArtifacts);
+        validateMetadataCount("Properties", artifactsWithProperties.intValue(), totalArtifacts);
+        validateMetadataCount("Descriptions", artifactsWithDescriptions.intValue(), totalArtifacts);
+
+        if (expectations != null && mismatches.sum() == 0) {
+            report.recordPass("Metadata matches expectations (" + artifactsCompared.sum() + " artifacts)");
+            log.info("  ✓ Name, description, labels and properties of {} artifacts match", artifactsCompared.sum());
+        }
+        if (versionMismatches.sum() == 0) {
+            log.info("  ✓ Metadata of {} versions matches", versionsChecked.sum());
+        }
+    }
+
+    /**
+     * Validates the metadata of an artifact and of each of its versions.
+     *
+     * @param artifactId the artifact identifier
+     * @param expected what the creator recorded for it, or null
+     */
+    private void validateArtifact(String artifactId, Expectations.ExpectedArtifact expected) throws Exception {
+        String groupId = pages.getGroupId();
+        try {
+            long start = System.nanoTime();
+            ArtifactMetaData meta = scheduler.call(latencies, () -> client.getArtifactMetaData(groupId, artifactId));
+            long latency = System.nanoTime() - start;
 
-                // Validate description
-                String description = meta.getDescription();
-                if (description != null && !description.trim().isEmpty()) {
-                    artifactsWithDescriptions++;
+            // Labels are List<String> in format "key:value"
+            if (meta.getLabels() != null && !meta.getLabels().isEmpty()) {
+                artifactsWithLabels.increment();
+            }
+            if (meta.getProperties() != null && !meta.getProperties().isEmpty()) {
+                artifactsWithProperties.increment();
+            }
+            if (meta.getDescription() != null && !meta.getDescription().trim().isEmpty()) {
+                artifactsWithDescriptions.increment();
+            }
+
+            // Compare with what the creator set (on the first version, which is also the latest if it is the only one)
+            if (expected != null) {
+                artifactsCompared.increment();
+                String difference = compare(expected, meta.getName(), meta.getDescription(), meta.getLabels(),
+                    meta.getProperties(), expected.getVersions() <= 1);
+                if (difference != null) {
+                    mismatches.increment();
+                    report.recordFailure("Metadata", difference,
+                        new ArtifactCoordinates(groupId, artifactId, null), latency);
+                    log.error("  ✗ Metadata of {}: {}", artifactId, difference);
                 }
+            }
+        } catch (Exception e) {
+            mismatches.increment();
+            report.recordFailure("Metadata retrieval for " + artifactId, e.getMessage());
+            log.error("  ✗ Failed to get metadata for {}: {}", artifactId, e.getMessage());
+        }
 
+        // List every version, then check the metadata of each
+        List<SearchedVersion> versions = new ArrayList<>();
+        try {
+            VersionSearchResults page;
+            do {
+                int offset = versions.size();
+                page = scheduler.call(latencies,
+                    () -> client.listArtifactVersions(groupId, artifactId, offset, pages.getPageSize()));
+                versions.addAll(page.getVersions());
+            } while (!page.getVersions().isEmpty() && versions.size() < page.getCount());
+        } catch (Exception e) {
+            versionMismatches.increment();
+            report.recordFailure("Versions of " + artifactId, e.getMessage());
+            log.error("  ✗ Failed to list versions of {}: {}", artifactId, e.getMessage());
+            return;
+        }
+        long firstGlobalId = versions.stream().mapToLong(SearchedVersion::getGlobalId).min().orElse(-1);
+        for (SearchedVersion version : versions) {
+            ArtifactCoordinates target = new ArtifactCoordinates(groupId, artifactId, version.getVersion());
+            long start = System.nanoTime();
+            try {
+                VersionMetaData meta = scheduler.call(latencies,
+                    () -> client.getArtifactVersionMetaData(groupId, artifactId, version.getVersion()));
+                long latency = System.nanoTime() - start;
+                versionsChecked.increment();
+                String difference = meta.getState() != ArtifactState.ENABLED
+                    ? "Expected state ENABLED but found " + meta.getState()
+                    : expected != null ? compare(expected, meta.getName(), meta.getDescription(), meta.getLabels(),
+                        meta.getProperties(), version.getGlobalId() == firstGlobalId) : null;
+                if (difference != null) {
+                    versionMismatches.increment();
+                    report.recordFailure("Version metadata", difference, target, latency);
+                    log.error("  ✗ Metadata of {}: {}", target, difference);
+                } else {
+                    report.recordPass("Version metadata", target, latency);
+                }
             } catch (Exception e) {
-                report.recordFailure(
-                    "Metadata retrieval for " + artifactId,
-                    e.getMessage()
-                );
-                log.error("  ✗ Failed to get metadata for {}: {}", artifactId, e.getMessage());
+                versionMismatches.increment();
+                report.recordFailure("Version metadata retrieval", e.getMessage(), target, System.nanoTime() - start);
+                log.error("  ✗ Failed to get metadata of {}: {}", target, e.getMessage());
             }
         }
+    }
 
-        // Summary validations
-        int totalArtifacts = results.getCount();
+    /**
+     * Compares metadata with what the creator set.
+     *
+     * @param firstVersion whether the metadata is that of the first version, which must match exactly;
+     *                     otherwise labels and properties must match or be empty
+     * @return the first difference, or null if there is none
+     */
+    private static String compare(Expectations.ExpectedArtifact expected, String name, String description,
+                                  List<String> labels, Map<String, String> properties, boolean firstVersion) {
+        labels = labels != null ? labels : List.of();
+        properties = properties != null ? properties : Map.of();
+        if (!firstVersion) {
+            if (!labels.isEmpty() && !sameLabels(expected.getLabels(), labels)) {
+                return "Expected labels " + expected.getLabels() + " or none but found " + labels;
+            }
+            if (!properties.isEmpty() && !Objects.equals(expected.getProperties(), properties)) {
+                return "Expected properties " + expected.getProperties() + " or none but found " + properties;
+            }
+            return null;
+        }
+        if (expected.getName() != null && !expected.getName().equals(name)) {
+            return "Expected name '" + expected.getName() + "' but found '" + name + "'";
+        }
+        if (expected.getDescription() != null && !expected.getDescription().equals(description)) {
+            return "Expected description '" + expected.getDescription() + "' but found '" + description + "'";
+        }
+        if (!sameLabels(expected.getLabels(), labels)) {
+            return "Expected labels " + expected.getLabels() + " but found " + labels;
+        }
+        if (!Objects.equals(expected.getProperties(), properties)) {
+            return "Expected properties " + expected.getProperties() + " but found " + properties;
+        }
+        return null;
+    }
 
-        validateMetadataCount("Labels", artifactsWithLabels, totalArtifacts);
-        validateMetadataCount("Properties", artifactsWithProperties, totalArtifacts);
-        validateMetadataCount("Descriptions", artifactsWithDescriptions, totalArtifacts);
+    private static boolean sameLabels(List<String> expected, List<String> labels) {
+        return labels.size() == expected.size() && new HashSet<>(labels).containsAll(expected);
     }
 
     /**
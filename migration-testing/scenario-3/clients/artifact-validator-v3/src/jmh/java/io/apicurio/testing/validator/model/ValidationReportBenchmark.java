@@ -0,0 +1,158 @@
+package io.apicurio.testing.validator.model;
+
+import io.apicurio.testing.validator.report.ArtifactCoordinates;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the lock-free {@link ValidationReport} with the former synchronized one
+ * ({@link SynchronizedReportBaseline}) when many threads record into one report, as
+ * the concurrent validators do.
+ *
+ * Every thread records into the same report; once the failure sample is full, failures
+ * only update counters, as in a run with many mismatches. Each thread also counts what
+ * it recorded into the lock-free report, and the trial fails if the report's counts
+ * differ from those sums, i.e. if it lost updates. Run a single thread count
+ * with {@code -t}, or let {@link #main} run 1 to 64 threads and print a table:
+ *
+ * <pre>
+ * mvn -Pjmh package -Dexec.skip=true
+ * java -jar target/benchmarks.jar ValidationReportBenchmark -t 16
+ * java -cp target/benchmarks.jar io.apicurio.testing.validator.model.ValidationReportBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ValidationReportBenchmark {
+
+    private static final int SAMPLE_SIZE = ValidationReport.DEFAULT_SAMPLE_SIZE;
+    private static final int[] THREADS = {1, 2, 4, 8, 16, 32, 64};
+
+    private static final ArtifactCoordinates TARGET = new ArtifactCoordinates("default", "avro-schema-1", "2");
+
+    private ValidationReport report;
+    private SynchronizedReportBaseline baseline;
+    private final Queue<Recorded> recorded = new ConcurrentLinkedQueue<>();
+
+    /**
+     * What one thread recorded into the lock-free report during the trial.
+     */
+    @State(Scope.Thread)
+    public static class Recorded {
+        long passes;
+        long failures;
+
+        @Setup(Level.Trial)
+        public void register(ValidationReportBenchmark benchmark) {
+            benchmark.recorded.add(this);
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        report = new ValidationReport(null, SAMPLE_SIZE);
+        baseline = new SynchronizedReportBaseline(SAMPLE_SIZE);
+        recorded.clear();
+    }
+
+    /**
+     * Fails the trial if the lock-free report lost a count or kept more than its sample.
+     */
+    @TearDown(Level.Trial)
+    public void verify() {
+        long passes = 0;
+        long failures = 0;
+        for (Recorded thread : recorded) {
+            passes += thread.passes;
+            failures += thread.failures;
+        }
+        // The report's counters are read as int; compare with the sums truncated the same way
+        if (report.getPassedChecks() != (int) passes || report.getFailedChecks() != (int) failures) {
+            throw new IllegalStateException("Lost updates: recorded " + passes + " passes and " + failures
+                + " failures, the report has " + report.getPassedChecks() + " and " + report.getFailedChecks());
+        }
+        if (report.getFailures().size() > Math.min(SAMPLE_SIZE, report.getFailedChecks())) {
+            throw new IllegalStateException("Kept " + report.getFailures().size() + " failures, the sample is "
+                + SAMPLE_SIZE);
+        }
+    }
+
+    @Benchmark
+    public void synchronizedPass() {
+        baseline.recordPass("Version metadata", TARGET, 1000);
+    }
+
+    @Benchmark
+    public void lockFreePass(Recorded recorded) {
+        report.recordPass("Version metadata", TARGET, 1000);
+        recorded.passes++;
+    }
+
+    @Benchmark
+    public void synchronizedFailure() {
+        baseline.recordFailure("Version metadata", "Expected state ENABLED but found DISABLED", TARGET, 1000);
+    }
+
+    @Benchmark
+    public void lockFreeFailure(Recorded recorded) {
+        report.recordFailure("Version metadata", "Expected state ENABLED but found DISABLED", TARGET, 1000);
+        recorded.failures++;
+    }
+
+    /**
+     * Runs every benchmark at 1 to 64 threads and prints throughput per thread count.
+     */
+    public static void main(String[] args) throws Exception {
+        Map<String, Map<Integer, Double>> scores = new TreeMap<>();
+        for (int threads : THREADS) {
+            Options options = new OptionsBuilder()
+                .include(ValidationReportBenchmark.class.getName() + "\\.(synchronized|lockFree)(Pass|Failure)$")
+                .threads(threads)
+                .build();
+            for (RunResult result : new Runner(options).run()) {
+                String benchmark = result.getParams().getBenchmark();
+                scores.computeIfAbsent(benchmark.substring(benchmark.lastIndexOf('.') + 1), name -> new TreeMap<>())
+                    .put(threads, result.getPrimaryResult().getScore());
+            }
+        }
+
+        System.out.println();
+        System.out.println("Throughput (ops/us, all threads together):");
+        StringBuilder header = new StringBuilder(String.format("%-22s", "Benchmark"));
+        for (int threads : THREADS) {
+            header.append(String.format("%10s", threads + " thr"));
+        }
+        System.out.println(header);
+        scores.forEach((benchmark, byThreads) -> {
+            StringBuilder line = new StringBuilder(String.format("%-22s", benchmark));
+            for (int threads : THREADS) {
+                line.append(String.format("%10.1f", byThreads.getOrDefault(threads, Double.NaN)));
+            }
+            System.out.println(line);
+        });
+    }
+}
@@ -0,0 +1,130 @@
+package io.apicurio.testing.validator.content;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * Reads the version fingerprints of a registry v2 admin export (step F).
+ *
+ * The export is read once as a stream. Version entries
+ * ({@code groups/<group>/artifacts/<artifactId>/versions/<version>.ArtifactVersion.json})
+ * give the key, globalId and contentId; content entries
+ * ({@code content/<contentId>.Content.data}) are hashed with SHA-256 as they are
+ * read. The two are joined by contentId at the end, so only one small record per
+ * version and one hash per content are kept in memory.
+ */
+public final class ExportFingerprints {
+
+    private static final String VERSION_SUFFIX = ".ArtifactVersion.json";
+    private static final String CONTENT_SUFFIX = ".Content.data";
+    private static final String DEFAULT_GROUP = "default";
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final FingerprintManifest.Builder manifest = new FingerprintManifest.Builder();
+    private final List<String> versionsWithoutContent = new ArrayList<>();
+
+    private ExportFingerprints() {
+    }
+
+    /**
+     * Reads the fingerprints of one group's versions from an export.
+     *
+     * @param exportFile the export zip
+     * @param groupId the group to read; versions of other groups are skipped
+     */
+    public static ExportFingerprints read(Path exportFile, String groupId) throws IOException {
+        List<VersionEntry> versions = new ArrayList<>();
+        Map<Long, String> contentHashes = new HashMap<>();
+
+        try (ZipInputStream zip = new ZipInputStream(new BufferedInputStream(Files.newInputStream(exportFile)))) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                String name = entry.getName();
+                if (name.endsWith(VERSION_SUFFIX)) {
+                    VersionEntry version = readVersion(zip);
+                    if (groupId.equals(version.groupId)) {
+                        versions.add(version);
+                    }
+                } else if (name.endsWith(CONTENT_SUFFIX)) {
+                    String fileName = name.substring(name.lastIndexOf('/') + 1);
+                    long contentId = Long.parseLong(
+                        fileName.substring(0, fileName.length() - CONTENT_SUFFIX.length()));
+                    contentHashes.put(contentId, ContentHashes.sha256(zip));
+                }
+                zip.closeEntry();
+            }
+        }
+
+        ExportFingerprints fingerprints = new ExportFingerprints();
+        for (VersionEntry version : versions) {
+            String sha256 = contentHashes.get(version.contentId);
+            if (sha256 == null) {
+                fingerprints.versionsWithoutContent.add(
+                    version.groupId + "/" + version.artifactId + "/" + version.version);
+            } else {
+                fingerprints.manifest.add(version.groupId, version.artifactId, version.version,
+                    version.globalId, version.contentId, sha256);
+            }
+        }
+        return fingerprints;
+    }
+
+    /**
+     * Returns the fingerprints of the versions whose content is in the export.
+     */
+    public FingerprintManifest.Builder getManifest() {
+        return manifest;
+    }
+
+    /**
+     * Returns "group/artifactId/version" of the versions whose content is missing or empty.
+     */
+    public List<String> getVersionsWithoutContent() {
+        return versionsWithoutContent;
+    }
+
+    private static VersionEntry readVersion(InputStream zip) throws IOException {
+        // Read the entry fully; the parser would otherwise close the zip stream
+        JsonNode node = MAPPER.readTree(zip.readAllBytes());
+        String groupId = node.path("groupId").asText(null);
+        return new VersionEntry(
+            groupId != null ? groupId : DEFAULT_GROUP,
+            node.path("artifactId").asText(),
+            node.path("version").asText(),
+            node.path("globalId").asLong(),
+            node.path("contentId").asLong()
+        );
+    }
+
+    /**
+     * One version read from the export.
+     */
+    private static final class VersionEntry {
+        final String groupId;
+        final String artifactId;
+        final String version;
+        final long globalId;
+        final long contentId;
+
+        VersionEntry(String groupId, String artifactId, String version, long globalId, long contentId) {
+            this.groupId = groupId;
+            this.artifactId = artifactId;
+            this.version = version;
+            this.globalId = globalId;
+            this.contentId = contentId;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package io.apicurio.testing.validator.report;
+
+/**
+ * The artifact, and optionally the version, a check result is about.
+ */
+public final class ArtifactCoordinates {
+
+    private final String groupId;
+    private final String artifactId;
+    private final String version;
+
+    /**
+     * @param groupId the group identifier
+     * @param artifactId the artifact identifier
+     * @param version the version, or null if the check is about the whole artifact
+     */
+    public ArtifactCoordinates(String groupId, String artifactId, String version) {
+        this.groupId = groupId;
+        this.artifactId = artifactId;
+        this.version = version;
+    }
+
+    public String getGroupId() {
+        return groupId;
+    }
+
+    public String getArtifactId() {
+        return artifactId;
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns "artifactId" or "artifactId/version", as validators name artifacts in messages.
+     */
+    @Override
+    public String toString() {
+        return version != null ? artifactId + "/" + version : artifactId;
+    }
+}
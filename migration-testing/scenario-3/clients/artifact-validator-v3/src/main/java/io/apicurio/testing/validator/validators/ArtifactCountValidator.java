@@ -1,41 +1,46 @@
 package io.apicurio.testing.validator.validators;
 
-import io.apicurio.registry.rest.client.RegistryClient;
-import io.apicurio.registry.rest.client.models.ArtifactSearchResults;
-import io.apicurio.registry.rest.client.models.ArtifactSortBy;
-import io.apicurio.registry.rest.client.models.SortOrder;
+import io.apicurio.testing.validator.inventory.RegistryInventory;
+import io.apicurio.testing.validator.model.Expectations;
 import io.apicurio.testing.validator.model.ValidationReport;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
- * Validates artifact and version counts in the registry.
+ * Validates artifact and version counts in the registry, as loaded into the inventory,
+ * against the creator's expectations.
+ *
+ * The inventory is walked once: each artifact is looked up in the expectations, its
+ * type and version count are checked, and it is marked as found, so missing artifacts
+ * are known at the end without a second pass. Artifacts the creator did not create
+ * (for example ones registered by the Kafka clients) are reported as warnings.
  */
 public class ArtifactCountValidator {
 
     private static final Logger log = LoggerFactory.getLogger(ArtifactCountValidator.class);
 
-    private final RegistryClient client;
-    private final ValidationReport report;
-
-    // Expected counts from test data creation
-    private static final int EXPECTED_TOTAL_ARTIFACTS = 25;
-    private static final Map<String, Integer> EXPECTED_BY_TYPE = new HashMap<>();
+    // Artifact ids listed in a missing or unexpected artifacts message
+    private static final int LISTED_IDS = 10;
 
-    static {
-        EXPECTED_BY_TYPE.put("AVRO", 10);
-        EXPECTED_BY_TYPE.put("PROTOBUF", 5);
-        EXPECTED_BY_TYPE.put("JSON", 5);
-        EXPECTED_BY_TYPE.put("OPENAPI", 3);
-        EXPECTED_BY_TYPE.put("ASYNCAPI", 2);
-    }
+    private final RegistryInventory inventory;
+    private final ValidationReport report;
+    private final Expectations expectations;
 
-    public ArtifactCountValidator(RegistryClient client, ValidationReport report) {
-        this.client = client;
+    /**
+     * @param inventory the registry inventory
+     * @param report the validation report
+     * @param expectations what the creator created, or null to only count
+     */
+    public ArtifactCountValidator(RegistryInventory inventory, ValidationReport report, Expectations expectations) {
+        this.inventory = inventory;
         this.report = report;
+        this.expectations = expectations;
     }
 
     /**
@@ -44,39 +49,81 @@ public class ArtifactCountValidator {
     public void validate() throws Exception {
         log.info("Validating artifact counts...");
 
-        // Get all artifacts using v3 search API
-        ArtifactSearchResults results = client.search().artifacts().get(config -> {
-            config.queryParameters.groupId = "default";
-            config.queryParameters.orderby = ArtifactSortBy.ArtifactId;
-            config.queryParameters.order = SortOrder.Asc;
-            config.queryParameters.offset = 0;
-            config.queryParameters.limit = 1000;
-        });
-
-        int totalArtifacts = results.getCount();
+        int totalArtifacts = inventory.getReportedArtifactCount();
+        long totalVersions = inventory.getTotalVersions();
         log.info("  Found {} total artifacts", totalArtifacts);
+        log.info("  Total versions across all artifacts: {}", totalVersions);
+
+        if (expectations == null) {
+            inventory.countByType().forEach((type, count) -> log.info("  {} artifacts: {}", type, count));
+            report.recordPass("Total version count (" + totalVersions + ")");
+            return;
+        }
+
+        // Check each artifact against its expectation (artifacts whose versions could
+        // not be listed were logged when loading)
+        Map<String, Integer> actualByType = new HashMap<>();
+        BitSet found = new BitSet();
+        List<String> unexpected = new ArrayList<>();
+        int unexpectedCount = 0;
+        int mismatches = 0;
+        for (RegistryInventory.ArtifactEntry artifact : inventory.getArtifacts()) {
+            String artifactId = artifact.getArtifactId();
+            log.debug("  Artifact {} has {} versions", artifactId, artifact.getVersionCount());
+
+            Expectations.ExpectedArtifact expected = expectations.getArtifact(artifactId);
+            if (expected == null) {
+                if (unexpectedCount++ < LISTED_IDS) {
+                    unexpected.add(artifactId);
+                }
+                continue;
+            }
+            found.set(expected.getOrdinal());
+            actualByType.merge(artifact.getArtifactType(), 1, Integer::sum);
+            if (!expected.getType().equals(artifact.getArtifactType())) {
+                mismatches++;
+                report.recordFailure("Artifact type of " + artifactId,
+                    "Expected " + expected.getType() + " but found " + artifact.getArtifactType());
+                log.error("  ✗ {}: expected type {} but found {}", artifactId, expected.getType(),
+                    artifact.getArtifactType());
+            }
+            if (artifact.getVersionsError() == null && artifact.getVersionCount() != expected.getVersions()) {
+                mismatches++;
+                report.recordFailure("Version count of " + artifactId,
+                    "Expected " + expected.getVersions() + " but found " + artifact.getVersionCount());
+                log.error("  ✗ {}: expected {} versions but found {}", artifactId, expected.getVersions(),
+                    artifact.getVersionCount());
+            }
+        }
 
-        // Validate total count
-        if (totalArtifacts == EXPECTED_TOTAL_ARTIFACTS) {
-            report.recordPass("Total artifact count (" + totalArtifacts + ")");
-            log.info("  ✓ Total artifact count matches expected: {}", totalArtifacts);
+        // Validate that every expected artifact was found
+        int expectedTotal = expectations.getArtifactCount();
+        int missing = expectedTotal - found.cardinality();
+        if (missing == 0) {
+            report.recordPass("Total artifact count (" + found.cardinality() + ")");
+            log.info("  ✓ All {} expected artifacts found", expectedTotal);
         } else {
+            List<String> missingIds = new ArrayList<>();
+            for (int i = found.nextClearBit(0); i < expectedTotal && missingIds.size() < LISTED_IDS;
+                 i = found.nextClearBit(i + 1)) {
+                missingIds.add(expectations.getArtifacts().get(i).getArtifactId());
+            }
             report.recordFailure(
                 "Total artifact count",
-                "Expected " + EXPECTED_TOTAL_ARTIFACTS + " but found " + totalArtifacts
+                "Expected " + expectedTotal + " but " + missing + " are missing: " + describe(missingIds, missing)
             );
-            log.error("  ✗ Expected {} artifacts but found {}", EXPECTED_TOTAL_ARTIFACTS, totalArtifacts);
+            log.error("  ✗ Expected {} artifacts but {} are missing: {}", expectedTotal, missing,
+                describe(missingIds, missing));
         }
-
-        // Count artifacts by type
-        Map<String, Integer> actualByType = new HashMap<>();
-        for (var artifact : results.getArtifacts()) {
-            String type = artifact.getArtifactType();
-            actualByType.merge(type, 1, Integer::sum);
+        if (unexpectedCount > 0) {
+            report.recordWarning(unexpectedCount + " artifacts not created by the artifact creator: "
+                + describe(unexpected, unexpectedCount));
+            log.warn("  ⚠ {} artifacts not created by the artifact creator: {}", unexpectedCount,
+                describe(unexpected, unexpectedCount));
         }
 
-        // Validate counts by type
-        for (Map.Entry<String, Integer> entry : EXPECTED_BY_TYPE.entrySet()) {
+        // Validate counts by type (of the expected artifacts)
+        for (Map.Entry<String, Integer> entry : expectations.getArtifactsByType().entrySet()) {
             String type = entry.getKey();
             int expected = entry.getValue();
             int actual = actualByType.getOrDefault(type, 0);
@@ -93,26 +140,15 @@ public class ArtifactCountValidator {
             }
         }
 
-        // Count total versions
-        int totalVersions = 0;
-        for (var artifact : results.getArtifacts()) {
-            try {
-                // Get version count for each artifact using v3 API
-                var versions = client.groups().byGroupId("default")
-                    .artifacts().byArtifactId(artifact.getArtifactId())
-                    .versions().get(config -> {
-                        config.queryParameters.offset = 0;
-                        config.queryParameters.limit = 100;
-                    });
-                int versionCount = versions.getCount();
-                totalVersions += versionCount;
-                log.debug("  Artifact {} has {} versions", artifact.getArtifactId(), versionCount);
-            } catch (Exception e) {
-                log.warn("  Failed to get version count for artifact {}: {}", artifact.getArtifactId(), e.getMessage());
-            }
+        if (mismatches == 0) {
+            report.recordPass("Artifact types and version counts (" + found.cardinality() + " artifacts, "
+                + expectations.getTotalVersions() + " versions expected)");
+            log.info("  ✓ Types and version counts of all found artifacts match");
         }
-
-        log.info("  Total versions across all artifacts: {}", totalVersions);
         report.recordPass("Total version count (" + totalVersions + ")");
     }
+
+    private static String describe(List<String> ids, int count) {
+        return String.join(", ", ids) + (count > ids.size() ? ", ..." : "");
+    }
 }
@@ -0,0 +1,173 @@
+package io.apicurio.testing.validator.validators;
+
+import io.apicurio.testing.validator.client.AsyncRegistryClient;
+import io.apicurio.testing.validator.content.ExportIndex;
+import io.apicurio.testing.validator.model.ValidationReport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Compares registry content with the content of the v2 export, version by version.
+ *
+ * Versions are picked from the export index, so no registry listing is needed:
+ * each picked version is fetched from the registry by globalId (and its content
+ * once by contentId) through the asynchronous client, while its export entry is
+ * decompressed on demand on a pool of threads, and the two are compared byte for
+ * byte. A sample size of 0 compares every version in the export.
+ */
+public class ExportContentValidator {
+
+    private static final Logger log = LoggerFactory.getLogger(ExportContentValidator.class);
+
+    // Comparisons queued per in-flight slot
+    private static final int QUEUED_PER_REQUEST = 4;
+
+    private final AsyncRegistryClient client;
+    private final ValidationReport report;
+    private final ExportIndex index;
+    private final int samples;
+    private final int threads;
+
+    /**
+     * @param client the asynchronous registry client
+     * @param report the validation report
+     * @param index the index of the export to compare with
+     * @param samples versions to compare, or 0 for all
+     * @param threads threads decompressing export content
+     */
+    public ExportContentValidator(AsyncRegistryClient client, ValidationReport report, ExportIndex index,
+                                  int samples, int threads) {
+        this.client = client;
+        this.report = report;
+        this.index = index;
+        this.samples = samples;
+        this.threads = threads;
+    }
+
+    /**
+     * Compares the picked versions.
+     */
+    public void validate() {
+        log.info("Validating content against export {}...", index.getExportFile());
+        int[] picked = pick();
+        log.info("  Comparing {} of {} exported versions ({} decompression threads)...", picked.length,
+            index.getVersionCount(), threads);
+
+        Set<Long> comparedContentIds = ConcurrentHashMap.newKeySet();
+        LongAdder matched = new LongAdder();
+        LongAdder exportBytes = new LongAdder();
+        int window = client.getMaxInFlight() * QUEUED_PER_REQUEST;
+        Semaphore queued = new Semaphore(window);
+        long start = System.nanoTime();
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            for (int version : picked) {
+                long globalId = index.getGlobalId(version);
+                long contentId = index.getContentIdOfVersion(version);
+                String check = "Content of globalId " + globalId + " matches export";
+                queued.acquireUninterruptibly();
+                CompletableFuture<byte[]> exported = CompletableFuture.supplyAsync(() -> {
+                    try {
+                        return index.readContent(contentId);
+                    } catch (IOException e) {
+                        throw new CompletionException(e);
+                    }
+                }, executor);
+                exported.thenCombine(client.getContentByGlobalId(globalId), (content, registered) -> {
+                    if (content == null) {
+                        report.recordFailure(check, "Content " + contentId + " is missing from the export");
+                        return null;
+                    }
+                    exportBytes.add(content.length);
+                    return compare(check, content, registered) ? content : null;
+                }).thenCompose(content -> {
+                    if (content == null || !comparedContentIds.add(contentId)) {
+                        return CompletableFuture.completedFuture(content != null);
+                    }
+                    return client.getContentByContentId(contentId).thenApply(registered ->
+                        compare("Content of contentId " + contentId + " matches export", content, registered));
+                }).whenComplete((same, error) -> {
+                    try {
+                        if (error != null) {
+                            report.recordFailure(check, cause(error).getMessage());
+                            log.error("    ✗ {}: {}", check, cause(error).getMessage());
+                        } else if (same) {
+                            matched.increment();
+                        }
+                    } finally {
+                        queued.release();
+                    }
+                });
+            }
+            queued.acquireUninterruptibly(window);
+            queued.release(window);
+        } finally {
+            executor.shutdownNow();
+        }
+        double seconds = Math.max(System.nanoTime() - start, 1) / 1_000_000_000.0;
+
+        String rate = String.format("%.0f versions/s, %.1f MB/s of export content", picked.length / seconds,
+            exportBytes.sum() / 1_048_576.0 / seconds);
+        log.info("    Compared {} versions in {} ms ({})", picked.length, Math.round(seconds * 1000), rate);
+        if (matched.sum() == picked.length) {
+            report.recordPass("Content matches export (" + matched.sum() + "/" + picked.length + " versions, "
+                + comparedContentIds.size() + " contents, " + rate + ")");
+            log.info("    ✓ Content of all {} compared versions matches the export", matched.sum());
+        }
+    }
+
+    /**
+     * Compares registry content with the exported content.
+     *
+     * @return whether they are equal; a failure is recorded otherwise
+     */
+    private boolean compare(String check, byte[] exported, byte[] registered) {
+        byte[] content = registered != null ? registered : new byte[0];
+        if (Arrays.equals(exported, content)) {
+            return true;
+        }
+        report.recordFailure(check, "Registry content (" + content.length + " bytes) differs from export ("
+            + exported.length + " bytes)");
+        log.error("    ✗ {}: registry content differs from export", check);
+        return false;
+    }
+
+    /**
+     * Picks the versions to compare: all of them, or a random sample in globalId order.
+     */
+    private int[] pick() {
+        int count = index.getVersionCount();
+        if (samples <= 0 || samples >= count) {
+            int[] all = new int[count];
+            Arrays.setAll(all, i -> i);
+            return all;
+        }
+        // Floyd's algorithm: samples distinct indexes without allocating one per version
+        Random random = new Random();
+        Set<Integer> chosen = new HashSet<>();
+        for (int i = count - samples; i < count; i++) {
+            int candidate = random.nextInt(i + 1);
+            chosen.add(chosen.contains(candidate) ? i : candidate);
+        }
+        return chosen.stream().mapToInt(Integer::intValue).sorted().toArray();
+    }
+
+    private static Throwable cause(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null
+            ? error.getCause() : error;
+    }
+}
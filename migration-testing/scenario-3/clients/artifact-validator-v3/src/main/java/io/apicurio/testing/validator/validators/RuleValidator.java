@@ -3,25 +3,66 @@ package io.apicurio.testing.validator.validators;
 import io.apicurio.registry.rest.client.RegistryClient;
 import io.apicurio.registry.rest.client.models.Rule;
 import io.apicurio.registry.rest.client.models.RuleType;
+import io.apicurio.testing.validator.client.AsyncRegistryClient;
+import io.apicurio.testing.validator.engine.FetchScheduler;
+import io.apicurio.testing.validator.engine.LatencyHistogram;
+import io.apicurio.testing.validator.inventory.RegistryInventory;
+import io.apicurio.testing.validator.model.Expectations;
 import io.apicurio.testing.validator.model.ValidationReport;
+import io.apicurio.testing.validator.report.ArtifactCoordinates;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
- * Validates global and artifact-specific rules.
+ * Validates global and artifact-specific rules against the creator's expectations.
+ *
+ * The rule set of every artifact in the inventory is listed and compared with the
+ * expected one: a missing or unexpected rule is a failure, and the configuration of
+ * every expected rule is checked. Artifact rules are fetched through the fetch
+ * scheduler on the asynchronous client, which limits the artifacts in flight and
+ * applies the registry's rate limit; the latency of every request is logged as a
+ * histogram. The few global rules are read with blocking calls.
  */
 public class RuleValidator {
 
     private static final Logger log = LoggerFactory.getLogger(RuleValidator.class);
 
-    private final RegistryClient client;
+    private final AsyncRegistryClient client;
+    private final RegistryClient blockingClient;
     private final ValidationReport report;
+    private final RegistryInventory inventory;
+    private final Expectations expectations;
+    private final FetchScheduler scheduler;
 
-    public RuleValidator(RegistryClient client, ValidationReport report) {
+    private final LatencyHistogram latencies = new LatencyHistogram();
+    private final LongAdder artifactsChecked = new LongAdder();
+    private final LongAdder artifactsCompared = new LongAdder();
+    private final LongAdder artifactsWithRules = new LongAdder();
+    private final LongAdder rulesChecked = new LongAdder();
+    private final LongAdder mismatches = new LongAdder();
+
+    /**
+     * @param client the asynchronous registry client
+     * @param report the validation report
+     * @param inventory the registry inventory
+     * @param expectations what the creator created, or null to only list rules
+     * @param scheduler the scheduler fetching artifact rules
+     */
+    public RuleValidator(AsyncRegistryClient client, ValidationReport report, RegistryInventory inventory,
+                         Expectations expectations, FetchScheduler scheduler) {
         this.client = client;
+        this.blockingClient = client.getClient();
         this.report = report;
+        this.inventory = inventory;
+        this.expectations = expectations;
+        this.scheduler = scheduler;
     }
 
     /**
@@ -41,14 +82,21 @@ public class RuleValidator {
         log.info("  Checking global rules...");
 
         // Get global rules using v3 API
-        List<RuleType> globalRules = client.admin().rules().get();
+        List<RuleType> globalRules = blockingClient.admin().rules().get();
         log.info("    Found {} global rules", globalRules.size());
+        if (expectations == null) {
+            return;
+        }
 
-        // Validate VALIDITY rule
-        validateGlobalRule(RuleType.VALIDITY, "FULL");
-
-        // Validate COMPATIBILITY rule
-        validateGlobalRule(RuleType.COMPATIBILITY, "BACKWARD");
+        for (Map.Entry<String, String> rule : expectations.getGlobalRules().entrySet()) {
+            validateGlobalRule(RuleType.valueOf(rule.getKey()), rule.getValue());
+        }
+        for (RuleType ruleType : globalRules) {
+            if (!expectations.getGlobalRules().containsKey(ruleType.name())) {
+                report.recordWarning("Global rule " + ruleType + " was not created by the artifact creator");
+                log.warn("    ⚠ Global rule {} was not created by the artifact creator", ruleType);
+            }
+        }
     }
 
     /**
@@ -60,7 +108,7 @@ public class RuleValidator {
     private void validateGlobalRule(RuleType ruleType, String expectedConfig) throws Exception {
         try {
             // Get global rule using v3 API
-            Rule rule = client.admin().rules().byRuleType(ruleType.name()).get();
+            Rule rule = blockingClient.admin().rules().byRuleType(ruleType.name()).get();
             String actualConfig = rule.getConfig();
 
             if (expectedConfig.equals(actualConfig)) {
@@ -84,50 +132,145 @@ public class RuleValidator {
     }
 
     /**
-     * Validates artifact-specific rules.
+     * Validates the rule set of every artifact.
      */
     private void validateArtifactRules() throws Exception {
-        log.info("  Checking artifact-specific rules...");
+        log.info("  Checking the rules of every artifact ({})...", scheduler);
 
-        // Check FORWARD compatibility rule on avro-schema-1
-        validateArtifactRule("avro-schema-1", RuleType.COMPATIBILITY, "FORWARD");
+        long start = System.nanoTime();
+        for (RegistryInventory.ArtifactEntry artifact : inventory.getArtifacts()) {
+            Expectations.ExpectedArtifact expected = expectations != null
+                ? expectations.getArtifact(artifact.getArtifactId()) : null;
+            scheduler.submit(() -> validateArtifactRuleSet(artifact.getArtifactId(), expected));
+        }
+        scheduler.awaitCompletion();
+        double seconds = Math.max(System.nanoTime() - start, 1) / 1_000_000_000.0;
+        log.info("    Listed the rules of {} artifacts in {} ms ({} requests/s), {} have rules", artifactsChecked.sum(),
+            Math.round(seconds * 1000), String.format("%.0f", latencies.getCount() / seconds),
+            artifactsWithRules.sum());
+        log.info("    Fetch latency:");
+        latencies.log(log, "      ");
+        if (expectations == null) {
+            return;
+        }
 
-        // Check NONE compatibility rule on json-schema-1
-        validateArtifactRule("json-schema-1", RuleType.COMPATIBILITY, "NONE");
+        // No request needed when the inventory shows an artifact with rules is missing
+        for (Expectations.ExpectedArtifact artifact : expectations.getArtifactsWithRules()) {
+            if (inventory.getArtifact(artifact.getArtifactId()) == null) {
+                mismatches.increment();
+                report.recordFailure("Artifact rules",
+                    "Artifact " + artifact.getArtifactId() + " not found in group " + inventory.getGroupId(),
+                    new ArtifactCoordinates(inventory.getGroupId(), artifact.getArtifactId(), null), -1);
+                log.error("    ✗ Artifact rules of {}: artifact not found", artifact.getArtifactId());
+            }
+        }
+        if (mismatches.sum() == 0) {
+            report.recordPass("Artifact rules match expectations (" + artifactsCompared.sum() + " artifacts, "
+                + rulesChecked.sum() + " rules)");
+            log.info("    ✓ Rules of {} artifacts match ({} rules)", artifactsCompared.sum(), rulesChecked.sum());
+        }
     }
 
     /**
-     * Validates a specific artifact rule.
+     * Compares the rule types of an artifact with the expected ones, then the configuration of each.
      *
      * @param artifactId the artifact to check
+     * @param expected what the creator recorded for it, or null to only count its rules
+     * @return future completing once every rule is checked
+     */
+    private CompletableFuture<Void> validateArtifactRuleSet(String artifactId, Expectations.ExpectedArtifact expected) {
+        String groupId = inventory.getGroupId();
+        ArtifactCoordinates target = new ArtifactCoordinates(groupId, artifactId, null);
+        long start = System.nanoTime();
+        return scheduler.call(latencies, () -> client.listArtifactRules(groupId, artifactId))
+            .handle((listed, error) -> {
+                long latency = System.nanoTime() - start;
+                List<CompletableFuture<?>> fetches = new ArrayList<>();
+                if (error != null) {
+                    mismatches.increment();
+                    report.recordFailure("Artifact rules", causeOf(error).getMessage(), target, latency);
+                    log.error("    ✗ Failed to list rules of {}: {}", artifactId, causeOf(error).getMessage());
+                    return fetches;
+                }
+                List<RuleType> ruleTypes = listed != null ? listed : List.of();
+                artifactsChecked.increment();
+                if (!ruleTypes.isEmpty()) {
+                    artifactsWithRules.increment();
+                }
+                if (expected == null) {
+                    return fetches;
+                }
+                artifactsCompared.increment();
+
+                Map<String, String> expectedRules = expected.getRules();
+                for (RuleType ruleType : ruleTypes) {
+                    if (!expectedRules.containsKey(ruleType.name())) {
+                        mismatches.increment();
+                        report.recordFailure("Artifact rules", "Unexpected rule " + ruleType, target, latency);
+                        log.error("    ✗ Artifact rules of {}: unexpected rule {}", artifactId, ruleType);
+                    }
+                }
+                for (Map.Entry<String, String> rule : expectedRules.entrySet()) {
+                    RuleType ruleType = RuleType.valueOf(rule.getKey());
+                    if (!ruleTypes.contains(ruleType)) {
+                        mismatches.increment();
+                        report.recordFailure("Artifact rule " + ruleType, "Rule not found", target, latency);
+                        log.error("    ✗ Artifact rule {}/{} not found", artifactId, ruleType);
+                        continue;
+                    }
+                    fetches.add(validateArtifactRule(target, ruleType, rule.getValue()));
+                }
+                return fetches;
+            })
+            .thenCompose(fetches -> CompletableFuture.allOf(fetches.toArray(new CompletableFuture<?>[0])));
+    }
+
+    /**
+     * Validates a specific artifact rule.
+     *
+     * @param target the artifact to check
      * @param ruleType the rule type to validate
      * @param expectedConfig the expected rule configuration
+     * @return future completing once the rule is checked
      */
-    private void validateArtifactRule(String artifactId, RuleType ruleType, String expectedConfig) throws Exception {
-        try {
-            // Get artifact rule using v3 API
-            Rule rule = client.groups().byGroupId("default")
-                .artifacts().byArtifactId(artifactId)
-                .rules().byRuleType(ruleType.name()).get();
-            String actualConfig = rule.getConfig();
+    private CompletableFuture<?> validateArtifactRule(ArtifactCoordinates target, RuleType ruleType,
+                                                      String expectedConfig) {
+        String artifactId = target.getArtifactId();
+        long start = System.nanoTime();
+        return scheduler.call(latencies, () -> client.getArtifactRule(target.getGroupId(), artifactId, ruleType))
+            .handle((rule, error) -> {
+                long latency = System.nanoTime() - start;
+                if (error != null) {
+                    mismatches.increment();
+                    report.recordFailure(
+                        "Artifact rule " + ruleType,
+                        "Rule not found or error: " + causeOf(error).getMessage(),
+                        target, latency
+                    );
+                    log.error("    ✗ Artifact rule {}/{} not found: {}", artifactId, ruleType,
+                        causeOf(error).getMessage());
+                    return null;
+                }
+                String actualConfig = rule.getConfig();
+                rulesChecked.increment();
 
-            if (expectedConfig.equals(actualConfig)) {
-                report.recordPass("Artifact rule " + artifactId + "/" + ruleType + ": " + actualConfig);
-                log.info("    ✓ Artifact rule {}/{}: {}", artifactId, ruleType, actualConfig);
-            } else {
-                report.recordFailure(
-                    "Artifact rule " + artifactId + "/" + ruleType,
-                    "Expected config '" + expectedConfig + "' but found '" + actualConfig + "'"
-                );
-                log.error("    ✗ Artifact rule {}/{}: expected '{}' but found '{}'",
-                    artifactId, ruleType, expectedConfig, actualConfig);
-            }
-        } catch (Exception e) {
-            report.recordFailure(
-                "Artifact rule " + artifactId + "/" + ruleType,
-                "Rule not found or error: " + e.getMessage()
-            );
-            log.error("    ✗ Artifact rule {}/{} not found: {}", artifactId, ruleType, e.getMessage());
-        }
+                if (expectedConfig.equals(actualConfig)) {
+                    log.debug("    ✓ Artifact rule {}/{}: {}", artifactId, ruleType, actualConfig);
+                } else {
+                    mismatches.increment();
+                    report.recordFailure(
+                        "Artifact rule " + ruleType,
+                        "Expected config '" + expectedConfig + "' but found '" + actualConfig + "'",
+                        target, latency
+                    );
+                    log.error("    ✗ Artifact rule {}/{}: expected '{}' but found '{}'",
+                        artifactId, ruleType, expectedConfig, actualConfig);
+                }
+                return null;
+            });
+    }
+
+    private static Throwable causeOf(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
     }
 }
@@ -0,0 +1,186 @@
+package io.apicurio.testing.analyzer;
+
+import io.apicurio.testing.analyzer.export.ExportReader;
+import io.apicurio.testing.analyzer.model.CreationExpectations;
+import io.apicurio.testing.analyzer.model.ExportInventory;
+import io.apicurio.testing.analyzer.model.ValidationReport;
+import io.apicurio.testing.analyzer.validators.ExportInventoryValidator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.FileWriter;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Main application for checking an Apicurio Registry v2 export without a running registry.
+ *
+ * This application reads the export zip in one streaming pass and checks:
+ * - Every version's content is present, non-empty and matches its content hash
+ * - globalIds are unique
+ * - The created artifacts, versions and rules match the creation summary
+ *
+ * Usage: java -jar export-analyzer.jar [export-file] [summary-file] [output-file]
+ *
+ * Args:
+ *   export-file:  The v2 export zip (default: data/registry-v2-export.zip)
+ *   summary-file: The artifact creator's summary; skipped if it does not exist
+ *                 (default: data/creation-summary.txt)
+ *   output-file:  Path to write the analysis report (default: data/export-analysis.txt)
+ */
+public class ExportAnalyzerApp {
+
+    private static final Logger log = LoggerFactory.getLogger(ExportAnalyzerApp.class);
+
+    private static final String DEFAULT_EXPORT_FILE = "data/registry-v2-export.zip";
+    private static final String DEFAULT_SUMMARY_FILE = "data/creation-summary.txt";
+    private static final String DEFAULT_OUTPUT_FILE = "data/export-analysis.txt";
+
+    public static void main(String[] args) {
+        Path exportFile = Paths.get(args.length > 0 ? args[0] : DEFAULT_EXPORT_FILE);
+        Path summaryFile = Paths.get(args.length > 1 ? args[1] : DEFAULT_SUMMARY_FILE);
+        String outputFile = args.length > 2 ? args[2] : DEFAULT_OUTPUT_FILE;
+
+        log.info("================================================================");
+        log.info("  Apicurio Registry Export Analyzer");
+        log.info("================================================================");
+        log.info("Export File:  {}", exportFile);
+        log.info("Summary File: {}", summaryFile);
+        log.info("Output File:  {}", outputFile);
+        log.info("");
+
+        try {
+            ValidationReport report = new ValidationReport();
+
+            CreationExpectations expectations = null;
+            if (Files.exists(summaryFile)) {
+                expectations = CreationExpectations.load(summaryFile);
+            } else {
+                report.recordWarning("Creation summary " + summaryFile + " not found; only consistency was checked");
+                log.warn("Creation summary {} not found; only consistency is checked", summaryFile);
+            }
+
+            // Read the export in one pass
+            log.info("Reading export...");
+            long start = System.currentTimeMillis();
+            ExportInventory inventory = new ExportInventory();
+            new ExportReader(inventory).read(exportFile);
+            long millis = Math.max(System.currentTimeMillis() - start, 1);
+            Runtime runtime = Runtime.getRuntime();
+            log.info("  Read {} entries in {} ms ({} MB/s of content, {} MB heap in use)", inventory.getEntries(),
+                millis, String.format("%.1f", inventory.getContentBytes() / 1048.576 / millis),
+                (runtime.totalMemory() - runtime.freeMemory()) / (1024 * 1024));
+            log.info("  {} artifacts, {} versions, {} contents, {} global rules, {} artifact rules",
+                inventory.getArtifacts().size(), inventory.getVersions(), inventory.getContents(),
+                inventory.getGlobalRules().size(), inventory.getArtifactRules());
+            log.info("");
+
+            new ExportInventoryValidator(inventory, expectations, report).validate();
+
+            // Print report to console
+            report.printReport();
+
+            // Write report to file
+            writeReportToFile(inventory, report, exportFile, outputFile);
+
+            log.info("");
+            log.info("================================================================");
+            if (report.allPassed()) {
+                log.info("  ✓ Export analysis completed successfully - ALL CHECKS PASSED");
+                log.info("================================================================");
+                log.info("Report written to: {}", outputFile);
+                System.exit(0);
+            } else {
+                log.info("  ✗ Export analysis completed with FAILURES");
+                log.info("================================================================");
+                log.info("Report written to: {}", outputFile);
+                System.exit(1);
+            }
+
+        } catch (Exception e) {
+            log.error("================================================================");
+            log.error("  ✗ Export analysis failed with error");
+            log.error("================================================================");
+            log.error("Error: {}", e.getMessage(), e);
+            System.exit(2);
+        }
+    }
+
+    /**
+     * Writes the export inventory and the analysis report to a file.
+     *
+     * @param inventory what the export contains
+     * @param report the analysis report
+     * @param exportFile the analyzed export
+     * @param outputFile path to the output file
+     */
+    private static void writeReportToFile(ExportInventory inventory, ValidationReport report, Path exportFile,
+                                          String outputFile) throws Exception {
+        try (PrintWriter writer = new PrintWriter(new FileWriter(outputFile))) {
+            writer.println("Export Analysis Report");
+            writer.println("=".repeat(60));
+            writer.println();
+            writer.println("Export File:         " + exportFile);
+            writer.println("Exported On:         " + inventory.getExportedOn());
+            writer.println("System Version:      " + inventory.getSystemVersion());
+            writer.println("Entries:             " + inventory.getEntries());
+            writer.println();
+            writer.println("Groups:              " + inventory.getGroups());
+            writer.println("Artifacts:           " + inventory.getArtifacts().size());
+            writer.println("Versions:            " + inventory.getVersions());
+            writer.println("Contents:            " + inventory.getContents()
+                + " (" + inventory.getContentBytes() + " bytes)");
+            writer.println("References:          " + inventory.getReferences()
+                + " (in " + inventory.getContentsWithReferences() + " contents)");
+            writer.println("Global Rules:        " + inventory.getGlobalRules());
+            writer.println("Artifact Rules:      " + inventory.getArtifactRules() + " "
+                + inventory.getArtifactRulesByType());
+            writer.println();
+
+            Map<String, Integer> byType = new TreeMap<>();
+            inventory.getArtifacts().values().forEach(a -> byType.merge(String.valueOf(a.getArtifactType()), 1,
+                Integer::sum));
+            writer.println("Artifacts by Type:");
+            byType.forEach((type, count) -> writer.println("  " + String.format("%-12s", type + ":") + count));
+            writer.println();
+            writer.println("Versions by State:");
+            inventory.getVersionsByState().forEach((state, count) ->
+                writer.println("  " + String.format("%-12s", state + ":") + count));
+            writer.println();
+
+            writer.println("Total Checks:    " + report.getTotalChecks());
+            writer.println("Passed:          " + report.getPassedChecks() + " ✓");
+            writer.println("Failed:          " + report.getFailedChecks() + (report.getFailedChecks() > 0 ? " ✗" : ""));
+            writer.println();
+
+            if (!report.getFailures().isEmpty()) {
+                writer.println("Failures:");
+                for (String failure : report.getFailures()) {
+                    writer.println("  ✗ " + failure);
+                }
+                writer.println();
+            }
+
+            if (!report.getWarnings().isEmpty()) {
+                writer.println("Warnings:");
+                for (String warning : report.getWarnings()) {
+                    writer.println("  ⚠ " + warning);
+                }
+                writer.println();
+            }
+
+            if (report.allPassed()) {
+                writer.println("✓ All checks passed!");
+            } else {
+                writer.println("✗ Some checks failed");
+            }
+
+            writer.println("=".repeat(60));
+        }
+        log.info("Report written to: {}", outputFile);
+    }
+}
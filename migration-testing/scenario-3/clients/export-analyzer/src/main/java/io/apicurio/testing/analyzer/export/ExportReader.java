@@ -0,0 +1,210 @@
+package io.apicurio.testing.analyzer.export;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.apicurio.testing.analyzer.model.ExportInventory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * Reads a registry v2 admin export in a single streaming pass.
+ *
+ * The export is a zip of one entry per entity, named after the entity type:
+ *
+ * <pre>
+ * manifest.Manifest.json
+ * groups/&lt;group&gt;.Group.json
+ * groups/&lt;group&gt;/artifacts/&lt;artifactId&gt;/versions/&lt;version&gt;.ArtifactVersion.json
+ * groups/&lt;group&gt;/artifacts/&lt;artifactId&gt;/rules/&lt;type&gt;.ArtifactRule.json
+ * content/&lt;contentId&gt;.Content.json    (hashes and references)
+ * content/&lt;contentId&gt;.Content.data    (the content itself)
+ * rules/&lt;type&gt;.GlobalRule.json
+ * </pre>
+ *
+ * Entries are read through a {@link ZipInputStream}, so the export is never
+ * extracted and only the current entry is buffered: JSON entries are small and
+ * read whole, content data is streamed through a SHA-256 digest in fixed-size
+ * chunks and checked against the content hash of its metadata entry.
+ */
+public class ExportReader {
+
+    private static final Logger log = LoggerFactory.getLogger(ExportReader.class);
+
+    private static final String DEFAULT_GROUP = "default";
+    private static final int BUFFER_SIZE = 8192;
+    // Progress is logged every this many entries
+    private static final int PROGRESS_INTERVAL = 100_000;
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final ExportInventory inventory;
+    private final MessageDigest digest;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+
+    // The content entry seen last, whose data or metadata entry is expected next
+    private long pendingContentId = -1;
+    private String pendingHash;
+    private boolean pendingIsData;
+
+    public ExportReader(ExportInventory inventory) {
+        this.inventory = inventory;
+        try {
+            this.digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Reads every entry of an export into the inventory.
+     *
+     * @param exportFile the export zip
+     */
+    public void read(Path exportFile) throws IOException {
+        try (ZipInputStream zip = new ZipInputStream(new BufferedInputStream(Files.newInputStream(exportFile)))) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                if (!entry.isDirectory()) {
+                    readEntry(entry.getName(), zip);
+                    inventory.recordEntry();
+                    if (inventory.getEntries() % PROGRESS_INTERVAL == 0) {
+                        log.info("  Read {} entries ({} versions, {} contents)", inventory.getEntries(),
+                            inventory.getVersions(), inventory.getContents());
+                    }
+                }
+                zip.closeEntry();
+            }
+        }
+    }
+
+    private void readEntry(String name, InputStream zip) throws IOException {
+        String type = entityType(name);
+        switch (type) {
+            case "ArtifactVersion.json": {
+                JsonNode node = readJson(zip);
+                inventory.recordVersion(group(node), node.path("artifactId").asText(),
+                    node.path("artifactType").asText(null), node.path("state").asText("ENABLED"),
+                    node.path("globalId").asLong(-1), node.path("contentId").asLong(-1));
+                break;
+            }
+            case "Content.json": {
+                JsonNode node = readJson(zip);
+                inventory.recordContentReferences(countReferences(node.path("serializedReferences").asText(null)));
+                matchContent(node.path("contentId").asLong(-1), node.path("contentHash").asText(null), false);
+                break;
+            }
+            case "Content.data": {
+                long contentId = Long.parseLong(baseName(name));
+                long length = 0;
+                digest.reset();
+                int read;
+                while ((read = zip.read(buffer)) != -1) {
+                    digest.update(buffer, 0, read);
+                    length += read;
+                }
+                inventory.recordContent(contentId, length);
+                matchContent(contentId, hex(digest.digest()), true);
+                break;
+            }
+            case "ArtifactRule.json": {
+                JsonNode node = readJson(zip);
+                inventory.recordArtifactRule(group(node), node.path("artifactId").asText(),
+                    node.path("type").asText());
+                break;
+            }
+            case "GlobalRule.json": {
+                JsonNode node = readJson(zip);
+                inventory.recordGlobalRule(node.path("ruleType").asText(), node.path("configuration").asText());
+                break;
+            }
+            case "Group.json":
+                inventory.recordGroup();
+                break;
+            case "Manifest.json": {
+                JsonNode node = readJson(zip);
+                inventory.recordManifest(node.path("exportedOn").asText(null), node.path("systemVersion").asText(null));
+                break;
+            }
+            default:
+                inventory.recordUnknownEntry();
+                log.debug("  Skipping entry {}", name);
+        }
+    }
+
+    /**
+     * Compares a content's data hash with the hash in its metadata, whichever entry comes first.
+     *
+     * @param contentId the content identifier
+     * @param sha256 the hash from this entry
+     * @param isData whether this entry is the data (rather than the metadata) entry
+     */
+    private void matchContent(long contentId, String sha256, boolean isData) {
+        if (contentId == pendingContentId && isData != pendingIsData) {
+            if (sha256 != null && pendingHash != null && !sha256.equalsIgnoreCase(pendingHash)) {
+                inventory.recordContentHashMismatch();
+                log.error("  ✗ Content {} does not match its content hash", contentId);
+            }
+            pendingContentId = -1;
+            pendingHash = null;
+        } else {
+            pendingContentId = contentId;
+            pendingHash = sha256;
+            pendingIsData = isData;
+        }
+    }
+
+    private static JsonNode readJson(InputStream zip) throws IOException {
+        // Read the entry fully; the parser would otherwise close the zip stream
+        return MAPPER.readTree(zip.readAllBytes());
+    }
+
+    private static int countReferences(String serializedReferences) throws IOException {
+        if (serializedReferences == null || serializedReferences.isEmpty()) {
+            return 0;
+        }
+        JsonNode references = MAPPER.readTree(serializedReferences);
+        return references.isArray() ? references.size() : 0;
+    }
+
+    private static String group(JsonNode node) {
+        String groupId = node.path("groupId").asText(null);
+        return groupId != null ? groupId : DEFAULT_GROUP;
+    }
+
+    /**
+     * Returns the entity type and extension of an entry, e.g. "Content.data".
+     */
+    private static String entityType(String name) {
+        String fileName = name.substring(name.lastIndexOf('/') + 1);
+        int extension = fileName.lastIndexOf('.');
+        int type = extension > 0 ? fileName.lastIndexOf('.', extension - 1) : -1;
+        return type >= 0 ? fileName.substring(type + 1) : fileName;
+    }
+
+    /**
+     * Returns the entry's file name without entity type and extension, e.g. the contentId.
+     */
+    private static String baseName(String name) {
+        String fileName = name.substring(name.lastIndexOf('/') + 1);
+        int extension = fileName.lastIndexOf('.');
+        return fileName.substring(0, fileName.lastIndexOf('.', extension - 1));
+    }
+
+    private static String hex(byte[] hash) {
+        StringBuilder builder = new StringBuilder(hash.length * 2);
+        for (byte b : hash) {
+            builder.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,271 @@
+package io.apicurio.testing.analyzer.model;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * What a registry export contains, collected in one pass over its entries.
+ *
+ * Versions and contents are counted, not kept: per artifact only its type,
+ * version count and rule count are held, and globalIds and contentIds are tracked
+ * in bit sets, so memory grows with the number of artifacts rather than with the
+ * size of the export.
+ */
+public class ExportInventory {
+
+    private String exportedOn;
+    private String systemVersion;
+
+    private long entries;
+    private long unknownEntries;
+    private long groups;
+
+    private long versions;
+    private final Map<String, ArtifactStats> artifacts = new HashMap<>();
+    private final Map<String, Long> versionsByState = new TreeMap<>();
+    private final BitSet globalIds = new BitSet();
+    private long duplicateGlobalIds;
+    private final BitSet referencedContentIds = new BitSet();
+
+    private long contents;
+    private long contentBytes;
+    private long emptyContents;
+    private long contentHashMismatches;
+    private long references;
+    private long contentsWithReferences;
+    private final BitSet contentIds = new BitSet();
+    private long idsOutOfRange;
+
+    private final Map<String, String> globalRules = new TreeMap<>();
+    private long artifactRules;
+    private final Map<String, Long> artifactRulesByType = new TreeMap<>();
+
+    public void recordManifest(String exportedOn, String systemVersion) {
+        this.exportedOn = exportedOn;
+        this.systemVersion = systemVersion;
+    }
+
+    public void recordEntry() {
+        entries++;
+    }
+
+    public void recordUnknownEntry() {
+        unknownEntries++;
+    }
+
+    public void recordGroup() {
+        groups++;
+    }
+
+    /**
+     * Records one artifact version.
+     *
+     * @param groupId the group identifier
+     * @param artifactId the artifact identifier
+     * @param artifactType the artifact type (AVRO, PROTOBUF, etc.)
+     * @param state the version state
+     * @param globalId the global identifier of the version
+     * @param contentId the content identifier of the version
+     */
+    public void recordVersion(String groupId, String artifactId, String artifactType, String state,
+                              long globalId, long contentId) {
+        versions++;
+        ArtifactStats artifact = artifact(groupId, artifactId);
+        artifact.versions++;
+        if (artifact.artifactType == null) {
+            artifact.artifactType = artifactType;
+        }
+        versionsByState.merge(state, 1L, Long::sum);
+        if (inRange(globalId)) {
+            if (globalIds.get((int) globalId)) {
+                duplicateGlobalIds++;
+            }
+            globalIds.set((int) globalId);
+        }
+        if (inRange(contentId)) {
+            referencedContentIds.set((int) contentId);
+        }
+    }
+
+    /**
+     * Records the metadata of one content.
+     *
+     * @param referenceCount number of references the content has
+     */
+    public void recordContentReferences(int referenceCount) {
+        references += referenceCount;
+        if (referenceCount > 0) {
+            contentsWithReferences++;
+        }
+    }
+
+    /**
+     * Records the data of one content.
+     *
+     * @param contentId the content identifier
+     * @param length the content length in bytes
+     */
+    public void recordContent(long contentId, long length) {
+        contents++;
+        contentBytes += length;
+        if (length == 0) {
+            emptyContents++;
+        }
+        if (inRange(contentId)) {
+            contentIds.set((int) contentId);
+        }
+    }
+
+    public void recordContentHashMismatch() {
+        contentHashMismatches++;
+    }
+
+    public void recordGlobalRule(String ruleType, String configuration) {
+        globalRules.put(ruleType, configuration);
+    }
+
+    public void recordArtifactRule(String groupId, String artifactId, String ruleType) {
+        artifactRules++;
+        artifactRulesByType.merge(ruleType, 1L, Long::sum);
+        artifact(groupId, artifactId).rules++;
+    }
+
+    /**
+     * Returns the key an artifact is stored under.
+     */
+    public static String artifactKey(String groupId, String artifactId) {
+        return groupId + "/" + artifactId;
+    }
+
+    private ArtifactStats artifact(String groupId, String artifactId) {
+        return artifacts.computeIfAbsent(artifactKey(groupId, artifactId), k -> new ArtifactStats());
+    }
+
+    private boolean inRange(long id) {
+        if (id >= 0 && id <= Integer.MAX_VALUE) {
+            return true;
+        }
+        idsOutOfRange++;
+        return false;
+    }
+
+    public String getExportedOn() {
+        return exportedOn;
+    }
+
+    public String getSystemVersion() {
+        return systemVersion;
+    }
+
+    public long getEntries() {
+        return entries;
+    }
+
+    public long getUnknownEntries() {
+        return unknownEntries;
+    }
+
+    public long getGroups() {
+        return groups;
+    }
+
+    public long getVersions() {
+        return versions;
+    }
+
+    /**
+     * Returns the artifacts, keyed by "group/artifactId".
+     */
+    public Map<String, ArtifactStats> getArtifacts() {
+        return artifacts;
+    }
+
+    public Map<String, Long> getVersionsByState() {
+        return versionsByState;
+    }
+
+    public long getDuplicateGlobalIds() {
+        return duplicateGlobalIds;
+    }
+
+    public long getContents() {
+        return contents;
+    }
+
+    public long getContentBytes() {
+        return contentBytes;
+    }
+
+    public long getEmptyContents() {
+        return emptyContents;
+    }
+
+    public long getContentHashMismatches() {
+        return contentHashMismatches;
+    }
+
+    public long getReferences() {
+        return references;
+    }
+
+    public long getContentsWithReferences() {
+        return contentsWithReferences;
+    }
+
+    /**
+     * Returns the number of contentIds used by versions that have no content entry.
+     */
+    public int getMissingContents() {
+        BitSet missing = (BitSet) referencedContentIds.clone();
+        missing.andNot(contentIds);
+        return missing.cardinality();
+    }
+
+    /**
+     * Returns the number of contents no version uses.
+     */
+    public int getUnusedContents() {
+        BitSet unused = (BitSet) contentIds.clone();
+        unused.andNot(referencedContentIds);
+        return unused.cardinality();
+    }
+
+    public long getIdsOutOfRange() {
+        return idsOutOfRange;
+    }
+
+    public Map<String, String> getGlobalRules() {
+        return globalRules;
+    }
+
+    public long getArtifactRules() {
+        return artifactRules;
+    }
+
+    public Map<String, Long> getArtifactRulesByType() {
+        return artifactRulesByType;
+    }
+
+    /**
+     * Type, version count and rule count of one artifact.
+     */
+    public static final class ArtifactStats {
+        private String artifactType;
+        private int versions;
+        private int rules;
+
+        public String getArtifactType() {
+            return artifactType;
+        }
+
+        public int getVersions() {
+            return versions;
+        }
+
+        public int getRules() {
+            return rules;
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package io.apicurio.testing.analyzer.validators;
+
+import io.apicurio.testing.analyzer.model.CreationExpectations;
+import io.apicurio.testing.analyzer.model.ExportInventory;
+import io.apicurio.testing.analyzer.model.ValidationReport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * Checks the export inventory for consistency and against the creation summary.
+ *
+ * Artifacts that the creator did not create (for example schemas registered by the
+ * Kafka producers) are reported as warnings and left out of the expected counts.
+ */
+public class ExportInventoryValidator {
+
+    private static final Logger log = LoggerFactory.getLogger(ExportInventoryValidator.class);
+
+    private final ExportInventory inventory;
+    private final CreationExpectations expectations;
+    private final ValidationReport report;
+
+    /**
+     * @param inventory what the export contains
+     * @param expectations the creation summary, or null to only check consistency
+     * @param report the validation report
+     */
+    public ExportInventoryValidator(ExportInventory inventory, CreationExpectations expectations,
+                                    ValidationReport report) {
+        this.inventory = inventory;
+        this.expectations = expectations;
+        this.report = report;
+    }
+
+    /**
+     * Runs all checks.
+     */
+    public void validate() {
+        validateConsistency();
+        if (expectations != null) {
+            validateExpectations();
+        }
+    }
+
+    /**
+     * Checks that every version has its content and every content is intact.
+     */
+    private void validateConsistency() {
+        log.info("Validating export consistency...");
+        check("Content of every version present", inventory.getMissingContents(),
+            "contentIds used by versions have no content entry");
+        check("No empty content", inventory.getEmptyContents(), "contents are empty");
+        check("Content matches content hash", inventory.getContentHashMismatches(),
+            "contents do not match their SHA-256 content hash");
+        check("Unique globalIds", inventory.getDuplicateGlobalIds(), "globalIds are used by more than one version");
+
+        if (inventory.getUnusedContents() > 0) {
+            report.recordWarning(inventory.getUnusedContents() + " contents are not used by any version");
+        }
+        if (inventory.getUnknownEntries() > 0) {
+            report.recordWarning(inventory.getUnknownEntries() + " entries of unknown type were skipped");
+        }
+        if (inventory.getIdsOutOfRange() > 0) {
+            report.recordWarning(inventory.getIdsOutOfRange() + " globalIds/contentIds too large to cross-check");
+        }
+        log.info("");
+    }
+
+    /**
+     * Checks the created artifacts, versions and rules against the creation summary.
+     */
+    private void validateExpectations() {
+        log.info("Validating export against creation summary...");
+
+        // Created artifacts, with their version counts
+        Map<String, ExportInventory.ArtifactStats> created = new HashMap<>();
+        int versionMismatches = 0;
+        for (Map.Entry<String, Integer> expected : expectations.getVersionsByArtifact().entrySet()) {
+            String artifactId = expected.getKey();
+            ExportInventory.ArtifactStats artifact = inventory.getArtifacts().get(
+                ExportInventory.artifactKey(CreationExpectations.CREATOR_GROUP, artifactId));
+            if (artifact == null) {
+                report.recordFailure("Artifact " + artifactId, "Created but not found in the export");
+                log.error("  ✗ Artifact {} not found in the export", artifactId);
+                continue;
+            }
+            created.put(artifactId, artifact);
+            if (artifact.getVersions() != expected.getValue()) {
+                versionMismatches++;
+                report.recordFailure("Versions of " + artifactId,
+                    "Expected " + expected.getValue() + " but found " + artifact.getVersions());
+                log.error("  ✗ Expected {} versions of {} but found {}", expected.getValue(), artifactId,
+                    artifact.getVersions());
+            }
+        }
+        if (versionMismatches == 0 && created.size() == expectations.getVersionsByArtifact().size()) {
+            report.recordPass("Version counts of created artifacts (" + created.size() + ")");
+            log.info("  ✓ All {} created artifacts found with their version counts", created.size());
+        }
+
+        // Artifacts in the export the creator did not create
+        Set<String> extra = inventory.getArtifacts().entrySet().stream()
+            .filter(e -> e.getValue().getVersions() > 0)
+            .map(Map.Entry::getKey)
+            .filter(key -> !key.startsWith(CreationExpectations.CREATOR_GROUP + "/")
+                || !expectations.getVersionsByArtifact().containsKey(
+                    key.substring(CreationExpectations.CREATOR_GROUP.length() + 1)))
+            .collect(Collectors.toCollection(TreeSet::new));
+        for (String key : extra) {
+            report.recordWarning("Artifact " + key + " (" + inventory.getArtifacts().get(key).getArtifactType()
+                + ") is in the export but was not created by the artifact creator");
+        }
+
+        compare("Total artifact count", expectations.getTotalArtifacts(), created.size());
+        compare("Total version count", expectations.getTotalVersions(),
+            created.values().stream().mapToLong(ExportInventory.ArtifactStats::getVersions).sum());
+
+        Map<String, Integer> byType = new TreeMap<>();
+        created.values().forEach(a -> byType.merge(a.getArtifactType(), 1, Integer::sum));
+        for (Map.Entry<String, Integer> expected : expectations.getArtifactsByType().entrySet()) {
+            compare("Artifact count for " + expected.getKey(), expected.getValue(),
+                byType.getOrDefault(expected.getKey(), 0));
+        }
+
+        compare("Global rule count", expectations.getGlobalRules(), inventory.getGlobalRules().size());
+        compare("Artifact rule count", expectations.getArtifactRules(),
+            created.values().stream().mapToLong(ExportInventory.ArtifactStats::getRules).sum());
+        log.info("");
+    }
+
+    private void check(String checkName, long problems, String description) {
+        if (problems == 0) {
+            report.recordPass(checkName);
+            log.info("  ✓ {}", checkName);
+        } else {
+            report.recordFailure(checkName, problems + " " + description);
+            log.error("  ✗ {}: {} {}", checkName, problems, description);
+        }
+    }
+
+    private void compare(String checkName, long expected, long actual) {
+        if (expected == actual) {
+            report.recordPass(checkName + " (" + actual + ")");
+            log.info("  ✓ {} matches expected: {}", checkName, actual);
+        } else {
+            report.recordFailure(checkName, "Expected " + expected + " but found " + actual);
+            log.error("  ✗ {}: expected {} but found {}", checkName, expected, actual);
+        }
+    }
+}
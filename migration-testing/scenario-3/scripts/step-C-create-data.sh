@@ -27,6 +27,37 @@ echo "" | tee -a "$LOG_FILE"
 # Registry URL (via nginx)
 REGISTRY_URL="${REGISTRY_URL:-https://localhost:8443/apis/registry/v2}"
 echo "Registry URL: $REGISTRY_URL" | tee -a "$LOG_FILE"
+
+# Worker threads: platform (fixed pool) or virtual (one virtual thread per artifact)
+CREATOR_THREADS="${CREATOR_THREADS:-platform}"
+# Number of artifacts created concurrently and optional cap on registry requests in flight
+# (virtual threads default to 1000 artifacts and 64 requests)
+if [ "$CREATOR_THREADS" = "virtual" ]; then
+    CREATOR_WORKERS="${CREATOR_WORKERS:-1000}"
+else
+    CREATOR_WORKERS="${CREATOR_WORKERS:-4}"
+fi
+CREATOR_MAX_REQUESTS="${CREATOR_MAX_REQUESTS:-}"
+echo "Creator Workers: $CREATOR_WORKERS ($CREATOR_THREADS threads${CREATOR_MAX_REQUESTS:+, at most $CREATOR_MAX_REQUESTS requests})" | tee -a "$LOG_FILE"
+
+# Scale profile (baseline, 10k, 100k, 1m or a properties file) and optional seed override
+CREATOR_PROFILE="${CREATOR_PROFILE:-baseline}"
+CREATOR_SEED="${CREATOR_SEED:-}"
+echo "Creator Profile: $CREATOR_PROFILE${CREATOR_SEED:+ (seed $CREATOR_SEED)}" | tee -a "$LOG_FILE"
+
+# Pipeline mode: overlap content generation with registry I/O
+CREATOR_PIPELINE="${CREATOR_PIPELINE:-false}"
+CREATOR_IO_THREADS="${CREATOR_IO_THREADS:-$CREATOR_WORKERS}"
+echo "Creator Pipeline: $CREATOR_PIPELINE (I/O threads: $CREATOR_IO_THREADS)" | tee -a "$LOG_FILE"
+
+# Metadata mode: separate (create, then update) or inline (sent with the create call)
+CREATOR_METADATA="${CREATOR_METADATA:-separate}"
+echo "Creator Metadata: $CREATOR_METADATA" | tee -a "$LOG_FILE"
+
+# Checkpoint journal: rerunning after a failure resumes where the previous run stopped
+# (delete the journal, or set CREATOR_CHECKPOINT to an empty value, to start over)
+CREATOR_CHECKPOINT="${CREATOR_CHECKPOINT-$PROJECT_DIR/data/creation-checkpoint.journal}"
+echo "Creator Checkpoint: ${CREATOR_CHECKPOINT:-disabled}" | tee -a "$LOG_FILE"
 echo "" | tee -a "$LOG_FILE"
 
 # Check if Registry is accessible
@@ -61,6 +92,15 @@ TRUSTSTORE_PASSWORD="registry123"
 
 java -Djavax.net.ssl.trustStore="$TRUSTSTORE_PATH" \
      -Djavax.net.ssl.trustStorePassword="$TRUSTSTORE_PASSWORD" \
+     -Dcreator.workers="$CREATOR_WORKERS" \
+     -Dcreator.threads="$CREATOR_THREADS" \
+     -Dcreator.max.requests="$CREATOR_MAX_REQUESTS" \
+     -Dcreator.profile="$CREATOR_PROFILE" \
+     -Dcreator.seed="$CREATOR_SEED" \
+     -Dcreator.pipeline="$CREATOR_PIPELINE" \
+     -Dcreator.io.threads="$CREATOR_IO_THREADS" \
+     -Dcreator.metadata="$CREATOR_METADATA" \
+     -Dcreator.checkpoint="$CREATOR_CHECKPOINT" \
      -jar target/artifact-creator-1.0.0-SNAPSHOT.jar \
      "$REGISTRY_URL" \
      "$SUMMARY_FILE" \
@@ -88,6 +128,7 @@ if [ $EXIT_CODE -eq 0 ]; then
     echo "" | tee -a "$LOG_FILE"
     echo "Test data has been created in the registry" | tee -a "$LOG_FILE"
     echo "Summary: $SUMMARY_FILE" | tee -a "$LOG_FILE"
+    echo "Expectations: $PROJECT_DIR/data/creation-expectations.jsonl" | tee -a "$LOG_FILE"
     echo "Log: $LOG_FILE" | tee -a "$LOG_FILE"
 else
     echo "================================================================" | tee -a "$LOG_FILE"
@@ -52,6 +52,20 @@ fi
 echo "  ✓ artifact-validator-v2 JAR found" | tee -a "$LOG_FILE"
 echo "" | tee -a "$LOG_FILE"
 
+# Content check: sample (10 random versions) or full (SHA-256 of every version; the first
+# full run records the hashes, later runs compare against them)
+VALIDATOR_CONTENT_MODE="${VALIDATOR_CONTENT_MODE:-sample}"
+CONTENT_HASHES_FILE="$PROJECT_DIR/data/content-hashes.tsv"
+
+# In full mode the fingerprint of every version is written to a manifest, compared after the migration
+MANIFEST_FILE="$PROJECT_DIR/data/manifest-pre.bin"
+MANIFEST_OPTS=()
+if [ "$VALIDATOR_CONTENT_MODE" = "full" ]; then
+    MANIFEST_OPTS=(-Dvalidator.manifest.write="$MANIFEST_FILE")
+fi
+echo "Content Check: $VALIDATOR_CONTENT_MODE" | tee -a "$LOG_FILE"
+echo "" | tee -a "$LOG_FILE"
+
 # Run artifact validator
 echo "[3/4] Running artifact-validator-v2..." | tee -a "$LOG_FILE"
 cd "$PROJECT_DIR/clients/artifact-validator-v2"
@@ -60,7 +74,10 @@ cd "$PROJECT_DIR/clients/artifact-validator-v2"
 TRUSTSTORE_PATH="$PROJECT_DIR/certs/registry-truststore.jks"
 TRUSTSTORE_PASSWORD="registry123"
 
-java -Djavax.net.ssl.trustStore="$TRUSTSTORE_PATH" \
+java -Dvalidator.content.mode="$VALIDATOR_CONTENT_MODE" \
+     -Dvalidator.content.hashes="$CONTENT_HASHES_FILE" \
+     "${MANIFEST_OPTS[@]}" \
+     -Djavax.net.ssl.trustStore="$TRUSTSTORE_PATH" \
      -Djavax.net.ssl.trustStorePassword="$TRUSTSTORE_PASSWORD" \
      -jar target/artifact-validator-v2-1.0.0-SNAPSHOT.jar \
      "$REGISTRY_URL" \
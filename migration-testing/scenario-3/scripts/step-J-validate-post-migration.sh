@@ -59,6 +59,34 @@ fi
 echo "  ✓ artifact-validator-v2 JAR found" | tee -a "$LOG_FILE"
 echo "" | tee -a "$LOG_FILE"
 
+# Content check: sample (10 random versions) or full (SHA-256 of every version; the first
+# full run records the hashes, later runs compare against them)
+VALIDATOR_CONTENT_MODE="${VALIDATOR_CONTENT_MODE:-sample}"
+CONTENT_HASHES_FILE="$PROJECT_DIR/data/content-hashes.tsv"
+
+# In full mode the fingerprint of every version is written to a manifest and compared with the
+# one written before the migration, or with the v2 export if no manifest was written
+MANIFEST_FILE="$PROJECT_DIR/data/manifest-post-v2.bin"
+MANIFEST_BASELINE="$PROJECT_DIR/data/manifest-pre.bin"
+if [ ! -f "$MANIFEST_BASELINE" ] && [ -f "$PROJECT_DIR/data/registry-v2-export.zip" ]; then
+    MANIFEST_BASELINE="$PROJECT_DIR/data/registry-v2-export.zip"
+fi
+MANIFEST_OPTS=()
+if [ "$VALIDATOR_CONTENT_MODE" = "full" ]; then
+    MANIFEST_OPTS=(-Dvalidator.manifest.write="$MANIFEST_FILE" -Dvalidator.manifest.baseline="$MANIFEST_BASELINE")
+fi
+
+# Registry content is compared with the v2 export by random access: VALIDATOR_EXPORT_SAMPLES
+# random versions, or 0 for all of them (the export is indexed next to it on first use)
+EXPORT_FILE="$PROJECT_DIR/data/registry-v2-export.zip"
+VALIDATOR_EXPORT_SAMPLES="${VALIDATOR_EXPORT_SAMPLES:-100}"
+EXPORT_OPTS=()
+if [ -f "$EXPORT_FILE" ]; then
+    EXPORT_OPTS=(-Dvalidator.export.file="$EXPORT_FILE" -Dvalidator.export.samples="$VALIDATOR_EXPORT_SAMPLES")
+fi
+echo "Content Check: $VALIDATOR_CONTENT_MODE" | tee -a "$LOG_FILE"
+echo "" | tee -a "$LOG_FILE"
+
 # Run artifact validator
 echo "[3/4] Running artifact-validator-v2 against v3 registry..." | tee -a "$LOG_FILE"
 cd "$PROJECT_DIR/clients/artifact-validator-v2"
@@ -67,7 +95,11 @@ cd "$PROJECT_DIR/clients/artifact-validator-v2"
 TRUSTSTORE_PATH="$PROJECT_DIR/certs/registry-truststore.jks"
 TRUSTSTORE_PASSWORD="registry123"
 
-java -Djavax.net.ssl.trustStore="$TRUSTSTORE_PATH" \
+java -Dvalidator.content.mode="$VALIDATOR_CONTENT_MODE" \
+     -Dvalidator.content.hashes="$CONTENT_HASHES_FILE" \
+     "${MANIFEST_OPTS[@]}" \
+     "${EXPORT_OPTS[@]}" \
+     -Djavax.net.ssl.trustStore="$TRUSTSTORE_PATH" \
      -Djavax.net.ssl.trustStorePassword="$TRUSTSTORE_PASSWORD" \
      -jar target/artifact-validator-v2-1.0.0-SNAPSHOT.jar \
      "$REGISTRY_URL" \
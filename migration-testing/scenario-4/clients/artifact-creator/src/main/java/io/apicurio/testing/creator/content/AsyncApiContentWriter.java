@@ -0,0 +1,121 @@
+package io.apicurio.testing.creator.content;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+
+/**
+ * Streams AsyncAPI 2.0 specifications into a {@link ContentBuffer}.
+ */
+public final class AsyncApiContentWriter {
+
+    private AsyncApiContentWriter() {
+    }
+
+    /**
+     * Writes the base specification with the {@code user/created} channel.
+     *
+     * @param out buffer to write into
+     * @param title API title
+     * @param version API version
+     * @param doc documentation text sized by the scale profile (appended to the description)
+     */
+    public static void writeBase(ContentBuffer out, String title, String version, String doc) throws IOException {
+        try (JsonGenerator gen = JsonContentSupport.open(out)) {
+            gen.writeStartObject();
+            gen.writeStringField("asyncapi", "2.0.0");
+            info(gen, title, version, "Test event-driven API specification", doc);
+
+            gen.writeObjectFieldStart("channels");
+            userCreatedChannel(gen);
+            gen.writeEndObject();
+
+            gen.writeEndObject();
+        }
+    }
+
+    /**
+     * Writes a later version of the specification with the {@code user/updated}
+     * and {@code user/deleted} channels added.
+     *
+     * @param out buffer to write into
+     * @param title API title
+     * @param version API version
+     * @param doc documentation text sized by the scale profile (appended to the description)
+     */
+    public static void writeVersioned(ContentBuffer out, String title, String version, String doc) throws IOException {
+        try (JsonGenerator gen = JsonContentSupport.open(out)) {
+            gen.writeStartObject();
+            gen.writeStringField("asyncapi", "2.0.0");
+            info(gen, title, version, "Test event-driven API specification - Updated", doc);
+
+            gen.writeObjectFieldStart("channels");
+            userCreatedChannel(gen);
+
+            // user/updated channel - New in v2
+            openChannel(gen, "user/updated", "Subscribe to user update events", "UserUpdated", "User Updated Event");
+            JsonContentSupport.typedObjectField(gen, "userId", "string");
+            JsonContentSupport.typedObjectField(gen, "changes", "object");
+            timestampProperty(gen);
+            closeChannel(gen);
+
+            // user/deleted channel - New in v2
+            openChannel(gen, "user/deleted", "Subscribe to user deletion events", "UserDeleted", "User Deleted Event");
+            JsonContentSupport.typedObjectField(gen, "userId", "string");
+            timestampProperty(gen);
+            closeChannel(gen);
+
+            gen.writeEndObject();
+            gen.writeEndObject();
+        }
+    }
+
+    private static void info(JsonGenerator gen, String title, String version, String description, String doc)
+            throws IOException {
+        gen.writeObjectFieldStart("info");
+        gen.writeStringField("title", title);
+        gen.writeStringField("version", version);
+        gen.writeStringField("description", doc.isEmpty() ? description : description + ". " + doc);
+        gen.writeEndObject();
+    }
+
+    private static void userCreatedChannel(JsonGenerator gen) throws IOException {
+        openChannel(gen, "user/created", "Subscribe to user creation events", "UserCreated", "User Created Event");
+        JsonContentSupport.typedObjectField(gen, "userId", "string");
+        JsonContentSupport.typedObjectField(gen, "username", "string");
+        JsonContentSupport.typedObjectField(gen, "email", "string");
+        closeChannel(gen);
+    }
+
+    /**
+     * Opens channel, subscribe, message, payload and properties objects;
+     * the caller writes the payload properties and then calls {@link #closeChannel}.
+     */
+    private static void openChannel(JsonGenerator gen, String channel, String summary, String messageName,
+                                    String messageTitle) throws IOException {
+        gen.writeObjectFieldStart(channel);
+        gen.writeObjectFieldStart("subscribe");
+        gen.writeStringField("summary", summary);
+        gen.writeObjectFieldStart("message");
+        gen.writeStringField("name", messageName);
+        gen.writeStringField("title", messageTitle);
+        gen.writeObjectFieldStart("payload");
+        gen.writeStringField("type", "object");
+        gen.writeObjectFieldStart("properties");
+    }
+
+    private static void closeChannel(JsonGenerator gen) throws IOException {
+        gen.writeEndObject(); // properties
+        gen.writeEndObject(); // payload
+        gen.writeEndObject(); // message
+        gen.writeEndObject(); // subscribe
+        gen.writeEndObject(); // channel
+    }
+
+    private static void timestampProperty(JsonGenerator gen) throws IOException {
+        gen.writeObjectFieldStart("timestamp");
+        gen.writeStringField("type", "string");
+        gen.writeStringField("format", "date-time");
+        gen.writeEndObject();
+    }
+}
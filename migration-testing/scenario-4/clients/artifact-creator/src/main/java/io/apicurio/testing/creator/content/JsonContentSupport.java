@@ -0,0 +1,47 @@
+package io.apicurio.testing.creator.content;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
+
+import java.io.IOException;
+
+/**
+ * Shared Jackson streaming setup for the JSON-based content writers.
+ *
+ * Generators write UTF-8 bytes directly into a {@link ContentBuffer} using the same
+ * {@link DefaultPrettyPrinter} as {@code ObjectMapper.writerWithDefaultPrettyPrinter()},
+ * so the output is byte-for-byte identical to the former tree-based path.
+ */
+final class JsonContentSupport {
+
+    private static final JsonFactory FACTORY = JsonFactory.builder()
+        .disable(StreamWriteFeature.AUTO_CLOSE_TARGET)
+        .build();
+
+    private JsonContentSupport() {
+    }
+
+    /**
+     * Opens a pretty-printing generator over the buffer.
+     *
+     * @param out the buffer to write into
+     * @return generator that must be closed to flush its output
+     */
+    static JsonGenerator open(ContentBuffer out) throws IOException {
+        JsonGenerator gen = FACTORY.createGenerator(out, JsonEncoding.UTF8);
+        gen.setPrettyPrinter(new DefaultPrettyPrinter());
+        return gen;
+    }
+
+    /**
+     * Writes {@code "name" : { "type" : type }}.
+     */
+    static void typedObjectField(JsonGenerator gen, String name, String type) throws IOException {
+        gen.writeObjectFieldStart(name);
+        gen.writeStringField("type", type);
+        gen.writeEndObject();
+    }
+}
@@ -0,0 +1,131 @@
+package io.apicurio.testing.creator.content;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+
+/**
+ * Streams OpenAPI 3.0 specifications into a {@link ContentBuffer}.
+ */
+public final class OpenApiContentWriter {
+
+    private OpenApiContentWriter() {
+    }
+
+    /**
+     * Writes the base specification with a single {@code POST /items} operation.
+     *
+     * @param out buffer to write into
+     * @param title API title
+     * @param version API version
+     * @param doc documentation text sized by the scale profile (appended to the description)
+     */
+    public static void writeBase(ContentBuffer out, String title, String version, String doc) throws IOException {
+        try (JsonGenerator gen = JsonContentSupport.open(out)) {
+            gen.writeStartObject();
+            gen.writeStringField("openapi", "3.0.0");
+            info(gen, title, version, "Test REST API specification", doc);
+
+            gen.writeObjectFieldStart("paths");
+
+            // POST /items
+            gen.writeObjectFieldStart("/items");
+            operation(gen, "post", "Create an item", "createItem");
+            responses(gen, "201", "Item created");
+            gen.writeEndObject();
+            gen.writeEndObject();
+
+            gen.writeEndObject();
+            gen.writeEndObject();
+        }
+    }
+
+    /**
+     * Writes a later version of the specification with item listing and
+     * {@code /items/{id}} operations added.
+     *
+     * @param out buffer to write into
+     * @param title API title
+     * @param version API version
+     * @param doc documentation text sized by the scale profile (appended to the description)
+     */
+    public static void writeVersioned(ContentBuffer out, String title, String version, String doc) throws IOException {
+        try (JsonGenerator gen = JsonContentSupport.open(out)) {
+            gen.writeStartObject();
+            gen.writeStringField("openapi", "3.0.0");
+            info(gen, title, version, "Test REST API specification - Updated", doc);
+
+            gen.writeObjectFieldStart("paths");
+
+            gen.writeObjectFieldStart("/items");
+            // GET /items
+            operation(gen, "get", "List all items", "listItems");
+            responses(gen, "200", "Successful response");
+            gen.writeEndObject();
+            // POST /items
+            operation(gen, "post", "Create an item", "createItem");
+            responses(gen, "201", "Item created");
+            gen.writeEndObject();
+            gen.writeEndObject();
+
+            gen.writeObjectFieldStart("/items/{id}");
+            // GET /items/{id} - New in v2
+            operation(gen, "get", "Get item by ID", "getItem");
+            idParameter(gen);
+            responses(gen, "200", "Item found", "404", "Item not found");
+            gen.writeEndObject();
+            // DELETE /items/{id} - New in v2
+            operation(gen, "delete", "Delete item by ID", "deleteItem");
+            idParameter(gen);
+            responses(gen, "204", "Item deleted", "404", "Item not found");
+            gen.writeEndObject();
+            gen.writeEndObject();
+
+            gen.writeEndObject();
+            gen.writeEndObject();
+        }
+    }
+
+    private static void info(JsonGenerator gen, String title, String version, String description, String doc)
+            throws IOException {
+        gen.writeObjectFieldStart("info");
+        gen.writeStringField("title", title);
+        gen.writeStringField("version", version);
+        gen.writeStringField("description", doc.isEmpty() ? description : description + ". " + doc);
+        gen.writeEndObject();
+    }
+
+    /**
+     * Opens an operation object; the caller closes it after adding parameters and responses.
+     */
+    private static void operation(JsonGenerator gen, String method, String summary, String operationId)
+            throws IOException {
+        gen.writeObjectFieldStart(method);
+        gen.writeStringField("summary", summary);
+        gen.writeStringField("operationId", operationId);
+    }
+
+    private static void idParameter(JsonGenerator gen) throws IOException {
+        gen.writeArrayFieldStart("parameters");
+        gen.writeStartObject();
+        gen.writeStringField("name", "id");
+        gen.writeStringField("in", "path");
+        gen.writeBooleanField("required", true);
+        JsonContentSupport.typedObjectField(gen, "schema", "string");
+        gen.writeEndObject();
+        gen.writeEndArray();
+    }
+
+    /**
+     * Writes a responses object from (status, description) pairs.
+     */
+    private static void responses(JsonGenerator gen, String... statusAndDescription) throws IOException {
+        gen.writeObjectFieldStart("responses");
+        for (int i = 0; i < statusAndDescription.length; i += 2) {
+            gen.writeObjectFieldStart(statusAndDescription[i]);
+            gen.writeStringField("description", statusAndDescription[i + 1]);
+            gen.writeEndObject();
+        }
+        gen.writeEndObject();
+    }
+}
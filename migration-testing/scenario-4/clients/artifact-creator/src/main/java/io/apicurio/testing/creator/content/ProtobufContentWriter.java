@@ -0,0 +1,68 @@
+package io.apicurio.testing.creator.content;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes Protobuf schemas into a {@link ContentBuffer} from pre-encoded byte fragments.
+ *
+ * Only the message name, documentation and extension field numbers vary between
+ * schemas, so everything else is encoded once and copied with {@code System.arraycopy}.
+ */
+public final class ProtobufContentWriter {
+
+    private static final byte[] DOC_PREFIX = ascii("// ");
+    private static final byte[] NEWLINE = ascii("\n");
+    private static final byte[] HEADER = ascii("syntax = \"proto3\";\n\npackage io.apicurio.testing;\n\nmessage ");
+    private static final byte[] BASE_FIELDS = ascii(" {\n  string id = 1;\n  string name = 2;\n");
+    private static final byte[] EMAIL_FIELD = ascii("  string email = 3;\n");
+    private static final byte[] PHONE_TIMESTAMP_FIELDS = ascii("  string phone = 4;\n  int64 timestamp = 5;\n");
+    private static final byte[] EXT_FIELD_PREFIX = ascii("  string ext_");
+    private static final byte[] EQUALS = ascii(" = ");
+    private static final byte[] FIELD_END = ascii(";\n");
+    private static final byte[] MESSAGE_END = ascii("}\n");
+
+    private ProtobufContentWriter() {
+    }
+
+    /**
+     * Writes the schema for a given version of a Protobuf message.
+     *
+     * @param out buffer to write into
+     * @param messageName name of the Protobuf message
+     * @param version version number (1 is the base schema)
+     * @param doc documentation text sized by the scale profile (omitted when empty)
+     */
+    public static void write(ContentBuffer out, String messageName, int version, String doc) {
+        if (!doc.isEmpty()) {
+            out.write(DOC_PREFIX);
+            out.writeAscii(doc);
+            out.write(NEWLINE);
+        }
+        out.write(HEADER);
+        out.writeAscii(messageName);
+        out.write(BASE_FIELDS);
+
+        if (version >= 2) {
+            out.write(EMAIL_FIELD);
+        }
+
+        if (version >= 3) {
+            out.write(PHONE_TIMESTAMP_FIELDS);
+        }
+
+        // Versions 4+ (large scale profiles) each add one more field
+        for (int ext = 4; ext <= version; ext++) {
+            out.write(EXT_FIELD_PREFIX);
+            out.writeAscii(ext);
+            out.write(EQUALS);
+            out.writeAscii(ext + 2);
+            out.write(FIELD_END);
+        }
+
+        out.write(MESSAGE_END);
+    }
+
+    private static byte[] ascii(String s) {
+        return s.getBytes(StandardCharsets.US_ASCII);
+    }
+}
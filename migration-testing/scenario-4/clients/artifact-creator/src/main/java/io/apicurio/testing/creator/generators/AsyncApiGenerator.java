@@ -1,17 +1,17 @@
 package io.apicurio.testing.creator.generators;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ObjectNode;
-import io.apicurio.registry.rest.client.RegistryClient;
-import io.apicurio.registry.rest.v2.beans.ArtifactMetaData;
 import io.apicurio.registry.rest.v2.beans.EditableMetaData;
 import io.apicurio.registry.types.ArtifactType;
-import io.apicurio.testing.creator.model.CreationSummary;
+import io.apicurio.testing.creator.content.AsyncApiContentWriter;
+import io.apicurio.testing.creator.content.ContentBuffer;
+import io.apicurio.testing.creator.engine.CreationEngine;
+import io.apicurio.testing.creator.model.ExpectationsWriter;
+import io.apicurio.testing.creator.pipeline.ArtifactSink;
+import io.apicurio.testing.creator.pipeline.WorkItem;
+import io.apicurio.testing.creator.scale.ScaleProfile;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.ByteArrayInputStream;
-import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -19,19 +19,24 @@ import java.util.Map;
 
 /**
  * Generates AsyncAPI specification artifacts for testing.
- * Creates 2 artifacts with 2 versions each.
+ * Artifact and version counts come from the {@link ScaleProfile}; the baseline profile
+ * creates 2 artifacts with 2 versions each.
  */
 public class AsyncApiGenerator {
 
     private static final Logger log = LoggerFactory.getLogger(AsyncApiGenerator.class);
-    private static final ObjectMapper mapper = new ObjectMapper();
 
-    private final RegistryClient client;
-    private final CreationSummary summary;
-
-    public AsyncApiGenerator(RegistryClient client, CreationSummary summary) {
-        this.client = client;
-        this.summary = summary;
+    private final ArtifactSink sink;
+    private final CreationEngine engine;
+    private final ScaleProfile profile;
+    private final ExpectationsWriter expectations;
+
+    public AsyncApiGenerator(ArtifactSink sink, CreationEngine engine, ScaleProfile profile,
+                             ExpectationsWriter expectations) {
+        this.sink = sink;
+        this.engine = engine;
+        this.profile = profile;
+        this.expectations = expectations;
     }
 
     /**
@@ -40,10 +45,20 @@ public class AsyncApiGenerator {
     public void createArtifacts() throws Exception {
         log.info("Creating AsyncAPI specification artifacts...");
 
-        // Create 2 AsyncAPI specs with 2 versions each
-        for (int i = 1; i <= 2; i++) {
+        // Create AsyncAPI specs with version counts from the scale profile
+        int artifactCount = profile.getArtifactCount("ASYNCAPI");
+        for (int i = 1; i <= artifactCount; i++) {
             String artifactId = "asyncapi-spec-" + i;
-            createAsyncApiArtifact(artifactId, i, 2);
+            int versionCount = profile.versionCount("ASYNCAPI", i);
+            EditableMetaData editMeta = createMetadata(artifactId, i);
+            expectations.artifact("default", artifactId, ArtifactType.ASYNCAPI, versionCount, editMeta,
+                List.of());
+            int completed = sink.resume("default", artifactId, ArtifactType.ASYNCAPI, versionCount);
+            if (completed == versionCount) {
+                continue; // already created by an earlier run
+            }
+            int index = i;
+            engine.submit(artifactId, () -> createAsyncApiArtifact(artifactId, index, completed + 1, versionCount, editMeta));
         }
     }
 
@@ -52,141 +67,48 @@ public class AsyncApiGenerator {
      *
      * @param artifactId artifact identifier
      * @param index artifact index for uniqueness
+     * @param firstVersion first version to create (greater than 1 when resuming)
      * @param versionCount number of versions to create
+     * @param editMeta metadata sent along with version 1
      */
-    private void createAsyncApiArtifact(String artifactId, int index, int versionCount) throws Exception {
-        log.info("  Creating artifact: {} ({} versions)", artifactId, versionCount);
-
-        // Version 1: Base AsyncAPI spec
-        String spec1 = createBaseAsyncApiSpec("Event API " + index, "1.0.0");
-        ArtifactMetaData meta = client.createArtifact(
-            "default",
-            artifactId,
-            ArtifactType.ASYNCAPI,
-            new ByteArrayInputStream(spec1.getBytes(StandardCharsets.UTF_8))
-        );
-
-        // Add labels and properties
-        EditableMetaData editMeta = new EditableMetaData();
-        editMeta.setName(artifactId);
-        editMeta.setDescription("AsyncAPI test specification #" + index);
-        editMeta.setLabels(createLabels("asyncapi"));
-        editMeta.setProperties(createProperties());
-        client.updateArtifactMetaData("default", artifactId, editMeta);
-
-        // Create additional versions
-        for (int v = 2; v <= versionCount; v++) {
-            String spec = createVersionedAsyncApiSpec("Event API " + index, "1." + (v - 1) + ".0");
-            client.createArtifactVersion(
-                "default",
-                artifactId,
-                null,
-                new ByteArrayInputStream(spec.getBytes(StandardCharsets.UTF_8))
-            );
+    private void createAsyncApiArtifact(String artifactId, int index, int firstVersion, int versionCount, EditableMetaData editMeta) throws Exception {
+        if (firstVersion > 1) {
+            log.info("  Resuming artifact: {} at version {} of {}", artifactId, firstVersion, versionCount);
+        } else {
+            log.info("  Creating artifact: {} ({} versions)", artifactId, versionCount);
         }
 
-        summary.recordArtifact("ASYNCAPI", artifactId, versionCount);
-        log.info("    ✓ Created {} with {} versions", artifactId, versionCount);
-    }
-
-    /**
-     * Creates a base AsyncAPI 2.0 specification.
-     *
-     * @param title API title
-     * @param version API version
-     * @return AsyncAPI specification as JSON string
-     */
-    private String createBaseAsyncApiSpec(String title, String version) throws Exception {
-        ObjectNode spec = mapper.createObjectNode();
-        spec.put("asyncapi", "2.0.0");
-
-        ObjectNode info = spec.putObject("info");
-        info.put("title", title);
-        info.put("version", version);
-        info.put("description", "Test event-driven API specification");
-
-        ObjectNode channels = spec.putObject("channels");
-
-        // user/created channel
-        ObjectNode userCreatedChannel = channels.putObject("user/created");
-        ObjectNode subscribe = userCreatedChannel.putObject("subscribe");
-        subscribe.put("summary", "Subscribe to user creation events");
-
-        ObjectNode message = subscribe.putObject("message");
-        message.put("name", "UserCreated");
-        message.put("title", "User Created Event");
-
-        ObjectNode payload = message.putObject("payload");
-        payload.put("type", "object");
-
-        ObjectNode properties = payload.putObject("properties");
-        properties.putObject("userId").put("type", "string");
-        properties.putObject("username").put("type", "string");
-        properties.putObject("email").put("type", "string");
-
-        return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(spec);
+        String doc = profile.documentation("ASYNCAPI", index);
+
+        // Version 1 creates the artifact, later versions are added to it
+        for (int v = firstVersion; v <= versionCount; v++) {
+            ContentBuffer content = sink.buffer();
+            if (v == 1) {
+                AsyncApiContentWriter.writeBase(content, "Event API " + index, "1.0.0", doc);
+            } else {
+                AsyncApiContentWriter.writeVersioned(content, "Event API " + index, "1." + (v - 1) + ".0", doc);
+            }
+            WorkItem item = v == 1
+                ? WorkItem.create("default", artifactId, ArtifactType.ASYNCAPI, versionCount, content, editMeta)
+                : WorkItem.version("default", artifactId, ArtifactType.ASYNCAPI, v, versionCount, content);
+            sink.send(item);
+        }
     }
 
     /**
-     * Creates a versioned AsyncAPI specification with additional channels.
+     * Creates the metadata sent along with version 1.
      *
-     * @param title API title
-     * @param version API version
-     * @return AsyncAPI specification as JSON string
+     * @param artifactId artifact identifier
+     * @param index artifact index for uniqueness
+     * @return the artifact metadata
      */
-    private String createVersionedAsyncApiSpec(String title, String version) throws Exception {
-        ObjectNode spec = mapper.createObjectNode();
-        spec.put("asyncapi", "2.0.0");
-
-        ObjectNode info = spec.putObject("info");
-        info.put("title", title);
-        info.put("version", version);
-        info.put("description", "Test event-driven API specification - Updated");
-
-        ObjectNode channels = spec.putObject("channels");
-
-        // user/created channel
-        ObjectNode userCreatedChannel = channels.putObject("user/created");
-        ObjectNode subscribe1 = userCreatedChannel.putObject("subscribe");
-        subscribe1.put("summary", "Subscribe to user creation events");
-        ObjectNode message1 = subscribe1.putObject("message");
-        message1.put("name", "UserCreated");
-        message1.put("title", "User Created Event");
-        ObjectNode payload1 = message1.putObject("payload");
-        payload1.put("type", "object");
-        ObjectNode properties1 = payload1.putObject("properties");
-        properties1.putObject("userId").put("type", "string");
-        properties1.putObject("username").put("type", "string");
-        properties1.putObject("email").put("type", "string");
-
-        // user/updated channel - New in v2
-        ObjectNode userUpdatedChannel = channels.putObject("user/updated");
-        ObjectNode subscribe2 = userUpdatedChannel.putObject("subscribe");
-        subscribe2.put("summary", "Subscribe to user update events");
-        ObjectNode message2 = subscribe2.putObject("message");
-        message2.put("name", "UserUpdated");
-        message2.put("title", "User Updated Event");
-        ObjectNode payload2 = message2.putObject("payload");
-        payload2.put("type", "object");
-        ObjectNode properties2 = payload2.putObject("properties");
-        properties2.putObject("userId").put("type", "string");
-        properties2.putObject("changes").put("type", "object");
-        properties2.putObject("timestamp").put("type", "string").put("format", "date-time");
-
-        // user/deleted channel - New in v2
-        ObjectNode userDeletedChannel = channels.putObject("user/deleted");
-        ObjectNode subscribe3 = userDeletedChannel.putObject("subscribe");
-        subscribe3.put("summary", "Subscribe to user deletion events");
-        ObjectNode message3 = subscribe3.putObject("message");
-        message3.put("name", "UserDeleted");
-        message3.put("title", "User Deleted Event");
-        ObjectNode payload3 = message3.putObject("payload");
-        payload3.put("type", "object");
-        ObjectNode properties3 = payload3.putObject("properties");
-        properties3.putObject("userId").put("type", "string");
-        properties3.putObject("timestamp").put("type", "string").put("format", "date-time");
-
-        return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(spec);
+    private EditableMetaData createMetadata(String artifactId, int index) {
+        EditableMetaData editMeta = new EditableMetaData();
+        editMeta.setName(artifactId);
+        editMeta.setDescription("AsyncAPI test specification #" + index);
+        editMeta.setLabels(createLabels("asyncapi"));
+        editMeta.setProperties(createProperties());
+        return editMeta;
     }
 
     /**
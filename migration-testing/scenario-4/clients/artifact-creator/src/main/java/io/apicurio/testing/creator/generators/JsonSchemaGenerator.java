@@ -1,20 +1,19 @@
 package io.apicurio.testing.creator.generators;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ArrayNode;
-import com.fasterxml.jackson.databind.node.ObjectNode;
-import io.apicurio.registry.rest.client.RegistryClient;
-import io.apicurio.registry.rest.v2.beans.ArtifactMetaData;
 import io.apicurio.registry.rest.v2.beans.EditableMetaData;
 import io.apicurio.registry.rest.v2.beans.Rule;
 import io.apicurio.registry.types.ArtifactType;
 import io.apicurio.registry.types.RuleType;
-import io.apicurio.testing.creator.model.CreationSummary;
+import io.apicurio.testing.creator.content.ContentBuffer;
+import io.apicurio.testing.creator.content.JsonSchemaContentWriter;
+import io.apicurio.testing.creator.engine.CreationEngine;
+import io.apicurio.testing.creator.model.ExpectationsWriter;
+import io.apicurio.testing.creator.pipeline.ArtifactSink;
+import io.apicurio.testing.creator.pipeline.WorkItem;
+import io.apicurio.testing.creator.scale.ScaleProfile;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.ByteArrayInputStream;
-import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -22,19 +21,24 @@ import java.util.Map;
 
 /**
  * Generates JSON Schema artifacts for testing.
- * Creates 5 artifacts with 2-3 versions each.
+ * Artifact and version counts come from the {@link ScaleProfile}; the baseline profile
+ * creates 5 artifacts with 2-3 versions each.
  */
 public class JsonSchemaGenerator {
 
     private static final Logger log = LoggerFactory.getLogger(JsonSchemaGenerator.class);
-    private static final ObjectMapper mapper = new ObjectMapper();
 
-    private final RegistryClient client;
-    private final CreationSummary summary;
-
-    public JsonSchemaGenerator(RegistryClient client, CreationSummary summary) {
-        this.client = client;
-        this.summary = summary;
+    private final ArtifactSink sink;
+    private final CreationEngine engine;
+    private final ScaleProfile profile;
+    private final ExpectationsWriter expectations;
+
+    public JsonSchemaGenerator(ArtifactSink sink, CreationEngine engine, ScaleProfile profile,
+                               ExpectationsWriter expectations) {
+        this.sink = sink;
+        this.engine = engine;
+        this.profile = profile;
+        this.expectations = expectations;
     }
 
     /**
@@ -43,12 +47,21 @@ public class JsonSchemaGenerator {
     public void createArtifacts() throws Exception {
         log.info("Creating JSON Schema artifacts...");
 
-        // Create 5 JSON schemas with different version counts
-        for (int i = 1; i <= 5; i++) {
+        // Create JSON schemas with version counts from the scale profile
+        int artifactCount = profile.getArtifactCount("JSON");
+        for (int i = 1; i <= artifactCount; i++) {
             String artifactId = "json-schema-" + i;
-            int versionCount = (i % 2) + 2; // 2-3 versions
+            int versionCount = profile.versionCount("JSON", i);
             boolean addNoneRule = (i == 1); // Add NONE rule to first artifact
-            createJsonSchemaArtifact(artifactId, i, versionCount, addNoneRule);
+            EditableMetaData editMeta = createMetadata(artifactId, i);
+            expectations.artifact("default", artifactId, ArtifactType.JSON, versionCount, editMeta,
+                addNoneRule ? List.of(compatibilityRule("NONE")) : List.of());
+            int completed = sink.resume("default", artifactId, ArtifactType.JSON, versionCount);
+            if (completed == versionCount) {
+                continue; // already created by an earlier run
+            }
+            int index = i;
+            engine.submit(artifactId, () -> createJsonSchemaArtifact(artifactId, index, completed + 1, versionCount, addNoneRule, editMeta));
         }
     }
 
@@ -57,154 +70,64 @@ public class JsonSchemaGenerator {
      *
      * @param artifactId artifact identifier
      * @param index artifact index for uniqueness
+     * @param firstVersion first version to create (greater than 1 when resuming)
      * @param versionCount number of versions to create
      * @param addNoneRule whether to add COMPATIBILITY: NONE rule before creating additional versions
+     * @param editMeta metadata sent along with version 1
      */
-    private void createJsonSchemaArtifact(String artifactId, int index, int versionCount, boolean addNoneRule) throws Exception {
-        log.info("  Creating artifact: {} ({} versions)", artifactId, versionCount);
-
-        // Version 1: Base schema
-        String schema1 = createBaseJsonSchema("Entity" + index);
-        ArtifactMetaData meta = client.createArtifact(
-            "default",
-            artifactId,
-            ArtifactType.JSON,
-            new ByteArrayInputStream(schema1.getBytes(StandardCharsets.UTF_8))
-        );
-
-        // Add labels and properties
-        EditableMetaData editMeta = new EditableMetaData();
-        editMeta.setName(artifactId);
-        editMeta.setDescription("JSON Schema test #" + index);
-        editMeta.setLabels(createLabels("json"));
-        editMeta.setProperties(createProperties());
-        client.updateArtifactMetaData("default", artifactId, editMeta);
-
-        // Add COMPATIBILITY: NONE rule if requested (must be done before creating version 2)
-        if (addNoneRule) {
-            addNoneCompatibilityRule(artifactId);
+    private void createJsonSchemaArtifact(String artifactId, int index, int firstVersion, int versionCount, boolean addNoneRule, EditableMetaData editMeta) throws Exception {
+        if (firstVersion > 1) {
+            log.info("  Resuming artifact: {} at version {} of {}", artifactId, firstVersion, versionCount);
+        } else {
+            log.info("  Creating artifact: {} ({} versions)", artifactId, versionCount);
         }
 
-        // Create additional versions
-        for (int v = 2; v <= versionCount; v++) {
-            String schema = createVersionedJsonSchema("Entity" + index, v);
-            client.createArtifactVersion(
-                "default",
-                artifactId,
-                null,
-                new ByteArrayInputStream(schema.getBytes(StandardCharsets.UTF_8))
-            );
-        }
+        String doc = profile.documentation("JSON", index);
 
-        summary.recordArtifact("JSON", artifactId, versionCount);
-        log.info("    ✓ Created {} with {} versions", artifactId, versionCount);
-    }
+        // Version 1 creates the artifact, later versions are added to it
+        for (int v = firstVersion; v <= versionCount; v++) {
+            ContentBuffer content = sink.buffer();
+            JsonSchemaContentWriter.write(content, "Entity" + index, v, doc);
+            WorkItem item = v == 1
+                ? WorkItem.create("default", artifactId, ArtifactType.JSON, versionCount, content, editMeta)
+                : WorkItem.version("default", artifactId, ArtifactType.JSON, v, versionCount, content);
 
-    /**
-     * Creates a base JSON Schema with all fields required.
-     * Later versions will relax these requirements (backward compatible).
-     *
-     * @param title schema title
-     * @return JSON Schema string
-     */
-    private String createBaseJsonSchema(String title) throws Exception {
-        ObjectNode schema = mapper.createObjectNode();
-        schema.put("$schema", "http://json-schema.org/draft-07/schema#");
-        schema.put("title", title);
-        schema.put("type", "object");
-
-        ObjectNode properties = schema.putObject("properties");
-
-        ObjectNode idProp = properties.putObject("id");
-        idProp.put("type", "string");
-        idProp.put("description", "Unique identifier");
-
-        ObjectNode nameProp = properties.putObject("name");
-        nameProp.put("type", "string");
-        nameProp.put("description", "Name of the entity");
-
-        ObjectNode emailProp = properties.putObject("email");
-        emailProp.put("type", "string");
-        emailProp.put("format", "email");
-        emailProp.put("description", "Email address");
-
-        ObjectNode statusProp = properties.putObject("status");
-        statusProp.put("type", "string");
-        statusProp.put("description", "Status of the entity");
-
-        ArrayNode required = schema.putArray("required");
-        required.add("id");
-        required.add("name");
-        required.add("email");
-        required.add("status");
-
-        return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(schema);
+            // Add COMPATIBILITY: NONE rule if requested (must be done before creating version 2)
+            if (addNoneRule && item.isFirstVersion()) {
+                item.withRule(compatibilityRule("NONE"));
+            }
+
+            sink.send(item);
+        }
     }
 
     /**
-     * Creates a versioned JSON Schema with backward-compatible changes.
-     * Instead of adding new properties (which the registry considers narrowing),
-     * we make backward-compatible changes by relaxing constraints.
+     * Creates an artifact-specific COMPATIBILITY rule.
      *
-     * @param title schema title
-     * @param version version number
-     * @return JSON Schema string
+     * @param config the compatibility level
+     * @return the rule
      */
-    private String createVersionedJsonSchema(String title, int version) throws Exception {
-        ObjectNode schema = mapper.createObjectNode();
-        schema.put("$schema", "http://json-schema.org/draft-07/schema#");
-        schema.put("title", title);
-        schema.put("type", "object");
-
-        ObjectNode properties = schema.putObject("properties");
-
-        ObjectNode idProp = properties.putObject("id");
-        idProp.put("type", "string");
-        idProp.put("description", "Unique identifier");
-
-        ObjectNode nameProp = properties.putObject("name");
-        nameProp.put("type", "string");
-        nameProp.put("description", "Name of the entity");
-
-        ObjectNode emailProp = properties.putObject("email");
-        emailProp.put("type", "string");
-        emailProp.put("format", "email");
-        emailProp.put("description", "Email address");
-
-        ObjectNode statusProp = properties.putObject("status");
-        statusProp.put("type", "string");
-        statusProp.put("description", "Status of the entity");
-
-        // Version 1: All fields required
-        // Version 2+: Make some fields optional (backward compatible)
-        ArrayNode required = schema.putArray("required");
-        required.add("id");
-        if (version < 2) {
-            required.add("name");
-            required.add("email");
-            required.add("status");
-        } else if (version < 3) {
-            required.add("name");
-            // email and status become optional in v2 (backward compatible)
-        } else {
-            // only id required in v3+ (backward compatible)
-        }
-
-        return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(schema);
+    private Rule compatibilityRule(String config) {
+        Rule rule = new Rule();
+        rule.setType(RuleType.COMPATIBILITY);
+        rule.setConfig(config);
+        return rule;
     }
 
     /**
-     * Adds COMPATIBILITY: NONE rule to a specific artifact.
+     * Creates the metadata sent along with version 1.
      *
-     * @param artifactId the artifact to add the rule to
+     * @param artifactId artifact identifier
+     * @param index artifact index for uniqueness
+     * @return the artifact metadata
      */
-    private void addNoneCompatibilityRule(String artifactId) throws Exception {
-        log.info("  Adding NONE compatibility rule to {}", artifactId);
-        Rule rule = new Rule();
-        rule.setType(RuleType.COMPATIBILITY);
-        rule.setConfig("NONE");
-        client.createArtifactRule("default", artifactId, rule);
-        summary.recordArtifactRule();
+    private EditableMetaData createMetadata(String artifactId, int index) {
+        EditableMetaData editMeta = new EditableMetaData();
+        editMeta.setName(artifactId);
+        editMeta.setDescription("JSON Schema test #" + index);
+        editMeta.setLabels(createLabels("json"));
+        editMeta.setProperties(createProperties());
+        return editMeta;
     }
 
     /**
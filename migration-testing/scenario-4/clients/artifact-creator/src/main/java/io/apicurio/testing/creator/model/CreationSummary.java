@@ -1,22 +1,34 @@
 package io.apicurio.testing.creator.model;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Summary of artifact creation results.
  * Tracks counts and details of all created artifacts.
+ * Safe to update from multiple creator worker threads. Every worker updates the same
+ * few counters for each version it creates, so they are striped {@link LongAdder}s
+ * rather than atomics, and the per-type counts are adders too instead of a map entry
+ * every worker rewrites.
  */
 public class CreationSummary {
 
-    private int totalArtifacts = 0;
-    private int totalVersions = 0;
-    private int totalReferences = 0;
-    private int globalRules = 0;
-    private int artifactRules = 0;
-
-    private Map<String, Integer> artifactsByType = new HashMap<>();
-    private Map<String, Integer> versionsByArtifact = new HashMap<>();
+    private final LongAdder totalArtifacts = new LongAdder();
+    private final LongAdder totalVersions = new LongAdder();
+    private final LongAdder totalReferences = new LongAdder();
+    private final LongAdder globalRules = new LongAdder();
+    private final LongAdder artifactRules = new LongAdder();
+    private final LongAdder roundTrips = new LongAdder();
+    private final LongAdder savedRoundTrips = new LongAdder();
+    private final LongAdder pipelinedRoundTrips = new LongAdder();
+    private final LongAdder resumedArtifacts = new LongAdder();
+    private final LongAdder resumedVersions = new LongAdder();
+    private final LongAdder alreadyExisting = new LongAdder();
+
+    private final Map<String, LongAdder> artifactsByType = new ConcurrentHashMap<>();
+    private final Map<String, Integer> versionsByArtifact = new ConcurrentHashMap<>();
 
     /**
      * Records creation of a new artifact.
@@ -26,9 +38,13 @@ public class CreationSummary {
      * @param versionCount number of versions created for this artifact
      */
     public void recordArtifact(String artifactType, String artifactId, int versionCount) {
-        totalArtifacts++;
-        totalVersions += versionCount;
-        artifactsByType.merge(artifactType, 1, Integer::sum);
+        totalArtifacts.increment();
+        totalVersions.add(versionCount);
+        LongAdder typeCount = artifactsByType.get(artifactType);
+        if (typeCount == null) {
+            typeCount = artifactsByType.computeIfAbsent(artifactType, type -> new LongAdder());
+        }
+        typeCount.increment();
         versionsByArtifact.put(artifactId, versionCount);
     }
 
@@ -36,45 +52,136 @@ public class CreationSummary {
      * Records creation of an artifact reference.
      */
     public void recordReference() {
-        totalReferences++;
+        totalReferences.increment();
     }
 
     /**
      * Records creation of a global rule.
      */
     public void recordGlobalRule() {
-        globalRules++;
+        globalRules.increment();
     }
 
     /**
      * Records creation of an artifact-specific rule.
      */
     public void recordArtifactRule() {
-        artifactRules++;
+        artifactRules.increment();
+    }
+
+    /**
+     * Records a request sent to the registry.
+     *
+     * @param pipelined whether the request was issued without waiting for its response
+     */
+    public void recordRoundTrip(boolean pipelined) {
+        roundTrips.increment();
+        if (pipelined) {
+            pipelinedRoundTrips.increment();
+        }
+    }
+
+    /**
+     * Records a request that was not needed because its data was sent with another one.
+     */
+    public void recordSavedRoundTrip() {
+        savedRoundTrips.increment();
+    }
+
+    /**
+     * Records versions skipped because the checkpoint journal lists them as complete.
+     *
+     * @param versions number of skipped versions
+     * @param wholeArtifact whether all versions of the artifact were skipped
+     */
+    public void recordResumed(int versions, boolean wholeArtifact) {
+        resumedVersions.add(versions);
+        if (wholeArtifact) {
+            resumedArtifacts.increment();
+        }
+    }
+
+    /**
+     * Records an artifact, version or rule the registry already had, treated as done.
+     */
+    public void recordAlreadyExisting() {
+        alreadyExisting.increment();
     }
 
     public int getTotalArtifacts() {
-        return totalArtifacts;
+        return totalArtifacts.intValue();
     }
 
     public int getTotalVersions() {
-        return totalVersions;
+        return totalVersions.intValue();
     }
 
     public int getTotalReferences() {
-        return totalReferences;
+        return totalReferences.intValue();
     }
 
     public int getGlobalRules() {
-        return globalRules;
+        return globalRules.intValue();
     }
 
     public int getArtifactRules() {
-        return artifactRules;
+        return artifactRules.intValue();
+    }
+
+    public long getRoundTrips() {
+        return roundTrips.sum();
+    }
+
+    public long getSavedRoundTrips() {
+        return savedRoundTrips.sum();
     }
 
+    public long getPipelinedRoundTrips() {
+        return pipelinedRoundTrips.sum();
+    }
+
+    /**
+     * Formats the round-trip counters, e.g. {@code "75 (saved 0, pipelined 25)"}.
+     */
+    public String describeRoundTrips() {
+        return roundTrips.sum() + " (saved " + savedRoundTrips.sum()
+            + ", pipelined " + pipelinedRoundTrips.sum() + ")";
+    }
+
+    public int getResumedArtifacts() {
+        return resumedArtifacts.intValue();
+    }
+
+    public long getResumedVersions() {
+        return resumedVersions.sum();
+    }
+
+    public long getAlreadyExisting() {
+        return alreadyExisting.sum();
+    }
+
+    /**
+     * Whether this run continued the work of an earlier, interrupted run.
+     */
+    public boolean isResumed() {
+        return resumedVersions.sum() > 0 || alreadyExisting.sum() > 0;
+    }
+
+    /**
+     * Formats the resume counters, e.g. {@code "12 artifacts, 40 versions from checkpoint, 1 already existed"}.
+     */
+    public String describeResumed() {
+        return resumedArtifacts.sum() + " artifacts, " + resumedVersions.sum() + " versions from checkpoint, "
+            + alreadyExisting.sum() + " already existed";
+    }
+
+    /**
+     * Returns a snapshot of the number of artifacts created per type, ordered by type.
+     */
     public Map<String, Integer> getArtifactsByType() {
-        return artifactsByType;
+        Map<String, Integer> snapshot = new TreeMap<>();
+        artifactsByType.forEach((type, count) -> snapshot.put(type, count.intValue()));
+        return snapshot;
     }
 
     public Map<String, Integer> getVersionsByArtifact() {
@@ -89,14 +196,18 @@ public class CreationSummary {
         System.out.println("  Artifact Creation Summary");
         System.out.println("=".repeat(60));
         System.out.println();
-        System.out.println("Total Artifacts:     " + totalArtifacts);
-        System.out.println("Total Versions:      " + totalVersions);
-        System.out.println("Total References:    " + totalReferences);
-        System.out.println("Global Rules:        " + globalRules);
-        System.out.println("Artifact Rules:      " + artifactRules);
+        System.out.println("Total Artifacts:     " + totalArtifacts.sum());
+        System.out.println("Total Versions:      " + totalVersions.sum());
+        System.out.println("Total References:    " + totalReferences.sum());
+        System.out.println("Global Rules:        " + globalRules.sum());
+        System.out.println("Artifact Rules:      " + artifactRules.sum());
+        System.out.println("Round Trips:         " + describeRoundTrips());
+        if (isResumed()) {
+            System.out.println("Resumed:             " + describeResumed());
+        }
         System.out.println();
         System.out.println("Artifacts by Type:");
-        artifactsByType.forEach((type, count) ->
+        getArtifactsByType().forEach((type, count) ->
             System.out.println("  " + String.format("%-12s", type + ":") + count)
         );
         System.out.println();
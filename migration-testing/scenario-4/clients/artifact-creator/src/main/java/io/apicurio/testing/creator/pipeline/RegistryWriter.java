@@ -0,0 +1,282 @@
+package io.apicurio.testing.creator.pipeline;
+
+import io.apicurio.registry.rest.client.RegistryClient;
+import io.apicurio.registry.rest.client.exception.ArtifactAlreadyExistsException;
+import io.apicurio.registry.rest.client.exception.RuleAlreadyExistsException;
+import io.apicurio.registry.rest.client.exception.VersionAlreadyExistsException;
+import io.apicurio.registry.rest.v2.beans.EditableMetaData;
+import io.apicurio.registry.rest.v2.beans.Rule;
+import io.apicurio.testing.creator.checkpoint.CheckpointJournal;
+import io.apicurio.testing.creator.content.ContentBuffer;
+import io.apicurio.testing.creator.model.CreationSummary;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Performs the registry calls for work items.
+ *
+ * Used directly as an {@link ArtifactSink}, it sends each item on the generating
+ * thread as soon as it is produced, reusing that thread's content buffer. The
+ * {@link CreationPipeline} uses it as its I/O stage instead.
+ *
+ * Every request is counted in the {@link CreationSummary}; see {@link MetadataMode}
+ * for how metadata requests are saved or pipelined.
+ *
+ * With an enabled {@link CheckpointJournal} the writer is resumable: versions are
+ * created with explicit version numbers (the same "1", "2", ... the registry would
+ * assign), so repeating an interrupted call is detected by the registry, and any
+ * "already exists" conflict is treated as "already done". Each version is
+ * journaled once it and its metadata and rules are complete.
+ */
+public class RegistryWriter implements ArtifactSink, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(RegistryWriter.class);
+
+    private final RegistryClient client;
+    private final CreationSummary summary;
+    private final MetadataMode metadataMode;
+    private final CheckpointJournal journal;
+    private final ExecutorService metadataExecutor;
+    private final Map<String, CompletableFuture<Void>> pendingMetadata = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a writer.
+     *
+     * @param client the registry client
+     * @param summary the creation summary tracker
+     * @param metadataMode how artifact metadata is sent
+     * @param metadataThreads threads issuing pipelined metadata updates ({@link MetadataMode#INLINE} only)
+     * @param journal checkpoint journal ({@link CheckpointJournal#disabled()} for none)
+     */
+    public RegistryWriter(RegistryClient client, CreationSummary summary, MetadataMode metadataMode,
+                          int metadataThreads, CheckpointJournal journal) {
+        this.client = client;
+        this.summary = summary;
+        this.metadataMode = metadataMode;
+        this.journal = journal;
+        this.metadataExecutor = metadataMode == MetadataMode.INLINE
+            ? Executors.newFixedThreadPool(Math.max(1, metadataThreads), new MetadataThreadFactory())
+            : null;
+    }
+
+    @Override
+    public int resume(String groupId, String artifactId, String artifactType, int versionCount) {
+        int completed = Math.min(journal.completedVersions(groupId, artifactId), versionCount);
+        if (completed > 0) {
+            boolean wholeArtifact = completed == versionCount;
+            summary.recordResumed(completed, wholeArtifact);
+            if (wholeArtifact) {
+                summary.recordArtifact(artifactType, artifactId, versionCount);
+            }
+        }
+        return completed;
+    }
+
+    @Override
+    public ContentBuffer buffer() {
+        return ContentBuffer.forCurrentThread();
+    }
+
+    @Override
+    public void send(WorkItem item) throws Exception {
+        write(item);
+    }
+
+    /**
+     * Creates the artifact or version described by an item, followed by its rules.
+     *
+     * @param item the item to write
+     */
+    public void write(WorkItem item) throws Exception {
+        CompletableFuture<Void> metadataUpdate = null;
+        if (item.isFirstVersion()) {
+            metadataUpdate = createArtifact(item);
+        } else {
+            // A pipelined metadata update must land before the next version is created
+            awaitMetadata(item.getArtifactId());
+            idempotent(item, "version " + item.getVersion(), () -> client.createArtifactVersion(
+                item.getGroupId(),
+                item.getArtifactId(),
+                versionId(item),
+                item.getContent().asInputStream()
+            ));
+            summary.recordRoundTrip(false);
+        }
+
+        for (Rule rule : item.getRules()) {
+            log.info("  Adding {} {} rule to {}", rule.getConfig(), rule.getType(), item.getArtifactId());
+            idempotent(item, rule.getType() + " rule",
+                () -> client.createArtifactRule(item.getGroupId(), item.getArtifactId(), rule));
+            summary.recordRoundTrip(false);
+            summary.recordArtifactRule();
+        }
+
+        if (metadataUpdate == null) {
+            journal.recordVersion(item.getGroupId(), item.getArtifactId(), item.getVersion());
+        } else {
+            // Journal once the update lands; flush() waits for both and reports either failure
+            track(item.getArtifactId(), metadataUpdate.thenRun(() ->
+                journal.recordVersion(item.getGroupId(), item.getArtifactId(), item.getVersion())));
+        }
+
+        if (item.isLastVersion()) {
+            summary.recordArtifact(item.getArtifactType(), item.getArtifactId(), item.getVersionCount());
+            log.info("    ✓ Created {} with {} versions", item.getArtifactId(), item.getVersionCount());
+        }
+    }
+
+    /**
+     * Waits for all pipelined metadata updates and the journal writes that follow them.
+     *
+     * @throws Exception the first failed metadata update or journal write
+     */
+    public void flush() throws Exception {
+        for (String artifactId : pendingMetadata.keySet()) {
+            awaitMetadata(artifactId);
+        }
+    }
+
+    /**
+     * Stops the metadata threads.
+     */
+    @Override
+    public void close() {
+        if (metadataExecutor != null) {
+            metadataExecutor.shutdown();
+            try {
+                if (!metadataExecutor.awaitTermination(30, TimeUnit.SECONDS)) {
+                    metadataExecutor.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                metadataExecutor.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Creates the artifact and sets its metadata.
+     *
+     * @return the pipelined metadata update, or null if nothing is pending
+     */
+    private CompletableFuture<Void> createArtifact(WorkItem item) {
+        String groupId = item.getGroupId();
+        String artifactId = item.getArtifactId();
+        EditableMetaData metadata = item.getMetadata();
+        boolean inline = metadataMode == MetadataMode.INLINE && metadata != null;
+
+        // Name and description travel as X-Registry-Name / X-Registry-Description headers
+        idempotent(item, "artifact", () -> client.createArtifact(
+            groupId,
+            artifactId,
+            versionId(item),
+            item.getArtifactType(),
+            null,
+            null,
+            inline ? metadata.getName() : null,
+            inline ? metadata.getDescription() : null,
+            item.getContent().asInputStream()
+        ));
+        summary.recordRoundTrip(false);
+
+        if (metadata == null) {
+            return null;
+        }
+
+        if (!inline) {
+            // Add labels and properties
+            client.updateArtifactMetaData(groupId, artifactId, metadata);
+            summary.recordRoundTrip(false);
+            return null;
+        }
+
+        if (isEmpty(metadata.getLabels()) && isEmpty(metadata.getProperties())) {
+            summary.recordSavedRoundTrip();
+            return null;
+        }
+
+        // Labels and properties need the metadata update; don't wait for it here
+        CompletableFuture<Void> update = CompletableFuture.runAsync(
+            () -> client.updateArtifactMetaData(groupId, artifactId, metadata), metadataExecutor);
+        track(artifactId, update);
+        summary.recordRoundTrip(true);
+        return update;
+    }
+
+    /**
+     * Registers a pipelined update of an artifact, replacing any earlier stage of it.
+     */
+    private void track(String artifactId, CompletableFuture<Void> update) {
+        pendingMetadata.put(artifactId, update);
+        update.thenRun(() -> pendingMetadata.remove(artifactId, update));
+    }
+
+    /**
+     * Explicit version number when resuming, so a repeated create is rejected as a duplicate.
+     */
+    private String versionId(WorkItem item) {
+        return journal.isEnabled() ? String.valueOf(item.getVersion()) : null;
+    }
+
+    /**
+     * Runs a create call; when resuming, an existing resource counts as created.
+     */
+    private void idempotent(WorkItem item, String what, Runnable call) {
+        try {
+            call.run();
+        } catch (ArtifactAlreadyExistsException | VersionAlreadyExistsException | RuleAlreadyExistsException e) {
+            if (!journal.isEnabled()) {
+                throw e;
+            }
+            log.info("    {} {} already exists, treating as done", item.getArtifactId(), what);
+            summary.recordAlreadyExisting();
+        }
+    }
+
+    private void awaitMetadata(String artifactId) throws Exception {
+        CompletableFuture<Void> update = pendingMetadata.get(artifactId);
+        if (update == null) {
+            return;
+        }
+        try {
+            update.join();
+        } catch (CompletionException e) {
+            pendingMetadata.remove(artifactId, update);
+            Throwable cause = e.getCause();
+            throw cause instanceof Exception ? (Exception) cause : e;
+        }
+    }
+
+    private static boolean isEmpty(List<String> labels) {
+        return labels == null || labels.isEmpty();
+    }
+
+    private static boolean isEmpty(Map<String, String> properties) {
+        return properties == null || properties.isEmpty();
+    }
+
+    /**
+     * Names metadata threads so interleaved log output can be attributed.
+     */
+    private static class MetadataThreadFactory implements ThreadFactory {
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread t = new Thread(r, "creator-metadata-" + counter.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        }
+    }
+}
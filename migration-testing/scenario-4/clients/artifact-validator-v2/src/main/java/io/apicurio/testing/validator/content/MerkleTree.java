@@ -0,0 +1,195 @@
+package io.apicurio.testing.validator.content;
+
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+
+/**
+ * Merkle tree over the versions of a {@link FingerprintManifest}.
+ *
+ * Every version is assigned to one of {@code 2^depth} buckets by a stable hash of
+ * its key (group, artifactId, version), so the same version lands in the same
+ * bucket in every manifest, whatever else was added or removed. A bucket's leaf
+ * hash is the SHA-256 of its versions' ids, content hashes and keys in key order;
+ * each inner node hashes its two children.
+ *
+ * Two trees are compared from the root down, descending only into nodes whose
+ * hashes differ. With d differing versions this takes O(d log n) node comparisons,
+ * and only the versions in the differing buckets are then compared one by one.
+ */
+public final class MerkleTree {
+
+    public static final int MAX_DEPTH = 24;
+
+    // Versions per bucket aimed for by depthFor()
+    private static final int VERSIONS_PER_BUCKET = 8;
+
+    private static final int HASH_SIZE = 32;
+
+    private final FingerprintManifest manifest;
+    private final int depth;
+    // Node i at [i * HASH_SIZE]; the root is node 1, the children of node i are 2i and 2i+1
+    private final byte[] nodes;
+    // Record indexes grouped by bucket, in key order within each bucket
+    private final int[] records;
+    private final int[] bucketStart;
+
+    private MerkleTree(FingerprintManifest manifest, int depth, byte[] nodes, int[] records, int[] bucketStart) {
+        this.manifest = manifest;
+        this.depth = depth;
+        this.nodes = nodes;
+        this.records = records;
+        this.bucketStart = bucketStart;
+    }
+
+    /**
+     * Builds the tree of a manifest.
+     *
+     * @param manifest the manifest; it must stay open while the tree is used
+     * @param depth the tree depth; both trees of a comparison must have the same depth
+     */
+    public static MerkleTree build(FingerprintManifest manifest, int depth) {
+        if (depth < 1 || depth > MAX_DEPTH) {
+            throw new IllegalArgumentException("Depth must be between 1 and " + MAX_DEPTH + ": " + depth);
+        }
+        int buckets = 1 << depth;
+        int count = manifest.size();
+
+        // Group the records by bucket; a stable counting sort keeps the key order within each bucket
+        int[] bucketOf = new int[count];
+        int[] bucketStart = new int[buckets + 1];
+        for (int i = 0; i < count; i++) {
+            bucketOf[i] = bucket(manifest.keyHash(i), depth);
+            bucketStart[bucketOf[i] + 1]++;
+        }
+        for (int b = 0; b < buckets; b++) {
+            bucketStart[b + 1] += bucketStart[b];
+        }
+        int[] records = new int[count];
+        int[] next = Arrays.copyOf(bucketStart, buckets);
+        for (int i = 0; i < count; i++) {
+            records[next[bucketOf[i]]++] = i;
+        }
+
+        MessageDigest digest = ContentHashes.newDigest();
+        byte[] nodes = new byte[2 * buckets * HASH_SIZE];
+        try {
+            for (int b = 0; b < buckets; b++) {
+                for (int r = bucketStart[b]; r < bucketStart[b + 1]; r++) {
+                    manifest.digestRecord(records[r], digest);
+                }
+                digest.digest(nodes, (buckets + b) * HASH_SIZE, HASH_SIZE);
+            }
+            for (int node = buckets - 1; node >= 1; node--) {
+                digest.update(nodes, 2 * node * HASH_SIZE, 2 * HASH_SIZE);
+                digest.digest(nodes, node * HASH_SIZE, HASH_SIZE);
+            }
+        } catch (DigestException e) {
+            throw new IllegalStateException("SHA-256 digest failed", e);
+        }
+        return new MerkleTree(manifest, depth, nodes, records, bucketStart);
+    }
+
+    /**
+     * Returns a depth that puts about {@value #VERSIONS_PER_BUCKET} versions in each bucket.
+     *
+     * @param versions the number of versions in the larger of the manifests compared
+     */
+    public static int depthFor(int versions) {
+        int buckets = Math.max(versions / VERSIONS_PER_BUCKET, 2);
+        int depth = 32 - Integer.numberOfLeadingZeros(buckets - 1);
+        return Math.min(depth, MAX_DEPTH);
+    }
+
+    public FingerprintManifest getManifest() {
+        return manifest;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    /**
+     * Returns the hex-encoded root hash, which is equal for equal manifests.
+     */
+    public String getRootHash() {
+        return ContentHashes.hex(Arrays.copyOfRange(nodes, HASH_SIZE, 2 * HASH_SIZE));
+    }
+
+    /**
+     * Returns the buckets whose leaf hashes differ, in bucket order.
+     *
+     * @param before the tree of the manifest written before the migration
+     * @param after the tree of the manifest written after the migration
+     */
+    public static int[] differingBuckets(MerkleTree before, MerkleTree after) {
+        if (before.depth != after.depth) {
+            throw new IllegalArgumentException("Trees of depth " + before.depth + " and " + after.depth
+                + " cannot be compared");
+        }
+        int buckets = 1 << before.depth;
+        int[] differing = new int[16];
+        int found = 0;
+        Deque<Integer> pending = new ArrayDeque<>();
+        pending.push(1);
+        while (!pending.isEmpty()) {
+            int node = pending.pop();
+            if (sameNode(before, after, node)) {
+                continue;
+            }
+            if (node >= buckets) {
+                if (found == differing.length) {
+                    differing = Arrays.copyOf(differing, found * 2);
+                }
+                differing[found++] = node - buckets;
+            } else {
+                pending.push(2 * node + 1);
+                pending.push(2 * node);
+            }
+        }
+        return Arrays.copyOf(differing, found);
+    }
+
+    /**
+     * Compares the versions of two trees' manifests, only looking at the given buckets.
+     *
+     * @param before the tree of the manifest written before the migration
+     * @param after the tree of the manifest written after the migration
+     * @param buckets the differing buckets, from {@link #differingBuckets}
+     * @param listener receives every difference
+     * @return the number of matching versions, including those in matching buckets
+     */
+    public static long diff(MerkleTree before, MerkleTree after, int[] buckets,
+                            FingerprintManifest.DiffListener listener) {
+        long matching = before.manifest.size();
+        for (int bucket : buckets) {
+            int[] beforeRecords = before.bucketRecords(bucket);
+            matching -= beforeRecords.length;
+            matching += FingerprintManifest.diff(before.manifest, beforeRecords,
+                after.manifest, after.bucketRecords(bucket), listener);
+        }
+        return matching;
+    }
+
+    private int[] bucketRecords(int bucket) {
+        return Arrays.copyOfRange(records, bucketStart[bucket], bucketStart[bucket + 1]);
+    }
+
+    private static boolean sameNode(MerkleTree a, MerkleTree b, int node) {
+        int from = node * HASH_SIZE;
+        return Arrays.equals(a.nodes, from, from + HASH_SIZE, b.nodes, from, from + HASH_SIZE);
+    }
+
+    /**
+     * Takes the top bits of the mixed key hash, so buckets stay balanced for similar keys.
+     */
+    private static int bucket(long keyHash, int depth) {
+        long h = keyHash;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        return (int) (h >>> (64 - depth));
+    }
+}
@@ -0,0 +1,100 @@
+package io.apicurio.testing.validator.engine;
+
+import java.net.URI;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limits the rate of requests sent to one registry host.
+ *
+ * Every request reserves the next free slot, one interval after the previous one, and
+ * waits until its slot comes; requests are spread evenly and there are no bursts.
+ * Limiters are shared per host and port, so all validators talking to the same
+ * registry draw from the same budget; the first rate requested for a host applies.
+ */
+public final class RateLimiter {
+
+    private static final ConcurrentMap<String, RateLimiter> HOSTS = new ConcurrentHashMap<>();
+
+    private final String host;
+    private final double requestsPerSecond;
+    private final long intervalNanos;
+    private long nextSlot;
+
+    private RateLimiter(String host, double requestsPerSecond) {
+        this.host = host;
+        this.requestsPerSecond = requestsPerSecond;
+        this.intervalNanos = requestsPerSecond > 0 ? Math.round(1_000_000_000.0 / requestsPerSecond) : 0;
+        this.nextSlot = System.nanoTime();
+    }
+
+    /**
+     * Returns the limiter of the host a registry URL points to.
+     *
+     * @param registryUrl the registry URL
+     * @param requestsPerSecond maximum requests per second to the host, or 0 for no limit
+     * @return the limiter
+     */
+    public static RateLimiter forHost(String registryUrl, double requestsPerSecond) {
+        String host = hostOf(registryUrl);
+        if (requestsPerSecond <= 0) {
+            return new RateLimiter(host, 0);
+        }
+        return HOSTS.computeIfAbsent(host, key -> new RateLimiter(key, requestsPerSecond));
+    }
+
+    private static String hostOf(String registryUrl) {
+        try {
+            URI uri = URI.create(registryUrl);
+            if (uri.getHost() == null) {
+                return registryUrl;
+            }
+            int port = uri.getPort() != -1 ? uri.getPort() : "https".equalsIgnoreCase(uri.getScheme()) ? 443 : 80;
+            return uri.getHost() + ":" + port;
+        } catch (IllegalArgumentException e) {
+            return registryUrl;
+        }
+    }
+
+    /**
+     * Reserves the slot of the next request.
+     *
+     * @return nanoseconds to wait before sending the request, 0 if it may be sent now
+     */
+    public long reserve() {
+        if (intervalNanos == 0) {
+            return 0;
+        }
+        synchronized (this) {
+            long now = System.nanoTime();
+            long slot = Math.max(now, nextSlot);
+            nextSlot = slot + intervalNanos;
+            return slot - now;
+        }
+    }
+
+    /**
+     * Waits for the slot of the next request.
+     */
+    public void acquire() throws InterruptedException {
+        long wait = reserve();
+        if (wait > 0) {
+            TimeUnit.NANOSECONDS.sleep(wait);
+        }
+    }
+
+    public String getHost() {
+        return host;
+    }
+
+    public boolean isLimited() {
+        return intervalNanos > 0;
+    }
+
+    @Override
+    public String toString() {
+        return host + (isLimited() ? " at most " + String.format("%.0f", requestsPerSecond) + " requests/s"
+            : " without rate limit");
+    }
+}
@@ -0,0 +1,108 @@
+package io.apicurio.testing.validator.inventory;
+
+import io.apicurio.registry.rest.client.RegistryClient;
+import io.apicurio.registry.rest.v2.beans.ArtifactSearchResults;
+import io.apicurio.registry.rest.v2.beans.SearchedArtifact;
+import io.apicurio.registry.rest.v2.beans.SearchedVersion;
+import io.apicurio.registry.rest.v2.beans.SortBy;
+import io.apicurio.registry.rest.v2.beans.SortOrder;
+import io.apicurio.registry.rest.v2.beans.VersionSearchResults;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * Paginated artifact and version listings of a group.
+ *
+ * The validators used to search with {@code limit = 1000} and list versions with
+ * {@code limit = 100}, silently undercounting larger registries. These iterators walk
+ * every page instead. The v2 client is blocking, so pages ahead of the one being
+ * consumed are requested on a small pool of daemon threads (which do not keep the
+ * JVM alive); with a prefetch of 0
+ * every page is requested on the consuming thread.
+ */
+public class RegistryPages {
+
+    /** Default number of artifacts or versions requested per page. */
+    public static final int DEFAULT_PAGE_SIZE = 500;
+
+    /** Default number of pages requested ahead of the one being consumed. */
+    public static final int DEFAULT_PREFETCH = 2;
+
+    private final RegistryClient client;
+    private final String groupId;
+    private final int pageSize;
+    private final int prefetch;
+    private final ExecutorService executor;
+
+    /**
+     * @param client the registry client
+     * @param groupId the group to list
+     * @param pageSize artifacts or versions requested per page
+     * @param prefetch pages requested ahead of the one being consumed
+     */
+    public RegistryPages(RegistryClient client, String groupId, int pageSize, int prefetch) {
+        this.client = client;
+        this.groupId = groupId;
+        this.pageSize = pageSize;
+        this.prefetch = Math.max(0, prefetch);
+        this.executor = this.prefetch == 0 ? null : Executors.newFixedThreadPool(this.prefetch, r -> {
+            Thread thread = new Thread(r, "registry-pages");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public String getGroupId() {
+        return groupId;
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    /**
+     * Iterates over all artifacts of the group, ordered by name.
+     */
+    public PagedIterator<SearchedArtifact> artifacts() {
+        return new PagedIterator<>((offset, limit) -> request(() -> {
+            ArtifactSearchResults results = client.searchArtifacts(groupId, null, null, null, null, null, null,
+                SortBy.name, SortOrder.asc, offset, limit);
+            return new PagedIterator.Page<>(results.getArtifacts(), results.getCount());
+        }), pageSize, prefetch);
+    }
+
+    /**
+     * Iterates over all versions of an artifact.
+     *
+     * @param artifactId the artifact identifier
+     */
+    public PagedIterator<SearchedVersion> versions(String artifactId) {
+        return new PagedIterator<>((offset, limit) -> request(() -> {
+            VersionSearchResults results = client.listArtifactVersions(groupId, artifactId, offset, limit);
+            return new PagedIterator.Page<>(results.getVersions(), results.getCount());
+        }), pageSize, prefetch);
+    }
+
+    /**
+     * Returns the number of versions of an artifact, requesting a single version.
+     *
+     * @param artifactId the artifact identifier
+     */
+    public int versionCount(String artifactId) {
+        return client.listArtifactVersions(groupId, artifactId, 0, 1).getCount();
+    }
+
+    private <T> CompletableFuture<T> request(Supplier<T> call) {
+        if (executor == null) {
+            try {
+                return CompletableFuture.completedFuture(call.get());
+            } catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+        return CompletableFuture.supplyAsync(call, executor);
+    }
+}
@@ -1,20 +1,63 @@
 package io.apicurio.testing.validator.model;
 
+import io.apicurio.testing.validator.report.ArtifactCoordinates;
+import io.apicurio.testing.validator.report.CheckStatus;
+import io.apicurio.testing.validator.report.JsonLinesReportWriter;
+
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Report of validation results.
- * Tracks all validation checks and their outcomes.
+ * Tracks all validation checks and their outcomes. Checks may be recorded from
+ * several threads at once without locking: counters are striped {@link LongAdder}s
+ * and the kept failures and warnings are lock-free queues, so concurrent validators
+ * do not serialize on the report.
+ *
+ * Only counters and the first {@code sampleSize} failures and warnings are kept in
+ * memory. With a {@link JsonLinesReportWriter} every result, including passes, is also
+ * streamed to a JSON Lines file as it is recorded, with the artifact coordinates and
+ * latency of the check when the validator provides them.
  */
-public class ValidationReport {
+public class ValidationReport implements AutoCloseable {
+
+    /** Default number of failures and of warnings kept in memory. */
+    public static final int DEFAULT_SAMPLE_SIZE = 1000;
+
+    private final JsonLinesReportWriter writer;
+    private final int sampleSize;
+
+    private final LongAdder passedChecks = new LongAdder();
+    private final LongAdder failedChecks = new LongAdder();
+    private final LongAdder warningCount = new LongAdder();
 
-    private int totalChecks = 0;
-    private int passedChecks = 0;
-    private int failedChecks = 0;
+    // Slots of the samples claimed so far, so a full sample costs one read
+    private final AtomicInteger failureSlots = new AtomicInteger();
+    private final AtomicInteger warningSlots = new AtomicInteger();
+    private final Queue<String> failures = new ConcurrentLinkedQueue<>();
+    private final Queue<String> warnings = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Creates a report kept in memory only.
+     */
+    public ValidationReport() {
+        this(null, DEFAULT_SAMPLE_SIZE);
+    }
 
-    private List<String> failures = new ArrayList<>();
-    private List<String> warnings = new ArrayList<>();
+    /**
+     * @param writer the file every result is streamed to, or null
+     * @param sampleSize number of failures and of warnings kept in memory
+     */
+    public ValidationReport(JsonLinesReportWriter writer, int sampleSize) {
+        this.writer = writer;
+        this.sampleSize = Math.max(0, sampleSize);
+    }
 
     /**
      * Records a successful validation check.
@@ -22,8 +65,21 @@ public class ValidationReport {
      * @param checkName name of the validation check
      */
     public void recordPass(String checkName) {
-        totalChecks++;
-        passedChecks++;
+        recordPass(checkName, null, -1);
+    }
+
+    /**
+     * Records a successful check of an artifact or version.
+     *
+     * @param checkName name of the validation check
+     * @param target the artifact or version checked, or null
+     * @param latencyNanos how long the check took, or a negative value if not measured
+     */
+    public void recordPass(String checkName, ArtifactCoordinates target, long latencyNanos) {
+        passedChecks.increment();
+        if (writer != null) {
+            writer.write(CheckStatus.PASS, checkName, null, target, latencyNanos);
+        }
     }
 
     /**
@@ -33,9 +89,25 @@ public class ValidationReport {
      * @param reason reason for failure
      */
     public void recordFailure(String checkName, String reason) {
-        totalChecks++;
-        failedChecks++;
-        failures.add(checkName + ": " + reason);
+        recordFailure(checkName, reason, null, -1);
+    }
+
+    /**
+     * Records a failed check of an artifact or version.
+     *
+     * @param checkName name of the validation check
+     * @param reason reason for failure
+     * @param target the artifact or version checked, or null
+     * @param latencyNanos how long the check took, or a negative value if not measured
+     */
+    public void recordFailure(String checkName, String reason, ArtifactCoordinates target, long latencyNanos) {
+        failedChecks.increment();
+        if (claimSlot(failureSlots)) {
+            failures.add((target != null ? checkName + " of " + target : checkName) + ": " + reason);
+        }
+        if (writer != null) {
+            writer.write(CheckStatus.FAIL, checkName, reason, target, latencyNanos);
+        }
     }
 
     /**
@@ -44,7 +116,22 @@ public class ValidationReport {
      * @param message warning message
      */
     public void recordWarning(String message) {
-        warnings.add(message);
+        warningCount.increment();
+        if (claimSlot(warningSlots)) {
+            warnings.add(message);
+        }
+        if (writer != null) {
+            writer.write(CheckStatus.WARN, "Warning", message, null, -1);
+        }
+    }
+
+    /**
+     * Claims a place in a sample.
+     *
+     * @return true if the sample was not full yet
+     */
+    private boolean claimSlot(AtomicInteger slots) {
+        return slots.get() < sampleSize && slots.incrementAndGet() <= sampleSize;
     }
 
     /**
@@ -53,27 +140,77 @@ public class ValidationReport {
      * @return true if all checks passed, false otherwise
      */
     public boolean allPassed() {
-        return failedChecks == 0;
+        return failedChecks.sum() == 0;
     }
 
+    /**
+     * Counters are summed when read; while checks are still being recorded the
+     * totals may lag behind by the checks in progress.
+     */
     public int getTotalChecks() {
-        return totalChecks;
+        return getPassedChecks() + getFailedChecks();
     }
 
     public int getPassedChecks() {
-        return passedChecks;
+        return passedChecks.intValue();
     }
 
     public int getFailedChecks() {
-        return failedChecks;
+        return failedChecks.intValue();
     }
 
+    public int getWarningCount() {
+        return warningCount.intValue();
+    }
+
+    /**
+     * Returns the first failures recorded; {@link #getFailedChecks()} counts all of them.
+     */
     public List<String> getFailures() {
-        return failures;
+        return Collections.unmodifiableList(new ArrayList<>(failures));
     }
 
+    /**
+     * Returns the first warnings recorded; {@link #getWarningCount()} counts all of them.
+     */
     public List<String> getWarnings() {
-        return warnings;
+        return Collections.unmodifiableList(new ArrayList<>(warnings));
+    }
+
+    /**
+     * Returns the file every result is streamed to, or null.
+     */
+    public JsonLinesReportWriter getWriter() {
+        return writer;
+    }
+
+    /**
+     * Returns the lines describing failures and warnings that were counted but not kept.
+     */
+    private List<String> omitted(int count, int kept, String kind) {
+        if (count <= kept) {
+            return Collections.emptyList();
+        }
+        String where = writer != null ? " (all of them are in " + writer.getFile() + ")" : "";
+        return List.of("... and " + (count - kept) + " more " + kind + where);
+    }
+
+    /**
+     * Returns the lines listing the kept failures, followed by the number of omitted ones.
+     */
+    public List<String> describeFailures() {
+        List<String> lines = new ArrayList<>(failures);
+        lines.addAll(omitted(getFailedChecks(), lines.size(), "failures"));
+        return lines;
+    }
+
+    /**
+     * Returns the lines listing the kept warnings, followed by the number of omitted ones.
+     */
+    public List<String> describeWarnings() {
+        List<String> lines = new ArrayList<>(warnings);
+        lines.addAll(omitted(getWarningCount(), lines.size(), "warnings"));
+        return lines;
     }
 
     /**
@@ -84,22 +221,24 @@ public class ValidationReport {
         System.out.println("  Validation Report");
         System.out.println("=".repeat(60));
         System.out.println();
-        System.out.println("Total Checks:    " + totalChecks);
-        System.out.println("Passed:          " + passedChecks + " ✓");
-        System.out.println("Failed:          " + failedChecks + (failedChecks > 0 ? " ✗" : ""));
+        System.out.println("Total Checks:    " + getTotalChecks());
+        System.out.println("Passed:          " + getPassedChecks() + " ✓");
+        System.out.println("Failed:          " + getFailedChecks() + (getFailedChecks() > 0 ? " ✗" : ""));
         System.out.println();
 
-        if (!failures.isEmpty()) {
+        List<String> failureLines = describeFailures();
+        if (!failureLines.isEmpty()) {
             System.out.println("Failures:");
-            for (String failure : failures) {
+            for (String failure : failureLines) {
                 System.out.println("  ✗ " + failure);
             }
             System.out.println();
         }
 
-        if (!warnings.isEmpty()) {
+        List<String> warningLines = describeWarnings();
+        if (!warningLines.isEmpty()) {
             System.out.println("Warnings:");
-            for (String warning : warnings) {
+            for (String warning : warningLines) {
                 System.out.println("  ⚠ " + warning);
             }
             System.out.println();
@@ -113,4 +252,14 @@ public class ValidationReport {
 
         System.out.println("=".repeat(60));
     }
+
+    /**
+     * Closes the JSON Lines file, if any.
+     */
+    @Override
+    public void close() throws IOException {
+        if (writer != null) {
+            writer.close();
+        }
+    }
 }
@@ -1,43 +1,47 @@
 package io.apicurio.testing.validator.validators;
 
-import io.apicurio.registry.rest.client.RegistryClient;
-import io.apicurio.registry.rest.v2.beans.ArtifactSearchResults;
 import io.apicurio.registry.rest.v2.beans.SearchedArtifact;
-import io.apicurio.registry.rest.v2.beans.SortBy;
-import io.apicurio.registry.rest.v2.beans.SortOrder;
+import io.apicurio.testing.validator.inventory.PagedIterator;
+import io.apicurio.testing.validator.inventory.RegistryPages;
+import io.apicurio.testing.validator.model.Expectations;
 import io.apicurio.testing.validator.model.ValidationReport;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
- * Validates artifact and version counts in the registry.
+ * Validates artifact and version counts in the registry against the creator's expectations.
+ *
+ * Artifacts are walked once: each one is looked up in the expectations, its type and
+ * version count are checked, and it is marked as found, so missing artifacts are known
+ * at the end without a second pass. Artifacts the creator did not create (for example
+ * ones registered by the Kafka clients) are reported as warnings.
  */
 public class ArtifactCountValidator {
 
     private static final Logger log = LoggerFactory.getLogger(ArtifactCountValidator.class);
 
-    private final RegistryClient client;
-    private final ValidationReport report;
+    // Artifact ids listed in a missing or unexpected artifacts message
+    private static final int LISTED_IDS = 10;
 
-    // Expected counts from test data creation
-    // Note: Includes 1 additional AVRO artifact (GreetingMessage) from Kafka producer (step-F)
-    private static final int EXPECTED_TOTAL_ARTIFACTS = 26;
-    private static final Map<String, Integer> EXPECTED_BY_TYPE = new HashMap<>();
-
-    static {
-        EXPECTED_BY_TYPE.put("AVRO", 11);  // 10 from step-E + 1 from step-F (Kafka producer)
-        EXPECTED_BY_TYPE.put("PROTOBUF", 5);
-        EXPECTED_BY_TYPE.put("JSON", 5);
-        EXPECTED_BY_TYPE.put("OPENAPI", 3);
-        EXPECTED_BY_TYPE.put("ASYNCAPI", 2);
-    }
+    private final RegistryPages pages;
+    private final ValidationReport report;
+    private final Expectations expectations;
 
-    public ArtifactCountValidator(RegistryClient client, ValidationReport report) {
-        this.client = client;
+    /**
+     * @param pages the registry pages
+     * @param report the validation report
+     * @param expectations what the creator created, or null to only count
+     */
+    public ArtifactCountValidator(RegistryPages pages, ValidationReport report, Expectations expectations) {
+        this.pages = pages;
         this.report = report;
+        this.expectations = expectations;
     }
 
     /**
@@ -46,45 +50,92 @@ public class ArtifactCountValidator {
     public void validate() throws Exception {
         log.info("Validating artifact counts...");
 
-        // Get all artifacts
-        ArtifactSearchResults results = client.searchArtifacts(
-            "default",  // group
-            null,       // name
-            null,       // description
-            null,       // labels
-            null,       // properties
-            null,       // globalId
-            null,       // contentId
-            SortBy.name,
-            SortOrder.asc,
-            0,          // offset
-            1000        // limit (should be enough)
-        );
-
-        int totalArtifacts = results.getCount();
+        // Walk all artifacts page by page, checking each against its expectation
+        Map<String, Integer> actualByType = new HashMap<>();
+        BitSet found = new BitSet();
+        List<String> unexpected = new ArrayList<>();
+        int unexpectedCount = 0;
+        int mismatches = 0;
+        long totalVersions = 0;
+        PagedIterator<SearchedArtifact> artifacts = pages.artifacts();
+        while (artifacts.hasNext()) {
+            SearchedArtifact artifact = artifacts.next();
+            String artifactId = artifact.getId();
+            Integer versionCount = null;
+            try {
+                versionCount = pages.versionCount(artifactId);
+                totalVersions += versionCount;
+                log.debug("  Artifact {} has {} versions", artifactId, versionCount);
+            } catch (Exception e) {
+                log.warn("  Failed to get version count for artifact {}: {}", artifactId, e.getMessage());
+            }
+            if (expectations == null) {
+                actualByType.merge(artifact.getType(), 1, Integer::sum);
+                continue;
+            }
+
+            Expectations.ExpectedArtifact expected = expectations.getArtifact(artifactId);
+            if (expected == null) {
+                if (unexpectedCount++ < LISTED_IDS) {
+                    unexpected.add(artifactId);
+                }
+                continue;
+            }
+            found.set(expected.getOrdinal());
+            actualByType.merge(artifact.getType(), 1, Integer::sum);
+            if (!expected.getType().equals(artifact.getType())) {
+                mismatches++;
+                report.recordFailure("Artifact type of " + artifactId,
+                    "Expected " + expected.getType() + " but found " + artifact.getType());
+                log.error("  ✗ {}: expected type {} but found {}", artifactId, expected.getType(), artifact.getType());
+            }
+            if (versionCount != null && versionCount != expected.getVersions()) {
+                mismatches++;
+                report.recordFailure("Version count of " + artifactId,
+                    "Expected " + expected.getVersions() + " but found " + versionCount);
+                log.error("  ✗ {}: expected {} versions but found {}", artifactId, expected.getVersions(),
+                    versionCount);
+            }
+        }
+
+        int totalArtifacts = Math.max(artifacts.getTotal(), 0);
         log.info("  Found {} total artifacts", totalArtifacts);
+        log.info("  Total versions across all artifacts: {}", totalVersions);
+
+        if (expectations == null) {
+            actualByType.forEach((type, count) -> log.info("  {} artifacts: {}", type, count));
+            report.recordPass("Total version count (" + totalVersions + ")");
+            return;
+        }
 
-        // Validate total count
-        if (totalArtifacts == EXPECTED_TOTAL_ARTIFACTS) {
-            report.recordPass("Total artifact count (" + totalArtifacts + ")");
-            log.info("  ✓ Total artifact count matches expected: {}", totalArtifacts);
+        // Validate that every expected artifact was found
+        int expectedTotal = expectations.getArtifactCount();
+        int missing = expectedTotal - found.cardinality();
+        if (missing == 0) {
+            report.recordPass("Total artifact count (" + found.cardinality() + ")");
+            log.info("  ✓ All {} expected artifacts found", expectedTotal);
         } else {
+            List<String> missingIds = new ArrayList<>();
+            for (int i = found.nextClearBit(0); i < expectedTotal && missingIds.size() < LISTED_IDS;
+                 i = found.nextClearBit(i + 1)) {
+                missingIds.add(expectations.getArtifacts().get(i).getArtifactId());
+            }
             report.recordFailure(
                 "Total artifact count",
-                "Expected " + EXPECTED_TOTAL_ARTIFACTS + " but found " + totalArtifacts
+                "Expected " + expectedTotal + " but " + missing + " are missing: " + describe(missingIds, missing)
             );
-            log.error("  ✗ Expected {} artifacts but found {}", EXPECTED_TOTAL_ARTIFACTS, totalArtifacts);
+            log.error("  ✗ Expected {} artifacts but {} are missing: {}", expectedTotal, missing,
+                describe(missingIds, missing));
         }
-
-        // Count artifacts by type
-        Map<String, Integer> actualByType = new HashMap<>();
-        for (SearchedArtifact artifact : results.getArtifacts()) {
-            String type = artifact.getType();
-            actualByType.merge(type, 1, Integer::sum);
+        if (unexpectedCount > 0) {
+            report.recordWarning(unexpectedCount + " artifacts not created by the artifact creator: "
+                + describe(unexpected, unexpectedCount));
+            log.warn("  ⚠ {} artifacts not created by the artifact creator: {}", unexpectedCount,
+                describe(unexpected, unexpectedCount));
         }
 
-        // Validate counts by type
-        for (Map.Entry<String, Integer> entry : EXPECTED_BY_TYPE.entrySet()) {
+        // Validate counts by type (of the expected artifacts)
+        for (Map.Entry<String, Integer> entry : expectations.getArtifactsByType().entrySet()) {
             String type = entry.getKey();
             int expected = entry.getValue();
             int actual = actualByType.getOrDefault(type, 0);
@@ -101,21 +152,15 @@ public class ArtifactCountValidator {
             }
         }
 
-        // Count total versions
-        int totalVersions = 0;
-        for (SearchedArtifact artifact : results.getArtifacts()) {
-            try {
-                // Get version count for each artifact
-                var versions = client.listArtifactVersions("default", artifact.getId(), 0, 100);
-                int versionCount = versions.getCount();
-                totalVersions += versionCount;
-                log.debug("  Artifact {} has {} versions", artifact.getId(), versionCount);
-            } catch (Exception e) {
-                log.warn("  Failed to get version count for artifact {}: {}", artifact.getId(), e.getMessage());
-            }
+        if (mismatches == 0) {
+            report.recordPass("Artifact types and version counts (" + found.cardinality() + " artifacts, "
+                + expectations.getTotalVersions() + " versions expected)");
+            log.info("  ✓ Types and version counts of all found artifacts match");
         }
-
-        log.info("  Total versions across all artifacts: {}", totalVersions);
         report.recordPass("Total version count (" + totalVersions + ")");
     }
+
+    private static String describe(List<String> ids, int count) {
+        return String.join(", ", ids) + (count > ids.size() ? ", ..." : "");
+    }
 }
@@ -0,0 +1,173 @@
+package io.apicurio.testing.validator.validators;
+
+import io.apicurio.testing.validator.content.ExportFingerprints;
+import io.apicurio.testing.validator.content.FingerprintManifest;
+import io.apicurio.testing.validator.content.MerkleTree;
+import io.apicurio.testing.validator.model.ValidationReport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Writes the content fingerprint manifest and compares it with one written before the migration.
+ *
+ * The baseline is either a manifest or the registry v2 export zip, whose fingerprints
+ * are read into a manifest first. Both manifests are memory-mapped and a
+ * {@link MerkleTree} is built over each; the trees are compared from the root down
+ * and only the versions in differing buckets are compared one by one, so every
+ * version that disappeared, appeared, changed content or changed globalId/contentId
+ * is reported without comparing the versions that match.
+ */
+public class ManifestValidator {
+
+    private static final Logger log = LoggerFactory.getLogger(ManifestValidator.class);
+
+    // Differences logged individually; all of them are recorded in the report
+    private static final int LOGGED_DIFFERENCES = 20;
+
+    private final ValidationReport report;
+    private final String groupId;
+    private final FingerprintManifest.Builder manifest;
+    private final Path manifestFile;
+    private final Path baselineFile;
+
+    /**
+     * @param report the validation report
+     * @param groupId the group the fingerprints were collected for
+     * @param manifest the fingerprints collected by the content validation
+     * @param manifestFile where to write the manifest
+     * @param baselineFile the manifest or export zip from before the migration, or null
+     */
+    public ManifestValidator(ValidationReport report, String groupId, FingerprintManifest.Builder manifest,
+                             Path manifestFile, Path baselineFile) {
+        this.report = report;
+        this.groupId = groupId;
+        this.manifest = manifest;
+        this.manifestFile = manifestFile;
+        this.baselineFile = baselineFile;
+    }
+
+    /**
+     * Writes the manifest and, if a baseline is given, compares the two.
+     */
+    public void validate() throws Exception {
+        log.info("Validating content fingerprint manifest...");
+
+        long start = System.currentTimeMillis();
+        manifest.write(manifestFile);
+        log.info("  Wrote {} fingerprints to {} in {} ms", manifest.size(), manifestFile,
+            System.currentTimeMillis() - start);
+
+        if (baselineFile == null) {
+            return;
+        }
+        if (!Files.exists(baselineFile)) {
+            report.recordFailure("Fingerprint manifest", "Baseline manifest " + baselineFile + " not found");
+            log.error("  ✗ Baseline manifest {} not found", baselineFile);
+            return;
+        }
+
+        Path baselineManifest = baselineFile;
+        if (baselineFile.getFileName().toString().endsWith(".zip")) {
+            baselineManifest = readExport();
+        }
+
+        start = System.currentTimeMillis();
+        try (FingerprintManifest before = FingerprintManifest.open(baselineManifest);
+             FingerprintManifest after = FingerprintManifest.open(manifestFile)) {
+            int depth = MerkleTree.depthFor(Math.max(before.size(), after.size()));
+            MerkleTree beforeTree = MerkleTree.build(before, depth);
+            MerkleTree afterTree = MerkleTree.build(after, depth);
+            log.info("  Built Merkle trees of depth {} over {} and {} fingerprints in {} ms", depth,
+                before.size(), after.size(), System.currentTimeMillis() - start);
+            log.info("    Baseline root: {}", beforeTree.getRootHash());
+            log.info("    Current root:  {}", afterTree.getRootHash());
+
+            start = System.currentTimeMillis();
+            int[] buckets = MerkleTree.differingBuckets(beforeTree, afterTree);
+            Differences differences = new Differences();
+            long matching = MerkleTree.diff(beforeTree, afterTree, buckets, differences);
+            long millis = System.currentTimeMillis() - start;
+
+            log.info("    Compared in {} ms: {} of {} buckets differ", millis, buckets.length, 1 << depth);
+            log.info("    {} matching, {} missing, {} added, {} content changed, {} ids changed",
+                matching, differences.missing, differences.added, differences.contentChanged,
+                differences.idsChanged);
+            if (differences.total() == 0) {
+                report.recordPass("Fingerprint manifest matches baseline (" + matching + " versions)");
+                log.info("    ✓ All {} fingerprints match the baseline", matching);
+            } else {
+                log.error("    ✗ {} fingerprints differ from the baseline", differences.total());
+            }
+        }
+    }
+
+    /**
+     * Reads the fingerprints of the export zip into a manifest next to the one written.
+     *
+     * @return the manifest of the export
+     */
+    private Path readExport() throws Exception {
+        long start = System.currentTimeMillis();
+        ExportFingerprints export = ExportFingerprints.read(baselineFile, groupId);
+        for (String version : export.getVersionsWithoutContent()) {
+            report.recordFailure("Fingerprint of " + version, "Content not found in " + baselineFile);
+        }
+        String name = baselineFile.getFileName().toString();
+        Path exportManifest = manifestFile.resolveSibling(
+            "manifest-" + name.substring(0, name.length() - ".zip".length()) + ".bin");
+        export.getManifest().write(exportManifest);
+        log.info("  Read {} fingerprints from {} in {} ms ({} without content)", export.getManifest().size(),
+            baselineFile, System.currentTimeMillis() - start, export.getVersionsWithoutContent().size());
+        return exportManifest;
+    }
+
+    /**
+     * Records every difference as a failure and counts them by kind.
+     */
+    private class Differences implements FingerprintManifest.DiffListener {
+        long missing;
+        long added;
+        long contentChanged;
+        long idsChanged;
+
+        long total() {
+            return missing + added + contentChanged + idsChanged;
+        }
+
+        @Override
+        public void missing(String key, long globalId) {
+            missing++;
+            fail(key, "In the baseline (globalId " + globalId + ") but not found after the migration");
+        }
+
+        @Override
+        public void added(String key, long globalId) {
+            added++;
+            fail(key, "Found after the migration (globalId " + globalId + ") but not in the baseline");
+        }
+
+        @Override
+        public void contentChanged(String key, String sha256Before, String sha256After) {
+            contentChanged++;
+            fail(key, "SHA-256 " + sha256After + " differs from baseline " + sha256Before);
+        }
+
+        @Override
+        public void idsChanged(String key, long globalIdBefore, long globalIdAfter, long contentIdBefore,
+                               long contentIdAfter) {
+            idsChanged++;
+            fail(key, "globalId/contentId " + globalIdAfter + "/" + contentIdAfter
+                + " differ from baseline " + globalIdBefore + "/" + contentIdBefore);
+        }
+
+        private void fail(String key, String reason) {
+            report.recordFailure("Fingerprint of " + key, reason);
+            if (total() <= LOGGED_DIFFERENCES) {
+                log.error("    ✗ {}: {}", key, reason);
+            }
+        }
+    }
+}
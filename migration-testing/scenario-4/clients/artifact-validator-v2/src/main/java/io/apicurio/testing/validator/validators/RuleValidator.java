@@ -2,15 +2,32 @@ package io.apicurio.testing.validator.validators;
 
 import io.apicurio.registry.rest.client.RegistryClient;
 import io.apicurio.registry.rest.v2.beans.Rule;
+import io.apicurio.registry.rest.v2.beans.SearchedArtifact;
 import io.apicurio.registry.types.RuleType;
+import io.apicurio.testing.validator.engine.FetchScheduler;
+import io.apicurio.testing.validator.engine.LatencyHistogram;
+import io.apicurio.testing.validator.inventory.PagedIterator;
+import io.apicurio.testing.validator.inventory.RegistryPages;
+import io.apicurio.testing.validator.model.Expectations;
 import io.apicurio.testing.validator.model.ValidationReport;
+import io.apicurio.testing.validator.report.ArtifactCoordinates;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
- * Validates global and artifact-specific rules.
+ * Validates global and artifact-specific rules against the creator's expectations.
+ *
+ * The rule set of every artifact in the registry is listed and compared with the
+ * expected one: a missing or unexpected rule is a failure, and the configuration of
+ * every expected rule is checked. Artifacts are validated concurrently through the
+ * fetch scheduler, which applies the registry's rate limit; the latency of every
+ * request is logged as a histogram.
  */
 public class RuleValidator {
 
@@ -18,10 +35,33 @@ public class RuleValidator {
 
     private final RegistryClient client;
     private final ValidationReport report;
+    private final RegistryPages pages;
+    private final Expectations expectations;
+    private final FetchScheduler scheduler;
 
-    public RuleValidator(RegistryClient client, ValidationReport report) {
+    private final LatencyHistogram latencies = new LatencyHistogram();
+    // Expected artifacts with rules that were found in the registry
+    private final Set<String> withRulesFound = ConcurrentHashMap.newKeySet();
+    private final LongAdder artifactsChecked = new LongAdder();
+    private final LongAdder artifactsCompared = new LongAdder();
+    private final LongAdder artifactsWithRules = new LongAdder();
+    private final LongAdder rulesChecked = new LongAdder();
+    private final LongAdder mismatches = new LongAdder();
+
+    /**
+     * @param client the registry client
+     * @param report the validation report
+     * @param pages the registry pages
+     * @param expectations what the creator created, or null to only list rules
+     * @param scheduler the scheduler fetching artifact rules
+     */
+    public RuleValidator(RegistryClient client, ValidationReport report, RegistryPages pages,
+                         Expectations expectations, FetchScheduler scheduler) {
         this.client = client;
         this.report = report;
+        this.pages = pages;
+        this.expectations = expectations;
+        this.scheduler = scheduler;
     }
 
     /**
@@ -42,12 +82,19 @@ public class RuleValidator {
 
         List<RuleType> globalRules = client.listGlobalRules();
         log.info("    Found {} global rules", globalRules.size());
+        if (expectations == null) {
+            return;
+        }
 
-        // Validate VALIDITY rule
-        validateGlobalRule(RuleType.VALIDITY, "FULL");
-
-        // Validate COMPATIBILITY rule
-        validateGlobalRule(RuleType.COMPATIBILITY, "BACKWARD");
+        for (Map.Entry<String, String> rule : expectations.getGlobalRules().entrySet()) {
+            validateGlobalRule(RuleType.valueOf(rule.getKey()), rule.getValue());
+        }
+        for (RuleType ruleType : globalRules) {
+            if (!expectations.getGlobalRules().containsKey(ruleType.name())) {
+                report.recordWarning("Global rule " + ruleType + " was not created by the artifact creator");
+                log.warn("    ⚠ Global rule {} was not created by the artifact creator", ruleType);
+            }
+        }
     }
 
     /**
@@ -82,45 +129,135 @@ public class RuleValidator {
     }
 
     /**
-     * Validates artifact-specific rules.
+     * Validates the rule set of every artifact.
      */
     private void validateArtifactRules() throws Exception {
-        log.info("  Checking artifact-specific rules...");
+        log.info("  Checking the rules of every artifact ({})...", scheduler);
 
-        // Check FORWARD compatibility rule on avro-schema-1
-        validateArtifactRule("avro-schema-1", RuleType.COMPATIBILITY, "FORWARD");
+        long start = System.nanoTime();
+        PagedIterator<SearchedArtifact> artifacts = pages.artifacts();
+        while (artifacts.hasNext()) {
+            String artifactId = artifacts.next().getId();
+            Expectations.ExpectedArtifact expected = expectations != null
+                ? expectations.getArtifact(artifactId) : null;
+            scheduler.submit(() -> validateArtifactRuleSet(artifactId, expected));
+        }
+        scheduler.awaitCompletion();
+        double seconds = Math.max(System.nanoTime() - start, 1) / 1_000_000_000.0;
+        log.info("    Listed the rules of {} artifacts in {} ms ({} requests/s), {} have rules", artifactsChecked.sum(),
+            Math.round(seconds * 1000), String.format("%.0f", latencies.getCount() / seconds),
+            artifactsWithRules.sum());
+        log.info("    Fetch latency:");
+        latencies.log(log, "      ");
+        if (expectations == null) {
+            return;
+        }
 
-        // Check NONE compatibility rule on json-schema-1
-        validateArtifactRule("json-schema-1", RuleType.COMPATIBILITY, "NONE");
+        // Expected artifacts with rules that are not in the registry at all
+        for (Expectations.ExpectedArtifact artifact : expectations.getArtifactsWithRules()) {
+            if (!withRulesFound.contains(artifact.getArtifactId())) {
+                mismatches.increment();
+                report.recordFailure("Artifact rules",
+                    "Artifact " + artifact.getArtifactId() + " not found in group " + pages.getGroupId(),
+                    new ArtifactCoordinates(pages.getGroupId(), artifact.getArtifactId(), null), -1);
+                log.error("    ✗ Artifact rules of {}: artifact not found", artifact.getArtifactId());
+            }
+        }
+        if (mismatches.sum() == 0) {
+            report.recordPass("Artifact rules match expectations (" + artifactsCompared.sum() + " artifacts, "
+                + rulesChecked.sum() + " rules)");
+            log.info("    ✓ Rules of {} artifacts match ({} rules)", artifactsCompared.sum(), rulesChecked.sum());
+        }
     }
 
     /**
-     * Validates a specific artifact rule.
+     * Compares the rule types of an artifact with the expected ones, then the configuration of each.
      *
      * @param artifactId the artifact to check
+     * @param expected what the creator recorded for it, or null to only count its rules
+     */
+    private void validateArtifactRuleSet(String artifactId, Expectations.ExpectedArtifact expected) throws Exception {
+        String groupId = pages.getGroupId();
+        ArtifactCoordinates target = new ArtifactCoordinates(groupId, artifactId, null);
+        List<RuleType> ruleTypes;
+        long start = System.nanoTime();
+        try {
+            ruleTypes = scheduler.call(latencies, () -> client.listArtifactRules(groupId, artifactId));
+        } catch (Exception e) {
+            mismatches.increment();
+            report.recordFailure("Artifact rules", e.getMessage(), target, System.nanoTime() - start);
+            log.error("    ✗ Failed to list rules of {}: {}", artifactId, e.getMessage());
+            return;
+        }
+        long latency = System.nanoTime() - start;
+        artifactsChecked.increment();
+        if (!ruleTypes.isEmpty()) {
+            artifactsWithRules.increment();
+        }
+        if (expected == null) {
+            return;
+        }
+        artifactsCompared.increment();
+        if (!expected.getRules().isEmpty()) {
+            withRulesFound.add(artifactId);
+        }
+
+        Map<String, String> expectedRules = expected.getRules();
+        for (RuleType ruleType : ruleTypes) {
+            if (!expectedRules.containsKey(ruleType.name())) {
+                mismatches.increment();
+                report.recordFailure("Artifact rules", "Unexpected rule " + ruleType, target, latency);
+                log.error("    ✗ Artifact rules of {}: unexpected rule {}", artifactId, ruleType);
+            }
+        }
+        for (Map.Entry<String, String> rule : expectedRules.entrySet()) {
+            RuleType ruleType = RuleType.valueOf(rule.getKey());
+            if (!ruleTypes.contains(ruleType)) {
+                mismatches.increment();
+                report.recordFailure("Artifact rule " + ruleType, "Rule not found", target, latency);
+                log.error("    ✗ Artifact rule {}/{} not found", artifactId, ruleType);
+                continue;
+            }
+            validateArtifactRule(target, ruleType, rule.getValue());
+        }
+    }
+
+    /**
+     * Validates a specific artifact rule.
+     *
+     * @param target the artifact to check
      * @param ruleType the rule type to validate
      * @param expectedConfig the expected rule configuration
      */
-    private void validateArtifactRule(String artifactId, RuleType ruleType, String expectedConfig) throws Exception {
+    private void validateArtifactRule(ArtifactCoordinates target, RuleType ruleType,
+                                      String expectedConfig) throws Exception {
+        String artifactId = target.getArtifactId();
+        long start = System.nanoTime();
         try {
-            Rule rule = client.getArtifactRuleConfig("default", artifactId, ruleType);
+            Rule rule = scheduler.call(latencies,
+                () -> client.getArtifactRuleConfig(target.getGroupId(), artifactId, ruleType));
+            long latency = System.nanoTime() - start;
             String actualConfig = rule.getConfig();
+            rulesChecked.increment();
 
             if (expectedConfig.equals(actualConfig)) {
-                report.recordPass("Artifact rule " + artifactId + "/" + ruleType + ": " + actualConfig);
-                log.info("    ✓ Artifact rule {}/{}: {}", artifactId, ruleType, actualConfig);
+                log.debug("    ✓ Artifact rule {}/{}: {}", artifactId, ruleType, actualConfig);
             } else {
+                mismatches.increment();
                 report.recordFailure(
-                    "Artifact rule " + artifactId + "/" + ruleType,
-                    "Expected config '" + expectedConfig + "' but found '" + actualConfig + "'"
+                    "Artifact rule " + ruleType,
+                    "Expected config '" + expectedConfig + "' but found '" + actualConfig + "'",
+                    target, latency
                 );
                 log.error("    ✗ Artifact rule {}/{}: expected '{}' but found '{}'",
                     artifactId, ruleType, expectedConfig, actualConfig);
             }
         } catch (Exception e) {
+            mismatches.increment();
             report.recordFailure(
-                "Artifact rule " + artifactId + "/" + ruleType,
-                "Rule not found or error: " + e.getMessage()
+                "Artifact rule " + ruleType,
+                "Rule not found or error: " + e.getMessage(),
+                target, System.nanoTime() - start
             );
             log.error("    ✗ Artifact rule {}/{} not found: {}", artifactId, ruleType, e.getMessage());
         }
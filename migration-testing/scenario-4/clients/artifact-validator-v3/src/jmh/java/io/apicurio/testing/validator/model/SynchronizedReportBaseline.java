@@ -0,0 +1,43 @@
+package io.apicurio.testing.validator.model;
+
+import io.apicurio.testing.validator.report.ArtifactCoordinates;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The recording part of {@link ValidationReport} as it was before its counters became
+ * striped adders: every pass, failure and warning takes the report's monitor. Kept as
+ * the benchmark baseline.
+ */
+final class SynchronizedReportBaseline {
+
+    private final int sampleSize;
+
+    private int totalChecks = 0;
+    private int passedChecks = 0;
+    private int failedChecks = 0;
+
+    private final List<String> failures = new ArrayList<>();
+
+    SynchronizedReportBaseline(int sampleSize) {
+        this.sampleSize = sampleSize;
+    }
+
+    void recordPass(String checkName, ArtifactCoordinates target, long latencyNanos) {
+        synchronized (this) {
+            totalChecks++;
+            passedChecks++;
+        }
+    }
+
+    void recordFailure(String checkName, String reason, ArtifactCoordinates target, long latencyNanos) {
+        synchronized (this) {
+            totalChecks++;
+            failedChecks++;
+            if (failures.size() < sampleSize) {
+                failures.add((target != null ? checkName + " of " + target : checkName) + ": " + reason);
+            }
+        }
+    }
+}
@@ -0,0 +1,595 @@
+package io.apicurio.testing.validator.client;
+
+import com.microsoft.kiota.ApiException;
+import com.microsoft.kiota.ApiExceptionBuilder;
+import com.microsoft.kiota.RequestAdapter;
+import com.microsoft.kiota.RequestInformation;
+import com.microsoft.kiota.serialization.Parsable;
+import com.microsoft.kiota.serialization.ParsableFactory;
+import com.microsoft.kiota.serialization.ParseNode;
+import com.microsoft.kiota.serialization.ParseNodeFactory;
+import io.apicurio.registry.client.RegistryClientOptions;
+import io.apicurio.registry.client.RegistryClientRequestAdapterFactory;
+import io.apicurio.registry.client.auth.VertXAuthFactory;
+import io.apicurio.registry.rest.client.RegistryClient;
+import io.apicurio.registry.rest.client.models.ArtifactMetaData;
+import io.apicurio.registry.rest.client.models.ArtifactSearchResults;
+import io.apicurio.registry.rest.client.models.ArtifactSortBy;
+import io.apicurio.registry.rest.client.models.Rule;
+import io.apicurio.registry.rest.client.models.RuleType;
+import io.apicurio.registry.rest.client.models.SortOrder;
+import io.apicurio.registry.rest.client.models.VersionMetaData;
+import io.apicurio.registry.rest.client.models.VersionSearchResults;
+import io.apicurio.testing.validator.content.ContentHashes;
+import io.kiota.serialization.json.JsonParseNodeFactory;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.net.JksOptions;
+import io.vertx.core.net.PemTrustOptions;
+import io.vertx.core.net.PfxOptions;
+import io.vertx.core.net.ProxyOptions;
+import io.vertx.core.streams.WriteStream;
+import io.vertx.ext.web.client.HttpRequest;
+import io.vertx.ext.web.client.HttpResponse;
+import io.vertx.ext.web.client.WebClient;
+import io.vertx.ext.web.client.WebClientOptions;
+import io.vertx.ext.web.codec.BodyCodec;
+
+import java.io.ByteArrayInputStream;
+import java.security.MessageDigest;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Non-blocking facade over the v3 registry client for the calls the validators use.
+ *
+ * The generated Kiota request builders only offer blocking {@code get()} calls. This
+ * facade uses the same builders to describe each request, converts it to a Vert.x
+ * request on the client's own {@code WebClient} (so TLS, authentication and the
+ * connection pool are shared with the blocking client from {@link #getClient()}),
+ * and completes a {@link CompletableFuture} from the response callback. No thread
+ * is blocked while a request is outstanding, so fan-out such as artifact, then
+ * versions, then content composes with {@code thenCompose} at any width.
+ *
+ * At most {@code maxInFlight} requests are sent at once; further calls wait in a
+ * queue without holding a thread. Cancelling a returned future before its request
+ * is sent removes it from the queue; cancelling it later discards the response.
+ * {@link #close()} cancels everything still queued.
+ *
+ * The SDK builds its {@code WebClient} with Vert.x defaults (5 pooled connections);
+ * {@link #create(RegistryClientOptions, int, ConnectionPoolSettings)} builds an
+ * equivalent one (same TLS, proxy and authentication) with the given pool and
+ * keep-alive settings and hands it to the SDK as a custom web client.
+ *
+ * Futures complete on a Vert.x event loop thread, so dependent stages must not block.
+ * HTTP errors complete the future with an {@link ApiException} carrying the status
+ * code, as the blocking client would throw. The SDK's retry option is not applied
+ * to asynchronous calls.
+ */
+public class AsyncRegistryClient implements AutoCloseable {
+
+    private final RequestAdapter adapter;
+    private final RegistryClient client;
+    private final Vertx vertx;
+    private final boolean ownsVertx;
+    private final ParseNodeFactory parseNodeFactory = new JsonParseNodeFactory();
+
+    private final int maxInFlight;
+    private final ArrayDeque<PendingCall<?>> queue = new ArrayDeque<>();
+    private int inFlight;
+    private final AtomicInteger peakInFlight = new AtomicInteger();
+    private final LongAdder requests = new LongAdder();
+
+    private AsyncRegistryClient(RequestAdapter adapter, Vertx vertx, boolean ownsVertx, int maxInFlight) {
+        this.adapter = adapter;
+        this.client = new RegistryClient(adapter);
+        this.vertx = vertx;
+        this.ownsVertx = ownsVertx;
+        this.maxInFlight = Math.max(1, maxInFlight);
+    }
+
+    /**
+     * Creates a client from the same options used for the blocking client.
+     *
+     * @param options registry URL, TLS and authentication settings
+     * @param maxInFlight maximum number of requests sent at once
+     * @param pool connection pool and keep-alive settings
+     * @return the client
+     */
+    public static AsyncRegistryClient create(RegistryClientOptions options, int maxInFlight,
+                                             ConnectionPoolSettings pool) {
+        boolean ownsVertx = options.getVertx() == null;
+        Vertx vertx = ownsVertx ? Vertx.vertx() : options.getVertx();
+        if (options.getAuthType() != RegistryClientOptions.AuthType.CUSTOM_WEBCLIENT) {
+            options.customWebClient(pooledWebClient(options, vertx, pool));
+        }
+        return new AsyncRegistryClient(Adapters.create(options, vertx), vertx, ownsVertx, maxInFlight);
+    }
+
+    /**
+     * Builds the WebClient the SDK would build for these options, with the pool settings applied.
+     */
+    private static WebClient pooledWebClient(RegistryClientOptions options, Vertx vertx,
+                                             ConnectionPoolSettings pool) {
+        WebClientOptions webClientOptions = pool.applyTo(new WebClientOptions());
+        if (options.getTrustStoreType() != RegistryClientOptions.TrustStoreType.NONE
+                || options.isTrustAll() || !options.isVerifyHost()) {
+            webClientOptions.setSsl(true).setTrustAll(options.isTrustAll()).setVerifyHost(options.isVerifyHost());
+        }
+        switch (options.getTrustStoreType()) {
+            case JKS:
+                webClientOptions.setTrustOptions(new JksOptions()
+                    .setPath(options.getTrustStorePath()).setPassword(options.getTrustStorePassword()));
+                break;
+            case PKCS12:
+                webClientOptions.setTrustOptions(new PfxOptions()
+                    .setPath(options.getTrustStorePath()).setPassword(options.getTrustStorePassword()));
+                break;
+            case PEM:
+                PemTrustOptions pem = new PemTrustOptions();
+                if (options.getPemCertContent() != null) {
+                    pem.addCertValue(Buffer.buffer(options.getPemCertContent()));
+                }
+                if (options.getPemCertPaths() != null) {
+                    for (String path : options.getPemCertPaths()) {
+                        pem.addCertPath(path);
+                    }
+                }
+                webClientOptions.setTrustOptions(pem);
+                break;
+            default:
+                break;
+        }
+        if (options.getProxyHost() != null) {
+            webClientOptions.setProxyOptions(new ProxyOptions()
+                .setHost(options.getProxyHost())
+                .setPort(options.getProxyPort())
+                .setUsername(options.getProxyUsername())
+                .setPassword(options.getProxyPassword()));
+        }
+
+        switch (options.getAuthType()) {
+            case BASIC:
+                return VertXAuthFactory.buildSimpleAuthWebClient(vertx, webClientOptions,
+                    options.getUsername(), options.getPassword());
+            case OAUTH2:
+                return VertXAuthFactory.buildOIDCWebClient(vertx, webClientOptions, options.getTokenEndpoint(),
+                    options.getClientId(), options.getClientSecret(), options.getScope());
+            default:
+                return WebClient.create(vertx, webClientOptions);
+        }
+    }
+
+    /**
+     * Returns a blocking client sharing this client's connections.
+     */
+    public RegistryClient getClient() {
+        return client;
+    }
+
+    /**
+     * Searches artifacts of a group, ordered by artifact id.
+     *
+     * @param groupId the group to search
+     * @param offset index of the first result
+     * @param limit maximum number of results
+     */
+    public CompletableFuture<ArtifactSearchResults> searchArtifacts(String groupId, int offset, int limit) {
+        return send(client.search().artifacts().toGetRequestInformation(config -> {
+            config.queryParameters.groupId = groupId;
+            config.queryParameters.orderby = ArtifactSortBy.ArtifactId;
+            config.queryParameters.order = SortOrder.Asc;
+            config.queryParameters.offset = offset;
+            config.queryParameters.limit = limit;
+        }), ArtifactSearchResults::createFromDiscriminatorValue);
+    }
+
+    /**
+     * Lists versions of an artifact.
+     *
+     * @param groupId the group identifier
+     * @param artifactId the artifact identifier
+     * @param offset index of the first result
+     * @param limit maximum number of results
+     */
+    public CompletableFuture<VersionSearchResults> listVersions(String groupId, String artifactId, int offset, int limit) {
+        return send(client.groups().byGroupId(groupId).artifacts().byArtifactId(artifactId)
+            .versions().toGetRequestInformation(config -> {
+                config.queryParameters.offset = offset;
+                config.queryParameters.limit = limit;
+            }), VersionSearchResults::createFromDiscriminatorValue);
+    }
+
+    /**
+     * Gets the metadata of an artifact.
+     *
+     * @param groupId the group identifier
+     * @param artifactId the artifact identifier
+     */
+    public CompletableFuture<ArtifactMetaData> getArtifactMetaData(String groupId, String artifactId) {
+        return send(client.groups().byGroupId(groupId).artifacts().byArtifactId(artifactId)
+            .toGetRequestInformation(), ArtifactMetaData::createFromDiscriminatorValue);
+    }
+
+    /**
+     * Gets the metadata of an artifact version.
+     *
+     * @param groupId the group identifier
+     * @param artifactId the artifact identifier
+     * @param version the version
+     */
+    public CompletableFuture<VersionMetaData> getVersionMetaData(String groupId, String artifactId, String version) {
+        return send(client.groups().byGroupId(groupId).artifacts().byArtifactId(artifactId)
+            .versions().byVersionExpression(version).toGetRequestInformation(),
+            VersionMetaData::createFromDiscriminatorValue);
+    }
+
+    /**
+     * Lists the configured global rule types.
+     */
+    public CompletableFuture<List<RuleType>> listGlobalRules() {
+        return call(client.admin().rules().toGetRequestInformation(),
+            body -> parse(body).getCollectionOfEnumValues(RuleType::forValue));
+    }
+
+    /**
+     * Gets a global rule.
+     *
+     * @param ruleType the rule type
+     */
+    public CompletableFuture<Rule> getGlobalRule(RuleType ruleType) {
+        return send(client.admin().rules().byRuleType(ruleType.getValue()).toGetRequestInformation(),
+            Rule::createFromDiscriminatorValue);
+    }
+
+    /**
+     * Lists the rule types configured on an artifact.
+     *
+     * @param groupId the group identifier
+     * @param artifactId the artifact identifier
+     */
+    public CompletableFuture<List<RuleType>> listArtifactRules(String groupId, String artifactId) {
+        return call(client.groups().byGroupId(groupId).artifacts().byArtifactId(artifactId)
+            .rules().toGetRequestInformation(), body -> parse(body).getCollectionOfEnumValues(RuleType::forValue));
+    }
+
+    /**
+     * Gets an artifact-specific rule.
+     *
+     * @param groupId the group identifier
+     * @param artifactId the artifact identifier
+     * @param ruleType the rule type
+     */
+    public CompletableFuture<Rule> getArtifactRule(String groupId, String artifactId, RuleType ruleType) {
+        return send(client.groups().byGroupId(groupId).artifacts().byArtifactId(artifactId)
+            .rules().byRuleType(ruleType.getValue()).toGetRequestInformation(), Rule::createFromDiscriminatorValue);
+    }
+
+    /**
+     * Gets version content by global id.
+     *
+     * @param globalId the global identifier of the version
+     */
+    public CompletableFuture<byte[]> getContentByGlobalId(long globalId) {
+        return call(client.ids().globalIds().byGlobalId(globalId).toGetRequestInformation(), Buffer::getBytes);
+    }
+
+    /**
+     * Gets content by content id.
+     *
+     * @param contentId the content identifier
+     */
+    public CompletableFuture<byte[]> getContentByContentId(long contentId) {
+        return call(client.ids().contentIds().byContentId(contentId).toGetRequestInformation(), Buffer::getBytes);
+    }
+
+    /**
+     * Hashes version content by global id as the response arrives; the body is never buffered.
+     *
+     * @param globalId the global identifier of the version
+     * @return future of the hex-encoded SHA-256, or of null if the content is empty
+     */
+    public CompletableFuture<String> digestContentByGlobalId(long globalId) {
+        return call(client.ids().globalIds().byGlobalId(globalId).toGetRequestInformation(), new DigestReader());
+    }
+
+    /**
+     * Hashes content by content id as the response arrives; the body is never buffered.
+     *
+     * @param contentId the content identifier
+     * @return future of the hex-encoded SHA-256, or of null if the content is empty
+     */
+    public CompletableFuture<String> digestContentByContentId(long contentId) {
+        return call(client.ids().contentIds().byContentId(contentId).toGetRequestInformation(), new DigestReader());
+    }
+
+    /**
+     * Combines futures into one that completes with all their results, in order.
+     *
+     * @param futures the futures to combine
+     * @return future of the results list, failing if any future fails
+     */
+    public static <T> CompletableFuture<List<T>> allOf(List<CompletableFuture<T>> futures) {
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).thenApply(ignored -> {
+            List<T> results = new ArrayList<>(futures.size());
+            for (CompletableFuture<T> future : futures) {
+                results.add(future.join());
+            }
+            return results;
+        });
+    }
+
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    public int getPeakInFlight() {
+        return peakInFlight.get();
+    }
+
+    public long getRequests() {
+        return requests.sum();
+    }
+
+    /**
+     * Cancels queued calls and releases the Vert.x instance if this client created it.
+     */
+    @Override
+    public void close() {
+        List<PendingCall<?>> cancelled;
+        synchronized (queue) {
+            cancelled = new ArrayList<>(queue);
+            queue.clear();
+        }
+        for (PendingCall<?> call : cancelled) {
+            call.result.completeExceptionally(new CancellationException("Registry client closed"));
+        }
+        if (ownsVertx) {
+            vertx.close();
+        }
+    }
+
+    private <T extends Parsable> CompletableFuture<T> send(RequestInformation info, ParsableFactory<T> factory) {
+        return call(info, body -> parse(body).getObjectValue(factory));
+    }
+
+    private ParseNode parse(Buffer body) {
+        return parseNodeFactory.getParseNode("application/json", new ByteArrayInputStream(body.getBytes()));
+    }
+
+    /**
+     * Queues a request whose body is buffered and then read; it is sent as soon as an
+     * in-flight slot is free.
+     */
+    private <T> CompletableFuture<T> call(RequestInformation info, Function<Buffer, T> reader) {
+        return call(info, new BufferReader<>(reader));
+    }
+
+    /**
+     * Queues a request whose body is consumed by the given reader.
+     */
+    private <T> CompletableFuture<T> call(RequestInformation info, BodyReader<T> reader) {
+        // The blocking adapter adds the base URL when sending; converted requests need it up front
+        info.pathParameters.put("baseurl", adapter.getBaseUrl());
+        PendingCall<T> call = new PendingCall<>(info, reader);
+        boolean start;
+        synchronized (queue) {
+            start = inFlight < maxInFlight;
+            if (start) {
+                inFlight++;
+            } else {
+                queue.add(call);
+            }
+        }
+        if (start) {
+            call.start();
+        }
+        return call.result;
+    }
+
+    /**
+     * Hands the in-flight slot of a finished call to the next queued one.
+     */
+    private void release() {
+        PendingCall<?> next;
+        synchronized (queue) {
+            do {
+                next = queue.poll();
+            } while (next != null && next.result.isDone());
+            if (next == null) {
+                inFlight--;
+                return;
+            }
+        }
+        next.start();
+    }
+
+    /**
+     * A request waiting for or holding an in-flight slot.
+     */
+    private class PendingCall<T> {
+        final RequestInformation info;
+        final BodyReader<T> reader;
+        final CompletableFuture<T> result = new CompletableFuture<>();
+
+        PendingCall(RequestInformation info, BodyReader<T> reader) {
+            this.info = info;
+            this.reader = reader;
+        }
+
+        @SuppressWarnings("unchecked")
+        void start() {
+            if (result.isDone()) {
+                release();
+                return;
+            }
+            HttpRequest<Buffer> request;
+            try {
+                request = (HttpRequest<Buffer>) adapter.convertToNativeRequest(info);
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+                release();
+                return;
+            }
+            requests.increment();
+            peakInFlight.accumulateAndGet(currentInFlight(), Math::max);
+            reader.decode(request).send().onComplete(ar -> {
+                release();
+                if (ar.failed()) {
+                    result.completeExceptionally(ar.cause());
+                    return;
+                }
+                try {
+                    result.complete(read(ar.result()));
+                } catch (RuntimeException e) {
+                    result.completeExceptionally(e);
+                }
+            });
+        }
+
+        private T read(HttpResponse<?> response) {
+            int status = response.statusCode();
+            if (status >= 400) {
+                throw new ApiExceptionBuilder()
+                    .withMessage(info.httpMethod + " " + describeUri() + " failed with HTTP " + status)
+                    .withResponseStatusCode(status)
+                    .build();
+            }
+            return reader.read(response);
+        }
+
+        private String describeUri() {
+            try {
+                return info.getUri().toString();
+            } catch (Exception e) {
+                return info.urlTemplate;
+            }
+        }
+    }
+
+    /**
+     * How a call receives its response body and turns a successful response into its result.
+     */
+    private interface BodyReader<T> {
+
+        /**
+         * Sets the codec the response body is received with.
+         */
+        HttpRequest<?> decode(HttpRequest<Buffer> request);
+
+        /**
+         * Reads the result of a response without an error status.
+         */
+        T read(HttpResponse<?> response);
+    }
+
+    /**
+     * Receives the whole body into a buffer, then reads it; an empty body reads as null.
+     */
+    private static final class BufferReader<T> implements BodyReader<T> {
+        private final Function<Buffer, T> reader;
+
+        BufferReader(Function<Buffer, T> reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public HttpRequest<?> decode(HttpRequest<Buffer> request) {
+            return request;
+        }
+
+        @Override
+        public T read(HttpResponse<?> response) {
+            Buffer body = (Buffer) response.body();
+            return response.statusCode() == 204 || body == null || body.length() == 0 ? null : reader.apply(body);
+        }
+    }
+
+    /**
+     * Feeds each chunk of the body into a SHA-256 digest as it arrives, so the content is
+     * never held in memory as a whole. The digest runs on the event loop that receives the
+     * response, so hashing is spread across event loops. An empty body reads as null.
+     */
+    private static final class DigestReader implements BodyReader<String>, WriteStream<Buffer> {
+        private final MessageDigest digest = ContentHashes.newDigest();
+        private long length;
+
+        @Override
+        public HttpRequest<?> decode(HttpRequest<Buffer> request) {
+            return request.as(BodyCodec.pipe(this));
+        }
+
+        @Override
+        public String read(HttpResponse<?> response) {
+            return length == 0 ? null : ContentHashes.hex(digest.digest());
+        }
+
+        @Override
+        public Future<Void> write(Buffer data) {
+            // Buffer.getBytes() copies only this chunk, not the whole body
+            digest.update(data.getBytes());
+            length += data.length();
+            return Future.succeededFuture();
+        }
+
+        @Override
+        public void write(Buffer data, Handler<AsyncResult<Void>> handler) {
+            Future<Void> written = write(data);
+            if (handler != null) {
+                handler.handle(written);
+            }
+        }
+
+        @Override
+        public void end(Handler<AsyncResult<Void>> handler) {
+            if (handler != null) {
+                handler.handle(Future.succeededFuture());
+            }
+        }
+
+        @Override
+        public DigestReader exceptionHandler(Handler<Throwable> handler) {
+            return this;
+        }
+
+        @Override
+        public DigestReader setWriteQueueMaxSize(int maxSize) {
+            return this;
+        }
+
+        @Override
+        public boolean writeQueueFull() {
+            return false;
+        }
+
+        @Override
+        public DigestReader drainHandler(Handler<Void> handler) {
+            return this;
+        }
+    }
+
+    private int currentInFlight() {
+        synchronized (queue) {
+            return inFlight;
+        }
+    }
+
+    /**
+     * Exposes the SDK's adapter construction, so both clients share one configured WebClient
+     * (and blocking calls keep the SDK's optional retry).
+     */
+    private static final class Adapters extends RegistryClientRequestAdapterFactory {
+        static RequestAdapter create(RegistryClientOptions options, Vertx vertx) {
+            return createRequestAdapter(options, vertx);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package io.apicurio.testing.validator.client;
+
+import io.vertx.ext.web.client.WebClientOptions;
+
+/**
+ * HTTP connection pool and keep-alive settings for the registry client.
+ *
+ * The SDK creates its Vert.x {@code WebClient} with the default pool of 5 connections
+ * per host, which caps every validator at 5 concurrent requests regardless of
+ * {@code validator.max.requests}. These settings are applied to the client built by
+ * {@link AsyncRegistryClient} and shared by the blocking client.
+ *
+ * System properties:
+ *   validator.http.pool.size:          maximum connections to the registry
+ *                                      (default: validator.max.requests)
+ *   validator.http.keep.alive:         reuse connections between requests (default: true)
+ *   validator.http.keep.alive.timeout: seconds an idle connection is kept open (default: 60)
+ */
+public final class ConnectionPoolSettings {
+
+    private static final int DEFAULT_KEEP_ALIVE_TIMEOUT_SECONDS = 60;
+
+    private final int poolSize;
+    private final boolean keepAlive;
+    private final int keepAliveTimeoutSeconds;
+
+    public ConnectionPoolSettings(int poolSize, boolean keepAlive, int keepAliveTimeoutSeconds) {
+        if (poolSize < 1) {
+            throw new IllegalArgumentException("Connection pool size must be positive: " + poolSize);
+        }
+        this.poolSize = poolSize;
+        this.keepAlive = keepAlive;
+        this.keepAliveTimeoutSeconds = keepAliveTimeoutSeconds;
+    }
+
+    /**
+     * Reads the settings from system properties.
+     *
+     * @param defaultPoolSize pool size used when {@code validator.http.pool.size} is not set
+     * @return the settings
+     */
+    public static ConnectionPoolSettings fromSystemProperties(int defaultPoolSize) {
+        return new ConnectionPoolSettings(
+            Integer.getInteger("validator.http.pool.size", defaultPoolSize),
+            Boolean.parseBoolean(System.getProperty("validator.http.keep.alive", "true")),
+            Integer.getInteger("validator.http.keep.alive.timeout", DEFAULT_KEEP_ALIVE_TIMEOUT_SECONDS));
+    }
+
+    /**
+     * Applies the settings to Vert.x client options.
+     *
+     * @param options the options to update
+     * @return the same options
+     */
+    public WebClientOptions applyTo(WebClientOptions options) {
+        return options
+            .setMaxPoolSize(poolSize)
+            .setKeepAlive(keepAlive)
+            .setKeepAliveTimeout(keepAliveTimeoutSeconds);
+    }
+
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    public boolean isKeepAlive() {
+        return keepAlive;
+    }
+
+    public int getKeepAliveTimeoutSeconds() {
+        return keepAliveTimeoutSeconds;
+    }
+
+    @Override
+    public String toString() {
+        return poolSize + " connections, keep-alive "
+            + (keepAlive ? keepAliveTimeoutSeconds + " s" : "off");
+    }
+}
@@ -0,0 +1,369 @@
+package io.apicurio.testing.validator.content;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Compact binary manifest of every version's content fingerprint.
+ *
+ * One record per version (group, artifactId, version, globalId, contentId and the
+ * SHA-256 of the content), sorted by group, artifactId and version. The file is a
+ * fixed-size record table followed by the keys:
+ *
+ * <pre>
+ * header:  magic "AVFM", format version (int), record count (int)
+ * record:  globalId (long), contentId (long), sha256 (32 bytes),
+ *          key offset (int), key length (int)                          56 bytes each
+ * keys:    UTF-8 "group \0 artifactId \0 version", in record order
+ * </pre>
+ *
+ * A manifest written before the migration is compared with one written after it by
+ * memory-mapping both files and merging the two sorted record tables, so a diff
+ * over millions of versions reads the files sequentially and keeps nothing on the
+ * heap beyond the differences reported.
+ */
+public final class FingerprintManifest implements AutoCloseable {
+
+    private static final int MAGIC = 0x4156464D; // "AVFM"
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_SIZE = 12;
+    private static final int RECORD_SIZE = 56;
+    private static final int HASH_SIZE = 32;
+
+    // Field offsets within a record (the globalId is at 0)
+    private static final int CONTENT_ID = 8;
+    private static final int HASH = 16;
+    private static final int KEY_OFFSET = 48;
+    private static final int KEY_LENGTH = 52;
+    private static final byte SEPARATOR = 0;
+
+    private final Path file;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int count;
+    private final int keysStart;
+
+    private FingerprintManifest(Path file, FileChannel channel, MappedByteBuffer buffer) throws IOException {
+        this.file = file;
+        this.channel = channel;
+        this.buffer = buffer;
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IOException(file + " is not a fingerprint manifest");
+        }
+        if (buffer.getInt(4) != FORMAT_VERSION) {
+            throw new IOException(file + " has unsupported manifest format " + buffer.getInt(4));
+        }
+        this.count = buffer.getInt(8);
+        this.keysStart = HEADER_SIZE + count * RECORD_SIZE;
+    }
+
+    /**
+     * Memory-maps a manifest.
+     *
+     * @param file the manifest file
+     * @return the manifest; close it to release the file
+     */
+    public static FingerprintManifest open(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException(file + " is larger than 2 GB");
+            }
+            return new FingerprintManifest(file, channel, channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Returns the number of versions in the manifest.
+     */
+    public int size() {
+        return count;
+    }
+
+    public long getGlobalId(int index) {
+        return buffer.getLong(recordOffset(index));
+    }
+
+    public long getContentId(int index) {
+        return buffer.getLong(recordOffset(index) + CONTENT_ID);
+    }
+
+    /**
+     * Returns the hex-encoded SHA-256 of a version's content.
+     */
+    public String getSha256(int index) {
+        byte[] hash = new byte[HASH_SIZE];
+        ByteBuffer view = buffer.duplicate();
+        view.position(recordOffset(index) + HASH);
+        view.get(hash);
+        return ContentHashes.hex(hash);
+    }
+
+    /**
+     * Returns "group/artifactId/version" of a version.
+     */
+    public String getKey(int index) {
+        int offset = recordOffset(index);
+        byte[] key = new byte[buffer.getInt(offset + KEY_LENGTH)];
+        ByteBuffer view = buffer.duplicate();
+        view.position(keysStart + buffer.getInt(offset + KEY_OFFSET));
+        view.get(key);
+        return new String(key, StandardCharsets.UTF_8).replace((char) SEPARATOR, '/');
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Compares two manifests record by record.
+     *
+     * @param before the manifest written before the migration
+     * @param after the manifest written after the migration
+     * @param listener receives every difference, in key order
+     * @return the number of matching versions
+     */
+    public static long diff(FingerprintManifest before, FingerprintManifest after, DiffListener listener) {
+        return diff(before, null, after, null, listener);
+    }
+
+    /**
+     * Compares a subset of the records of two manifests.
+     *
+     * @param before the manifest written before the migration
+     * @param beforeRecords record indexes in key order, or null for all records
+     * @param after the manifest written after the migration
+     * @param afterRecords record indexes in key order, or null for all records
+     * @param listener receives every difference, in key order
+     * @return the number of matching versions
+     */
+    static long diff(FingerprintManifest before, int[] beforeRecords, FingerprintManifest after, int[] afterRecords,
+                     DiffListener listener) {
+        int beforeCount = beforeRecords != null ? beforeRecords.length : before.count;
+        int afterCount = afterRecords != null ? afterRecords.length : after.count;
+        int i = 0;
+        int j = 0;
+        long matching = 0;
+        while (i < beforeCount || j < afterCount) {
+            int b = i < beforeCount ? (beforeRecords != null ? beforeRecords[i] : i) : -1;
+            int a = j < afterCount ? (afterRecords != null ? afterRecords[j] : j) : -1;
+            int order = b < 0 ? 1 : a < 0 ? -1 : compareKeys(before, b, after, a);
+            if (order < 0) {
+                listener.missing(before.getKey(b), before.getGlobalId(b));
+                i++;
+            } else if (order > 0) {
+                listener.added(after.getKey(a), after.getGlobalId(a));
+                j++;
+            } else {
+                if (!sameHash(before, b, after, a)) {
+                    listener.contentChanged(before.getKey(b), before.getSha256(b), after.getSha256(a));
+                } else if (before.getGlobalId(b) != after.getGlobalId(a)
+                        || before.getContentId(b) != after.getContentId(a)) {
+                    listener.idsChanged(before.getKey(b), before.getGlobalId(b), after.getGlobalId(a),
+                        before.getContentId(b), after.getContentId(a));
+                } else {
+                    matching++;
+                }
+                i++;
+                j++;
+            }
+        }
+        return matching;
+    }
+
+    /**
+     * Returns a 64-bit FNV-1a hash of a version's key, stable across runs.
+     */
+    long keyHash(int index) {
+        int offset = recordOffset(index);
+        int start = keysStart + buffer.getInt(offset + KEY_OFFSET);
+        int end = start + buffer.getInt(offset + KEY_LENGTH);
+        long hash = 0xcbf29ce484222325L;
+        for (int k = start; k < end; k++) {
+            hash ^= buffer.get(k) & 0xFF;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    /**
+     * Feeds a version's ids, content hash, key length and key to a digest. The key
+     * offset is left out, so equal versions digest equally in any manifest.
+     */
+    void digestRecord(int index, MessageDigest digest) {
+        int offset = recordOffset(index);
+        int keyStart = keysStart + buffer.getInt(offset + KEY_OFFSET);
+        int keyLength = buffer.getInt(offset + KEY_LENGTH);
+        ByteBuffer view = buffer.duplicate();
+        view.limit(offset + KEY_OFFSET).position(offset);
+        digest.update(view);
+        view.limit(offset + RECORD_SIZE).position(offset + KEY_LENGTH);
+        digest.update(view);
+        view.limit(keyStart + keyLength).position(keyStart);
+        digest.update(view);
+    }
+
+    private int recordOffset(int index) {
+        return HEADER_SIZE + index * RECORD_SIZE;
+    }
+
+    private static int compareKeys(FingerprintManifest a, int i, FingerprintManifest b, int j) {
+        int aRecord = a.recordOffset(i);
+        int bRecord = b.recordOffset(j);
+        int aStart = a.keysStart + a.buffer.getInt(aRecord + KEY_OFFSET);
+        int bStart = b.keysStart + b.buffer.getInt(bRecord + KEY_OFFSET);
+        int aLength = a.buffer.getInt(aRecord + KEY_LENGTH);
+        int bLength = b.buffer.getInt(bRecord + KEY_LENGTH);
+        int length = Math.min(aLength, bLength);
+        for (int k = 0; k < length; k++) {
+            int order = Integer.compare(a.buffer.get(aStart + k) & 0xFF, b.buffer.get(bStart + k) & 0xFF);
+            if (order != 0) {
+                return order;
+            }
+        }
+        return Integer.compare(aLength, bLength);
+    }
+
+    private static boolean sameHash(FingerprintManifest a, int i, FingerprintManifest b, int j) {
+        int aHash = a.recordOffset(i) + HASH;
+        int bHash = b.recordOffset(j) + HASH;
+        for (int k = 0; k < HASH_SIZE; k += 8) {
+            if (a.buffer.getLong(aHash + k) != b.buffer.getLong(bHash + k)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Receives the differences found by {@link #diff}.
+     */
+    public interface DiffListener {
+        /** A version in the earlier manifest only. */
+        void missing(String key, long globalId);
+
+        /** A version in the later manifest only. */
+        void added(String key, long globalId);
+
+        /** A version whose content hash differs. */
+        void contentChanged(String key, String sha256Before, String sha256After);
+
+        /** A version with the same content but a different globalId or contentId. */
+        void idsChanged(String key, long globalIdBefore, long globalIdAfter, long contentIdBefore, long contentIdAfter);
+    }
+
+    /**
+     * Collects versions in any order, from any thread, and writes them sorted.
+     */
+    public static final class Builder {
+        private final List<Entry> entries = new ArrayList<>();
+
+        /**
+         * Adds a version.
+         *
+         * @param groupId the group identifier
+         * @param artifactId the artifact identifier
+         * @param version the version
+         * @param globalId the global identifier of the version
+         * @param contentId the content identifier of the version
+         * @param sha256 the hex-encoded SHA-256 of the content
+         */
+        public void add(String groupId, String artifactId, String version, long globalId, long contentId,
+                        String sha256) {
+            byte[] key = (groupId + (char) SEPARATOR + artifactId + (char) SEPARATOR + version)
+                .getBytes(StandardCharsets.UTF_8);
+            Entry entry = new Entry(key, globalId, contentId, unhex(sha256));
+            synchronized (entries) {
+                entries.add(entry);
+            }
+        }
+
+        public int size() {
+            synchronized (entries) {
+                return entries.size();
+            }
+        }
+
+        /**
+         * Writes the manifest, sorted by group, artifactId and version.
+         *
+         * @param file the manifest file
+         */
+        public void write(Path file) throws IOException {
+            List<Entry> sorted;
+            synchronized (entries) {
+                sorted = new ArrayList<>(entries);
+            }
+            sorted.sort((a, b) -> Arrays.compareUnsigned(a.key, b.key));
+
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            try (OutputStream stream = Files.newOutputStream(file);
+                 DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                out.writeInt(sorted.size());
+                int keyOffset = 0;
+                for (Entry entry : sorted) {
+                    out.writeLong(entry.globalId);
+                    out.writeLong(entry.contentId);
+                    out.write(entry.sha256);
+                    out.writeInt(keyOffset);
+                    out.writeInt(entry.key.length);
+                    keyOffset += entry.key.length;
+                }
+                for (Entry entry : sorted) {
+                    out.write(entry.key);
+                }
+            }
+        }
+
+        private static byte[] unhex(String sha256) {
+            if (sha256.length() != HASH_SIZE * 2) {
+                throw new IllegalArgumentException("Not a hex-encoded SHA-256: " + sha256);
+            }
+            byte[] hash = new byte[HASH_SIZE];
+            for (int i = 0; i < HASH_SIZE; i++) {
+                hash[i] = (byte) Integer.parseInt(sha256.substring(2 * i, 2 * i + 2), 16);
+            }
+            return hash;
+        }
+
+        private static final class Entry {
+            final byte[] key;
+            final long globalId;
+            final long contentId;
+            final byte[] sha256;
+
+            Entry(byte[] key, long globalId, long contentId, byte[] sha256) {
+                this.key = key;
+                this.globalId = globalId;
+                this.contentId = contentId;
+                this.sha256 = sha256;
+            }
+        }
+    }
+}
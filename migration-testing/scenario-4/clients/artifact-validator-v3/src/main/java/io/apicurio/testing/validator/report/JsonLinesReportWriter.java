@@ -0,0 +1,103 @@
+package io.apicurio.testing.validator.report;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Streams check results to a JSON Lines file, one object per check as it is recorded:
+ *
+ * <pre>
+ * {"time":1760600000123,"status":"FAIL","check":"Version metadata","groupId":"default",
+ *  "artifactId":"avro-schema-1","version":"2","latencyMicros":1834,"reason":"Expected ..."}
+ * </pre>
+ *
+ * (one line per object). Coordinates, latency and reason are omitted when a check has
+ * none. Objects are written through a Jackson generator into a buffered stream, so a
+ * result costs no intermediate string, and nothing is kept once written.
+ * {@link ReportAggregator} reads the files back.
+ */
+public class JsonLinesReportWriter implements AutoCloseable {
+
+    private static final JsonFactory FACTORY = new JsonFactory();
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path file;
+    private final JsonGenerator generator;
+
+    private JsonLinesReportWriter(Path file, JsonGenerator generator) {
+        this.file = file;
+        this.generator = generator;
+    }
+
+    /**
+     * Creates or truncates a report file.
+     *
+     * @param file the JSON Lines file
+     * @return the writer
+     */
+    public static JsonLinesReportWriter open(Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        JsonGenerator generator = FACTORY.createGenerator(
+            new BufferedOutputStream(Files.newOutputStream(file), BUFFER_SIZE), JsonEncoding.UTF8);
+        generator.setRootValueSeparator(null);
+        return new JsonLinesReportWriter(file, generator);
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Writes one check result.
+     *
+     * @param status the outcome
+     * @param check the check name
+     * @param reason why the check failed, or the warning message; null for a pass
+     * @param target the artifact or version checked, or null
+     * @param latencyNanos how long the check took, or a negative value if not measured
+     */
+    public synchronized void write(CheckStatus status, String check, String reason, ArtifactCoordinates target,
+                                   long latencyNanos) {
+        try {
+            generator.writeStartObject();
+            generator.writeNumberField("time", System.currentTimeMillis());
+            generator.writeStringField("status", status.name());
+            generator.writeStringField("check", check);
+            if (target != null) {
+                generator.writeStringField("groupId", target.getGroupId());
+                generator.writeStringField("artifactId", target.getArtifactId());
+                if (target.getVersion() != null) {
+                    generator.writeStringField("version", target.getVersion());
+                }
+            }
+            if (latencyNanos >= 0) {
+                generator.writeNumberField("latencyMicros", latencyNanos / 1000);
+            }
+            if (reason != null) {
+                generator.writeStringField("reason", reason);
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write to " + file, e);
+        }
+    }
+
+    /**
+     * Flushes and closes the file.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        generator.close();
+    }
+}
@@ -0,0 +1,173 @@
+package io.apicurio.testing.validator.report;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Aggregates JSON Lines validation reports, for example the pre-migration, post-migration
+ * and v3-native runs, into totals per file and per check.
+ *
+ * Usage: java -cp artifact-validator.jar io.apicurio.testing.validator.report.ReportAggregator report.jsonl...
+ *
+ * Files are read line by line, so memory grows with the number of distinct check
+ * names, not with the number of results. Exits with 1 if any file records a failure.
+ */
+public class ReportAggregator {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    // Failure reasons printed per run
+    private static final int LISTED_FAILURES = 10;
+
+    private final Map<String, CheckTotals> byCheck = new TreeMap<>();
+    private final List<String> fileSummaries = new ArrayList<>();
+    private final List<String> firstFailures = new ArrayList<>();
+    private final CheckTotals overall = new CheckTotals();
+
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.err.println("Usage: ReportAggregator <report.jsonl>...");
+            System.exit(2);
+        }
+        ReportAggregator aggregator = new ReportAggregator();
+        for (String arg : args) {
+            aggregator.add(Paths.get(arg));
+        }
+        aggregator.print();
+        System.exit(aggregator.getOverall().failed > 0 ? 1 : 0);
+    }
+
+    /**
+     * Adds the results of a report file.
+     *
+     * @param file a JSON Lines file written by {@link JsonLinesReportWriter}
+     */
+    public void add(Path file) throws IOException {
+        CheckTotals fileTotals = new CheckTotals();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                JsonNode result = MAPPER.readTree(line);
+                CheckStatus status = CheckStatus.valueOf(result.path("status").asText());
+                String check = result.path("check").asText();
+                long latencyMicros = result.path("latencyMicros").asLong(-1);
+                fileTotals.add(status, latencyMicros);
+                overall.add(status, latencyMicros);
+                byCheck.computeIfAbsent(check, key -> new CheckTotals()).add(status, latencyMicros);
+                if (status == CheckStatus.FAIL && firstFailures.size() < LISTED_FAILURES) {
+                    String target = result.has("artifactId")
+                        ? " of " + result.get("artifactId").asText()
+                            + (result.has("version") ? "/" + result.get("version").asText() : "")
+                        : "";
+                    firstFailures.add(file + ": " + check + target + ": "
+                        + result.path("reason").asText());
+                }
+            }
+        }
+        fileSummaries.add(String.format("%-40s %s", file, fileTotals));
+    }
+
+    public CheckTotals getOverall() {
+        return overall;
+    }
+
+    /**
+     * Returns the totals of every check name seen, ordered by name.
+     */
+    public Map<String, CheckTotals> getByCheck() {
+        return byCheck;
+    }
+
+    /**
+     * Prints totals per file, per check and overall.
+     */
+    public void print() {
+        System.out.println("=".repeat(60));
+        System.out.println("  Aggregated Validation Reports");
+        System.out.println("=".repeat(60));
+        System.out.println();
+        System.out.println("Files:");
+        fileSummaries.forEach(summary -> System.out.println("  " + summary));
+        System.out.println();
+        System.out.println("Checks:");
+        byCheck.forEach((check, totals) -> System.out.println(String.format("  %-40s %s", check, totals)));
+        System.out.println();
+        if (!firstFailures.isEmpty()) {
+            System.out.println("First failures:");
+            firstFailures.forEach(failure -> System.out.println("  ✗ " + failure));
+            if (overall.failed > firstFailures.size()) {
+                System.out.println("  ... and " + (overall.failed - firstFailures.size()) + " more");
+            }
+            System.out.println();
+        }
+        System.out.println("Total: " + overall);
+        System.out.println("=".repeat(60));
+    }
+
+    /**
+     * Result counts and latency of a group of checks.
+     */
+    public static final class CheckTotals {
+        private long passed;
+        private long failed;
+        private long warnings;
+        private long timed;
+        private long totalLatencyMicros;
+        private long maxLatencyMicros;
+
+        void add(CheckStatus status, long latencyMicros) {
+            switch (status) {
+                case PASS:
+                    passed++;
+                    break;
+                case FAIL:
+                    failed++;
+                    break;
+                default:
+                    warnings++;
+                    break;
+            }
+            if (latencyMicros >= 0) {
+                timed++;
+                totalLatencyMicros += latencyMicros;
+                maxLatencyMicros = Math.max(maxLatencyMicros, latencyMicros);
+            }
+        }
+
+        public long getPassed() {
+            return passed;
+        }
+
+        public long getFailed() {
+            return failed;
+        }
+
+        public long getWarnings() {
+            return warnings;
+        }
+
+        @Override
+        public String toString() {
+            String counts = passed + " passed, " + failed + " failed, " + warnings + " warnings";
+            if (timed == 0) {
+                return counts;
+            }
+            return counts + String.format(" (mean %.1f ms, max %.1f ms)",
+                totalLatencyMicros / 1000.0 / timed, maxLatencyMicros / 1000.0);
+        }
+    }
+}
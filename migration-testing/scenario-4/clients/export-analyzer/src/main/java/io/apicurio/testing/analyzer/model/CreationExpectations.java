@@ -0,0 +1,98 @@
+package io.apicurio.testing.analyzer.model;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The counts the artifact creator reported in its creation summary file
+ * (data/creation-summary.txt), which the export is expected to contain.
+ */
+public class CreationExpectations {
+
+    /** The group the artifact creator creates its artifacts in. */
+    public static final String CREATOR_GROUP = "default";
+
+    private int totalArtifacts;
+    private long totalVersions;
+    private int globalRules;
+    private int artifactRules;
+    private final Map<String, Integer> artifactsByType = new LinkedHashMap<>();
+    private final Map<String, Integer> versionsByArtifact = new LinkedHashMap<>();
+
+    /**
+     * Reads a creation summary file.
+     *
+     * @param file the summary written by the artifact creator
+     */
+    public static CreationExpectations load(Path file) throws IOException {
+        CreationExpectations expectations = new CreationExpectations();
+        Map<String, Integer> section = null;
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String trimmed = line.trim();
+                if (trimmed.isEmpty() || trimmed.startsWith("=")) {
+                    section = null;
+                } else if (trimmed.equals("Artifacts by Type:")) {
+                    section = expectations.artifactsByType;
+                } else if (trimmed.equals("Versions by Artifact:")) {
+                    section = expectations.versionsByArtifact;
+                } else if (section != null) {
+                    int colon = trimmed.lastIndexOf(':');
+                    if (colon > 0) {
+                        section.put(trimmed.substring(0, colon).trim(), parseCount(trimmed.substring(colon + 1)));
+                    }
+                } else if (trimmed.startsWith("Total Artifacts:")) {
+                    expectations.totalArtifacts = parseCount(value(trimmed));
+                } else if (trimmed.startsWith("Total Versions:")) {
+                    expectations.totalVersions = parseCount(value(trimmed));
+                } else if (trimmed.startsWith("Global Rules:")) {
+                    expectations.globalRules = parseCount(value(trimmed));
+                } else if (trimmed.startsWith("Artifact Rules:")) {
+                    expectations.artifactRules = parseCount(value(trimmed));
+                }
+            }
+        }
+        return expectations;
+    }
+
+    private static String value(String line) {
+        return line.substring(line.indexOf(':') + 1);
+    }
+
+    private static int parseCount(String value) {
+        return Integer.parseInt(value.trim());
+    }
+
+    public int getTotalArtifacts() {
+        return totalArtifacts;
+    }
+
+    public long getTotalVersions() {
+        return totalVersions;
+    }
+
+    public int getGlobalRules() {
+        return globalRules;
+    }
+
+    public int getArtifactRules() {
+        return artifactRules;
+    }
+
+    public Map<String, Integer> getArtifactsByType() {
+        return artifactsByType;
+    }
+
+    /**
+     * Returns the version count of every created artifact, keyed by artifactId.
+     */
+    public Map<String, Integer> getVersionsByArtifact() {
+        return versionsByArtifact;
+    }
+}
@@ -0,0 +1,273 @@
+package io.apicurio.testing.kafka;
+
+import io.apicurio.registry.serde.avro.AvroKafkaDeserializer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Consumes with several consumer instances in parallel, each on its own thread and with
+ * its own Apicurio deserializer, and prints nothing per message.
+ *
+ * The topic's partitions are split over the instances up front and assigned to them
+ * directly, without a consumer group, so there are no rebalances: each partition is read
+ * exactly once, from the beginning, by one instance. (Within a group, a partition moved to
+ * another instance while the group forms would be read again from the start, counting its
+ * messages twice.) The instances fetch raw bytes and deserialize them explicitly, so
+ * deserialization can be timed apart from fetching: once per partition in each poll,
+ * rather than once per message. At the end, messages per second and deserialization time
+ * per message are printed for each partition. Comparing runs with 1, 2, 4, ... threads
+ * shows whether deserialization, and the schema lookup in it, scales across cores; at
+ * most one instance per partition is started.
+ *
+ * No offsets are committed, so every run reads the topic from the beginning.
+ *
+ * Configured through environment variables:
+ * <ul>
+ *   <li>CONSUMER_THREADS: consumer instances (default: available processors)</li>
+ *   <li>MAX_POLL_RECORDS: consumer max.poll.records (default: 500)</li>
+ * </ul>
+ */
+public class ThroughputConsumer {
+
+    private static final String DEFAULT_MAX_POLL_RECORDS = "500";
+
+    private static final Duration POLL_TIMEOUT = Duration.ofMillis(500);
+    private static final long REPORT_INTERVAL_MILLIS = 1000;
+
+    private final Properties config;
+    private final String topic;
+    private final int threads;
+
+    private final Map<Integer, PartitionStats> partitions = new ConcurrentHashMap<>();
+    private final LongAdder errors = new LongAdder();
+    private final AtomicReference<Exception> firstError = new AtomicReference<>();
+    private final AtomicLong firstRecordNanos = new AtomicLong();
+    private final AtomicLong lastRecordNanos = new AtomicLong();
+    private volatile boolean running = true;
+
+    /**
+     * @param config consumer and SerDes configuration; the value deserializer, group and
+     *               offset commits are overridden
+     * @param topic the topic to consume
+     * @param threads number of consumer instances (at most one per partition is started)
+     */
+    public ThroughputConsumer(Properties config, String topic, int threads) {
+        this.config = config;
+        this.topic = topic;
+        this.threads = threads;
+    }
+
+    /**
+     * Creates a throughput consumer configured from CONSUMER_THREADS and MAX_POLL_RECORDS.
+     */
+    public static ThroughputConsumer fromEnvironment(Properties config, String topic) {
+        int threads = Integer.parseInt(System.getenv().getOrDefault("CONSUMER_THREADS",
+            String.valueOf(Runtime.getRuntime().availableProcessors())));
+        Properties throughputConfig = new Properties();
+        throughputConfig.putAll(config);
+        throughputConfig.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG,
+            System.getenv().getOrDefault("MAX_POLL_RECORDS", DEFAULT_MAX_POLL_RECORDS));
+        return new ThroughputConsumer(throughputConfig, topic, threads);
+    }
+
+    /**
+     * Consumes until enough messages were consumed or none arrived for a while, then prints
+     * throughput and deserialization time per partition.
+     *
+     * @param maxMessages messages to consume at least, or 0 to consume until the timeout
+     * @param timeoutSeconds seconds without messages after which to stop
+     * @return the number of messages that failed to deserialize
+     */
+    public long run(long maxMessages, int timeoutSeconds) throws InterruptedException, ExecutionException {
+        List<List<TopicPartition>> assignments = assignPartitions();
+        System.out.println("Consuming from " + topic + " with " + assignments.size() + " consumers (max: "
+            + (maxMessages > 0 ? String.valueOf(maxMessages) : "unbounded") + ", timeout: " + timeoutSeconds + "s)...");
+        System.out.println();
+
+        ExecutorService executor = Executors.newFixedThreadPool(assignments.size());
+        List<Future<?>> consumers = new ArrayList<>();
+        for (List<TopicPartition> assignment : assignments) {
+            consumers.add(executor.submit(() -> consume(assignment)));
+        }
+
+        long lastCount = 0;
+        long lastProgress = System.currentTimeMillis();
+        try {
+            while (true) {
+                Thread.sleep(REPORT_INTERVAL_MILLIS);
+                long count = consumed();
+                long now = System.currentTimeMillis();
+                if (count > lastCount) {
+                    System.out.println(String.format("  %d consumed, %.0f msg/s, %d errors", count,
+                        (count - lastCount) * 1000.0 / (now - lastProgress), errors.sum()));
+                    lastCount = count;
+                    lastProgress = now;
+                }
+                if (maxMessages > 0 && count >= maxMessages) {
+                    break;
+                }
+                if (now - lastProgress >= TimeUnit.SECONDS.toMillis(timeoutSeconds)) {
+                    System.out.println("⏱️  Timeout reached (" + timeoutSeconds + "s), stopping...");
+                    break;
+                }
+                if (consumers.stream().anyMatch(Future::isDone)) {
+                    break;
+                }
+            }
+        } finally {
+            running = false;
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+        }
+        for (Future<?> consumer : consumers) {
+            // Rethrows what stopped a consumer, e.g. an unreachable broker
+            consumer.get();
+        }
+
+        printSummary(assignments.size());
+        return errors.sum();
+    }
+
+    /**
+     * Splits the topic's partitions round-robin into one list per consumer instance.
+     */
+    private List<List<TopicPartition>> assignPartitions() {
+        List<PartitionInfo> infos;
+        try (KafkaConsumer<String, byte[]> consumer = new KafkaConsumer<>(consumerProperties())) {
+            infos = consumer.partitionsFor(topic);
+        }
+        if (infos == null || infos.isEmpty()) {
+            throw new IllegalStateException("Topic " + topic + " has no partitions");
+        }
+
+        int count = Math.min(threads, infos.size());
+        List<List<TopicPartition>> assignments = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            assignments.add(new ArrayList<>());
+        }
+        for (PartitionInfo info : infos) {
+            assignments.get(info.partition() % count).add(new TopicPartition(topic, info.partition()));
+        }
+        return assignments;
+    }
+
+    /**
+     * Consumer settings without a group: partitions are assigned explicitly and nothing is committed.
+     */
+    private Properties consumerProperties() {
+        Properties props = new Properties();
+        props.putAll(config);
+        props.remove(ConsumerConfig.GROUP_ID_CONFIG);
+        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "false");
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class.getName());
+        return props;
+    }
+
+    private void consume(List<TopicPartition> assignment) {
+        Map<String, Object> serdeConfig = new HashMap<>();
+        config.forEach((key, value) -> serdeConfig.put(key.toString(), value));
+        AvroKafkaDeserializer<Object> deserializer = new AvroKafkaDeserializer<>();
+        deserializer.configure(serdeConfig, false);
+
+        try (KafkaConsumer<String, byte[]> consumer = new KafkaConsumer<>(consumerProperties())) {
+            consumer.assign(assignment);
+            consumer.seekToBeginning(assignment);
+            while (running) {
+                ConsumerRecords<String, byte[]> records = consumer.poll(POLL_TIMEOUT);
+                if (records.isEmpty()) {
+                    continue;
+                }
+                // The clock starts when the first records arrive, before they are deserialized
+                firstRecordNanos.compareAndSet(0, System.nanoTime());
+                for (TopicPartition partition : records.partitions()) {
+                    List<ConsumerRecord<String, byte[]>> batch = records.records(partition);
+                    long start = System.nanoTime();
+                    for (ConsumerRecord<String, byte[]> record : batch) {
+                        try {
+                            deserializer.deserialize(record.topic(), record.headers(), record.value());
+                        } catch (RuntimeException e) {
+                            fail(e);
+                        }
+                    }
+                    long end = System.nanoTime();
+                    partitions.computeIfAbsent(partition.partition(), p -> new PartitionStats())
+                        .add(batch.size(), end - start);
+                }
+                lastRecordNanos.accumulateAndGet(System.nanoTime(), Math::max);
+            }
+        } finally {
+            deserializer.close();
+        }
+    }
+
+    private long consumed() {
+        long count = 0;
+        for (PartitionStats stats : partitions.values()) {
+            count += stats.records.sum();
+        }
+        return count;
+    }
+
+    private void printSummary(int consumers) {
+        long count = consumed();
+        double seconds = Math.max(lastRecordNanos.get() - firstRecordNanos.get(), 1) / 1_000_000_000.0;
+        System.out.println();
+        System.out.println(String.format("Consumed %d messages in %.2f s (%.0f msg/s) with %d consumers",
+            count, seconds, count / seconds, consumers));
+        System.out.println("Per partition:");
+        System.out.println(String.format("  %9s %12s %10s %18s", "Partition", "Messages", "msg/s", "µs/deserialize"));
+        long totalNanos = 0;
+        for (Map.Entry<Integer, PartitionStats> entry : new TreeMap<>(partitions).entrySet()) {
+            long records = entry.getValue().records.sum();
+            long nanos = entry.getValue().nanos.sum();
+            totalNanos += nanos;
+            System.out.println(String.format("  %9d %12d %10.0f %18.2f", entry.getKey(), records, records / seconds,
+                records > 0 ? nanos / 1000.0 / records : 0));
+        }
+        System.out.println(String.format("  %9s %12d %10.0f %18.2f", "all", count, count / seconds,
+            count > 0 ? totalNanos / 1000.0 / count : 0));
+        if (errors.sum() > 0) {
+            System.err.println("❌ " + errors.sum() + " messages failed, first error: " + firstError.get());
+        }
+    }
+
+    private void fail(Exception exception) {
+        if (errors.sum() == 0 && firstError.compareAndSet(null, exception)) {
+            System.err.println("  ❌ Error deserializing message: " + exception.getMessage());
+        }
+        errors.increment();
+    }
+
+    /** Messages and deserialization time of one partition. */
+    private static final class PartitionStats {
+        private final LongAdder records = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+
+        void add(int count, long elapsedNanos) {
+            records.add(count);
+            nanos.add(elapsedNanos);
+        }
+    }
+}
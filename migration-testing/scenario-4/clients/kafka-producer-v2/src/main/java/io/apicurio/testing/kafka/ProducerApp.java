@@ -3,19 +3,35 @@ package io.apicurio.testing.kafka;
 import io.apicurio.registry.serde.SerdeConfig;
 import io.apicurio.registry.serde.avro.AvroKafkaSerdeConfig;
 import io.apicurio.registry.serde.avro.AvroKafkaSerializer;
+import io.apicurio.registry.serde.avro.DefaultAvroDatumProvider;
 import io.apicurio.registry.serde.avro.ReflectAvroDatumProvider;
 import io.apicurio.registry.serde.config.IdOption;
+import org.apache.avro.generic.GenericRecord;
 import org.apache.kafka.clients.producer.KafkaProducer;
 import org.apache.kafka.clients.producer.Producer;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.apache.kafka.common.serialization.StringSerializer;
 
+import java.util.List;
+import java.util.Locale;
 import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
 
 /**
  * Kafka Producer application using Apicurio Registry v2 SerDes.
  * Produces greeting messages to the 'avro-messages' topic.
+ *
+ * With PRODUCER_MODE=throughput, messages are sent asynchronously with batching and
+ * without delays, and throughput and latency percentiles are reported; see
+ * {@link ThroughputProducer} for its settings. The default mode, verify, sends one
+ * message at a time and waits for each.
+ *
+ * With PRODUCER_PAYLOAD=generated, GenericRecords from a {@link PayloadGenerator} are
+ * sent instead of greeting messages, to the 'avro-payloads' topic by default. A pool of
+ * PAYLOAD_POOL_SIZE records (default: 1000) is generated before producing and sent
+ * round robin.
  */
 public class ProducerApp {
 
@@ -23,12 +39,21 @@ public class ProducerApp {
     private static final String DEFAULT_REGISTRY_URL = "http://localhost:8080/apis/registry/v2";
     private static final String DEFAULT_TOPIC = "avro-messages";
     private static final int DEFAULT_MESSAGE_COUNT = 10;
+    private static final String DEFAULT_MODE = "verify";
+    private static final String DEFAULT_PAYLOAD = "greeting";
+    private static final String DEFAULT_PAYLOAD_TOPIC = "avro-payloads";
+    private static final int DEFAULT_POOL_SIZE = 1000;
+    private static final String ARTIFACT_CONTENT_PATH = "/groups/%s/artifacts/%s";
 
     public static void main(String[] args) {
         String kafkaBootstrap = System.getenv().getOrDefault("KAFKA_BOOTSTRAP_SERVERS", DEFAULT_KAFKA_BOOTSTRAP);
         String registryUrl = System.getenv().getOrDefault("REGISTRY_URL", DEFAULT_REGISTRY_URL);
-        String topic = System.getenv().getOrDefault("TOPIC_NAME", DEFAULT_TOPIC);
+        boolean generatedPayload = "generated".equals(
+            System.getenv().getOrDefault("PRODUCER_PAYLOAD", DEFAULT_PAYLOAD).trim().toLowerCase(Locale.ROOT));
+        String topic = System.getenv().getOrDefault("TOPIC_NAME", generatedPayload ? DEFAULT_PAYLOAD_TOPIC : DEFAULT_TOPIC);
         int messageCount = Integer.parseInt(System.getenv().getOrDefault("MESSAGE_COUNT", String.valueOf(DEFAULT_MESSAGE_COUNT)));
+        boolean throughputMode = "throughput".equals(
+            System.getenv().getOrDefault("PRODUCER_MODE", DEFAULT_MODE).trim().toLowerCase(Locale.ROOT));
 
         System.out.println("=========================================");
         System.out.println("  Kafka Producer v2 (Apicurio SerDes)");
@@ -37,13 +62,29 @@ public class ProducerApp {
         System.out.println("Registry URL: " + registryUrl);
         System.out.println("Topic: " + topic);
         System.out.println("Message Count: " + messageCount);
+        System.out.println("Mode: " + (throughputMode ? "throughput" : DEFAULT_MODE));
+        System.out.println("Payload: " + (generatedPayload ? "generated" : DEFAULT_PAYLOAD));
         System.out.println("=========================================");
         System.out.println();
 
-        Producer<String, GreetingMessage> producer = createProducer(kafkaBootstrap, registryUrl);
+        Properties batching = throughputMode ? ThroughputProducer.batchingFromEnvironment() : new Properties();
+        if (!batching.isEmpty()) {
+            System.out.println("Batching: " + batching);
+        }
+        Producer<String, Object> producer = createProducer(kafkaBootstrap, registryUrl, batching, generatedPayload);
 
         try {
-            produceMessages(producer, topic, messageCount);
+            // Generated after the producer is created, which configures the truststore the
+            // registry is fetched with
+            IntFunction<Object> messages = generatedPayload ? generatedMessages(registryUrl) : greetingMessages();
+            if (throughputMode) {
+                long failed = ThroughputProducer.fromEnvironment(producer, topic, messages).run(messageCount);
+                if (failed > 0) {
+                    throw new IllegalStateException(failed + " of " + messageCount + " messages failed");
+                }
+            } else {
+                produceMessages(producer, topic, messageCount, messages);
+            }
             System.out.println();
             System.out.println("✅ Successfully produced " + messageCount + " messages");
         } catch (Exception e) {
@@ -61,9 +102,12 @@ public class ProducerApp {
      *
      * @param kafkaBootstrap Kafka bootstrap servers
      * @param registryUrl Apicurio Registry URL
+     * @param batching producer settings overriding the defaults, e.g. linger.ms and batch.size
+     * @param genericRecords whether messages are GenericRecords rather than GreetingMessages
      * @return configured Kafka producer
      */
-    private static Producer<String, GreetingMessage> createProducer(String kafkaBootstrap, String registryUrl) {
+    private static Producer<String, Object> createProducer(String kafkaBootstrap, String registryUrl,
+                                                           Properties batching, boolean genericRecords) {
         // Configure SSL truststore for Registry (HTTPS) and Keycloak (OAuth)
         String trustStorePath = System.getenv("TRUSTSTORE_PATH");
         String trustStorePassword = System.getenv().getOrDefault("TRUSTSTORE_PASSWORD", "registry123");
@@ -104,32 +148,65 @@ public class ProducerApp {
             System.out.println("OAuth2 authentication configured (realm: " + realm + ")");
         }
 
-        // Use Java reflection as the Avro Datum Provider
-        // This generates an Avro schema from the GreetingMessage Java bean
-        props.put(AvroKafkaSerdeConfig.AVRO_DATUM_PROVIDER, ReflectAvroDatumProvider.class.getName());
+        if (genericRecords) {
+            // GenericRecords carry their schema
+            props.put(AvroKafkaSerdeConfig.AVRO_DATUM_PROVIDER, DefaultAvroDatumProvider.class.getName());
+        } else {
+            // Use Java reflection as the Avro Datum Provider
+            // This generates an Avro schema from the GreetingMessage Java bean
+            props.put(AvroKafkaSerdeConfig.AVRO_DATUM_PROVIDER, ReflectAvroDatumProvider.class.getName());
+        }
+
+        props.putAll(batching);
 
         return new KafkaProducer<>(props);
     }
 
     /**
-     * Produces greeting messages to the specified topic.
+     * Returns greeting message number i.
+     */
+    private static IntFunction<Object> greetingMessages() {
+        return i -> new GreetingMessage(
+            "Hello from producer-v2! Message #" + i,
+            System.currentTimeMillis()
+        );
+    }
+
+    /**
+     * Generates a pool of records configured from the PAYLOAD_* environment variables and
+     * returns them round robin.
+     *
+     * @param registryUrl Apicurio Registry URL, to fetch PAYLOAD_ARTIFACT_ID from
+     */
+    private static IntFunction<Object> generatedMessages(String registryUrl) throws Exception {
+        PayloadGenerator generator = PayloadGenerator.fromEnvironment(registryUrl + ARTIFACT_CONTENT_PATH);
+        int poolSize = Integer.parseInt(System.getenv().getOrDefault("PAYLOAD_POOL_SIZE", String.valueOf(DEFAULT_POOL_SIZE)));
+        System.out.println("Payload schema: " + generator.describe());
+
+        long start = System.nanoTime();
+        List<GenericRecord> pool = generator.generatePool(poolSize);
+        System.out.println("Generated " + poolSize + " records in "
+            + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + " ms");
+        System.out.println();
+        return i -> pool.get((i - 1) % pool.size());
+    }
+
+    /**
+     * Produces messages to the specified topic.
      *
      * @param producer Kafka producer
      * @param topic topic name
      * @param count number of messages to produce
+     * @param messages returns message number i (from 1)
      */
-    private static void produceMessages(Producer<String, GreetingMessage> producer, String topic, int count) throws Exception {
+    private static void produceMessages(Producer<String, Object> producer, String topic, int count,
+                                        IntFunction<Object> messages) throws Exception {
         System.out.println("Producing " + count + " messages...");
         System.out.println();
 
         for (int i = 1; i <= count; i++) {
             String key = "key-" + i;
-            GreetingMessage message = new GreetingMessage(
-                "Hello from producer-v2! Message #" + i,
-                System.currentTimeMillis()
-            );
-
-            ProducerRecord<String, GreetingMessage> record = new ProducerRecord<>(topic, key, message);
+            ProducerRecord<String, Object> record = new ProducerRecord<>(topic, key, messages.apply(i));
 
             producer.send(record, (metadata, exception) -> {
                 if (exception != null) {
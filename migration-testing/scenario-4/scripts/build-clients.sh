@@ -6,10 +6,11 @@
 # 1. artifact-creator
 # 2. artifact-validator-v2
 # 3. artifact-validator-v3
-# 4. kafka-producer-v2
-# 5. kafka-consumer-v2
-# 6. kafka-producer-v3
-# 7. kafka-consumer-v3
+# 4. export-analyzer
+# 5. kafka-producer-v2
+# 6. kafka-consumer-v2
+# 7. kafka-producer-v3
+# 8. kafka-consumer-v3
 
 set -e
 
@@ -39,7 +40,7 @@ echo "Maven: $MAVEN_VERSION" | tee -a "$LOG_FILE"
 echo "" | tee -a "$LOG_FILE"
 
 # Build artifact-creator
-echo "[1/7] Building artifact-creator..." | tee -a "$LOG_FILE"
+echo "[1/8] Building artifact-creator..." | tee -a "$LOG_FILE"
 cd "$CLIENTS_DIR/artifact-creator"
 mvn clean package -DskipTests 2>&1 | tee -a "$LOG_FILE"
 MVN_EXIT_CODE=${PIPESTATUS[0]}
@@ -59,7 +60,7 @@ fi
 echo "" | tee -a "$LOG_FILE"
 
 # Build artifact-validator-v2
-echo "[2/7] Building artifact-validator-v2..." | tee -a "$LOG_FILE"
+echo "[2/8] Building artifact-validator-v2..." | tee -a "$LOG_FILE"
 cd "$CLIENTS_DIR/artifact-validator-v2"
 mvn clean package -DskipTests 2>&1 | tee -a "$LOG_FILE"
 MVN_EXIT_CODE=${PIPESTATUS[0]}
@@ -79,7 +80,7 @@ fi
 echo "" | tee -a "$LOG_FILE"
 
 # Build artifact-validator-v3
-echo "[3/7] Building artifact-validator-v3..." | tee -a "$LOG_FILE"
+echo "[3/8] Building artifact-validator-v3..." | tee -a "$LOG_FILE"
 cd "$CLIENTS_DIR/artifact-validator-v3"
 mvn clean package -DskipTests 2>&1 | tee -a "$LOG_FILE"
 MVN_EXIT_CODE=${PIPESTATUS[0]}
@@ -98,8 +99,28 @@ fi
 
 echo "" | tee -a "$LOG_FILE"
 
+# Build export-analyzer
+echo "[4/8] Building export-analyzer..." | tee -a "$LOG_FILE"
+cd "$CLIENTS_DIR/export-analyzer"
+mvn clean package -DskipTests 2>&1 | tee -a "$LOG_FILE"
+MVN_EXIT_CODE=${PIPESTATUS[0]}
+
+if [ $MVN_EXIT_CODE -eq 0 ]; then
+    echo "  ✓ export-analyzer built successfully" | tee -a "$LOG_FILE"
+    JAR_FILE=$(find target -name "export-analyzer-*.jar" -not -name "*sources.jar" | head -n 1)
+    if [ -n "$JAR_FILE" ]; then
+        JAR_SIZE=$(du -h "$JAR_FILE" | cut -f1)
+        echo "    JAR: $JAR_FILE ($JAR_SIZE)" | tee -a "$LOG_FILE"
+    fi
+else
+    echo "  ✗ export-analyzer build failed with exit code $MVN_EXIT_CODE" | tee -a "$LOG_FILE"
+    exit 1
+fi
+
+echo "" | tee -a "$LOG_FILE"
+
 # Build kafka-producer-v2
-echo "[4/7] Building kafka-producer-v2..." | tee -a "$LOG_FILE"
+echo "[5/8] Building kafka-producer-v2..." | tee -a "$LOG_FILE"
 cd "$CLIENTS_DIR/kafka-producer-v2"
 mvn clean package -DskipTests 2>&1 | tee -a "$LOG_FILE"
 MVN_EXIT_CODE=${PIPESTATUS[0]}
@@ -119,7 +140,7 @@ fi
 echo "" | tee -a "$LOG_FILE"
 
 # Build kafka-consumer-v2
-echo "[5/7] Building kafka-consumer-v2..." | tee -a "$LOG_FILE"
+echo "[6/8] Building kafka-consumer-v2..." | tee -a "$LOG_FILE"
 cd "$CLIENTS_DIR/kafka-consumer-v2"
 mvn clean package -DskipTests 2>&1 | tee -a "$LOG_FILE"
 MVN_EXIT_CODE=${PIPESTATUS[0]}
@@ -139,7 +160,7 @@ fi
 echo "" | tee -a "$LOG_FILE"
 
 # Build kafka-producer-v3
-echo "[6/7] Building kafka-producer-v3..." | tee -a "$LOG_FILE"
+echo "[7/8] Building kafka-producer-v3..." | tee -a "$LOG_FILE"
 cd "$CLIENTS_DIR/kafka-producer-v3"
 mvn clean package -DskipTests 2>&1 | tee -a "$LOG_FILE"
 MVN_EXIT_CODE=${PIPESTATUS[0]}
@@ -159,7 +180,7 @@ fi
 echo "" | tee -a "$LOG_FILE"
 
 # Build kafka-consumer-v3
-echo "[7/7] Building kafka-consumer-v3..." | tee -a "$LOG_FILE"
+echo "[8/8] Building kafka-consumer-v3..." | tee -a "$LOG_FILE"
 cd "$CLIENTS_DIR/kafka-consumer-v3"
 mvn clean package -DskipTests 2>&1 | tee -a "$LOG_FILE"
 MVN_EXIT_CODE=${PIPESTATUS[0]}
@@ -117,6 +117,11 @@ docker network rm scenario4-kafka-network 2>/dev/null || true
 
 echo ""
 if [ "$REMOVE_VOLUMES" = true ]; then
+    # The registry data is gone, so the creator's checkpoint journal, the recorded
+    # content hashes and the fingerprint manifests no longer apply
+    rm -f "$PROJECT_DIR/data/creation-checkpoint.journal"
+    rm -f "$PROJECT_DIR/data/content-hashes.tsv"
+    rm -f "$PROJECT_DIR/data"/manifest-*.bin
     echo "✅ Cleanup complete (volumes removed - data lost)"
     echo ""
     echo "Volumes removed:"
@@ -131,6 +131,28 @@ else
     echo "  ⚠ unzip command not available, skipping ZIP validation" | tee -a "$LOG_FILE"
 fi
 
+# Check the export against the creation summary without a registry (if export-analyzer is built)
+ANALYZER_JAR="$PROJECT_DIR/clients/export-analyzer/target/export-analyzer-1.0.0-SNAPSHOT.jar"
+ANALYSIS_FILE="$PROJECT_DIR/data/export-analysis.txt"
+if [ -f "$ANALYZER_JAR" ]; then
+    echo "" | tee -a "$LOG_FILE"
+    echo "  Analyzing export..." | tee -a "$LOG_FILE"
+    java -jar "$ANALYZER_JAR" \
+        "$EXPORT_FILE" \
+        "$PROJECT_DIR/data/creation-summary.txt" \
+        "$ANALYSIS_FILE" \
+        2>&1 | tee -a "$LOG_FILE"
+    ANALYZER_EXIT_CODE=${PIPESTATUS[0]}
+    if [ $ANALYZER_EXIT_CODE -eq 0 ]; then
+        echo "  ✓ Export matches the creation summary" | tee -a "$LOG_FILE"
+    else
+        echo "  ✗ Export analysis failed (exit code $ANALYZER_EXIT_CODE), see $ANALYSIS_FILE" | tee -a "$LOG_FILE"
+        exit 1
+    fi
+else
+    echo "  ⚠ export-analyzer not built, skipping export analysis" | tee -a "$LOG_FILE"
+fi
+
 echo "" | tee -a "$LOG_FILE"
 echo "================================================================" | tee -a "$LOG_FILE"
 echo "Registry v2 data exported successfully" | tee -a "$LOG_FILE"
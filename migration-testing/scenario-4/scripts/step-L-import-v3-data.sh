@@ -120,8 +120,13 @@ echo "" | tee -a "$LOG_FILE"
 echo "[6/6] Validating artifact count..." | tee -a "$LOG_FILE"
 echo "  Found $ARTIFACT_COUNT artifacts in registry" | tee -a "$LOG_FILE"
 
-# We expect 25 artifacts from the v2 export
-EXPECTED_COUNT=25
+# We expect the artifacts the creator recorded (25 for the baseline profile)
+EXPECTATIONS_FILE="$PROJECT_DIR/data/creation-expectations.jsonl"
+if [ -f "$EXPECTATIONS_FILE" ]; then
+    EXPECTED_COUNT=$(grep -c '"kind":"artifact"' "$EXPECTATIONS_FILE")
+else
+    EXPECTED_COUNT=25
+fi
 if [ "$ARTIFACT_COUNT" -eq "$EXPECTED_COUNT" ]; then
     echo "  ✓ Artifact count matches expected: $ARTIFACT_COUNT" | tee -a "$LOG_FILE"
 elif [ "$ARTIFACT_COUNT" -gt 0 ]; then